@@ -0,0 +1,66 @@
+package seedu.nursesched.appointment;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.nursesched.benchmark.SyntheticData;
+import seedu.nursesched.log.AppLogger;
+import seedu.nursesched.patient.Patient;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Measures looking for an appointment that clashes with a new one, at different numbers of appointments.
+ * Half of the new appointments are on days that have appointments and half are after the last of them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AppointmentBenchmark {
+    private static final int PATIENTS = 1000;
+    private static final int QUERIES = 1024;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private final LocalDate[] dates = new LocalDate[QUERIES];
+    private final LocalTime[] startTimes = new LocalTime[QUERIES];
+    private int next = 0;
+
+    /**
+     * Generates the appointments and the new appointments to check.
+     */
+    @Setup
+    public void setUp() {
+        AppLogger.setLevel(Level.WARNING);
+        SyntheticData data = new SyntheticData();
+        Patient.setPatientsList(data.patients(PATIENTS));
+        Appointment.setApptList(data.appointments(size, PATIENTS));
+        for (int i = 0; i < QUERIES; i++) {
+            dates[i] = data.randomDate(2 * size, SyntheticData.APPOINTMENTS_PER_DAY);
+            startTimes[i] = data.randomQuarterHour(8, 18);
+        }
+        // Builds the schedule before measuring.
+        Appointment.findApptClashes(startTimes[0], startTimes[0].plusMinutes(30), dates[0]);
+    }
+
+    @Benchmark
+    public Appointment findApptClashes() {
+        next = (next + 1) & (QUERIES - 1);
+        return Appointment.findApptClashes(startTimes[next], startTimes[next].plusMinutes(30), dates[next]);
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.nursesched.benchmark;
+
+import seedu.nursesched.appointment.Appointment;
+import seedu.nursesched.dataset.DatasetGenerator;
+import seedu.nursesched.dataset.DatasetSpec;
+import seedu.nursesched.medicine.Medicine;
+import seedu.nursesched.patient.Patient;
+import seedu.nursesched.shift.Shift;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+/**
+ * Generates records for the benchmarks with {@link DatasetGenerator}, and the inputs to look them up with.
+ * The same seed always generates the same records and inputs, so runs can be compared.
+ * <p>
+ * Records are spread over the days from the first date at a fixed number per day, so the number of records on one
+ * day stays the same however many records are generated.
+ * </p>
+ */
+public class SyntheticData {
+    private static final DatasetSpec SPEC = new DatasetSpec();
+
+    public static final LocalDate FIRST_DATE = SPEC.getFrom();
+    public static final int MAX_PATIENTS = DatasetSpec.MAX_PATIENTS;
+    public static final int FIRST_PATIENT_ID = DatasetGenerator.FIRST_PATIENT_ID;
+    public static final int APPOINTMENTS_PER_DAY = SPEC.getAppointmentsPerDay();
+    public static final int SHIFTS_PER_DAY = SPEC.getShiftsPerDay();
+
+    private final DatasetGenerator generator = new DatasetGenerator(SPEC);
+    private final SplittableRandom random = new SplittableRandom(SPEC.getSeed());
+
+    /**
+     * Returns one of the given values, chosen at random.
+     */
+    public <T> T pick(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    public ArrayList<Patient> patients(int count) {
+        return generator.patients(count);
+    }
+
+    /**
+     * Generates appointments for the given number of patients, who must already be in the patient list.
+     */
+    public ArrayList<Appointment> appointments(int count, int patientCount) {
+        return generator.appointments(count, patientCount);
+    }
+
+    public ArrayList<Shift> shifts(int count) {
+        return generator.shifts(count);
+    }
+
+    public ArrayList<Medicine> medicines(int count) {
+        return generator.medicines(count);
+    }
+
+    /**
+     * Returns a random date among the days that the given number of records is spread over.
+     */
+    public LocalDate randomDate(int count, int perDay) {
+        return FIRST_DATE.plusDays(random.nextInt(count) / perDay);
+    }
+
+    /**
+     * Returns a random time on the quarter hour from {@code fromHour} up to, but not including, {@code toHour}.
+     */
+    public LocalTime randomQuarterHour(int fromHour, int toHour) {
+        return LocalTime.of(fromHour, 0).plusMinutes(15L * random.nextInt((toHour - fromHour) * 4));
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.nursesched.medicine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.nursesched.benchmark.SyntheticData;
+import seedu.nursesched.dataset.DatasetGenerator;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.log.AppLogger;
+import seedu.nursesched.ui.Page;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Measures searching the medicines by name, at different numbers of medicines.
+ * <p>
+ * A full name matches one medicine, while a common word such as {@code paracetamol} matches a fixed share of all of
+ * them. Only the first page of matches is printed, to a stream that discards it.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MedicineBenchmark {
+    private static final int QUERIES = 1024;
+    private static final Page FIRST_PAGE = new Page(1, Page.DEFAULT_LIMIT);
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private final String[] fullNames = new String[QUERIES];
+    private final String[] words = new String[QUERIES];
+    private PrintStream originalOut;
+    private int next = 0;
+
+    /**
+     * Generates the medicines and the names to search for.
+     */
+    @Setup
+    public void setUp() {
+        AppLogger.setLevel(Level.WARNING);
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        SyntheticData data = new SyntheticData();
+        ArrayList<Medicine> medicines = data.medicines(size);
+        Medicine.setMedicineList(medicines);
+        String[] names = DatasetGenerator.getMedicineNames();
+        for (int i = 0; i < QUERIES; i++) {
+            fullNames[i] = medicines.get(data.nextInt(size)).getMedicineName();
+            words[i] = data.pick(names);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public ArrayList<Medicine> findMedicineByFullName() throws NurseSchedException {
+        next = (next + 1) & (QUERIES - 1);
+        return Medicine.findMedicine(fullNames[next], FIRST_PAGE);
+    }
+
+    @Benchmark
+    public ArrayList<Medicine> findMedicineByWord() throws NurseSchedException {
+        next = (next + 1) & (QUERIES - 1);
+        return Medicine.findMedicine(words[next], FIRST_PAGE);
+    }
+}
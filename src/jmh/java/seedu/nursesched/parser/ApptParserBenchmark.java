@@ -0,0 +1,76 @@
+package seedu.nursesched.parser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.nursesched.benchmark.SyntheticData;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.log.AppLogger;
+
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Measures parsing whole appointment commands with {@link ApptParser#extractInputs(String)}.
+ * <p>
+ * Parsing does not look at the appointment list, so instead of a number of records, the commands are varied: each
+ * call parses the next of a fixed set of generated commands of the given kind.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApptParserBenchmark {
+    private static final int COMMANDS = 1024;
+
+    @Param({"add", "edit", "find", "mixed"})
+    private String kind;
+
+    private String[] commands;
+    private int next = 0;
+
+    /**
+     * Generates the commands.
+     */
+    @Setup
+    public void setUp() {
+        AppLogger.setLevel(Level.WARNING);
+        SyntheticData data = new SyntheticData();
+        String[] kinds = {"add", "edit", "find", "del"};
+        commands = new String[COMMANDS];
+        for (int i = 0; i < COMMANDS; i++) {
+            commands[i] = command(data, kind.equals("mixed") ? data.pick(kinds) : kind);
+        }
+    }
+
+    @Benchmark
+    public ApptParser extractInputs() throws NurseSchedException {
+        next = (next + 1) & (COMMANDS - 1);
+        return ApptParser.extractInputs(commands[next]);
+    }
+
+    private static String command(SyntheticData data, String kind) {
+        int patientId = SyntheticData.FIRST_PATIENT_ID + data.nextInt(SyntheticData.MAX_PATIENTS);
+        LocalTime start = data.randomQuarterHour(8, 18);
+        String times = " s/" + start + " e/" + start.plusMinutes(30) + " d/" + data.randomDate(COMMANDS, 20);
+        return switch (kind) {
+        case "add" -> "appt add id/" + patientId + times + " im/" + (1 + data.nextInt(3))
+                + " n/Follow up on blood pressure";
+        case "edit" -> "appt edit aid/" + (1 + data.nextInt(COMMANDS)) + times + " n/Moved to the afternoon";
+        case "find" -> "appt find id/" + patientId;
+        default -> "appt del aid/" + (1 + data.nextInt(COMMANDS));
+        };
+    }
+}
@@ -0,0 +1,197 @@
+package seedu.nursesched.parser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares extracting the fields of a command with {@link FieldTokenizer} against the way the parsers extracted
+ * them before, which searched the line again for every field marker.
+ * <p>
+ * Only the field extraction is measured, not the rest of each parser, so the numbers are not skewed by logging.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FieldTokenizerBenchmark {
+    private static final FieldTokenizer APPT_FIELDS =
+            new FieldTokenizer("aid/", "id/", "s/", "e/", "d/", "im/", "n/", "p/", "by/");
+    private static final FieldTokenizer PATIENT_FIELDS =
+            new FieldTokenizer("id/", "p/", "a/", "g/", "c/", "n/", "t/", "r/");
+    private static final FieldTokenizer MEDICINE_FIELDS = new FieldTokenizer("mn/", "q/", "un/", "uq/");
+    private static final String[] PATIENT_IDENTIFIERS = {"id/", "p/", "a/", "g/", "c/", "n/", "t/", "r/"};
+
+    @Param({"short", "long"})
+    private String notesLength;
+
+    private String apptLine;
+    private String patientLine;
+    private String medicineLine;
+
+    /**
+     * Builds the command lines, with either a few words of notes or a paragraph of them.
+     */
+    @Setup
+    public void setUp() {
+        String notes = notesLength.equals("short")
+                ? "Follow up on blood pressure"
+                : "Follow up on blood pressure. ".repeat(20).trim();
+        apptLine = "appt add id/1234 s/10:00 e/11:00 d/2030-01-01 im/3 n/" + notes;
+        patientLine = "pf add id/1234 p/John Doe a/30 g/M c/12345678 n/" + notes;
+        medicineLine = "medicine edit mn/Paracetamol 500mg un/Panadol 500mg uq/120";
+    }
+
+    @Benchmark
+    public void apptAddLegacy(Blackhole blackhole) {
+        String line = apptLine.substring(apptLine.indexOf(' ') + 1);
+        line = line.substring(line.indexOf(' ') + 1);
+
+        int idIndex = line.indexOf("id/") + 3;
+        blackhole.consume(line.substring(idIndex, findNextApptField(line, idIndex)).trim());
+        int startIndex = line.indexOf("s/") + 2;
+        blackhole.consume(LocalTime.parse(line.substring(startIndex, findNextApptField(line, startIndex)).trim()));
+        int endIndex = line.indexOf("e/") + 2;
+        int endEnd = findNextApptField(line, endIndex);
+        blackhole.consume(LocalTime.parse(line.substring(endIndex, endEnd).trim()));
+        String abstractedLine = line.substring(endEnd);
+        int dateIndex = abstractedLine.indexOf("d/") + 2;
+        blackhole.consume(LocalDate.parse(abstractedLine.substring(dateIndex,
+                findNextApptField(abstractedLine, dateIndex)).trim()));
+        int imIndex = line.indexOf("im/") + 3;
+        blackhole.consume(line.substring(imIndex, findNextApptField(line, imIndex)).trim());
+        int notesIndex = line.indexOf("n/") + 2;
+        blackhole.consume(line.substring(notesIndex, findNextApptField(line, notesIndex)).trim());
+    }
+
+    @Benchmark
+    public void apptAddTokenizer(Blackhole blackhole) {
+        int commandEnd = apptLine.indexOf(' ', apptLine.indexOf(' ') + 1);
+        FieldTokenizer.Fields fields = APPT_FIELDS.tokenize(apptLine, commandEnd);
+
+        blackhole.consume(fields.get("id/"));
+        blackhole.consume(fields.getTime("s/"));
+        blackhole.consume(fields.getTime("e/"));
+        blackhole.consume(fields.getDate("d/"));
+        blackhole.consume(fields.get("im/"));
+        blackhole.consume(fields.get("n/"));
+    }
+
+    @Benchmark
+    public void patientAddLegacy(Blackhole blackhole) {
+        String line = patientLine;
+        for (String identifier : PATIENT_IDENTIFIERS) {
+            line = line.replaceAll("(?i)" + Pattern.quote(identifier), identifier);
+        }
+        for (String identifier : PATIENT_IDENTIFIERS) {
+            int firstIndex = line.indexOf(identifier);
+            blackhole.consume(firstIndex != -1 && line.indexOf(identifier, firstIndex + 1) != -1);
+        }
+        line = line.substring(line.indexOf(' ') + 1).trim();
+        int idEnd = findNextPatientField(line, 0);
+        blackhole.consume(line.substring(0, idEnd).trim().toLowerCase());
+        line = line.substring(idEnd);
+
+        blackhole.consume(extractBetween(line, "id/", "p/"));
+        blackhole.consume(extractBetween(line, "p/", "a/"));
+        blackhole.consume(extractBetween(line, "a/", "g/"));
+        blackhole.consume(extractBetween(line, "g/", "c/"));
+        blackhole.consume(extractBetween(line, "c/", "n/"));
+        blackhole.consume(line.substring(line.indexOf("n/") + 2).trim());
+    }
+
+    @Benchmark
+    public void patientAddTokenizer(Blackhole blackhole) {
+        FieldTokenizer.Fields fields = PATIENT_FIELDS.tokenize(patientLine, patientLine.indexOf(' ') + 1);
+        for (String identifier : PATIENT_IDENTIFIERS) {
+            blackhole.consume(fields.count(identifier) > 1);
+        }
+        blackhole.consume(fields.leading().toLowerCase());
+
+        blackhole.consume(fields.get("id/"));
+        blackhole.consume(fields.get("p/"));
+        blackhole.consume(fields.get("a/"));
+        blackhole.consume(fields.get("g/"));
+        blackhole.consume(fields.get("c/"));
+        blackhole.consume(fields.rest("n/"));
+    }
+
+    @Benchmark
+    public void medicineEditLegacy(Blackhole blackhole) {
+        String remaining = medicineLine.toLowerCase().split(" ", 2)[1].split(" ", 2)[1];
+
+        blackhole.consume(extractBetween(remaining, "mn/", "un/"));
+        blackhole.consume(extractBetween(remaining, "un/", "uq/"));
+        blackhole.consume(remaining.substring(remaining.indexOf("uq/") + 3).trim());
+    }
+
+    @Benchmark
+    public void medicineEditTokenizer(Blackhole blackhole) {
+        String remaining = medicineLine.toLowerCase().split(" ", 2)[1].split(" ", 2)[1];
+        FieldTokenizer.Fields fields = MEDICINE_FIELDS.tokenize(remaining);
+
+        blackhole.consume(fields.get("mn/"));
+        blackhole.consume(fields.get("un/"));
+        blackhole.consume(fields.rest("uq/"));
+    }
+
+    private static int findNextApptField(String line, int startPos) {
+        int[] markers = {
+                line.indexOf("id/", startPos),
+                line.indexOf("s/", startPos),
+                line.indexOf("e/", startPos),
+                line.indexOf("d/", startPos),
+                line.indexOf("im/", startPos),
+                line.indexOf("n/", startPos)
+        };
+        return nearest(line, markers);
+    }
+
+    private static int findNextPatientField(String line, int startPos) {
+        int[] markers = {
+                line.indexOf("id/", startPos),
+                line.indexOf("p/", startPos),
+                line.indexOf("a/", startPos),
+                line.indexOf("g/", startPos),
+                line.indexOf("c/", startPos),
+                line.indexOf("n/", startPos)
+        };
+        return nearest(line, markers);
+    }
+
+    private static int nearest(String line, int[] markers) {
+        int nextIndex = line.length();
+        for (int marker : markers) {
+            if (marker != -1 && marker < nextIndex) {
+                nextIndex = marker;
+            }
+        }
+        return nextIndex;
+    }
+
+    private static String extractBetween(String line, String key, String identifier) {
+        int startIdx = line.indexOf(key) + key.length();
+        int endIdx = line.indexOf(identifier, startIdx);
+        if (endIdx == -1) {
+            endIdx = line.length();
+        }
+        return line.substring(startIdx, endIdx).trim();
+    }
+}
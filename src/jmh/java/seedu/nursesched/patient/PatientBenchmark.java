@@ -0,0 +1,73 @@
+package seedu.nursesched.patient;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.nursesched.benchmark.SyntheticData;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.log.AppLogger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Measures validating the details of a new patient in the {@link Patient} constructor, with valid details and with
+ * an age that is not a number.
+ * <p>
+ * Patient IDs have four digits, so there can be at most 9000 patients. The patients in the list take the lowest
+ * IDs and the new patients take IDs from 9000 upwards, so that they are never already in the list.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PatientBenchmark {
+    private static final int QUERIES = 1000;
+    private static final int FIRST_NEW_ID = 9000;
+
+    @Param({"1000", "8000"})
+    private int size;
+
+    private final String[] newIds = new String[QUERIES];
+    private int next = 0;
+
+    /**
+     * Generates the patients in the list and the IDs of the new patients.
+     */
+    @Setup
+    public void setUp() {
+        AppLogger.setLevel(Level.WARNING);
+        Patient.setPatientsList(new SyntheticData().patients(size));
+        for (int i = 0; i < QUERIES; i++) {
+            newIds[i] = String.valueOf(FIRST_NEW_ID + i);
+        }
+    }
+
+    @Benchmark
+    public Patient constructValid() throws NurseSchedException {
+        next = (next + 1) % QUERIES;
+        return new Patient(newIds[next], "Jane Tan", "042", "f", "91234567", "Allergic to penicillin");
+    }
+
+    @Benchmark
+    public NurseSchedException constructInvalid() {
+        next = (next + 1) % QUERIES;
+        try {
+            new Patient(newIds[next], "Jane Tan", "forty", "F", "91234567", "");
+            return null;
+        } catch (NurseSchedException e) {
+            return e;
+        }
+    }
+}
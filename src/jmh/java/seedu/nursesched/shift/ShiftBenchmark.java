@@ -0,0 +1,67 @@
+package seedu.nursesched.shift;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.nursesched.benchmark.SyntheticData;
+import seedu.nursesched.log.AppLogger;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Measures looking for the shifts that overlap a new one on the same day, which is the check made before a shift is
+ * added or edited, at different numbers of shifts.
+ * <p>
+ * {@code Shift.hasOverlap} is private, so the public {@link Shift#findOverlappingShifts} is measured for a single
+ * day instead. Both look the day up in the same schedule.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShiftBenchmark {
+    private static final int QUERIES = 1024;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private final LocalDate[] dates = new LocalDate[QUERIES];
+    private final LocalTime[] startTimes = new LocalTime[QUERIES];
+    private int next = 0;
+
+    /**
+     * Generates the shifts and the new shifts to check.
+     */
+    @Setup
+    public void setUp() {
+        AppLogger.setLevel(Level.WARNING);
+        SyntheticData data = new SyntheticData();
+        Shift.setShiftList(data.shifts(size));
+        for (int i = 0; i < QUERIES; i++) {
+            dates[i] = data.randomDate(2 * size, SyntheticData.SHIFTS_PER_DAY);
+            startTimes[i] = LocalTime.of(data.nextInt(20), 0);
+        }
+    }
+
+    @Benchmark
+    public ArrayList<Shift> findOverlappingShifts() {
+        next = (next + 1) & (QUERIES - 1);
+        LocalDate date = dates[next];
+        return Shift.findOverlappingShifts(startTimes[next], startTimes[next].plusHours(3), date, date);
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.nursesched.storage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.nursesched.appointment.Appointment;
+import seedu.nursesched.benchmark.SyntheticData;
+import seedu.nursesched.log.AppLogger;
+import seedu.nursesched.patient.Patient;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Measures reading the appointment save file and writing it again, at different numbers of appointments.
+ * <p>
+ * The save file is written to {@code data/} in the working directory, which the {@code jmh} task sets to
+ * {@code build/jmh}. Other backends can be measured by passing e.g.
+ * {@code -jvmArgsAppend -Dnursesched.storage.backend=binary} to JMH.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AppointmentStorageBenchmark {
+    private static final int PATIENTS = 1000;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private ArrayList<Appointment> appointments;
+
+    /**
+     * Generates the appointments and writes them to the save file.
+     */
+    @Setup
+    public void setUp() {
+        AppLogger.setLevel(Level.WARNING);
+        SyntheticData data = new SyntheticData();
+        Patient.setPatientsList(data.patients(PATIENTS));
+        appointments = data.appointments(size, PATIENTS);
+        AppointmentStorage.overwriteSaveFile(appointments);
+    }
+
+    @Benchmark
+    public ArrayList<Appointment> readFile() {
+        return AppointmentStorage.readFile();
+    }
+
+    @Benchmark
+    public void overwriteSaveFile() {
+        AppointmentStorage.overwriteSaveFile(appointments);
+    }
+}
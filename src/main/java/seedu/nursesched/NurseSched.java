@@ -1,8 +1,15 @@
 package seedu.nursesched;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Scanner;
 
+import seedu.nursesched.command.BatchReport;
+import seedu.nursesched.command.BatchRunner;
 import seedu.nursesched.command.Command;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.storage.Stores;
+import seedu.nursesched.storage.WriteBehind;
 import seedu.nursesched.ui.Ui;
 
 public class NurseSched {
@@ -16,11 +23,41 @@ public class NurseSched {
         boolean isExit = false;
         Scanner in = new Scanner(System.in);
         ui.showGreetingMessage();
+        WriteBehind.enableFromConfig();
+        Command.getMetrics().startDumpingFromConfig();
 
         Command.executeCommands(isExit, in, ui);
+        WriteBehind.disable();
+    }
+
+    /**
+     * Runs the commands in a batch file instead of reading them from the user, then prints a summary.
+     *
+     * @param file The batch file.
+     * @return Whether every command in the file succeeded.
+     */
+    public boolean runBatch(Path file) {
+        try {
+            BatchReport report = new BatchRunner(Command.getRegistry()).run(file);
+            report.print();
+            return report.getFailureCount() == 0;
+        } catch (NurseSchedException e) {
+            ui.showError(e.getMessage());
+            return false;
+        }
     }
 
     public static void main(String[] args) {
+        Ui.useBufferedOutput();
+        Stores.prefetch();
+        if (args.length > 0 && args[0].equals("--batch")) {
+            if (args.length != 2) {
+                System.out.println("Usage: java -jar NurseSched.jar --batch FILE_PATH");
+                System.exit(2);
+            }
+            boolean isSuccessful = new NurseSched().runBatch(Paths.get(args[1]));
+            System.exit(isSuccessful ? 0 : 1);
+        }
         new NurseSched().run();
     }
 }
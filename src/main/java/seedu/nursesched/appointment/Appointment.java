@@ -1,23 +1,23 @@
 package seedu.nursesched.appointment;
 
-import java.io.File;
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.logging.FileHandler;
-import java.util.logging.LogManager;
-import java.util.logging.Logger;
-import java.util.logging.Level;
-import java.util.logging.SimpleFormatter;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.format.DateTimeFormats;
+import seedu.nursesched.index.GroupIndex;
+import seedu.nursesched.index.TextIndex;
+import seedu.nursesched.log.AppLogger;
 import seedu.nursesched.patient.Patient;
 import seedu.nursesched.storage.AppointmentStorage;
+import seedu.nursesched.ui.Page;
 import seedu.nursesched.ui.Ui;
 
 /**
@@ -25,9 +25,14 @@ import seedu.nursesched.ui.Ui;
  * It stores details such as the start time, end time, date, patient name, patient ID and notes.
  */
 public class Appointment {
-    protected static ArrayList<Appointment> apptList;
-    private static final Logger logr = Logger.getLogger("Appointment");
-
+    protected static ArrayList<Appointment> apptList = new ArrayList<>();
+    private static final AppLogger logr = AppLogger.getLogger("Appointment", "logs/appointment/appointment.log");
+    private static final AppointmentSchedule SCHEDULE = new AppointmentSchedule();
+    private static final TextIndex<Appointment> NAME_SEARCH = new TextIndex<>(Appointment::getName);
+    private static final GroupIndex<Integer, Appointment> BY_PATIENT = new GroupIndex<>(Appointment::getID);
+    private static int nextApptId = 1;
+
+    private final int apptId;
     private final String name;
     private final LocalTime startTime;
     private final LocalTime endTime;
@@ -37,31 +42,27 @@ public class Appointment {
     private final int importance;
     private boolean isDone = false;
 
-    static {
-        try {
-
-            File logDir = new File("logs/appointment");
-            if (!logDir.exists()) {
-                logDir.mkdirs();  // Creates the directory and any missing parent directories
-            }
-
-            LogManager.getLogManager().reset();
-            FileHandler fh = new FileHandler("logs/appointment/appointment.log", true);
-            fh.setFormatter(new SimpleFormatter());
-            logr.addHandler(fh);
-            logr.setLevel(Level.ALL);
-        } catch (IOException e) {
-            logr.log(Level.SEVERE, "File logger not working", e);
-        }
+    /**
+     * Constructs an Appointment object with specified details and a newly assigned appointment ID.
+     *
+     * @param id         The ID of the patient involved in the appointment.
+     * @param startTime  The start time of the appointment.
+     * @param endTime    The end time of the appointment.
+     * @param date       The date on which the appointment occurs.
+     * @param notes      The notes for the specified appointment.
+     * @param importance The importance ranking of the appointment.
+     */
 
-        apptList = AppointmentStorage.readFile();
+    public Appointment(int id, LocalTime startTime, LocalTime endTime,
+                       LocalDate date, String notes, int importance) {
+        this(nextApptId, id, startTime, endTime, date, notes, importance);
     }
 
-
-
     /**
-     * Constructs an Appointment object with specified details.
+     * Constructs an Appointment object with specified details and an existing appointment ID.
+     * Used when loading appointments from storage and when an edit replaces an appointment.
      *
+     * @param apptId     The stable ID of the appointment itself, used to identify it in storage.
      * @param id         The ID of the patient involved in the appointment.
      * @param startTime  The start time of the appointment.
      * @param endTime    The end time of the appointment.
@@ -69,9 +70,11 @@ public class Appointment {
      * @param notes      The notes for the specified appointment.
      * @param importance The importance ranking of the appointment.
      */
-
-    public Appointment(int id, LocalTime startTime, LocalTime endTime,
+    public Appointment(int apptId, int id, LocalTime startTime, LocalTime endTime,
                        LocalDate date, String notes, int importance) {
+        assert apptId > 0 : "Appointment ID must be positive";
+        this.apptId = apptId;
+        nextApptId = Math.max(nextApptId, apptId + 1);
         this.id = id;
         this.name = findPatientName(id);
         this.startTime = startTime;
@@ -79,7 +82,7 @@ public class Appointment {
         this.date = date;
         this.notes = notes;
         this.importance = importance;
-        logr.info("Appointment object created");
+        logr.fine(() -> "Appointment object created");
     }
 
     /**
@@ -120,12 +123,48 @@ public class Appointment {
 
         Appointment appt = new Appointment(id, startTime, endTime, date, notes, importance);
         apptList.add(appt);
-        AppointmentStorage.appendToFile(appt);
+        SCHEDULE.added(apptList, appt);
+        NAME_SEARCH.added(apptList, appt);
+        BY_PATIENT.added(apptList, appt);
+        AppointmentStorage.appendToFile(appt, apptList);
         System.out.println("Appointment added:");
         System.out.println(appt);
         logr.info("Appointment added: " + appt);
     }
 
+    /**
+     * Adds an appointment read from an import file, without printing it.
+     * The date and time are expected to have been checked with {@link #checkApptDateTime} already.
+     * Rather than journalling every imported appointment, the whole save file is marked for saving,
+     * so that a batch of imported appointments is written once.
+     *
+     * @param id          The ID of the patient involved in the appointment.
+     * @param startTime   The start time of the appointment.
+     * @param endTime     The end time of the appointment.
+     * @param date        The date of the appointment.
+     * @param notes       The notes for the appointment.
+     * @param importance  The importance ranking of the appointment.
+     * @return The appointment added.
+     * @throws NurseSchedException If the patient does not exist, or the appointment clashes with another one.
+     */
+    public static Appointment importAppt(int id, LocalTime startTime, LocalTime endTime,
+                                         LocalDate date, String notes, int importance) throws NurseSchedException {
+        if (findPatientName(id) == null) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_PATIENT_APPT_ADD);
+        }
+        if (findApptClashes(startTime, endTime, date) != null) {
+            throw new NurseSchedException(ExceptionMessage.APPT_CLASH);
+        }
+
+        Appointment appt = new Appointment(id, startTime, endTime, date, notes, importance);
+        apptList.add(appt);
+        SCHEDULE.added(apptList, appt);
+        NAME_SEARCH.added(apptList, appt);
+        BY_PATIENT.added(apptList, appt);
+        AppointmentStorage.overwriteSaveFile(apptList);
+        return appt;
+    }
+
     /**
      * Deletes aan appointment from the appointment list based on the given index.
      * @param index The index of the appointment to be removed (1-based index).
@@ -137,7 +176,10 @@ public class Appointment {
             Appointment appt = apptList.get(index);
             System.out.println("Appointment deleted: " + appt);
             apptList.remove(index);
-            AppointmentStorage.overwriteSaveFile(apptList);
+            SCHEDULE.removed(apptList, appt);
+            NAME_SEARCH.removed(apptList, appt);
+            BY_PATIENT.removed(apptList, appt);
+            AppointmentStorage.recordDelete(appt, apptList);
             logr.info("Appointment deleted" + appt);
         } catch (IndexOutOfBoundsException e) {  // Catching out-of-bounds exception instead of NullPointerException
             System.out.println("There is no appointment with index: " + (index + 1));
@@ -158,7 +200,7 @@ public class Appointment {
                 throw new NurseSchedException(ExceptionMessage.MARKING_MARKED_APPT);
             }
             apptList.get(index).setDone(true);
-            AppointmentStorage.overwriteSaveFile(apptList);
+            AppointmentStorage.recordMark(apptList.get(index), apptList);
             System.out.println("Marked appointment as done!");
             logr.info("Appointment marked: " + apptList.get(index).toString());
         }catch (IndexOutOfBoundsException e) {
@@ -181,7 +223,7 @@ public class Appointment {
                 throw new NurseSchedException(ExceptionMessage.UNMARKING_UNMARKED_APPT);
             }
             apptList.get(index).setDone(false);
-            AppointmentStorage.overwriteSaveFile(apptList);
+            AppointmentStorage.recordMark(apptList.get(index), apptList);
             System.out.println("Marked appointment as undone!");
             logr.info("Appointment unmarked: " + apptList.get(index).toString());
         } catch (IndexOutOfBoundsException e) {
@@ -198,13 +240,7 @@ public class Appointment {
      * @return          The matching appointment if found, otherwise return null.
      */
     public static Appointment findApptClashes(LocalTime startTime, LocalTime endTime, LocalDate date) {
-        for (Appointment appointment : apptList) {
-            if (appointment.date.equals(date) &&
-                    (appointment.startTime.isBefore(endTime) && appointment.endTime.isAfter(startTime))) {
-                return appointment;
-            }
-        }
-        return null;
+        return SCHEDULE.findClash(apptList, startTime, endTime, date, null);
     }
 
     /**
@@ -213,41 +249,32 @@ public class Appointment {
      * @return      The name of the patient with matching ID, otherwise return null.
      */
     public static String findPatientName(int id){
-        ArrayList<Patient> pfList = Patient.getPatientsList();
-        for (Patient p : pfList) {
-            if (Integer.parseInt(p.getId()) == id){
-                return p.getName();
-            }
-        }
-        return null;
+        Patient patient = Patient.findById(id);
+        return patient == null ? null : patient.getName();
     }
 
     /**
      * Filter for appointments by patient names.
      * @param patientName   The keyword to search for in patient name.
+     * @param page          The page of results to print.
      */
-    public static void findApptByName(String patientName) {
-        ArrayList<Appointment> searchResults = new ArrayList<>();
-        for (Appointment appointment : apptList) {
-            if (appointment.getName().toLowerCase().contains(patientName.toLowerCase())) {
-                searchResults.add(appointment);
-            }
-        }
-        Ui.printSearchResults(searchResults, patientName);
+    public static void findApptByName(String patientName, Page page) {
+        ArrayList<Appointment> searchResults = NAME_SEARCH.search(apptList, patientName);
+        Ui.printSearchResults(searchResults, patientName, page, Appointment::renderResult);
+    }
+
+    private static void renderResult(int number, Appointment appointment, StringBuilder line) {
+        appointment.appendTo(line);
     }
 
     /**
      * Filter for appointments by patient ID.
      * @param id    The ID used to filter appointments.
+     * @param page  The page of results to print.
      */
-    public static void findApptByID(String id) {
-        ArrayList<Appointment> searchResults = new ArrayList<>();
-        for (Appointment appointment : apptList) {
-            if (appointment.getID() == Integer.parseInt(id)) {
-                searchResults.add(appointment);
-            }
-        }
-        Ui.printSearchResults(searchResults, id);
+    public static void findApptByID(String id, Page page) {
+        ArrayList<Appointment> searchResults = BY_PATIENT.find(apptList, Integer.parseInt(id));
+        Ui.printSearchResults(searchResults, id, page, Appointment::renderResult);
     }
 
 
@@ -311,16 +338,10 @@ public class Appointment {
 
             checkApptDateTime(date, startTime, endTime);
 
-            // Temporarily remove the current appointment from the list
-            Appointment removedAppt = apptList.remove(index);
-
-            // Check for clashes with the temporary state of the list (without the current appointment)
-            Appointment possibleClash = findApptClashes(startTime, endTime, date);
-
-            // Put the removed appointment back
-            apptList.add(index, removedAppt);
+            // Check for clashes with every appointment other than the one being edited
+            Appointment possibleClash = SCHEDULE.findClash(apptList, startTime, endTime, date, prevAppt);
 
-            if (possibleClash != null && possibleClash != prevAppt) {
+            if (possibleClash != null) {
                 System.out.println("There is another patient, " + possibleClash.name +
                         " with an appointment clashing with the given time and date! " +
                         "Please enter a different date or time outside of " +
@@ -330,14 +351,18 @@ public class Appointment {
             }
 
 
-            Appointment updatedAppt = new Appointment(id, startTime, endTime, date, notes, importance);
+            Appointment updatedAppt = new Appointment(prevAppt.apptId, id, startTime, endTime, date, notes,
+                    importance);
             apptList.set(index, updatedAppt);
+            SCHEDULE.replaced(apptList, prevAppt, updatedAppt);
+            NAME_SEARCH.replaced(apptList, prevAppt, updatedAppt);
+            BY_PATIENT.replaced(apptList, prevAppt, updatedAppt);
 
             System.out.println("Appointment updated:");
             System.out.println(updatedAppt);
             logr.info("Appointment edited at index " + index + ": " + updatedAppt);
 
-            AppointmentStorage.overwriteSaveFile(apptList);
+            AppointmentStorage.recordEdit(updatedAppt, apptList);
 
         } catch (IndexOutOfBoundsException e) {
             System.out.println("There is no appointment with index: " + (index + 1));
@@ -359,6 +384,8 @@ public class Appointment {
         apptList.sort(Comparator.comparing(Appointment::getImportance).reversed() // Sort by importance (HIGH to LOW)
                 .thenComparing(a -> a.date)                                      // Then by date
                 .thenComparing(a -> a.startTime));                               // Then by start time
+        NAME_SEARCH.invalidate();
+        BY_PATIENT.invalidate();
 
         AppointmentStorage.overwriteSaveFile(apptList);
         System.out.println("Appointments sorted by importance level (HIGH to LOW).");
@@ -378,6 +405,8 @@ public class Appointment {
 
         apptList.sort(Comparator.comparing((Appointment a) -> a.date) // First sort by dates
                 .thenComparing(a -> a.startTime));  //Then sort by time
+        NAME_SEARCH.invalidate();
+        BY_PATIENT.invalidate();
 
         AppointmentStorage.overwriteSaveFile(apptList);
         System.out.println("Appointments sorted chronologically.");
@@ -421,21 +450,30 @@ public class Appointment {
     /**
      * Removes all appointments associated with a specific patient ID from the main appointment list.
      * <p>
-     * Iterates through the shared apptList and removes any Appointment
-     * whose patient ID matches the provided patientId
-     * <p>
+     * The appointments are looked up in the index by patient ID, so a patient without appointments costs nothing.
+     * Otherwise they are dropped from the list in a single pass over the whole list, which costs O(n) in the number
+     * of appointments however few of them are removed, the same as shifting the later appointments down would. Each
+     * removed appointment is then recorded as deleted in the journal.
+     * </p>
+     *
      * @param patientId The ID of the patient whose appointments are to be removed.
      */
     public static void removeAppointmentsForPatient(int patientId) {
-        ArrayList<Appointment> appointmentsToRemove = new ArrayList<>();
+        ArrayList<Appointment> appointmentsToRemove = BY_PATIENT.find(apptList, patientId);
+        if (appointmentsToRemove.isEmpty()) {
+            return;
+        }
 
-        for (Appointment appointment : apptList) {
-            if (appointment.getID() == patientId) {
-                appointmentsToRemove.add(appointment);
-            }
+        Set<Appointment> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(appointmentsToRemove);
+        apptList.removeIf(removed::contains);
+        SCHEDULE.removedAll(apptList, appointmentsToRemove);
+        NAME_SEARCH.removedAll(apptList, appointmentsToRemove);
+        BY_PATIENT.removedAll(apptList, appointmentsToRemove);
+        for (Appointment appointment : appointmentsToRemove) {
+            AppointmentStorage.recordDelete(appointment, apptList);
         }
-        apptList.removeAll(appointmentsToRemove);
-        AppointmentStorage.overwriteSaveFile(apptList);
+        logr.info("Appointments deleted for patient " + patientId + ": " + appointmentsToRemove.size());
     }
 
     /**
@@ -443,7 +481,16 @@ public class Appointment {
      * If no appointments are in the list, it notifies the user.
      */
     public static void list(){
-        Ui.printAppointmentList(apptList);
+        list(Page.ALL);
+    }
+
+    /**
+     * Displays one page of the appointments currently stored in the appointment list.
+     *
+     * @param page The page to display.
+     */
+    public static void list(Page page) {
+        Ui.printAppointmentList(apptList, page);
     }
 
     public void setDone(boolean done) {
@@ -456,10 +503,16 @@ public class Appointment {
 
     @Override
     public String toString() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
-        String formattedStartTime = startTime.format(formatter);
-        String formattedEndTime = endTime.format(formatter);
+        return appendTo(new StringBuilder(128)).toString();
+    }
 
+    /**
+     * Appends the details of the appointment, in the same form as {@link #toString()}.
+     *
+     * @param line The line to append to.
+     * @return The line.
+     */
+    public StringBuilder appendTo(StringBuilder line) {
         String importanceString = switch (importance) {
         case 1 -> "LOW";
         case 2 -> "MEDIUM";
@@ -467,19 +520,21 @@ public class Appointment {
         default -> "";
         };
 
-        return "ID: " + id + ", " +
-                "Name: " + name + ", " +
-                "From: " + formattedStartTime + ", " +
-                "To: " + formattedEndTime + ", " +
-                "Date: " + date + ", " +
-                "Importance: " + importanceString + ", " +
-                "Notes: " + notes;
+        line.append("ID: ").append(id).append(", Name: ").append(name).append(", From: ");
+        DateTimeFormats.appendTime(line, startTime).append(", To: ");
+        DateTimeFormats.appendTime(line, endTime).append(", Date: ");
+        DateTimeFormats.appendDate(line, date).append(", Importance: ").append(importanceString);
+        return line.append(", Notes: ").append(notes);
     }
 
     public String getName() {
         return name;
     }
 
+    public int getApptId() {
+        return apptId;
+    }
+
     public int getImportance() {
         return importance;
     }
@@ -488,19 +543,49 @@ public class Appointment {
         return id;
     }
 
+    public LocalDate getLocalDate() {
+        return date;
+    }
+
+    public LocalTime getStartLocalTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndLocalTime() {
+        return endTime;
+    }
+
     public String getStartTime() {
-        return this.startTime.format(DateTimeFormatter.ofPattern("HH:mm"));
+        return DateTimeFormats.formatTime(startTime);
     }
 
     public String getEndTime() {
-        return this.endTime.format(DateTimeFormatter.ofPattern("HH:mm"));
+        return DateTimeFormats.formatTime(endTime);
     }
 
     public String getDate() {
-        return this.date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        return DateTimeFormats.formatDate(date);
     }
 
     public String getNotes() {
         return notes;
     }
+
+    /**
+     * Retrieves the list of all stored appointments.
+     *
+     * @return An {@code ArrayList<Appointment>} containing all appointments.
+     */
+    public static ArrayList<Appointment> getApptList() {
+        return apptList;
+    }
+
+    /**
+     * Replaces the list of appointments, e.g. with the appointments loaded from the save file.
+     *
+     * @param appointments The new list of appointments.
+     */
+    public static void setApptList(ArrayList<Appointment> appointments) {
+        apptList = appointments;
+    }
 }
@@ -0,0 +1,123 @@
+package seedu.nursesched.appointment;
+
+import seedu.nursesched.index.ListIndex;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Index of appointments by date, and within each date by start time, used to detect clashing appointments.
+ * <p>
+ * A clash query only looks at the appointments on the same date. Of those, it walks back from the latest one that
+ * starts before the queried end time, and stops once the start times are further back than the longest appointment
+ * of that day, since no earlier appointment can still be running. Appointments added through NurseSched never
+ * overlap, so the walk usually stops after one step, and a query costs O(log k) in the appointments of that day.
+ * A range that overlaps several appointments reports the one that comes first in the list.
+ * </p>
+ */
+class AppointmentSchedule extends ListIndex<Appointment> {
+    private final HashMap<LocalDate, Day> days = new HashMap<>();
+
+    /**
+     * The appointments on one date.
+     */
+    private static class Day {
+        private final TreeMap<LocalTime, ArrayList<Appointment>> byStartTime = new TreeMap<>();
+        private Duration longestAppointment = Duration.ZERO;
+        private int size = 0;
+    }
+
+    /**
+     * Returns the first appointment in list order on the given date that overlaps the given time range.
+     * <p>
+     * If the range overlaps several appointments, which of them comes first in the list is found with a scan of the
+     * list that stops at the first of them.
+     * </p>
+     *
+     * @param appointments The list of all appointments.
+     * @param startTime    The start of the time range.
+     * @param endTime      The end of the time range.
+     * @param date         The date to check.
+     * @param ignored      An appointment that does not count as a clash, e.g. the one being edited, or null.
+     * @return The first overlapping appointment, or null if there is none.
+     */
+    Appointment findClash(List<Appointment> appointments, LocalTime startTime, LocalTime endTime, LocalDate date,
+            Appointment ignored) {
+        ensureCurrent(appointments);
+        Day day = days.get(date);
+        if (day == null) {
+            return null;
+        }
+
+        Set<Appointment> clashes = Collections.newSetFromMap(new IdentityHashMap<>());
+        LocalTime earliestPossibleStart = startTime.minus(day.longestAppointment);
+        boolean hasWrappedPastMidnight = earliestPossibleStart.isAfter(startTime);
+        for (Map.Entry<LocalTime, ArrayList<Appointment>> entry
+                : day.byStartTime.headMap(endTime, false).descendingMap().entrySet()) {
+            if (!hasWrappedPastMidnight && entry.getKey().isBefore(earliestPossibleStart)) {
+                break;
+            }
+            for (Appointment appointment : entry.getValue()) {
+                if (appointment != ignored && appointment.getEndLocalTime().isAfter(startTime)) {
+                    clashes.add(appointment);
+                }
+            }
+        }
+
+        if (clashes.size() <= 1) {
+            return clashes.isEmpty() ? null : clashes.iterator().next();
+        }
+        for (Appointment appointment : appointments) {
+            if (clashes.contains(appointment)) {
+                return appointment;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected void clearIndex() {
+        days.clear();
+    }
+
+    @Override
+    protected void insert(Appointment appointment) {
+        Day day = days.computeIfAbsent(appointment.getLocalDate(), date -> new Day());
+        day.byStartTime.computeIfAbsent(appointment.getStartLocalTime(), time -> new ArrayList<>(1))
+                .add(appointment);
+        Duration length = Duration.between(appointment.getStartLocalTime(), appointment.getEndLocalTime());
+        if (length.compareTo(day.longestAppointment) > 0) {
+            day.longestAppointment = length;
+        }
+        day.size++;
+    }
+
+    @Override
+    protected boolean delete(Appointment appointment) {
+        Day day = days.get(appointment.getLocalDate());
+        if (day == null) {
+            return false;
+        }
+        ArrayList<Appointment> sameStart = day.byStartTime.get(appointment.getStartLocalTime());
+        if (sameStart == null || !sameStart.remove(appointment)) {
+            return false;
+        }
+        if (sameStart.isEmpty()) {
+            day.byStartTime.remove(appointment.getStartLocalTime());
+        }
+        // The longest appointment of the day is kept as an upper bound, which keeps queries correct
+        if (--day.size == 0) {
+            days.remove(appointment.getLocalDate());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.nursesched.command;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts the commands run from a batch file, and the ones that failed, per command type.
+ */
+public class BatchReport {
+    private final String source;
+    private final LinkedHashMap<String, int[]> countsByType = new LinkedHashMap<>();
+    private final ArrayList<String> failures = new ArrayList<>();
+    private int commandCount = 0;
+    private long elapsedNanos = 0;
+
+    /**
+     * Constructs an empty report.
+     *
+     * @param source The name of the batch file, for the summary.
+     */
+    public BatchReport(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Records a command that was carried out.
+     *
+     * @param type The command type.
+     */
+    void recordSuccess(String type) {
+        countsFor(type)[0]++;
+        commandCount++;
+    }
+
+    /**
+     * Records a command that failed.
+     *
+     * @param type       The command type.
+     * @param lineNumber The line of the batch file the command is on.
+     * @param line       The command.
+     * @param reason     Why the command failed, or null if the reason was only printed.
+     */
+    void recordFailure(String type, int lineNumber, String line, String reason) {
+        int[] counts = countsFor(type);
+        counts[0]++;
+        counts[1]++;
+        commandCount++;
+        failures.add("Line " + lineNumber + ": " + line + (reason == null ? "" : " (" + reason + ")"));
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    private int[] countsFor(String type) {
+        return countsByType.computeIfAbsent(type, key -> new int[2]);
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * Returns the number of commands of the given type that were run, including those that failed.
+     */
+    public int getCommandCount(String type) {
+        int[] counts = countsByType.get(type);
+        return counts == null ? 0 : counts[0];
+    }
+
+    public int getFailureCount() {
+        return failures.size();
+    }
+
+    /**
+     * Returns the number of commands of the given type that failed.
+     */
+    public int getFailureCount(String type) {
+        int[] counts = countsByType.get(type);
+        return counts == null ? 0 : counts[1];
+    }
+
+    /**
+     * Prints the number of commands run and failed per command type, followed by the failed commands.
+     */
+    public void print() {
+        System.out.println("----------------------------");
+        System.out.println("Batch " + source + " finished in " + elapsedNanos / 1_000_000 + " ms: "
+                + commandCount + " command(s), " + failures.size() + " failed.");
+        for (Map.Entry<String, int[]> entry : countsByType.entrySet()) {
+            System.out.println("  " + entry.getKey() + ": " + entry.getValue()[0] + " command(s), "
+                    + entry.getValue()[1] + " failed");
+        }
+        if (!failures.isEmpty()) {
+            System.out.println("Failed commands:");
+            for (String failure : failures) {
+                System.out.println("  " + failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.nursesched.command;
+
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.parser.Parser;
+import seedu.nursesched.storage.WriteBehind;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Locale;
+
+/**
+ * Runs the commands in a batch file one after another, without prompting for each of them.
+ * <p>
+ * The file is read one line at a time, so it can be of any length. Blank lines and lines starting with {@code #}
+ * are skipped, and {@code exit ns} ends the batch early. A failed command is reported and the batch carries on with
+ * the next one. Saves are held back until the whole batch has run, and are then written once.
+ * </p>
+ */
+public class BatchRunner {
+    private static final HashSet<Path> RUNNING_FILES = new HashSet<>();
+
+    private final CommandRegistry registry;
+
+    /**
+     * Constructs a runner that carries out commands through the given registry.
+     *
+     * @param registry The command registry.
+     */
+    public BatchRunner(CommandRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Runs every command in a batch file.
+     *
+     * @param file The batch file.
+     * @return The report of the commands run.
+     * @throws NurseSchedException If the file cannot be read, or is already running.
+     */
+    public BatchReport run(Path file) throws NurseSchedException {
+        Path runningFile = file.toAbsolutePath().normalize();
+        synchronized (RUNNING_FILES) {
+            if (!RUNNING_FILES.add(runningFile)) {
+                throw new NurseSchedException(ExceptionMessage.BATCH_ALREADY_RUNNING);
+            }
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return run(reader, file.getFileName().toString());
+        } catch (IOException e) {
+            throw new NurseSchedException(ExceptionMessage.BATCH_FILE_NOT_READABLE);
+        } finally {
+            synchronized (RUNNING_FILES) {
+                RUNNING_FILES.remove(runningFile);
+            }
+        }
+    }
+
+    /**
+     * Runs every command read from the reader.
+     *
+     * @param reader The reader to read commands from.
+     * @param source The name of the batch, for the report.
+     * @return The report of the commands run.
+     * @throws IOException If the commands cannot be read.
+     */
+    BatchReport run(BufferedReader reader, String source) throws IOException {
+        BatchReport report = new BatchReport(source);
+        long start = System.nanoTime();
+        WriteBehind.beginBatch();
+        try {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                if (line.toLowerCase().equals("exit ns")) {
+                    break;
+                }
+                runCommand(line, lineNumber, report);
+            }
+        } finally {
+            WriteBehind.endBatch();
+            report.setElapsedNanos(System.nanoTime() - start);
+        }
+        return report;
+    }
+
+    private void runCommand(String line, int lineNumber, BatchReport report) {
+        String type = Parser.extractType(line).toLowerCase(Locale.ROOT);
+        if (type.isEmpty()) {
+            type = line.toLowerCase(Locale.ROOT);
+        }
+
+        WriteBehind.beginCommand();
+        try {
+            if (registry.execute(line)) {
+                report.recordSuccess(type);
+            } else {
+                report.recordFailure(type, lineNumber, line, null);
+            }
+        } catch (NurseSchedException e) {
+            System.out.println(e.getMessage());
+            report.recordFailure(type, lineNumber, line, e.getMessage());
+        } catch (RuntimeException e) {
+            // A bug in one command should not stop the rest of the batch from running
+            System.out.println("Error: " + e);
+            report.recordFailure(type, lineNumber, line, e.toString());
+        } finally {
+            WriteBehind.endCommand();
+        }
+    }
+}
@@ -1,22 +1,56 @@
 package seedu.nursesched.command;
 
 import seedu.nursesched.appointment.Appointment;
+import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.exporter.AppointmentExport;
+import seedu.nursesched.exporter.ExportType;
+import seedu.nursesched.exporter.Exporter;
+import seedu.nursesched.exporter.MedicineExport;
+import seedu.nursesched.exporter.PatientExport;
+import seedu.nursesched.exporter.ShiftExport;
+import seedu.nursesched.exporter.TaskExport;
+import seedu.nursesched.importer.AppointmentImport;
+import seedu.nursesched.importer.CsvImporter;
+import seedu.nursesched.importer.MedicineImport;
+import seedu.nursesched.importer.PatientImport;
 import seedu.nursesched.medicine.Medicine;
+import seedu.nursesched.metrics.MetricsRegistry;
 import seedu.nursesched.parser.ApptParser;
+import seedu.nursesched.parser.ExportParser;
 import seedu.nursesched.parser.MedicineParser;
 import seedu.nursesched.parser.PatientParser;
 import seedu.nursesched.parser.ShiftParser;
 import seedu.nursesched.parser.TaskParser;
-import seedu.nursesched.parser.Parser;
 import seedu.nursesched.patient.Patient;
 import seedu.nursesched.shift.Shift;
+import seedu.nursesched.storage.Stores;
+import seedu.nursesched.storage.WriteBehind;
 import seedu.nursesched.task.Task;
 import seedu.nursesched.ui.Ui;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Scanner;
 
 public class Command {
+    private static final MetricsRegistry METRICS = new MetricsRegistry();
+    private static final CommandRegistry REGISTRY = new CommandRegistry()
+            .register(appointmentCommands())
+            .register(patientCommands())
+            .register(shiftCommands())
+            .register(taskCommands())
+            .register(medicineCommands())
+            .register(batchCommands())
+            .register(importCommands())
+            .register(exportCommands())
+            .register(statsCommands());
+
+    static {
+        REGISTRY.addTimer(METRICS);
+    }
+
     /**
      * Performs the execution of commands after the input has been parsed.
      *
@@ -25,299 +59,267 @@ public class Command {
      * @param ui     The user interface class for interacting with the user.
      */
     public static void executeCommands(boolean isExit, Scanner in, Ui ui) {
-        String input;
         while (!isExit) {
+            String line = ui.readCommand(in);
+            WriteBehind.beginCommand();
+            METRICS.commandStarted();
             try {
-                String line = ui.readCommand(in);
                 ui.showResults();
                 line = line.trim();
-                String type = Parser.extractType(line).toLowerCase();
-
-                switch (type) {
-                case "appt":
-                    ApptParser apptParser = ApptParser.extractInputs(line);
-                    if (apptParser == null) {
-                        System.out.println("Invalid inputs for appointment based command!");
-                        break;
-                    }
-                    String command = apptParser.getCommand();
-                    switch (command) {
-                    case "add":
-                        Appointment.addAppt(
-                                apptParser.getID(),
-                                apptParser.getStartTime(),
-                                apptParser.getEndTime(),
-                                apptParser.getDate(),
-                                apptParser.getNotes(),
-                                apptParser.getImportance()
-                        );
-                        break;
-                    case "del":
-
-                        Appointment.deleteAppt(
-                                apptParser.getIndex()
-                        );
-                        break;
-                    case "mark":
-                        Appointment.markAppt(
-                                apptParser.getIndex()
-                        );
-                        break;
-                    case "unmark":
-                        Appointment.unmarkAppt(
-                                apptParser.getIndex()
-                        );
-                        break;
-                    case "list":
-                        Appointment.list();
-                        break;
-                    case "sort":
-                        if (apptParser.getSortBy().equals("importance")) {
-                            Appointment.sortByImportance();
-                        } else {
-                            Appointment.sortByTime();
-                        }
 
-                        break;
-                    case "find":
-                        String searchBy = apptParser.getSearchBy();
-                        if (searchBy.equals("id")){
-                            Appointment.findApptByID(apptParser.getSearchKeyword());
-                        }
+                // Exit command "exit ns"
+                if (line.toLowerCase().equals("exit ns")) {
+                    in.close();
+                    ui.exitMessage();
+                    isExit = true;
+                } else {
+                    REGISTRY.execute(line);
+                }
+            } catch (NurseSchedException e) {
+                ui.showError(e.getMessage());
+            } finally {
+                WriteBehind.endCommand();
+            }
+        }
+    }
 
-                        if (searchBy.equals("p")){
-                            Appointment.findApptByName(apptParser.getSearchKeyword());
-                        }
+    /**
+     * Returns the registry of all commands other than exit, e.g. to add timers to it.
+     *
+     * @return The command registry.
+     */
+    public static CommandRegistry getRegistry() {
+        return REGISTRY;
+    }
 
+    /**
+     * Returns the latency and storage metrics of the commands run so far.
+     *
+     * @return The metrics registry.
+     */
+    public static MetricsRegistry getMetrics() {
+        return METRICS;
+    }
 
-                        break;
-                    case "edit":
-                        Appointment.editAppt(
-                                apptParser.getIndex(),
-                                apptParser.getID(),
-                                apptParser.getStartTime(),
-                                apptParser.getEndTime(),
-                                apptParser.getDate(),
-                                apptParser.getNotes(),
-                                apptParser.getImportance()
-                        );
-                        break;
-                    default:
-                        System.out.println("Invalid appointment based command!");
-                        break;
-                    }
-                    break;
-                case "pf":
-                    PatientParser patientParser = PatientParser.extractInputs(line);
-                    if (patientParser == null) {
-                        System.out.println("Invalid inputs for Patient based command!");
-                        break;
-                    }
-                    input = patientParser.getCommand();
-                    if (input.equals("add")) {
-                        Patient newPatient = new Patient(
-                                patientParser.getId(),
-                                patientParser.getName(),
-                                patientParser.getAge(),
-                                patientParser.getGender(),
-                                patientParser.getContact(),
-                                patientParser.getNotes());
-                        Patient.addPatient(newPatient);
-                        break;
-                    }
-                    if (input.equals("del")) {
-                        Patient.removePatient(patientParser.getId());
-                        break;
-                    }
-                    if (input.equals("list")) {
-                        Patient.listPatientInformation();
-                        break;
-                    }
-                    if (input.equals("find")) {
-                        Patient.printProfileWithID(patientParser.getId());
-                        break;
-                    }
-                    if (input.equals("edit")) {
-                        Patient.editPatientDetails(
-                                patientParser.getId(),
-                                patientParser.getName(),
-                                patientParser.getAge(),
-                                patientParser.getGender(),
-                                patientParser.getContact(),
-                                patientParser.getNotes());
-                        break;
-                    }
-                    break;
-                case "shift":
-                    ShiftParser shiftParser = ShiftParser.extractInputs(line);
-                    String shift = shiftParser.getCommand();
-                    if (shift.equals("add")) {
-                        Shift.addShift(
-                                shiftParser.getStartTime(),
-                                shiftParser.getEndTime(),
-                                shiftParser.getDate(),
-                                shiftParser.getNotes()
-                        );
-                        Shift.listShifts();
-                    }
-                    if (shift.equals("del")) {
-                        Shift.deleteShiftByIndex(
-                                shiftParser.getIndex()
-                        );
-                        Shift.listShifts();
-                    }
-                    if (shift.equals("edit")) {
-                        Shift.editShift(
-                                shiftParser.getIndex(),
-                                shiftParser.getStartTime(),
-                                shiftParser.getEndTime(),
-                                shiftParser.getDate(),
-                                shiftParser.getNotes()
-                        );
-                    }
-                    if (shift.equals("mark")) {
-                        Shift.markShift(
-                                shiftParser.getIndex()
-                        );
-                    }
-                    if (shift.equals("unmark")) {
-                        Shift.unmarkShift(
-                                shiftParser.getIndex()
-                        );
-                    }
-                    if (shift.equals("sort")) {
-                        Shift.sortShiftsChronologically();
-                        Shift.listShifts();
-                    }
-                    if (shift.equals("logot")) {
-                        double hours = Double.parseDouble(shiftParser.getShiftTask());
-                        int index = shiftParser.getIndex();
-                        Shift.logOvertime(index, hours);
-                    }
-                    if (shift.equals("list")) {
-                        Shift.listShifts();
+    private static CommandType<ApptParser> appointmentCommands() {
+        return new CommandType<ApptParser>("appt", ApptParser::extractInputs)
+                .loads(Stores.APPOINTMENTS)
+                .onInvalidInput("Invalid inputs for appointment based command!")
+                .onUnknownVerb(line -> System.out.println("Invalid inputs for appointment based command!"))
+                .add("add", (apptParser, line) -> Appointment.addAppt(
+                        apptParser.getID(),
+                        apptParser.getStartTime(),
+                        apptParser.getEndTime(),
+                        apptParser.getDate(),
+                        apptParser.getNotes(),
+                        apptParser.getImportance()))
+                .add("del", (apptParser, line) -> Appointment.deleteAppt(apptParser.getIndex()))
+                .add("mark", (apptParser, line) -> Appointment.markAppt(apptParser.getIndex()))
+                .add("unmark", (apptParser, line) -> Appointment.unmarkAppt(apptParser.getIndex()))
+                .addListing("list", (apptParser, line, page) -> Appointment.list(page))
+                .add("sort", (apptParser, line) -> {
+                    if (apptParser.getSortBy().equals("importance")) {
+                        Appointment.sortByImportance();
+                    } else {
+                        Appointment.sortByTime();
                     }
-                    break;
-                case "task":
-                    TaskParser taskParser = TaskParser.extractInputs(line);
-                    if (taskParser == null) {
-                        break;
+                })
+                .addListing("find", (apptParser, line, page) -> {
+                    String searchBy = apptParser.getSearchBy();
+                    if (searchBy.equals("id")) {
+                        Appointment.findApptByID(apptParser.getSearchKeyword(), page);
                     }
-                    String taskCommand = taskParser.getCommand();
-                    switch (taskCommand) {
-                    case "add":
-                        Task.addTask(
-                                taskParser.getDescription(),
-                                taskParser.getByDate(),
-                                taskParser.getByTime(),
-                                taskParser.isDone()
-                        );
-                        break;
-                    case "del":
-                        Task.deleteTask(taskParser.getTaskIndex());
-                        break;
-                    case "mark":
-                        Task.markTask(taskParser.getTaskIndex());
-                        break;
-                    case "unmark":
-                        Task.unmarkTask(taskParser.getTaskIndex());
-                        break;
-                    case "list":
-                        Task.listTasks();
-                        break;
-                    case "edit":
-                        Task.editTask(
-                                taskParser.getTaskIndex(),
-                                taskParser.getDescription(),
-                                taskParser.getByDate(),
-                                taskParser.getByTime());
-                        break;
-                    case "find":
-                        Task.findTask(taskParser.getDescription());
-                        break;
-                    default:
-                        System.out.println("Invalid task based command!");
-                        break;
+                    if (searchBy.equals("p")) {
+                        Appointment.findApptByName(apptParser.getSearchKeyword(), page);
                     }
-                    break;
+                })
+                .add("edit", (apptParser, line) -> Appointment.editAppt(
+                        apptParser.getIndex(),
+                        apptParser.getID(),
+                        apptParser.getStartTime(),
+                        apptParser.getEndTime(),
+                        apptParser.getDate(),
+                        apptParser.getNotes(),
+                        apptParser.getImportance()));
+    }
 
-                case "medicine":
-                    MedicineParser medicineParser = MedicineParser.extractInputs(line);
-                    if (medicineParser == null) {
-                        break;
-                    }
-                    String medicineCommand = medicineParser.getCommand();
-                    switch (medicineCommand) {
-                    case "add":
-                        Medicine.addMedicine(
-                                medicineParser.getQuantity(),
-                                medicineParser.getMedicineName()
-                        );
-                        break;
-                    case "remove":
-                        Medicine.removeMedicine(
-                                medicineParser.getQuantity(),
-                                medicineParser.getMedicineName()
-                        );
-                        break;
-                    case "list":
-                        String listCommand = line.trim().toLowerCase();
-                        if (listCommand.equals("medicine list")) {
-                            Medicine.listMedicine();
-                        } else {
-                            System.out.println("Unknown command!");
-                            System.out.println("Do you mean medicine list?");
-                        }
-                        break;
-                    case "find":
-                        Medicine.findMedicine(
-                                medicineParser.getMedicineName()
-                        );
-                        break;
-                    case "delete":
-                        Medicine.deleteMedicine(
-                                medicineParser.getMedicineName()
-                        );
-                        break;
-                    case "edit":
-                        Medicine.editMedicine(
-                                medicineParser.getMedicineName(),
-                                medicineParser.getUpdatedName(),
-                                medicineParser.getQuantity()
-                        );
-                        break;
-                    case "restock":
-                        Medicine.restockMedicine(
-                                medicineParser.getQuantity()
-                        );
-                        break;
+    private static CommandType<PatientParser> patientCommands() {
+        // The parser itself records and lists medical test results, so the result verbs have nothing left to do
+        CommandHandler<PatientParser> handledByParser = (patientParser, line) -> { };
+        return new CommandType<PatientParser>("pf", PatientParser::extractInputs)
+                .loads(Stores.PATIENTS, Stores.MEDICAL_TESTS, Stores.APPOINTMENTS)
+                .onInvalidInput("Invalid inputs for Patient based command!")
+                .onUnknownVerb(line -> {
+                    throw new NurseSchedException(ExceptionMessage.INVALID_PATIENT_COMMAND);
+                })
+                .add("add", (patientParser, line) -> Patient.addPatient(new Patient(
+                        patientParser.getId(),
+                        patientParser.getName(),
+                        patientParser.getAge(),
+                        patientParser.getGender(),
+                        patientParser.getContact(),
+                        patientParser.getNotes())))
+                .add("del", (patientParser, line) -> Patient.removePatient(patientParser.getId()))
+                .addListing("list", (patientParser, line, page) -> Patient.listPatientInformation(page))
+                .add("find", (patientParser, line) -> Patient.printProfileWithID(patientParser.getId()))
+                .add("edit", (patientParser, line) -> Patient.editPatientDetails(
+                        patientParser.getId(),
+                        patientParser.getName(),
+                        patientParser.getAge(),
+                        patientParser.getGender(),
+                        patientParser.getContact(),
+                        patientParser.getNotes()))
+                .add("result add", handledByParser)
+                .add("result del", handledByParser)
+                .add("result list", handledByParser);
+    }
 
-                    default:
-                        System.out.println("Invalid medicine based command!");
-                        break;
-                    }
-                    break;
+    private static CommandType<ShiftParser> shiftCommands() {
+        return new CommandType<ShiftParser>("shift", ShiftParser::extractInputs)
+                .loads(Stores.SHIFTS)
+                .onUnknownVerb(line -> {
+                    throw new NurseSchedException(ExceptionMessage.INVALID_SHIFT_COMMAND);
+                })
+                .add("add", (shiftParser, line) -> {
+                    Shift.addShift(
+                            shiftParser.getStartTime(),
+                            shiftParser.getEndTime(),
+                            shiftParser.getDate(),
+                            shiftParser.getNotes());
+                    Shift.listShifts();
+                })
+                .add("del", (shiftParser, line) -> {
+                    Shift.deleteShiftByIndex(shiftParser.getIndex());
+                    Shift.listShifts();
+                })
+                .add("edit", (shiftParser, line) -> Shift.editShift(
+                        shiftParser.getIndex(),
+                        shiftParser.getStartTime(),
+                        shiftParser.getEndTime(),
+                        shiftParser.getDate(),
+                        shiftParser.getNotes()))
+                .add("mark", (shiftParser, line) -> Shift.markShift(shiftParser.getIndex()))
+                .add("unmark", (shiftParser, line) -> Shift.unmarkShift(shiftParser.getIndex()))
+                .add("sort", (shiftParser, line) -> {
+                    Shift.sortShiftsChronologically();
+                    Shift.listShifts();
+                })
+                .add("logot", (shiftParser, line) -> {
+                    double hours = Double.parseDouble(shiftParser.getShiftTask());
+                    Shift.logOvertime(shiftParser.getIndex(), hours);
+                })
+                .addListing("list", (shiftParser, line, page) -> Shift.listShifts(page));
+    }
 
-                // Exit command "exit ns"
-                case "exit":
-                    String exitCommand = line.trim().toLowerCase();
-                    if (exitCommand.equals("exit ns")) {
-                        in.close();
-                        ui.exitMessage();
-                        isExit = true;
+    private static CommandType<TaskParser> taskCommands() {
+        return new CommandType<TaskParser>("task", TaskParser::extractInputs)
+                .loads(Stores.TASKS)
+                .onUnknownVerb(line -> System.out.println("Unknown task command!"))
+                .add("add", (taskParser, line) -> Task.addTask(
+                        taskParser.getDescription(),
+                        taskParser.getByDate(),
+                        taskParser.getByTime(),
+                        taskParser.isDone()))
+                .add("del", (taskParser, line) -> Task.deleteTask(taskParser.getTaskIndex()))
+                .add("mark", (taskParser, line) -> Task.markTask(taskParser.getTaskIndex()))
+                .add("unmark", (taskParser, line) -> Task.unmarkTask(taskParser.getTaskIndex()))
+                .addListing("list", (taskParser, line, page) -> Task.listTasks(page))
+                .add("edit", (taskParser, line) -> Task.editTask(
+                        taskParser.getTaskIndex(),
+                        taskParser.getDescription(),
+                        taskParser.getByDate(),
+                        taskParser.getByTime()))
+                .addListing("find", (taskParser, line, page) -> Task.findTask(taskParser.getDescription(), page));
+    }
+
+    private static CommandType<MedicineParser> medicineCommands() {
+        return new CommandType<MedicineParser>("medicine", MedicineParser::extractInputs)
+                .loads(Stores.MEDICINES)
+                .onUnknownVerb(line -> {
+                    throw new NurseSchedException(ExceptionMessage.INVALID_MEDICINE_FORMAT);
+                })
+                .add("add", (medicineParser, line) -> Medicine.addMedicine(
+                        medicineParser.getQuantity(),
+                        medicineParser.getMedicineName()))
+                .add("remove", (medicineParser, line) -> Medicine.removeMedicine(
+                        medicineParser.getQuantity(),
+                        medicineParser.getMedicineName()))
+                .addListing("list", (medicineParser, line, page) -> {
+                    String listCommand = line.trim().toLowerCase();
+                    if (listCommand.equals("medicine list")) {
+                        Medicine.listMedicine(page);
                     } else {
-                        System.out.println("Unknown command or missing fields!");
+                        System.out.println("Unknown command!");
+                        System.out.println("Do you mean medicine list?");
                     }
-                    break;
+                })
+                .addListing("find", (medicineParser, line, page) ->
+                        Medicine.findMedicine(medicineParser.getMedicineName(), page))
+                .add("delete", (medicineParser, line) -> Medicine.deleteMedicine(medicineParser.getMedicineName()))
+                .add("edit", (medicineParser, line) -> Medicine.editMedicine(
+                        medicineParser.getMedicineName(),
+                        medicineParser.getUpdatedName(),
+                        medicineParser.getQuantity()))
+                .addListing("restock", (medicineParser, line, page) ->
+                        Medicine.restockMedicine(medicineParser.getQuantity(), page));
+    }
+
+    private static CommandType<Path> batchCommands() {
+        return new CommandType<Path>("batch", line -> parseFile(line,
+                ExceptionMessage.MISSING_BATCH_FILE, ExceptionMessage.BATCH_FILE_NOT_READABLE))
+                .onUnknownVerb(line -> {
+                    throw new NurseSchedException(ExceptionMessage.MISSING_BATCH_FILE);
+                })
+                .add("run", (file, line) -> new BatchRunner(REGISTRY).run(file).print());
+    }
 
+    private static CommandType<Path> importCommands() {
+        return new CommandType<Path>("import", line -> parseFile(line,
+                ExceptionMessage.MISSING_IMPORT_FILE, ExceptionMessage.IMPORT_FILE_NOT_READABLE))
+                .loads(Stores.PATIENTS, Stores.APPOINTMENTS, Stores.MEDICINES)
+                .onUnknownVerb(line -> {
+                    throw new NurseSchedException(ExceptionMessage.MISSING_IMPORT_FILE);
+                })
+                .add("pf", (file, line) -> new CsvImporter().run(file, new PatientImport()).print())
+                .add("appt", (file, line) -> new CsvImporter().run(file, new AppointmentImport()).print())
+                .add("medicine", (file, line) -> new CsvImporter().run(file, new MedicineImport()).print());
+    }
 
-                default:
-                    System.out.println("Unknown command or missing fields!");
-                    break;
-                }
-            } catch (NurseSchedException e) {
-                ui.showError(e.getMessage());
-            }
+    private static CommandType<ExportParser> exportCommands() {
+        return new CommandType<ExportParser>("export", ExportParser::extractInputs)
+                .loads(Stores.PATIENTS, Stores.APPOINTMENTS, Stores.SHIFTS, Stores.TASKS, Stores.MEDICINES)
+                .onUnknownVerb(line -> {
+                    throw new NurseSchedException(ExceptionMessage.INVALID_EXPORT_COMMAND);
+                })
+                .add("pf", (exportParser, line) -> export(new PatientExport(), exportParser))
+                .add("appt", (exportParser, line) -> export(new AppointmentExport(), exportParser))
+                .add("shift", (exportParser, line) -> export(new ShiftExport(), exportParser))
+                .add("task", (exportParser, line) -> export(new TaskExport(), exportParser))
+                .add("medicine", (exportParser, line) -> export(new MedicineExport(), exportParser));
+    }
+
+    private static <T> void export(ExportType<T> type, ExportParser exportParser) throws NurseSchedException {
+        new Exporter().run(type, exportParser.getFormat(), exportParser.getFile(), exportParser.getFilter());
+    }
+
+    private static CommandType<String> statsCommands() {
+        return new CommandType<String>("stats", line -> line)
+                .add("", (line, fullLine) -> METRICS.print());
+    }
+
+    /**
+     * Returns the file path that follows the type and verb of a command, e.g. {@code batch run FILE_PATH}.
+     */
+    private static Path parseFile(String line, ExceptionMessage missingFile, ExceptionMessage invalidFile)
+            throws NurseSchedException {
+        String[] parts = line.trim().split("\\s+", 3);
+        if (parts.length < 3) {
+            throw new NurseSchedException(missingFile);
+        }
+        try {
+            return Paths.get(parts[2]);
+        } catch (InvalidPathException e) {
+            throw new NurseSchedException(invalidFile);
         }
     }
 }
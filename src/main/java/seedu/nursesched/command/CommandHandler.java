@@ -0,0 +1,21 @@
+package seedu.nursesched.command;
+
+import seedu.nursesched.exception.NurseSchedException;
+
+/**
+ * Carries out one command, such as {@code appt add}, once its input has been parsed.
+ *
+ * @param <P> The type of the parsed input.
+ */
+@FunctionalInterface
+public interface CommandHandler<P> {
+
+    /**
+     * Carries out the command.
+     *
+     * @param parsed The parsed input.
+     * @param line   The input line the command was parsed from.
+     * @throws NurseSchedException If the command cannot be carried out.
+     */
+    void execute(P parsed, String line) throws NurseSchedException;
+}
@@ -0,0 +1,69 @@
+package seedu.nursesched.command;
+
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.parser.Parser;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Maps the type of each command, such as {@code appt}, to its {@link CommandType}, which in turn maps each verb
+ * to its handler. Running a command therefore takes two hash lookups, and a new command only has to be registered.
+ */
+public class CommandRegistry {
+    private final HashMap<String, CommandType<?>> types = new HashMap<>();
+    private final List<CommandTimer> timers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Registers a command type.
+     *
+     * @param type The command type, with its verbs.
+     * @return This registry.
+     */
+    public CommandRegistry register(CommandType<?> type) {
+        assert !types.containsKey(type.getName()) : "Command type registered twice: " + type.getName();
+        types.put(type.getName(), type);
+        return this;
+    }
+
+    /**
+     * Adds a timer to report the time taken by every command to.
+     *
+     * @param timer The timer.
+     */
+    public void addTimer(CommandTimer timer) {
+        timers.add(timer);
+    }
+
+    /**
+     * Removes a timer added through {@link #addTimer}.
+     *
+     * @param timer The timer.
+     */
+    public void removeTimer(CommandTimer timer) {
+        timers.remove(timer);
+    }
+
+    /**
+     * Parses and carries out a command.
+     *
+     * @param line The input line, without surrounding whitespace.
+     * @return Whether the command was carried out, as opposed to rejected with a printed message.
+     * @throws NurseSchedException If the line is invalid or the command fails.
+     */
+    public boolean execute(String line) throws NurseSchedException {
+        String type = Parser.extractType(line).toLowerCase(Locale.ROOT);
+        if (type.isEmpty()) {
+            // A line of a single word is a type on its own, e.g. stats
+            type = line.toLowerCase(Locale.ROOT);
+        }
+        CommandType<?> commandType = types.get(type);
+        if (commandType == null) {
+            System.out.println("Unknown command or missing fields!");
+            return false;
+        }
+        return commandType.execute(line, timers);
+    }
+}
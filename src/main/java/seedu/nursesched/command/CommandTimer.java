@@ -0,0 +1,18 @@
+package seedu.nursesched.command;
+
+/**
+ * Receives the time taken by each command run through a {@link CommandRegistry}.
+ */
+@FunctionalInterface
+public interface CommandTimer {
+
+    /**
+     * Records the time taken by one command, including the time taken to parse it.
+     * This is called whether or not the command succeeded.
+     *
+     * @param type         The command type, e.g. {@code appt}.
+     * @param verb         The command verb, e.g. {@code add}.
+     * @param elapsedNanos The time taken, in nanoseconds.
+     */
+    void commandTimed(String type, String verb, long elapsedNanos);
+}
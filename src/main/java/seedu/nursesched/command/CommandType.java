@@ -0,0 +1,226 @@
+package seedu.nursesched.command;
+
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.parser.Parser;
+import seedu.nursesched.storage.Store;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The commands of one type, such as {@code appt}, with the parser they share and a handler for each verb.
+ * <p>
+ * A verb is looked up from the words right after the type, ignoring case, before the line is parsed. A verb may be
+ * several words long, e.g. {@code result add}, in which case the longest registered verb that the line starts with
+ * wins. Only whole words are matched: an abbreviated verb such as {@code appt d} is an unknown verb rather than
+ * {@code appt del}, since the parsers read the full verb again and a guessed verb could delete records. The empty
+ * verb stands for the type alone, e.g. {@code stats}. A line whose verb is not registered goes to the unknown verb
+ * handler without being parsed.
+ * </p>
+ *
+ * @param <P> The type of the parsed input.
+ */
+public class CommandType<P> {
+    private final String name;
+    private final InputParser<P> parser;
+    private final HashMap<String, CommandHandler<P>> handlers = new HashMap<>();
+    private final HashSet<String> listingVerbs = new HashSet<>();
+    private final ArrayList<Store<?>> stores = new ArrayList<>();
+    private int maxVerbWords = 0;
+    private String invalidInputMessage = null;
+    private UnknownVerbHandler unknownVerbHandler = line -> System.out.println("Unknown command or missing fields!");
+
+    /**
+     * Parses an input line of this command type.
+     *
+     * @param <P> The type of the parsed input.
+     */
+    @FunctionalInterface
+    public interface InputParser<P> {
+        /**
+         * Parses the line.
+         *
+         * @param line The input line.
+         * @return The parsed input, or null if the line is invalid and the parser has not reported why.
+         * @throws NurseSchedException If the line is invalid.
+         */
+        P parse(String line) throws NurseSchedException;
+    }
+
+    /**
+     * Reports an input line whose verb is not registered.
+     */
+    @FunctionalInterface
+    public interface UnknownVerbHandler {
+        /**
+         * Reports the line.
+         *
+         * @param line The input line.
+         * @throws NurseSchedException To report the line as an error.
+         */
+        void handle(String line) throws NurseSchedException;
+    }
+
+    /**
+     * Constructs a command type without any verbs.
+     *
+     * @param name   The name of the type, which is the first word of its commands.
+     * @param parser The parser for lines of this type.
+     */
+    public CommandType(String name, InputParser<P> parser) {
+        assert name.equals(name.toLowerCase(Locale.ROOT)) : "Command type names must be in lower case";
+        this.name = name;
+        this.parser = parser;
+    }
+
+    /**
+     * Registers the handler for a verb.
+     *
+     * @param verb    The verb, one or more words separated by single spaces, in lower case, or the empty string
+     *                for a line made of the type alone.
+     * @param handler The handler.
+     * @return This command type.
+     */
+    public CommandType<P> add(String verb, CommandHandler<P> handler) {
+        assert verb.equals(verb.toLowerCase(Locale.ROOT)) : "Verbs must be in lower case";
+        assert !handlers.containsKey(verb) : "Verb registered twice: " + verb;
+        handlers.put(verb, handler);
+        maxVerbWords = Math.max(maxVerbWords, verb.split(" ").length);
+        return this;
+    }
+
+    /**
+     * Registers the handler for a verb that prints a list, and so accepts the {@code page/} and {@code limit/}
+     * fields. These fields are taken out of the line before it is parsed.
+     *
+     * @param verb    The verb, one or more words separated by single spaces, in lower case.
+     * @param handler The handler.
+     * @return This command type.
+     */
+    public CommandType<P> addListing(String verb, ListingHandler<P> handler) {
+        listingVerbs.add(verb);
+        return add(verb, (parsed, line) ->
+                handler.execute(parsed, Parser.removePageFields(line), Parser.extractPage(line)));
+    }
+
+    /**
+     * Declares the stores that commands of this type read or change. They are loaded before such a command is
+     * parsed, together with any store that reads them while loading.
+     *
+     * @param stores The stores.
+     * @return This command type.
+     */
+    public CommandType<P> loads(Store<?>... stores) {
+        this.stores.addAll(List.of(stores));
+        return this;
+    }
+
+    /**
+     * Sets the message to print when the parser returns null.
+     *
+     * @param message The message.
+     * @return This command type.
+     */
+    public CommandType<P> onInvalidInput(String message) {
+        this.invalidInputMessage = message;
+        return this;
+    }
+
+    /**
+     * Sets how lines with a verb that is not registered are reported.
+     *
+     * @param unknownVerbHandler The handler for such lines.
+     * @return This command type.
+     */
+    public CommandType<P> onUnknownVerb(UnknownVerbHandler unknownVerbHandler) {
+        this.unknownVerbHandler = unknownVerbHandler;
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Parses and carries out a line of this command type.
+     *
+     * @param line   The input line, starting with the name of this type.
+     * @param timers The timers to report the time taken by the command to.
+     * @return Whether the command was carried out, as opposed to rejected with a printed message.
+     * @throws NurseSchedException If the line is invalid or the command fails.
+     */
+    boolean execute(String line, List<CommandTimer> timers) throws NurseSchedException {
+        String verb = findVerb(line);
+        if (verb == null) {
+            unknownVerbHandler.handle(line);
+            return false;
+        }
+
+        for (Store<?> store : stores) {
+            store.ensureLoadedForChange();
+        }
+
+        long start = System.nanoTime();
+        try {
+            P parsed = parser.parse(listingVerbs.contains(verb) ? Parser.removePageFields(line) : line);
+            if (parsed == null) {
+                if (invalidInputMessage != null) {
+                    System.out.println(invalidInputMessage);
+                }
+                return false;
+            }
+            handlers.get(verb).execute(parsed, line);
+            return true;
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            for (CommandTimer timer : timers) {
+                timer.commandTimed(name, verb, elapsedNanos);
+            }
+        }
+    }
+
+    /**
+     * Returns the longest registered verb that the words after the type start with, or null if there is none.
+     */
+    String findVerb(String line) {
+        StringBuilder words = new StringBuilder();
+        String verb = null;
+        int position = skipWord(line, skipWhitespace(line, 0));
+        if (skipWhitespace(line, position) == line.length()) {
+            return handlers.containsKey("") ? "" : null;
+        }
+        for (int count = 0; count < maxVerbWords; count++) {
+            int wordStart = skipWhitespace(line, position);
+            if (wordStart == line.length()) {
+                break;
+            }
+            position = skipWord(line, wordStart);
+            if (count > 0) {
+                words.append(' ');
+            }
+            words.append(line, wordStart, position);
+            String candidate = words.toString().toLowerCase(Locale.ROOT);
+            if (handlers.containsKey(candidate)) {
+                verb = candidate;
+            }
+        }
+        return verb;
+    }
+
+    private static int skipWhitespace(String line, int position) {
+        while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static int skipWord(String line, int position) {
+        while (position < line.length() && !Character.isWhitespace(line.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+}
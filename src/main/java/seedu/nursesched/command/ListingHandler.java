@@ -0,0 +1,24 @@
+package seedu.nursesched.command;
+
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.ui.Page;
+
+/**
+ * Carries out a command that prints a list, such as {@code appt list}, one page at a time.
+ * The {@code page/} and {@code limit/} fields are taken out of the input line before it is parsed.
+ *
+ * @param <P> The type of the parsed input.
+ */
+@FunctionalInterface
+public interface ListingHandler<P> {
+
+    /**
+     * Carries out the command.
+     *
+     * @param parsed The parsed input.
+     * @param line   The input line the command was parsed from, without the paging fields.
+     * @param page   The page of the list to print, which is the whole list if no paging fields were given.
+     * @throws NurseSchedException If the command cannot be carried out.
+     */
+    void execute(P parsed, String line, Page page) throws NurseSchedException;
+}
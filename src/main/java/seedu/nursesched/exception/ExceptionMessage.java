@@ -5,6 +5,7 @@ public enum ExceptionMessage {
     INVALID_FORMAT("Invalid command format!"),
     INVALID_TIME_FORMAT("Invalid time format! Input as HH:mm"),
     INVALID_DATE_FORMAT("Invalid date format! Input as YYYY-MM-DD"),
+    INVALID_PAGE("page/ and limit/ must be positive whole numbers!"),
     INVALID_DATETIME_FORMAT("Invalid date or time format! Input date as YYYY-MM-DD, input time as HH:mm"),
     INVALID_START_TIME("Start time must be before end time."),
     INVALID_DUE_DATE_TIME("Due date must be after current date and time."),
@@ -106,6 +107,7 @@ public enum ExceptionMessage {
     MISSING_INDEX_PARAMETER("Missing aid/INDEX field for index."),
     INVALID_INDEX_PARAMETER("aid/INDEX field must be an integer only."),
     INDEX_PARAMETER_TOO_LARGE("The index provided is too large. Please use up to 4 digits only."),
+    APPT_CLASH("There is another appointment clashing with the given time and date!"),
 
     // ====================Task Specific Exceptions====================
     INVALID_TASK_FIND_FIELDS("Invalid task find fields! Input as: task find td/KEYWORD"),
@@ -131,7 +133,31 @@ public enum ExceptionMessage {
             "\n[ ] (or [X] if the task is completed) | <description> | <due date in YYYY-MM-DD> | <due time in HH:mm>"),
     MISSING_TASK_KEYWORD("Task keyword cannot be empty!"),
     INVALID_LIST_TASK("Invalid command to list tasks! Input as: task list"),
-    NO_EDITS_MADE("Empty inputs found, no edits were made.");
+    NO_EDITS_MADE("Empty inputs found, no edits were made."),
+
+    // ====================Batch Specific Exceptions====================
+    MISSING_BATCH_FILE("Missing batch file! Input as: batch run FILE_PATH"),
+    BATCH_FILE_NOT_READABLE("Batch file could not be read!"),
+    BATCH_ALREADY_RUNNING("This batch file is already running, it cannot run itself!"),
+
+    // ====================Import Specific Exceptions====================
+    MISSING_IMPORT_FILE("Missing import file! Input as: import pf|appt|medicine FILE_PATH"),
+    IMPORT_FILE_NOT_READABLE("Import file could not be read!"),
+    EMPTY_IMPORT_FILE("Import file is empty! The first line must name the columns."),
+    MISSING_IMPORT_COLUMNS("Import file is missing a required column! Check the column names on its first line."),
+    DUPLICATE_IMPORT_COLUMN("Import file names a column more than once! Check the column names on its first line."),
+    INVALID_IMPORT_ROW("Row does not have the same number of fields as the first line!"),
+    UNCLOSED_IMPORT_QUOTE("Row has a quoted field that is never closed!"),
+    INVALID_IMPORT_FIELD("Fields cannot contain the character \"|\"!"),
+
+    // ====================Export Specific Exceptions====================
+    INVALID_EXPORT_COMMAND("Invalid export format! Input as: export pf|appt|shift|task|medicine csv|json FILE_PATH " +
+            "[from/DATE] [to/DATE] [id/PATIENT_ID]"),
+    INVALID_EXPORT_FORMAT("Export format must be either csv or json!"),
+    EXPORT_FILE_NOT_WRITABLE("Export file could not be written!"),
+    INVALID_EXPORT_DATE_RANGE("The from/ date cannot be after the to/ date!"),
+    EXPORT_DATE_FILTER_NOT_SUPPORTED("Only appointments, shifts and tasks can be filtered by date!"),
+    EXPORT_PATIENT_FILTER_NOT_SUPPORTED("Only patients and appointments can be filtered by patient ID!");
     // ============================================================
 
     private final String message;
@@ -0,0 +1,59 @@
+package seedu.nursesched.exporter;
+
+import seedu.nursesched.appointment.Appointment;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Exports appointments. The columns include those that {@code import appt} reads.
+ */
+public class AppointmentExport implements ExportType<Appointment> {
+    @Override
+    public String getName() {
+        return "appointments";
+    }
+
+    @Override
+    public List<String> getColumns() {
+        return List.of("id", "name", "date", "start", "end", "importance", "notes", "done");
+    }
+
+    @Override
+    public List<Appointment> getRecords() {
+        return Appointment.getApptList();
+    }
+
+    @Override
+    public void write(Appointment appt, RecordWriter out) throws IOException {
+        out.number(appt.getID());
+        out.text(appt.getName());
+        out.date(appt.getLocalDate());
+        out.time(appt.getStartLocalTime());
+        out.time(appt.getEndLocalTime());
+        out.number(appt.getImportance());
+        out.text(appt.getNotes());
+        out.bool(appt.getStatus());
+    }
+
+    @Override
+    public boolean hasDates() {
+        return true;
+    }
+
+    @Override
+    public LocalDate getDate(Appointment appt) {
+        return appt.getLocalDate();
+    }
+
+    @Override
+    public boolean hasPatientIds() {
+        return true;
+    }
+
+    @Override
+    public Integer getPatientId(Appointment appt) {
+        return appt.getID();
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.nursesched.exporter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.List;
+
+/**
+ * Writes records as CSV, with a first line of column names.
+ * Text holding a comma, double quote or line break is enclosed in double quotes, with each double quote doubled,
+ * so the file can be read back by {@code import}.
+ */
+public class CsvRecordWriter extends RecordWriter {
+
+    public CsvRecordWriter(Writer out, List<String> columns) {
+        super(out, columns);
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            beginField(i);
+            writeText(columns.get(i));
+        }
+        finishRecord();
+    }
+
+    @Override
+    protected void beginField(int index) throws IOException {
+        if (index > 0) {
+            out.write(',');
+        }
+    }
+
+    @Override
+    protected void writeText(String value) throws IOException {
+        if (!needsQuotes(value)) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        int start = 0;
+        int quote = value.indexOf('"');
+        while (quote >= 0) {
+            out.write(value, start, quote + 1 - start);
+            out.write('"');
+            start = quote + 1;
+            quote = value.indexOf('"', start);
+        }
+        out.write(value, start, value.length() - start);
+        out.write('"');
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void writeTemporal(TemporalAccessor value, DateTimeFormatter formatter) {
+        formatter.formatTo(value, out);
+    }
+
+    @Override
+    protected void finishRecord() throws IOException {
+        out.write('\n');
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.nursesched.exporter;
+
+import java.time.LocalDate;
+
+/**
+ * Selects the records to export by date range and patient ID. A filter that is not set lets every record through.
+ */
+public class ExportFilter {
+    private final LocalDate from;
+    private final LocalDate to;
+    private final Integer patientId;
+
+    /**
+     * Constructs a filter.
+     *
+     * @param from      The earliest date to export, inclusive, or null for no earliest date.
+     * @param to        The latest date to export, inclusive, or null for no latest date.
+     * @param patientId The patient to export the records of, or null for every patient.
+     */
+    public ExportFilter(LocalDate from, LocalDate to, Integer patientId) {
+        assert from == null || to == null || !from.isAfter(to) : "Date range must not be empty";
+        this.from = from;
+        this.to = to;
+        this.patientId = patientId;
+    }
+
+    public boolean hasDateRange() {
+        return from != null || to != null;
+    }
+
+    public boolean hasPatientId() {
+        return patientId != null;
+    }
+
+    /**
+     * Returns whether a record is selected by this filter.
+     *
+     * @param type   The type of the record.
+     * @param record The record.
+     * @param <T>    The type of the record.
+     */
+    <T> boolean matches(ExportType<T> type, T record) {
+        if (hasDateRange()) {
+            LocalDate date = type.getDate(record);
+            if (date == null || (from != null && date.isBefore(from)) || (to != null && date.isAfter(to))) {
+                return false;
+            }
+        }
+        return patientId == null || patientId.equals(type.getPatientId(record));
+    }
+}
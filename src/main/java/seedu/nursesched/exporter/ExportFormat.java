@@ -0,0 +1,40 @@
+package seedu.nursesched.exporter;
+
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The file formats records can be exported in.
+ */
+public enum ExportFormat {
+    CSV,
+    JSON;
+
+    /**
+     * Returns the format with the given name, ignoring case, or null if there is none.
+     * {@code jsonl} is accepted as another name for JSON lines.
+     *
+     * @param name The name of the format, e.g. {@code csv}.
+     */
+    public static ExportFormat fromName(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+        case "csv" -> CSV;
+        case "json", "jsonl" -> JSON;
+        default -> null;
+        };
+    }
+
+    /**
+     * Creates a writer for records in this format.
+     *
+     * @param out     The writer to write the records to.
+     * @param columns The names of the fields of each record.
+     */
+    public RecordWriter open(Writer out, List<String> columns) {
+        return switch (this) {
+        case CSV -> new CsvRecordWriter(out, columns);
+        case JSON -> new JsonLinesRecordWriter(out, columns);
+        };
+    }
+}
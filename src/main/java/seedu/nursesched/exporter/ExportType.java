@@ -0,0 +1,64 @@
+package seedu.nursesched.exporter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The kind of record to export, such as patients, and how the fields of each record are written out.
+ *
+ * @param <T> The type of record.
+ */
+public interface ExportType<T> {
+    /**
+     * Returns the plural name of the records, for the export summary, e.g. {@code patients}.
+     */
+    String getName();
+
+    /**
+     * Returns the names of the fields written for each record, in the order they are written.
+     */
+    List<String> getColumns();
+
+    /**
+     * Returns the records to export, in the order they are listed in the app.
+     */
+    List<T> getRecords();
+
+    /**
+     * Writes the fields of a record, one call per column in the order of {@link #getColumns()}.
+     *
+     * @param record The record.
+     * @param out    The writer to write the fields to.
+     * @throws IOException If the fields cannot be written.
+     */
+    void write(T record, RecordWriter out) throws IOException;
+
+    /**
+     * Returns whether the records have a date, so that they can be filtered by date range.
+     */
+    default boolean hasDates() {
+        return false;
+    }
+
+    /**
+     * Returns the date of a record, or null if the records have no date.
+     */
+    default LocalDate getDate(T record) {
+        return null;
+    }
+
+    /**
+     * Returns whether the records belong to a patient, so that they can be filtered by patient ID.
+     */
+    default boolean hasPatientIds() {
+        return false;
+    }
+
+    /**
+     * Returns the ID of the patient a record belongs to, or null if the records do not belong to a patient.
+     */
+    default Integer getPatientId(T record) {
+        return null;
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.nursesched.exporter;
+
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Exports records to a file, such as every appointment in a date range as CSV.
+ * Each record is written straight into a buffered writer as it is read from the list, so exporting a large list
+ * takes little more memory than the list itself.
+ */
+public class Exporter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Exports the records of a type that pass the filter, and prints how many were exported.
+     *
+     * @param type   The type of record to export.
+     * @param format The file format.
+     * @param file   The file to write, which is replaced if it exists.
+     * @param filter The filter that selects the records to export.
+     * @param <T>    The type of record.
+     * @return The number of records exported.
+     * @throws NurseSchedException If the records cannot be filtered as asked, or the file cannot be written.
+     */
+    public <T> int run(ExportType<T> type, ExportFormat format, Path file, ExportFilter filter)
+            throws NurseSchedException {
+        if (filter.hasDateRange() && !type.hasDates()) {
+            throw new NurseSchedException(ExceptionMessage.EXPORT_DATE_FILTER_NOT_SUPPORTED);
+        }
+        if (filter.hasPatientId() && !type.hasPatientIds()) {
+            throw new NurseSchedException(ExceptionMessage.EXPORT_PATIENT_FILTER_NOT_SUPPORTED);
+        }
+
+        long start = System.nanoTime();
+        int count;
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                count = write(type, format.open(writer, type.getColumns()), filter);
+            }
+        } catch (IOException e) {
+            throw new NurseSchedException(ExceptionMessage.EXPORT_FILE_NOT_WRITABLE);
+        }
+        System.out.println("Exported " + count + " " + type.getName() + " to " + file + " in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms.");
+        return count;
+    }
+
+    /**
+     * Writes the records of a type that pass the filter.
+     *
+     * @return The number of records written.
+     */
+    static <T> int write(ExportType<T> type, RecordWriter out, ExportFilter filter) throws IOException {
+        out.writeHeader();
+        int count = 0;
+        for (T record : type.getRecords()) {
+            if (!filter.matches(type, record)) {
+                continue;
+            }
+            type.write(record, out);
+            out.endRecord();
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.nursesched.exporter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.List;
+
+/**
+ * Writes records as JSON lines: one JSON object per line, with the column names as keys.
+ */
+public class JsonLinesRecordWriter extends RecordWriter {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    public JsonLinesRecordWriter(Writer out, List<String> columns) {
+        super(out, columns);
+    }
+
+    @Override
+    public void writeHeader() {
+        // Every line names its own fields
+    }
+
+    @Override
+    protected void beginField(int index) throws IOException {
+        out.write(index == 0 ? '{' : ',');
+        out.write('"');
+        writeEscaped(columns.get(index));
+        out.write("\":");
+    }
+
+    @Override
+    protected void writeText(String value) throws IOException {
+        out.write('"');
+        writeEscaped(value);
+        out.write('"');
+    }
+
+    private void writeEscaped(String value) throws IOException {
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '"' && c != '\\' && c >= 0x20) {
+                continue;
+            }
+            out.write(value, start, i - start);
+            start = i + 1;
+            switch (c) {
+            case '"' -> out.write("\\\"");
+            case '\\' -> out.write("\\\\");
+            case '\n' -> out.write("\\n");
+            case '\r' -> out.write("\\r");
+            case '\t' -> out.write("\\t");
+            default -> {
+                out.write("\\u00");
+                out.write(HEX_DIGITS[c >> 4]);
+                out.write(HEX_DIGITS[c & 0xF]);
+            }
+            }
+        }
+        out.write(value, start, value.length() - start);
+    }
+
+    @Override
+    protected void writeTemporal(TemporalAccessor value, DateTimeFormatter formatter) throws IOException {
+        out.write('"');
+        formatter.formatTo(value, out);
+        out.write('"');
+    }
+
+    @Override
+    protected void finishRecord() throws IOException {
+        out.write("}\n");
+    }
+}
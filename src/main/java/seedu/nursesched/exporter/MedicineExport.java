@@ -0,0 +1,32 @@
+package seedu.nursesched.exporter;
+
+import seedu.nursesched.medicine.Medicine;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Exports medicines, in the same columns that {@code import medicine} reads.
+ */
+public class MedicineExport implements ExportType<Medicine> {
+    @Override
+    public String getName() {
+        return "medicines";
+    }
+
+    @Override
+    public List<String> getColumns() {
+        return List.of("name", "quantity");
+    }
+
+    @Override
+    public List<Medicine> getRecords() {
+        return Medicine.getMedicineList();
+    }
+
+    @Override
+    public void write(Medicine medicine, RecordWriter out) throws IOException {
+        out.text(medicine.getMedicineName());
+        out.number(medicine.getQuantity());
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.nursesched.exporter;
+
+import seedu.nursesched.patient.Patient;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Exports patients, in the same columns that {@code import pf} reads.
+ */
+public class PatientExport implements ExportType<Patient> {
+    @Override
+    public String getName() {
+        return "patients";
+    }
+
+    @Override
+    public List<String> getColumns() {
+        return List.of("id", "name", "age", "gender", "contact", "notes");
+    }
+
+    @Override
+    public List<Patient> getRecords() {
+        return Patient.getPatientsList();
+    }
+
+    @Override
+    public void write(Patient patient, RecordWriter out) throws IOException {
+        out.text(patient.getId());
+        out.text(patient.getName());
+        out.text(patient.getAge());
+        out.text(patient.getGender());
+        out.text(patient.getContact());
+        out.text(patient.getNotes());
+    }
+
+    @Override
+    public boolean hasPatientIds() {
+        return true;
+    }
+
+    @Override
+    public Integer getPatientId(Patient patient) {
+        return Integer.parseInt(patient.getId());
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.nursesched.exporter;
+
+import seedu.nursesched.format.DateTimeFormats;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.List;
+
+/**
+ * Writes records field by field straight into a {@link Writer}, in the syntax of an {@link ExportFormat}.
+ * <p>
+ * Fields are written in the order of the columns, and each record ends with {@link #endRecord()}. Text is escaped as
+ * it is copied, and dates and times are formatted into the writer, so no string is built for a record or field.
+ * </p>
+ */
+public abstract class RecordWriter {
+    protected final Writer out;
+    protected final List<String> columns;
+    private int fieldIndex = 0;
+
+    protected RecordWriter(Writer out, List<String> columns) {
+        this.out = out;
+        this.columns = columns;
+    }
+
+    /**
+     * Writes whatever comes before the first record, such as a line of column names.
+     *
+     * @throws IOException If it cannot be written.
+     */
+    public abstract void writeHeader() throws IOException;
+
+    /**
+     * Writes a text field. A null value is written as empty text.
+     */
+    public void text(String value) throws IOException {
+        beginField(fieldIndex++);
+        writeText(value == null ? "" : value);
+    }
+
+    /**
+     * Writes a whole number field.
+     */
+    public void number(long value) throws IOException {
+        beginField(fieldIndex++);
+        out.write(Long.toString(value));
+    }
+
+    /**
+     * Writes a decimal number field.
+     */
+    public void decimal(double value) throws IOException {
+        beginField(fieldIndex++);
+        out.write(Double.toString(value));
+    }
+
+    /**
+     * Writes a true or false field.
+     */
+    public void bool(boolean value) throws IOException {
+        beginField(fieldIndex++);
+        out.write(value ? "true" : "false");
+    }
+
+    /**
+     * Writes a date or time field.
+     *
+     * @param value     The date or time.
+     * @param formatter The format to write it in, which must not produce characters that need escaping.
+     */
+    public void temporal(TemporalAccessor value, DateTimeFormatter formatter) throws IOException {
+        beginField(fieldIndex++);
+        writeTemporal(value, formatter);
+    }
+
+    /**
+     * Writes a date field in {@code yyyy-MM-dd} format.
+     */
+    public void date(TemporalAccessor value) throws IOException {
+        temporal(value, DateTimeFormatter.ISO_LOCAL_DATE);
+    }
+
+    /**
+     * Writes a time field in {@code HH:mm} format, as times are entered in the app.
+     */
+    public void time(TemporalAccessor value) throws IOException {
+        temporal(value, DateTimeFormats.TIME);
+    }
+
+    /**
+     * Ends the current record, after one field has been written for each column.
+     */
+    public void endRecord() throws IOException {
+        assert fieldIndex == columns.size() : "Record has " + fieldIndex + " fields, expected " + columns.size();
+        fieldIndex = 0;
+        finishRecord();
+    }
+
+    protected abstract void beginField(int index) throws IOException;
+
+    protected abstract void writeText(String value) throws IOException;
+
+    protected abstract void writeTemporal(TemporalAccessor value, DateTimeFormatter formatter) throws IOException;
+
+    protected abstract void finishRecord() throws IOException;
+}
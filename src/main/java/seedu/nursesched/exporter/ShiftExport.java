@@ -0,0 +1,47 @@
+package seedu.nursesched.exporter;
+
+import seedu.nursesched.shift.Shift;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Exports shifts.
+ */
+public class ShiftExport implements ExportType<Shift> {
+    @Override
+    public String getName() {
+        return "shifts";
+    }
+
+    @Override
+    public List<String> getColumns() {
+        return List.of("date", "start", "end", "task", "done", "overtime");
+    }
+
+    @Override
+    public List<Shift> getRecords() {
+        return Shift.getShiftList();
+    }
+
+    @Override
+    public void write(Shift shift, RecordWriter out) throws IOException {
+        out.date(shift.getDate());
+        out.time(shift.getStartTime());
+        out.time(shift.getEndTime());
+        out.text(shift.getShiftTask());
+        out.bool(shift.getStatus());
+        out.decimal(shift.getOvertimeHours());
+    }
+
+    @Override
+    public boolean hasDates() {
+        return true;
+    }
+
+    @Override
+    public LocalDate getDate(Shift shift) {
+        return shift.getDate();
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.nursesched.exporter;
+
+import seedu.nursesched.task.Task;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Exports tasks, filtered by date on their due date.
+ */
+public class TaskExport implements ExportType<Task> {
+    @Override
+    public String getName() {
+        return "tasks";
+    }
+
+    @Override
+    public List<String> getColumns() {
+        return List.of("description", "date", "time", "done");
+    }
+
+    @Override
+    public List<Task> getRecords() {
+        return Task.getTaskList();
+    }
+
+    @Override
+    public void write(Task task, RecordWriter out) throws IOException {
+        out.text(task.getDescription());
+        out.date(task.getByDate());
+        out.time(task.getByTime());
+        out.bool(task.getIsDone());
+    }
+
+    @Override
+    public boolean hasDates() {
+        return true;
+    }
+
+    @Override
+    public LocalDate getDate(Task task) {
+        return task.getByDate();
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.nursesched.format;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * The date and time formats shown to the user and written to save files, and methods that append dates and times
+ * to a line being built.
+ * <p>
+ * The formatters are created once and shared, since a {@link DateTimeFormatter} is immutable and safe to use from
+ * any thread. The common {@code HH:mm} and {@code yyyy-MM-dd} forms are appended digit by digit, so rendering a
+ * list of records creates no string or formatter for each date or time.
+ * </p>
+ */
+public final class DateTimeFormats {
+    /** Times as shown on appointments and shifts, e.g. {@code 09:30}. */
+    public static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm");
+    /** Dates as entered by the user and saved, e.g. {@code 2025-04-01}. */
+    public static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    /** Due dates as shown on tasks, e.g. {@code 01 Apr 2025}. */
+    public static final DateTimeFormatter TASK_DATE = DateTimeFormatter.ofPattern("dd MMM yyyy");
+    /** Due times as shown on tasks, e.g. {@code 09:30 AM}. */
+    public static final DateTimeFormatter TASK_TIME = DateTimeFormatter.ofPattern("hh:mm a");
+
+    private DateTimeFormats() {
+    }
+
+    /**
+     * Returns a time in the {@code HH:mm} form.
+     */
+    public static String formatTime(LocalTime time) {
+        return appendTime(new StringBuilder(5), time).toString();
+    }
+
+    /**
+     * Returns a date in the {@code yyyy-MM-dd} form.
+     */
+    public static String formatDate(LocalDate date) {
+        return appendDate(new StringBuilder(10), date).toString();
+    }
+
+    /**
+     * Appends a time in the {@code HH:mm} form, leaving out any seconds.
+     *
+     * @param line The line to append to.
+     * @param time The time.
+     * @return The line.
+     */
+    public static StringBuilder appendTime(StringBuilder line, LocalTime time) {
+        appendTwoDigits(line, time.getHour());
+        line.append(':');
+        appendTwoDigits(line, time.getMinute());
+        return line;
+    }
+
+    /**
+     * Appends a time exactly as {@link LocalTime#toString()} writes it, which is {@code HH:mm} unless the time has
+     * seconds.
+     *
+     * @param line The line to append to.
+     * @param time The time.
+     * @return The line.
+     */
+    public static StringBuilder appendIsoTime(StringBuilder line, LocalTime time) {
+        if (time.getSecond() != 0 || time.getNano() != 0) {
+            return line.append(time);
+        }
+        return appendTime(line, time);
+    }
+
+    /**
+     * Appends a date in the {@code yyyy-MM-dd} form, which is also how {@link LocalDate#toString()} writes it.
+     *
+     * @param line The line to append to.
+     * @param date The date.
+     * @return The line.
+     */
+    public static StringBuilder appendDate(StringBuilder line, LocalDate date) {
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            return line.append(date);
+        }
+        appendTwoDigits(line, year / 100);
+        appendTwoDigits(line, year % 100);
+        line.append('-');
+        appendTwoDigits(line, date.getMonthValue());
+        line.append('-');
+        appendTwoDigits(line, date.getDayOfMonth());
+        return line;
+    }
+
+    private static void appendTwoDigits(StringBuilder line, int value) {
+        line.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+}
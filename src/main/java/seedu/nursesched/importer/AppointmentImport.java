@@ -0,0 +1,57 @@
+package seedu.nursesched.importer;
+
+import seedu.nursesched.appointment.Appointment;
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.parser.ApptParser;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Imports appointments from the columns {@code id}, {@code start}, {@code end}, {@code date}, and an optional
+ * {@code importance} and {@code notes}. As with {@code appt add}, the importance is medium if it is left out.
+ */
+public class AppointmentImport implements ImportType<AppointmentImport.Row> {
+
+    /**
+     * The fields of a row, checked on their own.
+     */
+    record Row(int id, LocalTime startTime, LocalTime endTime, LocalDate date, String notes, int importance) {
+    }
+
+    @Override
+    public String getName() {
+        return "appointments";
+    }
+
+    @Override
+    public List<String> getRequiredColumns() {
+        return List.of("id", "start", "end", "date");
+    }
+
+    @Override
+    public Row validate(CsvRow row) throws NurseSchedException {
+        int id = ApptParser.parseID(row.get("id"));
+        LocalTime startTime;
+        LocalTime endTime;
+        LocalDate date;
+        try {
+            startTime = LocalTime.parse(row.get("start"));
+            endTime = LocalTime.parse(row.get("end"));
+            date = LocalDate.parse(row.get("date"));
+        } catch (DateTimeParseException e) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_DATETIME_FORMAT);
+        }
+        int importance = row.has("importance") ? ApptParser.parseImportance(row.get("importance")) : 2;
+        Appointment.checkApptDateTime(date, startTime, endTime);
+        return new Row(id, startTime, endTime, date, row.get("notes"), importance);
+    }
+
+    @Override
+    public void commit(Row row) throws NurseSchedException {
+        Appointment.importAppt(row.id(), row.startTime(), row.endTime(), row.date(), row.notes(), row.importance());
+    }
+}
@@ -0,0 +1,173 @@
+package seedu.nursesched.importer;
+
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.storage.WriteBehind;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Imports the records in a CSV file, such as a list of patients, in one go.
+ * <p>
+ * The first line of the file names the columns, and every other line is a record. The file is read in chunks of
+ * {@value #CHUNK_SIZE} rows, so it can be of any length. The rows of a chunk are split and validated in parallel,
+ * then committed one after another in file order, which is where duplicates and clashes are found using the indexes
+ * of the records already in the app. A row that fails is reported and the import carries on with the next one.
+ * Saves are held back until the whole file has been imported, so every save file is written once.
+ * </p>
+ */
+public class CsvImporter {
+    static final int CHUNK_SIZE = 4096;
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    /**
+     * A line of the file, before it has been split into fields.
+     */
+    private record RawRow(int lineNumber, String line) {
+    }
+
+    /**
+     * A row of the file, after it has been validated on its own.
+     */
+    private record ValidatedRow<T>(int lineNumber, T record, String error) {
+    }
+
+    /**
+     * Imports every row of a CSV file.
+     *
+     * @param file The CSV file.
+     * @param type The type of record in the file.
+     * @param <T>  The type of a validated row.
+     * @return The report of the rows imported.
+     * @throws NurseSchedException If the file cannot be read, or its first line does not name the columns needed.
+     */
+    public <T> ImportReport run(Path file, ImportType<T> type) throws NurseSchedException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return run(reader, file.getFileName().toString(), type);
+        } catch (IOException e) {
+            throw new NurseSchedException(ExceptionMessage.IMPORT_FILE_NOT_READABLE);
+        }
+    }
+
+    /**
+     * Imports every row read from the reader.
+     *
+     * @param reader The reader to read rows from.
+     * @param source The name of the file, for the report.
+     * @param type   The type of record in the file.
+     * @param <T>    The type of a validated row.
+     * @return The report of the rows imported.
+     * @throws IOException         If the rows cannot be read.
+     * @throws NurseSchedException If the first line does not name the columns needed.
+     */
+    <T> ImportReport run(BufferedReader reader, String source, ImportType<T> type)
+            throws IOException, NurseSchedException {
+        ImportReport report = new ImportReport(source, type.getName());
+        long start = System.nanoTime();
+
+        String header = reader.readLine();
+        if (header == null || header.isBlank()) {
+            throw new NurseSchedException(ExceptionMessage.EMPTY_IMPORT_FILE);
+        }
+        if (header.charAt(0) == BYTE_ORDER_MARK) {
+            header = header.substring(1);
+        }
+        HashMap<String, Integer> columns = readColumns(header, type);
+
+        WriteBehind.beginBatch();
+        try {
+            int lineNumber = 1;
+            ArrayList<RawRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            String line;
+            do {
+                line = reader.readLine();
+                if (line != null) {
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    // The line is only split when the chunk is validated, so that this is done in parallel too
+                    chunk.add(new RawRow(lineNumber, line));
+                }
+                if (chunk.size() == CHUNK_SIZE || (line == null && !chunk.isEmpty())) {
+                    commit(validate(chunk, columns, type), type, report);
+                    chunk.clear();
+                }
+            } while (line != null);
+        } finally {
+            WriteBehind.endBatch();
+            report.setElapsedNanos(System.nanoTime() - start);
+        }
+        return report;
+    }
+
+    private static HashMap<String, Integer> readColumns(String header, ImportType<?> type)
+            throws NurseSchedException {
+        String[] names = CsvRow.split(header);
+        HashMap<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            // Every row is checked against the number of columns, so a repeated name would reject every row
+            if (columns.putIfAbsent(names[i].toLowerCase(Locale.ROOT), i) != null) {
+                throw new NurseSchedException(ExceptionMessage.DUPLICATE_IMPORT_COLUMN);
+            }
+        }
+        if (!columns.keySet().containsAll(type.getRequiredColumns())) {
+            throw new NurseSchedException(ExceptionMessage.MISSING_IMPORT_COLUMNS);
+        }
+        return columns;
+    }
+
+    private static <T> List<ValidatedRow<T>> validate(List<RawRow> chunk, HashMap<String, Integer> columns,
+            ImportType<T> type) {
+        return chunk.parallelStream()
+                .map(row -> validateRow(row, columns, type))
+                .collect(Collectors.toList());
+    }
+
+    private static <T> ValidatedRow<T> validateRow(RawRow row, HashMap<String, Integer> columns,
+            ImportType<T> type) {
+        int lineNumber = row.lineNumber();
+        try {
+            String[] fields = CsvRow.split(row.line());
+            if (fields.length != columns.size()) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_IMPORT_ROW);
+            }
+            return new ValidatedRow<>(lineNumber, type.validate(new CsvRow(lineNumber, fields, columns)), null);
+        } catch (NurseSchedException e) {
+            return new ValidatedRow<>(lineNumber, null, e.getMessage());
+        } catch (RuntimeException e) {
+            // A bug in validating one row should not stop the rest of the file from being imported
+            return new ValidatedRow<>(lineNumber, null, e.toString());
+        }
+    }
+
+    private static <T> void commit(List<ValidatedRow<T>> rows, ImportType<T> type, ImportReport report) {
+        WriteBehind.beginCommand();
+        try {
+            for (ValidatedRow<T> row : rows) {
+                if (row.error() != null) {
+                    report.recordError(row.lineNumber(), row.error());
+                    continue;
+                }
+                try {
+                    type.commit(row.record());
+                    report.recordImported();
+                } catch (NurseSchedException e) {
+                    report.recordError(row.lineNumber(), e.getMessage());
+                }
+            }
+        } finally {
+            WriteBehind.endCommand();
+        }
+    }
+}
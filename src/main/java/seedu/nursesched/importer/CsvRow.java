@@ -0,0 +1,96 @@
+package seedu.nursesched.importer;
+
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * One row of a CSV import file, with its fields looked up by the column names on the first line of the file.
+ * <p>
+ * Fields are separated by commas. A field may be enclosed in double quotes to hold commas, and a double quote
+ * inside a quoted field is written twice. Surrounding whitespace is removed from every field.
+ * </p>
+ */
+public class CsvRow {
+    private final int lineNumber;
+    private final String[] fields;
+    private final Map<String, Integer> columns;
+
+    CsvRow(int lineNumber, String[] fields, Map<String, Integer> columns) {
+        this.lineNumber = lineNumber;
+        this.fields = fields;
+        this.columns = columns;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Returns the field in the given column, or an empty string if the file has no such column.
+     *
+     * @param column The column name, in lower case.
+     * @return The field, without surrounding whitespace.
+     */
+    public String get(String column) {
+        Integer position = columns.get(column);
+        return position == null ? "" : fields[position];
+    }
+
+    /**
+     * Returns whether the file has the given column and the field in it is not empty.
+     *
+     * @param column The column name, in lower case.
+     */
+    public boolean has(String column) {
+        return !get(column).isEmpty();
+    }
+
+    /**
+     * Splits a line of a CSV file into its fields.
+     *
+     * @param line The line.
+     * @return The fields, without surrounding whitespace.
+     * @throws NurseSchedException If a quoted field is never closed, or a field contains the save file separator.
+     */
+    static String[] split(String line) throws NurseSchedException {
+        ArrayList<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(checkField(field));
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (isQuoted) {
+            throw new NurseSchedException(ExceptionMessage.UNCLOSED_IMPORT_QUOTE);
+        }
+        fields.add(checkField(field));
+        return fields.toArray(new String[0]);
+    }
+
+    private static String checkField(StringBuilder field) throws NurseSchedException {
+        // Every save file separates its fields with '|', so a field holding one would corrupt the save file
+        if (field.indexOf("|") >= 0) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_IMPORT_FIELD);
+        }
+        return field.toString().trim();
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.nursesched.importer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Counts the rows imported from a CSV file, and lists the rows that were not imported with the reason why.
+ */
+public class ImportReport {
+    private final String source;
+    private final String recordName;
+    private final ArrayList<String> errors = new ArrayList<>();
+    private int rowCount = 0;
+    private long elapsedNanos = 0;
+
+    /**
+     * Constructs an empty report.
+     *
+     * @param source     The name of the import file, for the summary.
+     * @param recordName The plural name of the records imported, for the summary.
+     */
+    public ImportReport(String source, String recordName) {
+        this.source = source;
+        this.recordName = recordName;
+    }
+
+    void recordImported() {
+        rowCount++;
+    }
+
+    /**
+     * Records a row that was not imported.
+     *
+     * @param lineNumber The line of the import file the row is on.
+     * @param reason     Why the row was not imported.
+     */
+    void recordError(int lineNumber, String reason) {
+        rowCount++;
+        errors.add("Line " + lineNumber + ": " + reason);
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getImportedCount() {
+        return rowCount - errors.size();
+    }
+
+    public int getErrorCount() {
+        return errors.size();
+    }
+
+    /**
+     * Returns the rows that were not imported, each as its line number followed by the reason.
+     */
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Prints the number of rows imported, followed by the rows that were not imported.
+     */
+    public void print() {
+        System.out.println("----------------------------");
+        System.out.println("Imported " + getImportedCount() + " of " + rowCount + " " + recordName + " from "
+                + source + " in " + elapsedNanos / 1_000_000 + " ms.");
+        if (!errors.isEmpty()) {
+            System.out.println("Rows not imported:");
+            for (String error : errors) {
+                System.out.println("  " + error);
+            }
+        }
+    }
+}
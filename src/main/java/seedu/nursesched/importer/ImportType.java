@@ -0,0 +1,44 @@
+package seedu.nursesched.importer;
+
+import seedu.nursesched.exception.NurseSchedException;
+
+import java.util.List;
+
+/**
+ * The kind of record an import file holds, such as patients, and how each of its rows is checked and added.
+ * <p>
+ * A row is checked in two steps. {@link #validate} checks the fields of the row on their own, and may be called
+ * for many rows at once from different threads. {@link #commit} then checks the record against the records
+ * already in the app, such as for a duplicate ID, and adds it. It is called for one row at a time, in file order.
+ * </p>
+ *
+ * @param <T> The type of a validated row.
+ */
+public interface ImportType<T> {
+    /**
+     * Returns the plural name of the records, for the import report, e.g. {@code patients}.
+     */
+    String getName();
+
+    /**
+     * Returns the columns that the first line of the file must name, in lower case.
+     */
+    List<String> getRequiredColumns();
+
+    /**
+     * Checks the fields of a row. This must not read or change any records in the app.
+     *
+     * @param row The row.
+     * @return The validated row.
+     * @throws NurseSchedException If a field is invalid.
+     */
+    T validate(CsvRow row) throws NurseSchedException;
+
+    /**
+     * Checks a validated row against the records in the app, and adds it to them.
+     *
+     * @param record The validated row.
+     * @throws NurseSchedException If the record cannot be added.
+     */
+    void commit(T record) throws NurseSchedException;
+}
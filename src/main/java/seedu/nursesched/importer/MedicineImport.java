@@ -0,0 +1,63 @@
+package seedu.nursesched.importer;
+
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.medicine.Medicine;
+
+import java.util.List;
+
+/**
+ * Imports medicines from the columns {@code name} and {@code quantity}.
+ * As with {@code medicine add}, a medicine already in the inventory is restocked by the quantity.
+ */
+public class MedicineImport implements ImportType<MedicineImport.Row> {
+
+    /**
+     * The fields of a row, checked on their own.
+     */
+    record Row(String medicineName, int quantity) {
+    }
+
+    @Override
+    public String getName() {
+        return "medicines";
+    }
+
+    @Override
+    public List<String> getRequiredColumns() {
+        return List.of("name", "quantity");
+    }
+
+    @Override
+    public Row validate(CsvRow row) throws NurseSchedException {
+        if (!row.has("name")) {
+            throw new NurseSchedException(ExceptionMessage.MISSING_MEDICINE_NAME);
+        }
+        String quantityString = row.get("quantity");
+        if (quantityString.isEmpty()) {
+            throw new NurseSchedException(ExceptionMessage.MISSING_MEDICINE_QUANTITY);
+        }
+        if (quantityString.length() > 10) {
+            throw new NurseSchedException(ExceptionMessage.MEDICINE_QUANTITY_TOO_LARGE);
+        }
+
+        long quantity;
+        try {
+            quantity = Long.parseLong(quantityString);
+        } catch (NumberFormatException e) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_MEDICINE_QUANTITY_FORMAT);
+        }
+        if (quantity > Integer.MAX_VALUE) {
+            throw new NurseSchedException(ExceptionMessage.MEDICINE_QUANTITY_TOO_LARGE);
+        }
+        if (quantity <= 0) {
+            throw new NurseSchedException(ExceptionMessage.NEGATIVE_MEDICINE_QUANTITY);
+        }
+        return new Row(row.get("name"), (int) quantity);
+    }
+
+    @Override
+    public void commit(Row row) throws NurseSchedException {
+        Medicine.importMedicine(row.quantity(), row.medicineName());
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.nursesched.importer;
+
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.patient.Patient;
+
+import java.util.List;
+
+/**
+ * Imports patients from the columns {@code id}, {@code name}, {@code age}, {@code gender}, {@code contact}
+ * and an optional {@code notes}.
+ */
+public class PatientImport implements ImportType<Patient> {
+    @Override
+    public String getName() {
+        return "patients";
+    }
+
+    @Override
+    public List<String> getRequiredColumns() {
+        return List.of("id", "name", "age", "gender", "contact");
+    }
+
+    @Override
+    public Patient validate(CsvRow row) throws NurseSchedException {
+        // The ID is checked against existing patients in commit, once the patients before this row are added
+        return Patient.restore(row.get("id"), row.get("name"), row.get("age"), row.get("gender"),
+                row.get("contact"), row.get("notes"));
+    }
+
+    @Override
+    public void commit(Patient patient) throws NurseSchedException {
+        Patient.importPatient(patient);
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.nursesched.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Secondary index that groups the items in a list by a key, e.g. appointments by patient ID.
+ * <p>
+ * Finding the items with a key, or removing one of them from the index, takes time in the number of items with
+ * that key rather than the number of items in the list. The items with a key are kept in the order of the list, as
+ * long as items are only added at its end and replaced in place. If the list is reordered, e.g. sorted, the index
+ * must be invalidated.
+ * </p>
+ *
+ * @param <K> The type of key.
+ * @param <T> The type of item in the list.
+ */
+public class GroupIndex<K, T> extends ListIndex<T> {
+    private final Function<T, K> keyOf;
+    private final HashMap<K, ArrayList<T>> groups = new HashMap<>();
+
+    /**
+     * Constructs an index over the key returned by the given function.
+     *
+     * @param keyOf Returns the key of an item. It must not change while the item is in the list.
+     */
+    public GroupIndex(Function<T, K> keyOf) {
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Returns every item with the given key, in the order of the list.
+     *
+     * @param list The list of all items.
+     * @param key  The key.
+     * @return A new list of the matching items, which may be changed freely.
+     */
+    public ArrayList<T> find(List<T> list, K key) {
+        ensureCurrent(list);
+        ArrayList<T> group = groups.get(key);
+        return group == null ? new ArrayList<>() : new ArrayList<>(group);
+    }
+
+    @Override
+    protected void clearIndex() {
+        groups.clear();
+    }
+
+    @Override
+    protected void insert(T item) {
+        groups.computeIfAbsent(keyOf.apply(item), key -> new ArrayList<>()).add(item);
+    }
+
+    @Override
+    protected boolean replace(T removedItem, T addedItem) {
+        K key = keyOf.apply(removedItem);
+        if (!key.equals(keyOf.apply(addedItem))) {
+            // The new item belongs somewhere in the middle of another group
+            return false;
+        }
+        ArrayList<T> group = groups.get(key);
+        int position = group == null ? -1 : indexOfItem(group, removedItem);
+        if (position < 0) {
+            return false;
+        }
+        group.set(position, addedItem);
+        return true;
+    }
+
+    @Override
+    protected boolean delete(T item) {
+        K key = keyOf.apply(item);
+        ArrayList<T> group = groups.get(key);
+        if (group == null) {
+            return false;
+        }
+        int position = indexOfItem(group, item);
+        if (position < 0) {
+            return false;
+        }
+        group.remove(position);
+        if (group.isEmpty()) {
+            groups.remove(key);
+        }
+        return true;
+    }
+
+    private static <T> int indexOfItem(ArrayList<T> group, T item) {
+        for (int i = group.size() - 1; i >= 0; i--) {
+            if (group.get(i) == item) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
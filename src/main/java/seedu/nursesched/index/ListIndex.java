@@ -0,0 +1,151 @@
+package seedu.nursesched.index;
+
+import java.util.List;
+
+/**
+ * Base class for lookup structures kept alongside one of the static lists of the domain classes.
+ * <p>
+ * The owning class reports each change it makes to the list through {@link #added}, {@link #removed} and
+ * {@link #replaced}, which update the index incrementally. The index also remembers which list it was built from
+ * and how many items that list held. If the list is replaced or resized in any other way, e.g. when it is reloaded
+ * from storage or reset in a test, the index is rebuilt from scratch on its next use.
+ * </p>
+ *
+ * @param <T> The type of item in the list.
+ */
+public abstract class ListIndex<T> {
+    private List<T> indexedList = null;
+    private int indexedSize = -1;
+
+    /**
+     * Removes every item from the index.
+     */
+    protected abstract void clearIndex();
+
+    /**
+     * Adds one item to the index.
+     *
+     * @param item The item to add.
+     */
+    protected abstract void insert(T item);
+
+    /**
+     * Removes one item from the index.
+     *
+     * @param item The item to remove.
+     * @return {@code false} if the item cannot be removed incrementally and the index must be rebuilt instead.
+     */
+    protected abstract boolean delete(T item);
+
+    /**
+     * Replaces one item in the index with another.
+     *
+     * @param removedItem The item to remove.
+     * @param addedItem   The item to add in its place.
+     * @return {@code false} if the item cannot be replaced incrementally and the index must be rebuilt instead.
+     */
+    protected boolean replace(T removedItem, T addedItem) {
+        if (!delete(removedItem)) {
+            return false;
+        }
+        insert(addedItem);
+        return true;
+    }
+
+    /**
+     * Makes sure the index matches the given list, rebuilding it if the list has changed behind its back.
+     * Must be called at the start of every query.
+     *
+     * @param list The list that the index should match.
+     */
+    protected final void ensureCurrent(List<T> list) {
+        if (list != indexedList || list.size() != indexedSize) {
+            rebuild(list);
+        }
+    }
+
+    /**
+     * Rebuilds the index from every item in the given list.
+     *
+     * @param list The list to index.
+     */
+    public final void rebuild(List<T> list) {
+        clearIndex();
+        for (T item : list) {
+            insert(item);
+        }
+        indexedList = list;
+        indexedSize = list.size();
+    }
+
+    /**
+     * Discards the index, so that it is rebuilt on its next use.
+     * Used when the list has changed in a way the index cannot follow, e.g. when it has been reordered.
+     */
+    public final void invalidate() {
+        indexedList = null;
+        indexedSize = -1;
+    }
+
+    /**
+     * Records an item that has just been added to the list.
+     *
+     * @param list The list, already including the new item.
+     * @param item The new item.
+     */
+    public final void added(List<T> list, T item) {
+        if (list != indexedList || list.size() != indexedSize + 1) {
+            rebuild(list);
+            return;
+        }
+        indexedSize++;
+        insert(item);
+    }
+
+    /**
+     * Records an item that has just been removed from the list.
+     *
+     * @param list The list, no longer including the item.
+     * @param item The removed item.
+     */
+    public final void removed(List<T> list, T item) {
+        if (list != indexedList || list.size() != indexedSize - 1 || !delete(item)) {
+            rebuild(list);
+            return;
+        }
+        indexedSize--;
+    }
+
+    /**
+     * Records several items that have just been removed from the list together.
+     *
+     * @param list  The list, no longer including the items.
+     * @param items The removed items.
+     */
+    public final void removedAll(List<T> list, List<T> items) {
+        if (list != indexedList || list.size() != indexedSize - items.size()) {
+            rebuild(list);
+            return;
+        }
+        for (T item : items) {
+            if (!delete(item)) {
+                rebuild(list);
+                return;
+            }
+        }
+        indexedSize = list.size();
+    }
+
+    /**
+     * Records an item that has just been replaced by another one in the list.
+     *
+     * @param list        The list, already including the new item.
+     * @param removedItem The item that was replaced.
+     * @param addedItem   The item that replaced it.
+     */
+    public final void replaced(List<T> list, T removedItem, T addedItem) {
+        if (list != indexedList || list.size() != indexedSize || !replace(removedItem, addedItem)) {
+            rebuild(list);
+        }
+    }
+}
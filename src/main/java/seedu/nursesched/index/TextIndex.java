@@ -0,0 +1,208 @@
+package seedu.nursesched.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Case-insensitive substring search index over one text field of the items in a list.
+ * <p>
+ * Every substring of up to {@value #GRAM_LENGTH} characters of the lower-case text is mapped to the items containing
+ * it. A keyword of up to that length is answered directly from its entry. For a longer keyword, the items sharing
+ * its least common {@value #GRAM_LENGTH}-character substring are the only candidates, and only their texts are
+ * checked for the whole keyword. A search therefore costs time in the number of candidates rather than the number of
+ * items, and never lower-cases the text of items that cannot match.
+ * </p>
+ * <p>
+ * Each item also remembers its position relative to the other items, so that matches are returned in the order of
+ * the list without walking it. The text of each item is remembered as it was indexed, so an item whose text is
+ * changed in place only has to be reported through {@link #changed}. If the list is reordered, e.g. sorted, the index
+ * must be invalidated.
+ * </p>
+ *
+ * @param <T> The type of item in the list.
+ */
+public class TextIndex<T> extends ListIndex<T> {
+    private static final int GRAM_LENGTH = 3;
+
+    private final Function<T, String> textOf;
+    private final HashMap<String, ArrayList<Entry<T>>> entriesByGram = new HashMap<>();
+    private final IdentityHashMap<T, Entry<T>> entries = new IdentityHashMap<>();
+    private long nextPosition = 0;
+
+    /**
+     * The indexed text and relative position of one item.
+     */
+    private static class Entry<T> {
+        private final T item;
+        private final String text;
+        private final long position;
+
+        private Entry(T item, String text, long position) {
+            this.item = item;
+            this.text = text;
+            this.position = position;
+        }
+    }
+
+    /**
+     * Constructs an index over the text returned by the given function.
+     *
+     * @param textOf Returns the text of an item to search in. A null text never matches.
+     */
+    public TextIndex(Function<T, String> textOf) {
+        this.textOf = textOf;
+    }
+
+    /**
+     * Returns every item whose text contains the given keyword, ignoring case, in the order of the list.
+     *
+     * @param list    The list of all items.
+     * @param keyword The keyword to search for.
+     * @return The matching items.
+     */
+    public ArrayList<T> search(List<T> list, String keyword) {
+        ensureCurrent(list);
+        String lowerCaseKeyword = keyword.toLowerCase(Locale.ROOT);
+        if (lowerCaseKeyword.isEmpty()) {
+            return new ArrayList<>(list);
+        }
+
+        ArrayList<Entry<T>> candidates = null;
+        int end = Math.min(lowerCaseKeyword.length(), GRAM_LENGTH);
+        for (int start = 0; end <= lowerCaseKeyword.length(); start++, end++) {
+            ArrayList<Entry<T>> gramEntries = entriesByGram.get(lowerCaseKeyword.substring(start, end));
+            if (gramEntries == null) {
+                return new ArrayList<>();
+            }
+            if (candidates == null || gramEntries.size() < candidates.size()) {
+                candidates = gramEntries;
+            }
+        }
+
+        // Every entry list is kept sorted by position, so the matches come out in the order of the list
+        ArrayList<T> matches = new ArrayList<>();
+        boolean isWholeGram = lowerCaseKeyword.length() <= GRAM_LENGTH;
+        for (Entry<T> candidate : candidates) {
+            if (isWholeGram || candidate.text.contains(lowerCaseKeyword)) {
+                matches.add(candidate.item);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Records an item in the list whose text has just been changed in place.
+     *
+     * @param list The list of all items.
+     * @param item The changed item.
+     */
+    public void changed(List<T> list, T item) {
+        ensureCurrent(list);
+        Entry<T> entry = entries.get(item);
+        if (entry != null && !entry.text.equals(toLowerCase(textOf.apply(item)))) {
+            delete(item);
+            insert(item, entry.position);
+        }
+    }
+
+    private static String toLowerCase(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the index of the entry with the given position in a list sorted by position,
+     * or {@code -(insertion point) - 1} if there is none, like {@link java.util.Collections#binarySearch}.
+     */
+    private static <T> int find(ArrayList<Entry<T>> gramEntries, long position) {
+        int low = 0;
+        int high = gramEntries.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middlePosition = gramEntries.get(middle).position;
+            if (middlePosition < position) {
+                low = middle + 1;
+            } else if (middlePosition > position) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -low - 1;
+    }
+
+    @Override
+    protected void clearIndex() {
+        entriesByGram.clear();
+        entries.clear();
+        nextPosition = 0;
+    }
+
+    @Override
+    protected void insert(T item) {
+        insert(item, nextPosition++);
+    }
+
+    private void insert(T item, long position) {
+        String text = toLowerCase(textOf.apply(item));
+        Entry<T> entry = new Entry<>(item, text, position);
+        entries.put(item, entry);
+        for (int start = 0; start < text.length(); start++) {
+            for (int end = start + 1; end <= Math.min(text.length(), start + GRAM_LENGTH); end++) {
+                ArrayList<Entry<T>> gramEntries = entriesByGram.computeIfAbsent(text.substring(start, end),
+                        gram -> new ArrayList<>(1));
+                int last = gramEntries.size() - 1;
+                if (last < 0 || gramEntries.get(last).position < position) {
+                    // New items are always last in the list, so this is the usual case
+                    gramEntries.add(entry);
+                } else {
+                    int found = find(gramEntries, position);
+                    if (found < 0) {
+                        gramEntries.add(-found - 1, entry);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    protected boolean delete(T item) {
+        Entry<T> entry = entries.remove(item);
+        if (entry == null) {
+            return false;
+        }
+        String text = entry.text;
+        for (int start = 0; start < text.length(); start++) {
+            for (int end = start + 1; end <= Math.min(text.length(), start + GRAM_LENGTH); end++) {
+                String gram = text.substring(start, end);
+                ArrayList<Entry<T>> gramEntries = entriesByGram.get(gram);
+                if (gramEntries == null) {
+                    continue;
+                }
+                int found = find(gramEntries, entry.position);
+                if (found >= 0) {
+                    gramEntries.remove(found);
+                }
+                if (gramEntries.isEmpty()) {
+                    entriesByGram.remove(gram);
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected boolean replace(T removedItem, T addedItem) {
+        Entry<T> entry = entries.get(removedItem);
+        if (entry == null) {
+            return false;
+        }
+        // The new item takes the place of the old one in the list, so it also takes its position
+        delete(removedItem);
+        insert(addedItem, entry.position);
+        return true;
+    }
+}
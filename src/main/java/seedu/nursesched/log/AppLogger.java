@@ -0,0 +1,150 @@
+package seedu.nursesched.log;
+
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Logs the messages of one part of the app to its own log file, without making the caller wait for the file.
+ * <p>
+ * Every logger hands its messages to one shared background writer, so logging a message costs a check of its level
+ * and a short append to an in-memory buffer. Messages below the current level, which is {@code INFO} unless the
+ * {@code nursesched.log.level} system property says otherwise, cost only the check. Messages that are expensive to
+ * build should be logged through a {@link Supplier}, which is only called if the level is enabled.
+ * </p>
+ * <p>
+ * Unlike {@link java.util.logging.Logger}, these loggers do not share handlers through the {@code LogManager}, so
+ * setting one up never affects another.
+ * </p>
+ */
+public class AppLogger {
+    private static volatile int threshold = parseLevel(System.getProperty("nursesched.log.level")).intValue();
+
+    private final String name;
+    private final String file;
+
+    private AppLogger(String name, String file) {
+        this.name = name;
+        this.file = file;
+    }
+
+    /**
+     * Holds the background writer, which is only started once the first message is logged.
+     */
+    private static class WriterHolder {
+        private static final AsyncLogWriter INSTANCE = new AsyncLogWriter();
+    }
+
+    /**
+     * Returns a logger that writes to the given file. The file and its directories are created when needed.
+     *
+     * @param name The name shown on each line, e.g. {@code Appointment}.
+     * @param file The path of the log file, e.g. {@code logs/appointment/appointment.log}.
+     * @return The logger.
+     */
+    public static AppLogger getLogger(String name, String file) {
+        return new AppLogger(name, file);
+    }
+
+    /**
+     * Sets the lowest level of the messages that are logged, for every logger.
+     *
+     * @param level The level, e.g. {@code Level.WARNING} to log only warnings and errors.
+     */
+    public static void setLevel(Level level) {
+        threshold = level.intValue();
+    }
+
+    /**
+     * Waits for every message logged so far to be written to its file.
+     */
+    public static void flush() {
+        WriterHolder.INSTANCE.flush();
+    }
+
+    private static Level parseLevel(String level) {
+        if (level == null) {
+            return Level.INFO;
+        }
+        try {
+            return Level.parse(level.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Level.INFO;
+        }
+    }
+
+    /**
+     * Returns whether messages of the given level are logged.
+     */
+    public boolean isLoggable(Level level) {
+        return level.intValue() >= threshold;
+    }
+
+    public void fine(Supplier<String> message) {
+        log(Level.FINE, message);
+    }
+
+    public void info(String message) {
+        log(Level.INFO, message);
+    }
+
+    public void info(Supplier<String> message) {
+        log(Level.INFO, message);
+    }
+
+    public void warning(String message) {
+        log(Level.WARNING, message);
+    }
+
+    public void severe(String message) {
+        log(Level.SEVERE, message);
+    }
+
+    public void log(Level level, String message) {
+        if (isLoggable(level)) {
+            add(level, message, null, null);
+        }
+    }
+
+    /**
+     * Logs a message that is only built if its level is enabled.
+     */
+    public void log(Level level, Supplier<String> message) {
+        if (isLoggable(level)) {
+            add(level, message.get(), null, null);
+        }
+    }
+
+    /**
+     * Logs a {@link java.text.MessageFormat} pattern with one parameter, e.g. {@code "Medicine deleted: {0}"}.
+     * The pattern is only formatted on the background writer.
+     */
+    public void log(Level level, String pattern, Object parameter) {
+        if (isLoggable(level)) {
+            add(level, pattern, new Object[] {parameter}, null);
+        }
+    }
+
+    /**
+     * Logs a {@link java.text.MessageFormat} pattern with its parameters.
+     * The pattern is only formatted on the background writer.
+     */
+    public void log(Level level, String pattern, Object[] parameters) {
+        if (isLoggable(level)) {
+            add(level, pattern, parameters, null);
+        }
+    }
+
+    /**
+     * Logs a message together with the stack trace of an exception.
+     */
+    public void log(Level level, String message, Throwable thrown) {
+        if (isLoggable(level)) {
+            add(level, message, null, thrown);
+        }
+    }
+
+    private void add(Level level, String message, Object[] parameters, Throwable thrown) {
+        long time = System.currentTimeMillis();
+        WriterHolder.INSTANCE.add(new LogEntry(time, level, name, file, message, parameters, thrown));
+    }
+}
@@ -0,0 +1,198 @@
+package seedu.nursesched.log;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+
+/**
+ * Writes log entries to their files on a single background thread.
+ * <p>
+ * Loggers put entries into a fixed-size ring buffer and return at once. The writer thread takes everything in the
+ * buffer at a time, formats it, appends it to the log files and flushes them, so a burst of messages costs one
+ * write per file. If the buffer is full, new entries are dropped rather than making the caller wait, and the number
+ * dropped is logged once there is room again.
+ * </p>
+ */
+final class AsyncLogWriter {
+    static final int CAPACITY = 8192;
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final long FLUSH_TIMEOUT_MILLIS = 2000;
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS")
+            .withZone(ZoneId.systemDefault());
+
+    private final LogEntry[] ring = new LogEntry[CAPACITY];
+    private final Object lock = new Object();
+    private final Map<String, Writer> writers = new HashMap<>();
+    private final Set<String> failedFiles = new HashSet<>();
+    private long head = 0;
+    private long tail = 0;
+    private long written = 0;
+    private long dropped = 0;
+    private String lastFile;
+
+    AsyncLogWriter() {
+        Thread thread = new Thread(this::run, "log-writer");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush));
+    }
+
+    /**
+     * Adds an entry to the buffer, or drops it if the buffer is full.
+     */
+    void add(LogEntry entry) {
+        synchronized (lock) {
+            if (tail - head == CAPACITY) {
+                dropped++;
+                return;
+            }
+            lastFile = entry.file();
+            ring[(int) (tail++ % CAPACITY)] = entry;
+            if (tail - head == 1) {
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Waits until every entry added so far has been written to its file, or a couple of seconds have passed.
+     */
+    void flush() {
+        long deadline = System.currentTimeMillis() + FLUSH_TIMEOUT_MILLIS;
+        synchronized (lock) {
+            long target = tail;
+            while (written < target) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return;
+                }
+                try {
+                    lock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void run() {
+        LogEntry[] batch = new LogEntry[CAPACITY];
+        while (true) {
+            int count;
+            long droppedCount;
+            String droppedFile;
+            synchronized (lock) {
+                while (head == tail) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                count = (int) (tail - head);
+                for (int i = 0; i < count; i++) {
+                    int slot = (int) (head++ % CAPACITY);
+                    batch[i] = ring[slot];
+                    ring[slot] = null;
+                }
+                droppedCount = dropped;
+                droppedFile = lastFile;
+                dropped = 0;
+            }
+
+            Set<Writer> touched = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                write(batch[i], touched);
+                batch[i] = null;
+            }
+            if (droppedCount > 0) {
+                write(new LogEntry(System.currentTimeMillis(), Level.WARNING, "log",
+                        droppedFile, droppedCount + " log messages were dropped because the log buffer was full",
+                        null, null), touched);
+            }
+            for (Writer writer : touched) {
+                try {
+                    writer.flush();
+                } catch (IOException e) {
+                    // The entries are lost, but logging must never stop the app.
+                }
+            }
+
+            synchronized (lock) {
+                written += count;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private void write(LogEntry entry, Set<Writer> touched) {
+        Writer writer = getWriter(entry.file());
+        if (writer == null) {
+            return;
+        }
+        try {
+            TIMESTAMP.formatTo(Instant.ofEpochMilli(entry.time()), writer);
+            writer.write(' ');
+            writer.write(entry.level().getName());
+            writer.write(' ');
+            writer.write(entry.loggerName());
+            writer.write(": ");
+            writer.write(formatMessage(entry));
+            writer.write(System.lineSeparator());
+            if (entry.thrown() != null) {
+                StringWriter trace = new StringWriter();
+                entry.thrown().printStackTrace(new PrintWriter(trace));
+                writer.write(trace.toString());
+            }
+            touched.add(writer);
+        } catch (IOException | RuntimeException e) {
+            // A message that cannot be formatted or written is skipped.
+        }
+    }
+
+    private static String formatMessage(LogEntry entry) {
+        String message = String.valueOf(entry.message());
+        Object[] parameters = entry.parameters();
+        if (parameters == null || parameters.length == 0 || !message.contains("{")) {
+            return message;
+        }
+        return MessageFormat.format(message, parameters);
+    }
+
+    private Writer getWriter(String file) {
+        Writer writer = writers.get(file);
+        if (writer != null || failedFiles.contains(file)) {
+            return writer;
+        }
+        try {
+            File logFile = new File(file);
+            File parent = logFile.getAbsoluteFile().getParentFile();
+            if (parent != null) {
+                parent.mkdirs();
+            }
+            writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(logFile, true),
+                    StandardCharsets.UTF_8), BUFFER_SIZE);
+            writers.put(file, writer);
+        } catch (IOException e) {
+            failedFiles.add(file);
+        }
+        return writer;
+    }
+}
@@ -0,0 +1,19 @@
+package seedu.nursesched.log;
+
+import java.util.logging.Level;
+
+/**
+ * A message waiting in the log buffer to be written.
+ * A message with parameters is only formatted when the entry is written, on the background thread.
+ *
+ * @param time       When the message was logged, in milliseconds since the epoch.
+ * @param level      The level of the message.
+ * @param loggerName The name of the logger, shown on each line.
+ * @param file       The log file to write the message to.
+ * @param message    The message, or a {@link java.text.MessageFormat} pattern if there are parameters.
+ * @param parameters The parameters of the pattern, or null.
+ * @param thrown     The exception logged with the message, or null.
+ */
+record LogEntry(long time, Level level, String loggerName, String file, String message,
+        Object[] parameters, Throwable thrown) {
+}
@@ -2,15 +2,13 @@ package seedu.nursesched.medicine;
 
 import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.index.TextIndex;
+import seedu.nursesched.log.AppLogger;
 import seedu.nursesched.storage.MedicineStorage;
+import seedu.nursesched.ui.Page;
 import seedu.nursesched.ui.Ui;
 
-import java.io.IOException;
-import java.util.logging.FileHandler;
 import java.util.logging.Level;
-import java.util.logging.LogManager;
-import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
 
 import java.util.ArrayList;
 
@@ -20,25 +18,14 @@ import java.util.ArrayList;
  * medicines.
  */
 public class Medicine {
-    public static ArrayList<Medicine> medicineList;
-    private static final Logger logr = Logger.getLogger("Medicine");
+    public static ArrayList<Medicine> medicineList = new ArrayList<>();
+    private static final AppLogger logr = AppLogger.getLogger("Medicine", "logs/medicine/medicine.log");
+    private static final MedicineIndex INDEX = new MedicineIndex();
+    private static final TextIndex<Medicine> NAME_SEARCH = new TextIndex<>(Medicine::getMedicineName);
 
     private int quantity;
     private String medicineName;
 
-    static {
-        try {
-            LogManager.getLogManager().reset();
-            FileHandler fh = new FileHandler("logs/medicine/medicine.log", true);
-            fh.setFormatter(new SimpleFormatter());
-            logr.addHandler(fh);
-            logr.setLevel(Level.ALL);
-        } catch (IOException e) {
-            logr.log(Level.SEVERE, "File logger not working", e);
-        }
-        medicineList = MedicineStorage.readFile();
-    }
-
     /**
      * Constructs a Medicine object with a given quantity and name.
      *
@@ -52,7 +39,7 @@ public class Medicine {
 
         this.quantity = quantity;
         this.medicineName = medicineName;
-        logr.log(Level.INFO, "Created new medicine: {0}, Quantity: {1}", new Object[]{medicineName, quantity});
+        logr.fine(() -> "Created new medicine: " + medicineName + ", Quantity: " + quantity);
     }
 
     /**
@@ -87,12 +74,42 @@ public class Medicine {
         } else {
             Medicine medicine = new Medicine(quantity, medicineName);
             medicineList.add(medicine);
+            INDEX.added(medicineList, medicine);
+            NAME_SEARCH.added(medicineList, medicine);
             MedicineStorage.overwriteSaveFile(medicineList);
             logr.log(Level.INFO, "Added new medicine: {0}, Quantity: {1}", new Object[]{medicineName, quantity});
             System.out.println(quantity + " " + medicineName + " added to the list");
         }
     }
 
+    /**
+     * Adds a medicine read from an import file, without printing it.
+     * As with {@link #addMedicine}, a medicine already in the inventory has its quantity increased.
+     * The save file is only marked for saving, so that a batch of imported medicines is written once.
+     *
+     * @param quantity     Quantity to add, which must be positive.
+     * @param medicineName Name of the medicine, which must not be empty.
+     * @throws NurseSchedException If the new quantity would be too large.
+     */
+    public static void importMedicine(int quantity, String medicineName) throws NurseSchedException {
+        assert quantity > 0 : "Quantity must be greater than 0";
+        assert !medicineName.trim().isEmpty() : "Medicine name cannot be empty";
+
+        Medicine existingMedicine = INDEX.get(medicineList, medicineName);
+        if (existingMedicine != null) {
+            if (existingMedicine.getQuantity() > Integer.MAX_VALUE - quantity) {
+                throw new NurseSchedException(ExceptionMessage.MEDICINE_QUANTITY_TOO_LARGE);
+            }
+            existingMedicine.addQuantity(quantity);
+        } else {
+            Medicine medicine = new Medicine(quantity, medicineName);
+            medicineList.add(medicine);
+            INDEX.added(medicineList, medicine);
+            NAME_SEARCH.added(medicineList, medicine);
+        }
+        MedicineStorage.overwriteSaveFile(medicineList);
+    }
+
     /**
      * Removes a specified quantity of a medicine from the inventory.
      *
@@ -139,8 +156,15 @@ public class Medicine {
 
         logr.log(Level.INFO, "Attempting to delete medicine: {0}", medicineName);
 
-        boolean removed = medicineList.removeIf(medicine ->
-                medicine.getMedicineName().equalsIgnoreCase(medicineName));
+        boolean removed = false;
+        Medicine medicine = INDEX.get(medicineList, medicineName);
+        while (medicine != null) {
+            medicineList.remove(medicine);
+            INDEX.removed(medicineList, medicine);
+            NAME_SEARCH.removed(medicineList, medicine);
+            removed = true;
+            medicine = INDEX.get(medicineList, medicineName);
+        }
 
         if (removed) {
             MedicineStorage.overwriteSaveFile(medicineList);
@@ -157,6 +181,16 @@ public class Medicine {
      * Displays a message if no medicines are available.
      */
     public static void listMedicine() {
+        listMedicine(Page.ALL);
+    }
+
+    /**
+     * Prints one page of the medicines in the inventory.
+     * Displays a message if no medicines are available.
+     *
+     * @param page The page to print.
+     */
+    public static void listMedicine(Page page) {
         logr.log(Level.INFO, "Listing all medicines");
 
         if (medicineList.isEmpty()) {
@@ -164,10 +198,7 @@ public class Medicine {
             logr.log(Level.INFO, "No medicines found in the list");
         } else {
             System.out.println("List of medicine supply:");
-            for (int i = 0; i < medicineList.size(); i++) {
-                Medicine medicine = medicineList.get(i);
-                System.out.printf("%d. %s%n", i + 1, medicine);
-            }
+            Ui.printList(medicineList, page, Medicine::renderNumbered);
         }
     }
 
@@ -179,21 +210,28 @@ public class Medicine {
      * @throws NurseSchedException If no matches are found.
      */
     public static ArrayList<Medicine> findMedicine(String medicineName) throws NurseSchedException {
+        return findMedicine(medicineName, Page.ALL);
+    }
+
+    /**
+     * Searches for medicines containing a specific keyword (case-insensitive), and prints one page of them.
+     *
+     * @param medicineName Keyword or full name to search for.
+     * @param page         The page of matches to print.
+     * @return List of matching medicines.
+     * @throws NurseSchedException If no matches are found.
+     */
+    public static ArrayList<Medicine> findMedicine(String medicineName, Page page) throws NurseSchedException {
         assert medicineName != null : "Medicine name cannot be null";
 
         logr.log(Level.INFO, "Searching for medicine containing: {0}", medicineName);
 
-        ArrayList<Medicine> matchingMedicine = new ArrayList<>();
-        for (Medicine medicine : medicineList) {
-            if (medicine.getMedicineName().toLowerCase().contains(medicineName)) {
-                matchingMedicine.add(medicine);
-            }
-        }
+        ArrayList<Medicine> matchingMedicine = NAME_SEARCH.search(medicineList, medicineName);
         if (matchingMedicine.isEmpty()) {
             logr.log(Level.WARNING, "No medicines found matching: {0}", medicineName);
             throw new NurseSchedException(ExceptionMessage.MEDICINE_NONEXISTENT);
         } else {
-            Ui.printSearchResults(matchingMedicine, medicineName);
+            Ui.printSearchResults(matchingMedicine, medicineName, page);
         }
         return matchingMedicine;
     }
@@ -205,6 +243,17 @@ public class Medicine {
      * @throws NurseSchedException If no medicine is below the threshold.
      */
     public static void restockMedicine(int restockQuantity) throws NurseSchedException {
+        restockMedicine(restockQuantity, Page.ALL);
+    }
+
+    /**
+     * Displays one page of the medicines that need to be restocked (below a given quantity).
+     *
+     * @param restockQuantity Threshold below which medicines should be restocked.
+     * @param page            The page to display.
+     * @throws NurseSchedException If no medicine is below the threshold.
+     */
+    public static void restockMedicine(int restockQuantity, Page page) throws NurseSchedException {
         assert restockQuantity > 0 : "Quantity must be greater than 0";
 
         ArrayList<Medicine> restockMedicine = new ArrayList<>();
@@ -218,10 +267,7 @@ public class Medicine {
             throw new NurseSchedException(ExceptionMessage.NO_RESTOCK_REQUIRED);
         } else {
             System.out.println("Here's the list of medicines below " + restockQuantity + " :");
-            for (int i = 0; i < restockMedicine.size(); i++) {
-                Medicine medicine = restockMedicine.get(i);
-                System.out.printf("%d. %s%n", i + 1, medicine);
-            }
+            Ui.printList(restockMedicine, page, Medicine::renderNumbered);
             System.out.println("Remember to restock these medicines!");
         }
     }
@@ -237,11 +283,10 @@ public class Medicine {
 
         logr.log(Level.INFO, "Finding specific medicine: {0}", medicineName);
 
-        for (Medicine medicine : medicineList) {
-            if (medicine.getMedicineName().equalsIgnoreCase(medicineName)) {
-                logr.log(Level.INFO, "Found medicine: {0}", medicineName);
-                return medicine;
-            }
+        Medicine medicine = INDEX.get(medicineList, medicineName);
+        if (medicine != null) {
+            logr.log(Level.INFO, "Found medicine: {0}", medicineName);
+            return medicine;
         }
         logr.log(Level.WARNING, "Medicine not found: {0}", medicineName);
         return null;
@@ -268,24 +313,21 @@ public class Medicine {
             throw new NurseSchedException(ExceptionMessage.MISSING_MEDICINE_NAME);
         }
 
-        for (Medicine med : medicineList) {
-            if (med.getMedicineName().equalsIgnoreCase(updatedName) &&
-                    !med.getMedicineName().equalsIgnoreCase(medicineName)) {
-                logr.log(Level.WARNING, "Duplicate medicine name on edit: {0}", updatedName);
-                throw new NurseSchedException(ExceptionMessage.DUPLICATE_MEDICINE_NAME);
-            }
+        Medicine sameName = INDEX.get(medicineList, updatedName);
+        if (sameName != null && !sameName.getMedicineName().equalsIgnoreCase(medicineName)) {
+            logr.log(Level.WARNING, "Duplicate medicine name on edit: {0}", updatedName);
+            throw new NurseSchedException(ExceptionMessage.DUPLICATE_MEDICINE_NAME);
         }
 
-        for (Medicine medicine : medicineList) {
-            if (medicine.getMedicineName().equalsIgnoreCase(medicineName)) {
-                medicine.setMedicineName(updatedName);
-                medicine.setQuantity(updatedQuantity);
-                MedicineStorage.overwriteSaveFile(medicineList);
-                logr.log(Level.INFO, "Updated medicine: {0} to new name: {1}, new quantity: {2}",
-                        new Object[]{medicineName, updatedName, updatedQuantity});
-                System.out.println("Medicine " + medicine.getMedicineName() + " updated.");
-                return;
-            }
+        Medicine medicine = INDEX.get(medicineList, medicineName);
+        if (medicine != null) {
+            medicine.setMedicineName(updatedName);
+            medicine.setQuantity(updatedQuantity);
+            MedicineStorage.overwriteSaveFile(medicineList);
+            logr.log(Level.INFO, "Updated medicine: {0} to new name: {1}, new quantity: {2}",
+                    new Object[]{medicineName, updatedName, updatedQuantity});
+            System.out.println("Medicine " + medicine.getMedicineName() + " updated.");
+            return;
         }
 
         logr.log(Level.WARNING, "Medicine not found: {0}", medicineName);
@@ -303,6 +345,10 @@ public class Medicine {
         return "[" + quantity + "] " + medicineName;
     }
 
+    private static void renderNumbered(int number, Medicine medicine, StringBuilder line) {
+        line.append(number).append(". ").append(medicine);
+    }
+
 
     public int getQuantity() {
         return quantity;
@@ -342,6 +388,15 @@ public class Medicine {
         return medicineList;
     }
 
+    /**
+     * Replaces the list of medicines, e.g. with the medicines loaded from the save file.
+     *
+     * @param medicines The new list of medicines.
+     */
+    public static void setMedicineList(ArrayList<Medicine> medicines) {
+        medicineList = medicines;
+    }
+
     public void setQuantity(int quantity) {
         assert quantity > 0 : "Quantity must be greater than 0";
         this.quantity = quantity;
@@ -349,6 +404,9 @@ public class Medicine {
 
     public void setMedicineName(String medicineName) {
         assert medicineName != null && !medicineName.trim().isEmpty() : "Medicine name cannot be null or empty";
+        String oldName = this.medicineName;
         this.medicineName = medicineName;
+        INDEX.renamed(medicineList, this, oldName);
+        NAME_SEARCH.changed(medicineList, this);
     }
 }
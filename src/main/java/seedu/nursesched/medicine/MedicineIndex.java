@@ -0,0 +1,85 @@
+package seedu.nursesched.medicine;
+
+import seedu.nursesched.index.ListIndex;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Hash index from the case-insensitive name of a medicine to the medicine.
+ * <p>
+ * Names are stored in lower case, so looking up a medicine takes constant time instead of comparing the name
+ * against every medicine in the inventory. Renaming a medicine must be reported through {@link #renamed}, since
+ * the list itself does not change.
+ * </p>
+ */
+class MedicineIndex extends ListIndex<Medicine> {
+    private final HashMap<String, Medicine> byName = new HashMap<>();
+    private boolean hasDuplicateNames = false;
+
+    /**
+     * Converts a medicine name into its key in the index.
+     *
+     * @param medicineName The medicine name.
+     * @return The name in lower case.
+     */
+    static String toKey(String medicineName) {
+        return medicineName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the medicine with the given name, ignoring case.
+     *
+     * @param medicines    The list of all medicines.
+     * @param medicineName The name to look up.
+     * @return The medicine, or null if there is no medicine with that name.
+     */
+    Medicine get(List<Medicine> medicines, String medicineName) {
+        ensureCurrent(medicines);
+        return byName.get(toKey(medicineName));
+    }
+
+    /**
+     * Records a medicine in the list that has just been renamed.
+     *
+     * @param medicines The list of all medicines.
+     * @param medicine  The renamed medicine.
+     * @param oldName   The name of the medicine before it was renamed.
+     */
+    void renamed(List<Medicine> medicines, Medicine medicine, String oldName) {
+        ensureCurrent(medicines);
+        if (hasDuplicateNames) {
+            rebuild(medicines);
+            return;
+        }
+        String oldKey = toKey(oldName);
+        if (byName.get(oldKey) == medicine) {
+            byName.remove(oldKey);
+            insert(medicine);
+        }
+    }
+
+    @Override
+    protected void clearIndex() {
+        byName.clear();
+        hasDuplicateNames = false;
+    }
+
+    @Override
+    protected void insert(Medicine medicine) {
+        // Save files edited by hand may repeat a name. Keep the first, as a scan of the list would find.
+        if (byName.putIfAbsent(toKey(medicine.getMedicineName()), medicine) != null) {
+            hasDuplicateNames = true;
+        }
+    }
+
+    @Override
+    protected boolean delete(Medicine medicine) {
+        if (hasDuplicateNames) {
+            return false;
+        }
+        byName.remove(toKey(medicine.getMedicineName()), medicine);
+        return true;
+    }
+}
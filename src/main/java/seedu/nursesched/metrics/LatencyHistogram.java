@@ -0,0 +1,94 @@
+package seedu.nursesched.metrics;
+
+/**
+ * Counts latencies in fixed buckets, in the manner of HdrHistogram, so that recording one never allocates.
+ * <p>
+ * Values below 64 ns each have their own bucket. Above that, every power of two is split into 32 buckets of equal
+ * width, so a percentile is never off by more than about 3%. Values up to about 18 minutes are told apart, and
+ * longer ones are counted as that.
+ * </p>
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_HALF = 1 << (SUB_BUCKET_BITS - 1);
+    private static final long MAX_TRACKED_NANOS = (1L << 40) - 1;
+
+    private final long[] counts = new long[indexOf(MAX_TRACKED_NANOS) + 1];
+    private long count = 0;
+    private long totalNanos = 0;
+    private long maxNanos = 0;
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos The latency, in nanoseconds.
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_TRACKED_NANOS);
+        counts[indexOf(value)]++;
+        count++;
+        totalNanos += value;
+        maxNanos = Math.max(maxNanos, value);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the mean of the recorded latencies, or 0 if there are none.
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    /**
+     * Returns the latency that the given percentage of recorded latencies do not exceed, rounded up to the end of
+     * its bucket but never above the largest one recorded.
+     *
+     * @param percentile The percentage, from 0 to 100.
+     * @return The latency in nanoseconds, or 0 if none are recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        assert percentile >= 0 && percentile <= 100 : "Percentiles lie between 0 and 100";
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int index = 0; index < counts.length; index++) {
+            seen += counts[index];
+            if (seen >= rank) {
+                return Math.min(highestValueIn(index), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Returns the bucket of a value between 0 and {@link #MAX_TRACKED_NANOS}.
+     */
+    static int indexOf(long value) {
+        if (value < 2 * SUB_BUCKET_HALF) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return SUB_BUCKET_HALF * shift + (int) (value >>> shift);
+    }
+
+    /**
+     * Returns the largest value that falls in a bucket.
+     */
+    static long highestValueIn(int index) {
+        if (index < 2 * SUB_BUCKET_HALF) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_HALF - 1;
+        long subBucket = index - (long) SUB_BUCKET_HALF * shift;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
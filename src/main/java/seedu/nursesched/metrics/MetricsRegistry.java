@@ -0,0 +1,155 @@
+package seedu.nursesched.metrics;
+
+import seedu.nursesched.command.CommandTimer;
+import seedu.nursesched.log.AppLogger;
+import seedu.nursesched.storage.StorageStats;
+import seedu.nursesched.storage.Store;
+import seedu.nursesched.storage.Stores;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the number of runs, a latency histogram and the bytes written to storage for each command, e.g.
+ * {@code appt add}, since the program started.
+ * <p>
+ * Latencies come from the {@link seedu.nursesched.command.CommandRegistry} this is added to as a timer. Bytes are
+ * counted by {@link StorageStats}, and only those written while a command runs are put down to that command. With
+ * write-behind on, saves are flushed later, after a number of commands or on a timer, and a flush writes the changes
+ * of every command since the last one, so flushed bytes are not put down to any command. They are only counted in
+ * the bytes written to each save file, which cover every write. Recording a command only looks up its counters and
+ * allocates nothing once the command has run before.
+ * </p>
+ * <p>
+ * With {@code -Dnursesched.metrics.dumpIntervalSeconds=N}, the table printed by {@code stats} is also written to
+ * {@code logs/metrics/metrics.log} every {@code N} seconds.
+ * </p>
+ */
+public class MetricsRegistry implements CommandTimer {
+    private static final AppLogger logr = AppLogger.getLogger("Metrics", "logs/metrics/metrics.log");
+    private static final String DUMP_INTERVAL_PROPERTY = "nursesched.metrics.dumpIntervalSeconds";
+    private static final String ROW_FORMAT = "%-18s %7d %9.2f %9.2f %9.2f %9.2f %14d%n";
+    private static final String HEADER_FORMAT = "%-18s %7s %9s %9s %9s %9s %14s%n";
+
+    private final TreeMap<String, TreeMap<String, CommandMetrics>> byType = new TreeMap<>();
+    private final LongSupplier bytesWritten;
+    private final Supplier<Map<String, Long>> bytesWrittenByFile;
+    private long bytesAtLastMark;
+    private ScheduledExecutorService dumpTimer;
+
+    /**
+     * The measurements of one command.
+     */
+    private static class CommandMetrics {
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private long bytes = 0;
+    }
+
+    /**
+     * Constructs an empty registry that counts the bytes written through {@link StorageStats}.
+     */
+    public MetricsRegistry() {
+        this(StorageStats::getBytesWritten, StorageStats::getBytesWrittenByFile);
+    }
+
+    /**
+     * Constructs an empty registry.
+     *
+     * @param bytesWritten       Returns the number of bytes written to storage so far.
+     * @param bytesWrittenByFile Returns the number of bytes written to each save file so far, keyed by file name.
+     */
+    MetricsRegistry(LongSupplier bytesWritten, Supplier<Map<String, Long>> bytesWrittenByFile) {
+        this.bytesWritten = bytesWritten;
+        this.bytesWrittenByFile = bytesWrittenByFile;
+        this.bytesAtLastMark = bytesWritten.getAsLong();
+    }
+
+    @Override
+    public synchronized void commandTimed(String type, String verb, long elapsedNanos) {
+        TreeMap<String, CommandMetrics> verbs = byType.get(type);
+        if (verbs == null) {
+            verbs = new TreeMap<>();
+            byType.put(type, verbs);
+        }
+        CommandMetrics metrics = verbs.get(verb);
+        if (metrics == null) {
+            metrics = new CommandMetrics();
+            verbs.put(verb, metrics);
+        }
+        metrics.latencies.record(elapsedNanos);
+        long bytes = bytesWritten.getAsLong();
+        metrics.bytes += bytes - bytesAtLastMark;
+        bytesAtLastMark = bytes;
+    }
+
+    /**
+     * Marks the start of a command, so that bytes written before it, e.g. by a write-behind flush, are not put down
+     * to it.
+     */
+    public synchronized void commandStarted() {
+        bytesAtLastMark = bytesWritten.getAsLong();
+    }
+
+    /**
+     * Starts writing the metrics to the log every {@code nursesched.metrics.dumpIntervalSeconds} seconds, unless
+     * that is not set.
+     */
+    public synchronized void startDumpingFromConfig() {
+        long intervalSeconds = Long.getLong(DUMP_INTERVAL_PROPERTY, 0);
+        if (intervalSeconds <= 0 || dumpTimer != null) {
+            return;
+        }
+        dumpTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumpTimer.scheduleAtFixedRate(() -> logr.info(this::format), intervalSeconds, intervalSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    /**
+     * Prints the metrics of every command run so far.
+     */
+    public void print() {
+        System.out.print(format());
+    }
+
+    /**
+     * Returns the metrics as a table with a line for each command, followed by the bytes written in total and to each
+     * save file, and how long each store took to load.
+     */
+    public synchronized String format() {
+        StringBuilder text = new StringBuilder();
+        text.append("Commands run since start-up (times in ms):").append(System.lineSeparator());
+        text.append(String.format(HEADER_FORMAT, "command", "count", "mean", "p50", "p99", "max", "bytes written"));
+        for (Map.Entry<String, TreeMap<String, CommandMetrics>> type : byType.entrySet()) {
+            for (Map.Entry<String, CommandMetrics> verb : type.getValue().entrySet()) {
+                String name = verb.getKey().isEmpty() ? type.getKey() : type.getKey() + " " + verb.getKey();
+                LatencyHistogram latencies = verb.getValue().latencies;
+                text.append(String.format(ROW_FORMAT, name, latencies.getCount(), latencies.getMeanNanos() / 1e6,
+                        latencies.getValueAtPercentile(50) / 1e6, latencies.getValueAtPercentile(99) / 1e6,
+                        latencies.getMaxNanos() / 1e6, verb.getValue().bytes));
+            }
+        }
+        text.append("Bytes written to storage in total: ").append(bytesWritten.getAsLong())
+                .append(System.lineSeparator());
+        for (Map.Entry<String, Long> file : bytesWrittenByFile.get().entrySet()) {
+            text.append(String.format("  %-22s %14d%n", file.getKey(), file.getValue()));
+        }
+        for (Store<?> store : Stores.getAll()) {
+            if (store.isLoaded()) {
+                text.append(String.format("Loaded %d %s in %d ms%n", store.getLoadedSize(), store.getName(),
+                        store.getLoadMillis()));
+            } else {
+                text.append(String.format("Not loaded yet: %s%n", store.getName()));
+            }
+        }
+        return text.toString();
+    }
+}
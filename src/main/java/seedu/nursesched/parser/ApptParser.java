@@ -2,17 +2,11 @@ package seedu.nursesched.parser;
 
 import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.log.AppLogger;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
-import java.util.logging.FileHandler;
-import java.util.logging.LogManager;
-import java.util.logging.Logger;
-import java.util.logging.Level;
-import java.util.logging.SimpleFormatter;
-import java.io.File;
 
 /**
  * Parses the input of the user to make sense of the command.
@@ -21,19 +15,16 @@ import java.io.File;
  * list, find, edit and sort.
  * Each command follows a specific format and requires valid parameters. The parser extracts
  * values from the input, verifies them, and encapsulates them in a {@code ApptParser} object
- * for further processing.
+ * for further processing. An {@code ApptParser} object is immutable, and parsing keeps no state between
+ * calls, so commands can be parsed on several threads at once.
  * Exceptions are thrown if the input format is incorrect or required parameters are missing.
  */
 public class ApptParser extends Parser {
 
-    private static final Logger logr = Logger.getLogger("ApptParser");
+    private static final AppLogger logr = AppLogger.getLogger("ApptParser", "logs/parser/apptParser.log");
+    private static final FieldTokenizer FIELDS =
+            new FieldTokenizer(true, "aid/", "id/", "s/", "e/", "d/", "im/", "n/", "p/", "by/");
 
-
-    private static int apptIndex;
-    private static int id;
-    private static String searchKeyword;
-    private static String sortBy;
-    private static String searchBy = null;
     private final String command;
     private final String name;
 
@@ -42,23 +33,11 @@ public class ApptParser extends Parser {
     private final LocalDate date;
     private final String notes;
     private final int importance;
-
-    static {
-        try {
-            File logDir = new File("logs/parser");
-            if (!logDir.exists()) {
-                logDir.mkdirs();  // Creates the directory and any missing parent directories
-            }
-
-            LogManager.getLogManager().reset();
-            FileHandler fh = new FileHandler("logs/parser/apptParser.log", true);
-            fh.setFormatter(new SimpleFormatter());
-            logr.addHandler(fh);
-            logr.setLevel(Level.ALL);
-        } catch (IOException e) {
-            logr.log(Level.SEVERE, "File logger not working", e);
-        }
-    }
+    private final int apptIndex;
+    private final int id;
+    private final String searchKeyword;
+    private final String sortBy;
+    private final String searchBy;
 
 
     /**
@@ -70,6 +49,12 @@ public class ApptParser extends Parser {
      * @param endTime The end time of the appointment.
      * @param date The date of the appointment.
      * @param notes The additional things to note about the patient.
+     * @param apptIndex The index of the appointment to act on.
+     * @param searchKeyword The keyword to search for.
+     * @param importance The importance of the appointment.
+     * @param sortBy The field to sort the appointments by.
+     * @param id The ID of the patient.
+     * @param searchBy The field to search the appointments by.
      */
     public ApptParser(String command, String name, LocalTime startTime, LocalTime endTime,
                       LocalDate date, String notes, int apptIndex, String searchKeyword,
@@ -84,10 +69,10 @@ public class ApptParser extends Parser {
         this.searchKeyword = searchKeyword;
         this.searchBy = searchBy;
         this.importance = importance;
-        this.id =id;
+        this.id = id;
         this.sortBy = sortBy;
 
-        logr.info("ApptParser created: " + this);
+        logr.fine(() -> "ApptParser created: " + this);
     }
 
     /**
@@ -106,7 +91,8 @@ public class ApptParser extends Parser {
         assert line != null : "Input line should not be null";
         logr.info("Extracting inputs from: " + line);
         line = line.trim();
-        line = line.substring(line.indexOf(" ") + 1);
+        int commandStart = line.indexOf(" ") + 1;
+        int commandEnd = line.indexOf(" ", commandStart);
         String command = "";
         String name = "";
         LocalTime startTime = null;
@@ -114,72 +100,55 @@ public class ApptParser extends Parser {
         LocalDate date = null;
         String notes = "";
         int importance = 1;
+        int apptIndex = 0;
+        int id = 0;
+        String searchKeyword = null;
+        String sortBy = null;
+        String searchBy = null;
 
         try {
-            if (line.contains(" ")) {
-                command = line.substring(0, line.indexOf(" ")).toLowerCase();
-                line = line.substring(line.indexOf(" ") + 1);
+            if (commandEnd != -1) {
+                command = line.substring(commandStart, commandEnd).toLowerCase();
             } else {
-                command = line.toLowerCase();
-                line = null;
+                command = line.substring(commandStart).toLowerCase();
+                commandEnd = line.length();
             }
         } catch (IndexOutOfBoundsException e) {
             logr.warning("Invalid command: " + command);
             System.out.println("Invalid inputs! Please try again.");
             return null;
         }
+        FieldTokenizer.Fields fields = FIELDS.tokenize(line, commandEnd);
+        boolean hasParameters = commandEnd < line.length();
 
         switch (command) {
         case "add" -> {
 
-            if (line == null){
+            if (!hasParameters){
                 throw new NurseSchedException(ExceptionMessage.INVALID_APPTADD_FORMAT);
             }
-            if (!line.contains("id/") || !line.contains("s/") ||
-                    !line.contains("d/") || !line.contains("e/")) {
+            if (!fields.has("id/") || !fields.has("s/") ||
+                    !fields.has("d/") || !fields.has("e/")) {
                 logr.warning("Missing fields");
                 throw new NurseSchedException(ExceptionMessage.INVALID_APPTADD_FORMAT);
             }
 
             try {
-                // Extract patient ID
-                int idIndex = line.indexOf("id/") + 3;
-                int idEnd = findNextFieldIndex(line, idIndex);
-                id = parseID(line.substring(idIndex, idEnd).trim());
-
-                // Extract appointment's start time
-                int startIndex = line.indexOf("s/") + 2;
-                int startEnd = findNextFieldIndex(line, startIndex);
-                startTime = LocalTime.parse(line.substring(startIndex, startEnd).trim());
-
-                // Extract appointment's end time
-                int endIndex = line.indexOf("e/") + 2;
-                int endEnd = findNextFieldIndex(line, endIndex);
-                endTime = LocalTime.parse(line.substring(endIndex, endEnd).trim());
-
-                // Extract appointment's date
-                String abstractedLine = line.substring(endEnd);
-                int dateIndex = abstractedLine.indexOf("d/") + 2;
-                int dateEnd = findNextFieldIndex(abstractedLine, dateIndex);
-                date = LocalDate.parse(abstractedLine.substring(dateIndex, dateEnd).trim());
+                id = parseID(fields.get("id/"));
+                startTime = fields.getTime("s/");
+                endTime = fields.getTime("e/");
+                date = fields.getDate("d/");
 
                 // Extract importance if present
-                if (line.contains("im/")) {
-                    int imIndex = line.indexOf("im/") + 3;
-                    int imEnd = findNextFieldIndex(line, imIndex);
-                    String importanceStr = line.substring(imIndex, imEnd).trim();
-                    importance = parseImportance(importanceStr);
+                if (fields.has("im/")) {
+                    importance = parseImportance(fields.get("im/"));
                 } else {
                     importance = 2; // Default medium importance
                 }
 
                 // Extract notes if present
-                if (line.contains("n/")) {
-                    int notesIndex = line.indexOf("n/") + 2;
-                    int notesEnd = findNextFieldIndex(line, notesIndex);
-                    // If notesEnd is the same as line.length(), it means there's no next field
-                    // so take the rest of the line
-                    notes = line.substring(notesIndex, notesEnd).trim();
+                if (fields.has("n/")) {
+                    notes = fields.get("n/");
                 } else {
                     notes = "";
                 }
@@ -192,12 +161,12 @@ public class ApptParser extends Parser {
         }
 
         case "del", "mark", "unmark" -> {
-            if (line == null || line.trim().isEmpty()) {
+            if (!hasParameters) {
                 logr.warning("Missing index field in command");
                 throw new NurseSchedException(ExceptionMessage.MISSING_INDEX_PARAMETER);
             }
 
-            String indexStr = line.trim();
+            String indexStr = line.substring(commandEnd).trim();
             if (!indexStr.toLowerCase().startsWith("aid/") || indexStr.length() <= 4) {
                 logr.warning("Missing index field in command");
                 throw new NurseSchedException(ExceptionMessage.MISSING_INDEX_PARAMETER);
@@ -214,9 +183,8 @@ public class ApptParser extends Parser {
         }
 
         case "sort" -> {
-            if (line != null && line.contains("by/")) {
-                int byIndex = line.indexOf("by/") + 3;
-                sortBy = line.substring(byIndex).trim().toLowerCase();
+            if (fields.has("by/")) {
+                sortBy = fields.rest("by/").toLowerCase();
                 if (!sortBy.equals("time") && !sortBy.equals("importance")) {
                     logr.warning("Invalid sort parameter: " + sortBy);
                     throw new NurseSchedException(ExceptionMessage.INVALID_SORT_PARAMETER);
@@ -231,23 +199,21 @@ public class ApptParser extends Parser {
         }
 
         case "find" -> {
-            if (line == null) {
+            if (!hasParameters) {
                 throw new NurseSchedException(ExceptionMessage.MISSING_SEARCH_TERM);
             }
-            if (!(line.contains("id/") || line.contains("p/"))){
+            if (!(fields.has("id/") || fields.has("p/"))){
                 throw new NurseSchedException(ExceptionMessage.INVALID_FIND_PARAMETER);
             }
-            if (line.contains("id/")){
-                int idIndex = line.indexOf("id/") + 3;
-                searchKeyword = line.substring(idIndex).trim();
+            if (fields.has("id/")){
+                searchKeyword = fields.rest("id/");
                 int testID = parseID(searchKeyword);
                 searchBy = "id";
-            } else if (line.contains("p/")){
-                int nameIndex = line.indexOf("p/") + 2;
-                if (nameIndex>= line.length()) {
+            } else if (fields.has("p/")){
+                if (fields.rest("p/").isEmpty()) {
                     throw new NurseSchedException(ExceptionMessage.MISSING_NAME_PARAMETER);
                 }
-                searchKeyword = line.substring(nameIndex).trim();
+                searchKeyword = fields.rest("p/");
                 searchBy = "p";
             }
 
@@ -256,100 +222,63 @@ public class ApptParser extends Parser {
         }
 
         case "edit" -> {
-            if (line == null || line.trim().isEmpty() || !line.contains("aid/")) {
+            // Notes take the rest of the line, so they may contain other prefixes
+            fields = FIELDS.tokenize(line, commandEnd, "n/");
+            if (!hasParameters || !fields.has("aid/")) {
                 logr.warning("Missing index field in edit command");
                 throw new NurseSchedException(ExceptionMessage.INVALID_APPTEDIT_FORMAT);
             }
 
-            try {
-                // Extract index
-                int indexStart = line.indexOf("aid/") + 4;
-                int indexEnd = findNextFieldIndex(line, indexStart);
-                String indexStr = line.substring(indexStart, indexEnd).trim();
-
-                // Check if there's actually a number after id/
-                if (indexStr.isEmpty()) {
-                    logr.warning("Missing index number after aid/ prefix");
-                    throw new NurseSchedException(ExceptionMessage.MISSING_INDEX_PARAMETER);
-                }
-
-                try {
-                    apptIndex = parseIndex(indexStr);
-                } catch (NumberFormatException e) {
-                    // This is caught by parseIndex
-                    throw e;
-                }
+            // Extract index
+            String indexStr = fields.get("aid/");
 
-                line = line.substring(indexEnd).trim();
-                if (line.isEmpty()){
-                    System.out.println("At least one optional field must be provided for an edit (see below).");
-                    throw new NurseSchedException(ExceptionMessage.INVALID_APPTEDIT_FORMAT);
-                }
+            // Check if there's actually a number after aid/
+            if (indexStr.isEmpty()) {
+                logr.warning("Missing index number after aid/ prefix");
+                throw new NurseSchedException(ExceptionMessage.MISSING_INDEX_PARAMETER);
+            }
 
-                // To separate detection for pid/ and d/
-                String abstractedLine = line;
-
-                // Process optional fields
-                try {
-                    if (line.contains("id/")) {
-                        int pidStart = line.indexOf("id/") + 3;
-                        int pidEnd = findNextFieldIndex(line, pidStart);
-                        String pidStr = line.substring(pidStart, pidEnd).trim();
-                        abstractedLine = line.substring(pidEnd).trim();
-                        id = parseID(pidStr);
-                        if (pidStr.isEmpty()) {
-                            System.out.println("No ID found in id field. Defaulting to previous ID.");
-                            id = -1;
-                        }
-                    } else {
-                        id = -1;
-                    }
+            apptIndex = parseIndex(indexStr);
 
-                    if (line.contains("s/")) {
-                        int sIndex = line.indexOf("s/") + 2;
-                        int sEnd = findNextFieldIndex(line, sIndex);
-                        startTime = LocalTime.parse(line.substring(sIndex, sEnd).trim());
-                    }
+            if (fields.size() == fields.count("aid/")) {
+                System.out.println("At least one optional field must be provided for an edit (see below).");
+                throw new NurseSchedException(ExceptionMessage.INVALID_APPTEDIT_FORMAT);
+            }
 
-                    if (line.contains("e/")) {
-                        int eIndex = line.indexOf("e/") + 2;
-                        int eEnd = findNextFieldIndex(line, eIndex);
-                        endTime = LocalTime.parse(line.substring(eIndex, eEnd).trim());
+            // Process optional fields
+            try {
+                if (fields.has("id/")) {
+                    String pidStr = fields.get("id/");
+                    id = parseID(pidStr);
+                    if (pidStr.isEmpty()) {
+                        System.out.println("No ID found in id field. Defaulting to previous ID.");
+                        id = -1;
                     }
+                } else {
+                    id = -1;
+                }
 
-                    if (abstractedLine.contains("d/")) {
-                        int dIndex = abstractedLine.indexOf("d/") + 2;
-                        int dEnd = findNextFieldIndex(abstractedLine, dIndex);
-                        date = LocalDate.parse(abstractedLine.substring(dIndex, dEnd).trim());
-                    }
+                startTime = fields.getTime("s/");
+                endTime = fields.getTime("e/");
+                date = fields.getDate("d/");
 
-                    if (line.contains("im/")) {
-                        int imIndex = line.indexOf("im/") + 3;
-                        int imEnd = findNextFieldIndex(line, imIndex);
-                        importance = parseImportance(line.substring(imIndex, imEnd).trim());
-                    }else{
-                        importance = -1;
-                    }
+                if (fields.has("im/")) {
+                    importance = parseImportance(fields.get("im/"));
+                } else {
+                    importance = -1;
+                }
 
-                    if (line.contains("n/")) {
-                        int nIndex = line.indexOf("n/") + 2;
-                        notes = line.substring(nIndex).trim();
-                        if (notes.isEmpty()){
-                            System.out.println("No notes found in notes field. Defaulting to previous note.");
-                            notes = null;
-                        }
-                    } else {
+                if (fields.has("n/")) {
+                    notes = fields.get("n/");
+                    if (notes.isEmpty()){
+                        System.out.println("No notes found in notes field. Defaulting to previous note.");
                         notes = null;
                     }
-                } catch (DateTimeParseException e) {
-                    throw new NurseSchedException(ExceptionMessage.INVALID_DATETIME_FORMAT);
-                } catch (NurseSchedException e) {
-                    // Pass through exceptions from parseImportance
-                    throw e;
+                } else {
+                    notes = null;
                 }
-            } catch (StringIndexOutOfBoundsException e) {
-                logr.warning("Missing index number after aid/ prefix");
-                throw new NurseSchedException(ExceptionMessage.MISSING_INDEX_PARAMETER);
+            } catch (DateTimeParseException e) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_DATETIME_FORMAT);
             }
 
             return new ApptParser(command, name, startTime, endTime, date, notes,
@@ -378,7 +307,7 @@ public class ApptParser extends Parser {
      *                                 <li>Cannot be parsed as an integer for other reasons.</li>
      *                             </ul>
      */
-    private static int parseID(String id) throws NurseSchedException {
+    public static int parseID(String id) throws NurseSchedException {
         for (char c : id.toCharArray()) {
             if (!Character.isDigit(c)) {
                 throw new NurseSchedException(ExceptionMessage.INVALID_ID_INPUT);
@@ -481,39 +410,6 @@ public class ApptParser extends Parser {
         return index;
     }
 
-    /**
-     * Helper method to locate the start index of the next field marker in a command string.
-     * <p>
-     * Searches the input line starting from startPos for the earliest occurrence
-     * of any known field marker (e.g., "id/", "s/", "d/", "e/", "im/", "n/").
-     *
-     * @param line     The command string being parsed.
-     * @param startPos The 0-based index within line from where the search should begin.
-     * @return The 0-based index of the beginning of the *next* field marker found at or after startPos.
-     *         Returns the length of the line if no field markers are found after startPos.
-     */
-    private static int findNextFieldIndex(String line, int startPos) {
-        // All possible next field markers
-        int[] markers = {
-                line.indexOf("id/", startPos),
-                line.indexOf("s/", startPos),
-                line.indexOf("e/", startPos),
-                line.indexOf("d/", startPos),
-                line.indexOf("im/", startPos),
-                line.indexOf("n/", startPos)
-        };
-
-        // Find the closest marker that's not -1 (not found)
-        int nextIndex = line.length();
-        for (int marker : markers) {
-            if (marker != -1 && marker < nextIndex) {
-                nextIndex = marker;
-            }
-        }
-        return nextIndex;
-    }
-
-
     //Getters
     public String getCommand () {
         return command;
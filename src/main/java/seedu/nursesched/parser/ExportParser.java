@@ -0,0 +1,85 @@
+package seedu.nursesched.parser;
+
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.exporter.ExportFilter;
+import seedu.nursesched.exporter.ExportFormat;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Parses export commands, in the format
+ * {@code export DOMAIN FORMAT FILE_PATH [from/DATE] [to/DATE] [id/PATIENT_ID]}.
+ */
+public class ExportParser extends Parser {
+    private static final FieldTokenizer FIELDS = new FieldTokenizer("from/", "to/", "id/");
+
+    private final ExportFormat format;
+    private final Path file;
+    private final ExportFilter filter;
+
+    public ExportParser(ExportFormat format, Path file, ExportFilter filter) {
+        this.format = format;
+        this.file = file;
+        this.filter = filter;
+    }
+
+    /**
+     * Extracts the format, file and filters of an export command.
+     *
+     * @param line The user's input command.
+     * @return An {@link ExportParser} holding the parsed inputs.
+     * @throws NurseSchedException If an input is missing or invalid.
+     */
+    public static ExportParser extractInputs(String line) throws NurseSchedException {
+        assert line != null : "Input line should not be null";
+
+        FieldTokenizer.Fields fields = FIELDS.tokenize(line.trim());
+        String[] parts = fields.leading().split("\\s+", 4);
+        if (parts.length < 4) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_EXPORT_COMMAND);
+        }
+
+        ExportFormat format = ExportFormat.fromName(parts[2]);
+        if (format == null) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_EXPORT_FORMAT);
+        }
+        Path file;
+        try {
+            file = Paths.get(parts[3]);
+        } catch (InvalidPathException e) {
+            throw new NurseSchedException(ExceptionMessage.EXPORT_FILE_NOT_WRITABLE);
+        }
+
+        LocalDate from;
+        LocalDate to;
+        try {
+            from = fields.getDate("from/");
+            to = fields.getDate("to/");
+        } catch (DateTimeParseException e) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_DATE_FORMAT);
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_EXPORT_DATE_RANGE);
+        }
+        Integer patientId = fields.has("id/") ? ApptParser.parseID(fields.get("id/")) : null;
+
+        return new ExportParser(format, file, new ExportFilter(from, to, patientId));
+    }
+
+    public ExportFormat getFormat() {
+        return format;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public ExportFilter getFilter() {
+        return filter;
+    }
+}
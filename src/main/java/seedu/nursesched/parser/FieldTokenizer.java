@@ -0,0 +1,269 @@
+package seedu.nursesched.parser;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Splits a command line into prefixed fields, such as {@code id/1234 s/10:00 n/Some notes}, in a single pass.
+ * <p>
+ * A field starts at one of the prefixes given to the tokenizer, at the start of the scanned text or right after
+ * whitespace. Prefixes are matched regardless of case unless the tokenizer is case-sensitive. A value runs up to the
+ * next field or the end of the line, except that a field can be made to take the rest of the line. Only the
+ * offsets of the fields are recorded while scanning; the values are cut out of the line when they are asked for.
+ * If a prefix occurs more than once, the first occurrence is used.
+ * </p>
+ * <p>
+ * A tokenizer is immutable and can be shared by any number of threads.
+ * </p>
+ */
+final class FieldTokenizer {
+    private final boolean isCaseSensitive;
+    private final String[] prefixes;
+    private final String[] prefixesLongestFirst;
+
+    /**
+     * Constructs a tokenizer that matches the given field prefixes regardless of case.
+     * Every prefix must end with {@code /}.
+     *
+     * @param prefixes The field prefixes, e.g. {@code "id/"} and {@code "n/"}.
+     */
+    FieldTokenizer(String... prefixes) {
+        this(false, prefixes);
+    }
+
+    /**
+     * Constructs a tokenizer for the given field prefixes. Every prefix must end with {@code /}.
+     *
+     * @param isCaseSensitive Whether a prefix only matches in the case it is given in.
+     * @param prefixes        The field prefixes, e.g. {@code "id/"} and {@code "n/"}.
+     */
+    FieldTokenizer(boolean isCaseSensitive, String... prefixes) {
+        this.isCaseSensitive = isCaseSensitive;
+        for (String prefix : prefixes) {
+            assert prefix.endsWith("/") : "Field prefixes must end with /";
+        }
+        this.prefixes = prefixes.clone();
+        this.prefixesLongestFirst = prefixes.clone();
+        // A longer prefix such as aid/ must win over a shorter one it ends with, such as id/
+        Arrays.sort(prefixesLongestFirst, Comparator.comparingInt(String::length).reversed());
+    }
+
+    /**
+     * Finds the fields in the whole line.
+     *
+     * @param line The line to scan.
+     * @return The fields found.
+     */
+    Fields tokenize(String line) {
+        return tokenize(line, 0);
+    }
+
+    /**
+     * Finds the fields in the line, starting from the given offset.
+     *
+     * @param line The line to scan.
+     * @param from The offset to start scanning from, e.g. just after the command word.
+     * @return The fields found.
+     */
+    Fields tokenize(String line, int from) {
+        return tokenize(line, from, null);
+    }
+
+    /**
+     * Finds the fields in the line, starting from the given offset, where one field takes the rest of the line.
+     * Once that field is found, nothing after it is read as a field, e.g. so that free-text notes may contain
+     * prefixes.
+     *
+     * @param line        The line to scan.
+     * @param from        The offset to start scanning from, e.g. just after the command word.
+     * @param finalPrefix The prefix of the field that takes the rest of the line, or null if there is none.
+     * @return The fields found.
+     */
+    Fields tokenize(String line, int from, String finalPrefix) {
+        int finalIndex = finalPrefix == null ? -1 : indexOf(finalPrefix);
+        Fields fields = new Fields(line, from);
+        int scannedUpTo = from;
+        int slash = line.indexOf('/', from);
+        while (slash >= 0) {
+            int prefixIndex = matchPrefixEndingAt(line, slash, from, scannedUpTo);
+            if (prefixIndex >= 0) {
+                int start = slash + 1 - prefixes[prefixIndex].length();
+                fields.add(prefixIndex, start, slash + 1);
+                scannedUpTo = slash + 1;
+                if (prefixIndex == finalIndex) {
+                    break;
+                }
+            }
+            slash = line.indexOf('/', slash + 1);
+        }
+        fields.finish();
+        return fields;
+    }
+
+    private int matchPrefixEndingAt(String line, int slash, int from, int earliestStart) {
+        for (String prefix : prefixesLongestFirst) {
+            int start = slash + 1 - prefix.length();
+            if (start < earliestStart) {
+                continue;
+            }
+            boolean isAtWordStart = start == from || Character.isWhitespace(line.charAt(start - 1));
+            if (isAtWordStart && line.regionMatches(!isCaseSensitive, start, prefix, 0, prefix.length() - 1)) {
+                return indexOf(prefix);
+            }
+        }
+        return -1;
+    }
+
+    private int indexOf(String prefix) {
+        for (int i = 0; i < prefixes.length; i++) {
+            if (prefixes[i].equals(prefix)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field prefix: " + prefix);
+    }
+
+    /**
+     * The fields found in one line.
+     */
+    final class Fields {
+        private final String line;
+        private final int from;
+        private final int[] markerStarts;
+        private final int[] valueStarts;
+        private final int[] valueEnds;
+        private final int[] counts;
+        private int firstMarker = -1;
+        private int firstMarkerStart;
+        private int markerCount = 0;
+        private int lastPrefixIndex = -1;
+
+        private Fields(String line, int from) {
+            this.line = line;
+            this.from = from;
+            this.markerStarts = new int[prefixes.length];
+            this.valueStarts = new int[prefixes.length];
+            this.valueEnds = new int[prefixes.length];
+            this.counts = new int[prefixes.length];
+            this.firstMarkerStart = line.length();
+        }
+
+        private void add(int prefixIndex, int markerStart, int valueStart) {
+            endLastValue(markerStart);
+            if (counts[prefixIndex]++ == 0) {
+                markerStarts[prefixIndex] = markerStart;
+                valueStarts[prefixIndex] = valueStart;
+                lastPrefixIndex = prefixIndex;
+            } else {
+                lastPrefixIndex = -1;
+            }
+            if (markerCount++ == 0) {
+                firstMarker = prefixIndex;
+                firstMarkerStart = markerStart;
+            }
+        }
+
+        private void finish() {
+            endLastValue(line.length());
+        }
+
+        private void endLastValue(int end) {
+            if (lastPrefixIndex >= 0) {
+                valueEnds[lastPrefixIndex] = end;
+            }
+        }
+
+        /**
+         * Returns whether the line has the given field.
+         */
+        boolean has(String prefix) {
+            return counts[indexOf(prefix)] > 0;
+        }
+
+        /**
+         * Returns how many times the given field occurs in the line.
+         */
+        int count(String prefix) {
+            return counts[indexOf(prefix)];
+        }
+
+        /**
+         * Returns the total number of fields in the line.
+         */
+        int size() {
+            return markerCount;
+        }
+
+        /**
+         * Returns the offset in the line at which the given field starts, or -1 if the line does not have it.
+         */
+        int position(String prefix) {
+            int index = indexOf(prefix);
+            return counts[index] > 0 ? markerStarts[index] : -1;
+        }
+
+        /**
+         * Returns whether the given field is the first thing in the scanned text.
+         */
+        boolean startsWith(String prefix) {
+            return firstMarker == indexOf(prefix) && leading().isEmpty();
+        }
+
+        /**
+         * Returns the text before the first field, without surrounding whitespace.
+         */
+        String leading() {
+            return line.substring(from, firstMarkerStart).trim();
+        }
+
+        /**
+         * Returns the value of the given field up to the next field, without surrounding whitespace.
+         *
+         * @param prefix The field prefix.
+         * @return The value, or null if the line does not have the field.
+         */
+        String get(String prefix) {
+            int index = indexOf(prefix);
+            return counts[index] > 0 ? line.substring(valueStarts[index], valueEnds[index]).trim() : null;
+        }
+
+        /**
+         * Returns the value of the given field up to the end of the line, including any fields after it,
+         * without surrounding whitespace.
+         *
+         * @param prefix The field prefix.
+         * @return The value, or null if the line does not have the field.
+         */
+        String rest(String prefix) {
+            int index = indexOf(prefix);
+            return counts[index] > 0 ? line.substring(valueStarts[index]).trim() : null;
+        }
+
+        /**
+         * Returns the value of the given field as a time in {@code HH:mm} format.
+         *
+         * @param prefix The field prefix.
+         * @return The time, or null if the line does not have the field.
+         * @throws DateTimeParseException If the value is not a valid time.
+         */
+        LocalTime getTime(String prefix) {
+            String value = get(prefix);
+            return value == null ? null : LocalTime.parse(value);
+        }
+
+        /**
+         * Returns the value of the given field as a date in {@code yyyy-MM-dd} format.
+         *
+         * @param prefix The field prefix.
+         * @return The date, or null if the line does not have the field.
+         * @throws DateTimeParseException If the value is not a valid date.
+         */
+        LocalDate getDate(String prefix) {
+            String value = get(prefix);
+            return value == null ? null : LocalDate.parse(value);
+        }
+    }
+}
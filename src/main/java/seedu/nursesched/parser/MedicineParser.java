@@ -2,37 +2,23 @@ package seedu.nursesched.parser;
 
 import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.log.AppLogger;
 
-import java.io.IOException;
-import java.util.logging.FileHandler;
 import java.util.logging.Level;
-import java.util.logging.LogManager;
-import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
 
 /**
  * Parses and extracts information from user commands related to medicine management.
  * Supports operations like add, remove, edit, delete, list, restock, and find.
  */
 public class MedicineParser extends Parser {
-    private static final Logger logr = Logger.getLogger("MedicineParser");
+    private static final AppLogger logr = AppLogger.getLogger("MedicineParser",
+            "logs/parser/medicineParser.log");
+    private static final FieldTokenizer FIELDS = new FieldTokenizer("mn/", "q/", "un/", "uq/");
     private final String command;
     private final String medicineName;
     private final int quantity;
     private final String updatedName;
 
-    static {
-        try {
-            LogManager.getLogManager().reset();
-            FileHandler fh = new FileHandler("logs/parser/medicineParser.log", true);
-            fh.setFormatter(new SimpleFormatter());
-            logr.addHandler(fh);
-            logr.setLevel(Level.ALL);
-        } catch (IOException e) {
-            logr.log(Level.SEVERE, "File logger not working", e);
-        }
-    }
-
     /**
      * Constructs a {@code MedicineParser} instance with the given command details.
      *
@@ -125,18 +111,19 @@ public class MedicineParser extends Parser {
         assert command != null : "Command cannot be null";
 
         logr.log(Level.INFO, "Parsing add command with remaining: {0}", remaining);
+        FieldTokenizer.Fields fields = FIELDS.tokenize(remaining);
 
         String medicineName;
         int quantity;
 
-        if (!remaining.contains("mn/") || !remaining.contains("q/")) {
+        if (!fields.has("mn/") || !fields.has("q/")) {
             logr.log(Level.WARNING, "Invalid add format: {0}", remaining);
             throw new NurseSchedException(ExceptionMessage.INVALID_MEDICINEADD_FORMAT);
         }
 
         try {
-            medicineName = extractValue(remaining, "mn/", "q/");
-            String quantityString = extractValue(remaining, "q/", null);
+            medicineName = extractValue(fields, "mn/", false);
+            String quantityString = extractValue(fields, "q/", true);
 
             if (quantityString.length() > 10) {
                 throw new NurseSchedException(ExceptionMessage.MEDICINE_QUANTITY_TOO_LARGE);
@@ -178,20 +165,20 @@ public class MedicineParser extends Parser {
         assert command != null : "Command cannot be null";
 
         logr.log(Level.INFO, "Parsing remove command with remaining: {0}", remaining);
+        FieldTokenizer.Fields fields = FIELDS.tokenize(remaining);
 
         String medicineName;
         int quantity;
 
-        if (!remaining.contains("mn/") || !remaining.contains("q/")) {
+        if (!fields.has("mn/") || !fields.has("q/")) {
             logr.log(Level.WARNING, "Invalid add format: {0}", remaining);
             throw new NurseSchedException(ExceptionMessage.INVALID_MEDICINEREMOVE_FORMAT);
         }
 
         try {
-            medicineName = extractValue(remaining, "mn/", "q/");
+            medicineName = extractValue(fields, "mn/", false);
             assert !medicineName.trim().isEmpty() : "Medicine name cannot be empty";
-            String quantityString = String.valueOf(Integer.parseInt(extractValue(remaining, "q/",
-                    null)));
+            String quantityString = String.valueOf(Integer.parseInt(extractValue(fields, "q/", true)));
 
             if (quantityString.length() > 10) {
                 throw new NurseSchedException(ExceptionMessage.MEDICINE_QUANTITY_TOO_LARGE);
@@ -232,11 +219,12 @@ public class MedicineParser extends Parser {
         assert command != null : "Command cannot be null";
 
         logr.log(Level.INFO, "Parsing find command with remaining: {0}", remaining);
+        FieldTokenizer.Fields fields = FIELDS.tokenize(remaining);
 
         String medicineName;
 
         try {
-            medicineName = extractValue(remaining, "mn/", null);
+            medicineName = extractValue(fields, "mn/", true);
             if (medicineName.trim().isEmpty()) {
                 throw new NurseSchedException(ExceptionMessage.INVALID_MEDICINEFIND_FORMAT);
             }
@@ -262,11 +250,12 @@ public class MedicineParser extends Parser {
         assert command != null : "Command cannot be null";
 
         logr.log(Level.INFO, "Parsing delete command with remaining: {0}", remaining);
+        FieldTokenizer.Fields fields = FIELDS.tokenize(remaining);
 
         String medicineName;
 
         try {
-            medicineName = extractValue(remaining, "mn/", null);
+            medicineName = extractValue(fields, "mn/", true);
             logr.log(Level.INFO, "Extracted medicineName: {0}", new Object[]{medicineName});
             return new MedicineParser(command, medicineName, 0, "");
         } catch (RuntimeException e) {
@@ -288,15 +277,16 @@ public class MedicineParser extends Parser {
         assert command != null : "Command cannot be null";
 
         logr.log(Level.INFO, "Parsing edit command with remaining: {0}", remaining);
+        FieldTokenizer.Fields fields = FIELDS.tokenize(remaining);
 
         String medicineName;
         String updatedName;
         int updatedQuantity;
 
         try {
-            medicineName = extractValue(remaining, "mn/", "un/");
-            updatedName = extractValue(remaining, "un/", "uq/");
-            String quantityString = extractValue(remaining, "uq/", null);
+            medicineName = extractValue(fields, "mn/", false);
+            updatedName = extractValue(fields, "un/", false);
+            String quantityString = extractValue(fields, "uq/", true);
 
             if (quantityString.length() > 10) {
                 throw new NurseSchedException(ExceptionMessage.MEDICINE_QUANTITY_TOO_LARGE);
@@ -339,11 +329,12 @@ public class MedicineParser extends Parser {
         assert command != null : "Command cannot be null";
 
         logr.log(Level.INFO, "Parsing restock command with remaining: {0}", remaining);
+        FieldTokenizer.Fields fields = FIELDS.tokenize(remaining);
 
         int restockQuantity;
 
         try {
-            restockQuantity = Integer.parseInt(extractValue(remaining, "q/", null));
+            restockQuantity = Integer.parseInt(extractValue(fields, "q/", true));
             if (restockQuantity <= 0) {
                 throw new NurseSchedException(ExceptionMessage.NEGATIVE_MEDICINE_QUANTITY);
             }
@@ -357,32 +348,25 @@ public class MedicineParser extends Parser {
     }
 
     /**
-     * Extracts a value from the given input string between a start marker and an optional end marker.
+     * Extracts the value of a field from the fields of the input.
      *
-     * @param input       The full input string.
-     * @param startMarker The starting marker to locate the beginning of the value.
-     * @param endMarker   The ending marker (optional) to delimit the value.
-     * @return The extracted value between markers.
-     * @throws RuntimeException If the start marker is missing.
+     * @param fields The fields found in the input.
+     * @param marker The marker of the field.
+     * @param toEnd  Whether the value runs to the end of the input rather than to the next field.
+     * @return The extracted value.
+     * @throws RuntimeException If the marker is missing.
      */
-    private static String extractValue(String input, String startMarker, String endMarker) {
-        logr.log(Level.INFO, "Extracting value from input: {0}, startMarker: {1}, endMarker: {2}",
-                new Object[]{input, startMarker, endMarker});
-
-        assert input != null : "Input string must not be null";
-        assert startMarker != null : "Start marker must not be null";
-
-        int start = input.indexOf(startMarker);
-        if (start == -1) {
-            logr.log(Level.WARNING, "Missing required marker: {0} in input: {1}",
-                    new Object[]{startMarker, input});
-            throw new RuntimeException("Missing required marker: " + startMarker);
-        }
+    private static String extractValue(FieldTokenizer.Fields fields, String marker, boolean toEnd) {
+        logr.log(Level.INFO, "Extracting value for marker: {0}, to end: {1}", new Object[]{marker, toEnd});
+
+        assert marker != null : "Marker must not be null";
 
-        start += startMarker.length();
-        int end = (endMarker != null) ? input.indexOf(endMarker, start) : -1;
+        if (!fields.has(marker)) {
+            logr.log(Level.WARNING, "Missing required marker: {0}", marker);
+            throw new RuntimeException("Missing required marker: " + marker);
+        }
 
-        return (end == -1) ? input.substring(start).trim() : input.substring(start, end).trim();
+        return toEnd ? fields.rest(marker) : fields.get(marker);
     }
 
     public int getQuantity() {
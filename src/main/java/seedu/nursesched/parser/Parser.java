@@ -1,6 +1,16 @@
 package seedu.nursesched.parser;
 
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.ui.Page;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 public class Parser {
+    private static final Pattern PAGE_FIELD = Pattern.compile("(?i)(?:^|\\s+)(page|limit)/(\\S*)");
+    private static final int MAX_PAGE_DIGITS = 9;
+
     /**
      * Extracts the type of command from user input. There are 5 types, appt, pf, task, medicine and shift.
      *
@@ -14,4 +24,57 @@ public class Parser {
         }
         return type;
     }
+
+    /**
+     * Extracts the page of a list to print from the {@code page/PAGE_NUMBER} and {@code limit/ITEMS_PER_PAGE}
+     * fields of a listing command. If only the page number is given, each page holds {@value Page#DEFAULT_LIMIT}
+     * items. If only the limit is given, the first page is printed.
+     *
+     * @param line The users input.
+     * @return The page, or {@link Page#ALL} if neither field is given.
+     * @throws NurseSchedException If a field is not a positive whole number.
+     */
+    public static Page extractPage(String line) throws NurseSchedException {
+        Integer number = null;
+        Integer limit = null;
+        Matcher matcher = PAGE_FIELD.matcher(line);
+        while (matcher.find()) {
+            int value = parsePageField(matcher.group(2));
+            if (matcher.group(1).equalsIgnoreCase("page")) {
+                number = value;
+            } else {
+                limit = value;
+            }
+        }
+        if (number == null && limit == null) {
+            return Page.ALL;
+        }
+        return new Page(number == null ? 1 : number, limit == null ? Page.DEFAULT_LIMIT : limit);
+    }
+
+    /**
+     * Returns the input without its {@code page/} and {@code limit/} fields, so that it can be parsed as before.
+     *
+     * @param line The users input.
+     * @return The input without paging fields.
+     */
+    public static String removePageFields(String line) {
+        return PAGE_FIELD.matcher(line).replaceAll("").trim();
+    }
+
+    private static int parsePageField(String value) throws NurseSchedException {
+        if (value.isEmpty() || value.length() > MAX_PAGE_DIGITS) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_PAGE);
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_PAGE);
+            }
+        }
+        int number = Integer.parseInt(value);
+        if (number == 0) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_PAGE);
+        }
+        return number;
+    }
 }
@@ -5,8 +5,6 @@ import seedu.nursesched.exception.NurseSchedException;
 import seedu.nursesched.patient.MedicalTest;
 import seedu.nursesched.patient.Patient;
 
-import java.util.regex.Pattern;
-
 /**
  * The PatientParser class parses the input of the user to make sense of the command.
  * It extracts commands and relevant parameters, validating them before processing.
@@ -20,6 +18,10 @@ import java.util.regex.Pattern;
  * Exceptions are thrown if the input format is incorrect or required parameters are missing.
  */
 public class PatientParser extends Parser {
+    private static final String[] PATIENT_INFO_IDENTIFIERS = {"id/", "p/", "a/", "g/", "c/", "n/"};
+    private static final String[] IDENTIFIERS = {"id/", "p/", "a/", "g/", "c/", "n/", "t/", "r/"};
+    private static final FieldTokenizer FIELDS = new FieldTokenizer(IDENTIFIERS);
+
     private final String command;
     private final String id;
     private final String name;
@@ -78,7 +80,6 @@ public class PatientParser extends Parser {
      *         Returns {@code null} if the input line is invalid or if required parameters are missing.
      *
      * @throws NurseSchedException If input is invalid or missing required fields.
-     * @throws IndexOutOfBoundsException If the input line does not contain the expected parameters.
      */
     public static PatientParser extractInputs(String line) throws NurseSchedException {
         assert line != null : "Input line cannot be null";
@@ -87,13 +88,12 @@ public class PatientParser extends Parser {
             throw new NurseSchedException(ExceptionMessage.INPUT_EMPTY);
         }
 
-        line = normalizeIdentifiers(line.trim());
-        checkForDuplicateIdentifiersForPatientInfo(line.trim());
-        line = line.replace("\t", " ");
+        line = line.trim().replace("\t", " ");
+        int commandStart = line.indexOf(" ") + 1;
+        FieldTokenizer.Fields fields = FIELDS.tokenize(line, commandStart);
+        checkForDuplicateIdentifiersForPatientInfo(fields);
 
-        line = line.trim();
-        line = line.substring(line.indexOf(" ") + 1).trim();
-        String command;
+        String command = fields.leading().replaceAll("\\s+", " ").toLowerCase();
         String id = null;
         String name = null;
         String age = null;
@@ -101,55 +101,28 @@ public class PatientParser extends Parser {
         String contact = null;
         String notes = null;
 
-        String listCheck = line.toLowerCase();
-
-        try {
-            if (!listCheck.contains("list") || line.contains("id/")) {
-                int idEnd = findNextFieldIndex(line, 0);
-                command = line.substring(0, idEnd).trim().toLowerCase();
-                line = line.substring(idEnd);
-            } else {
-                command = line.toLowerCase();
-            }
-        } catch (IndexOutOfBoundsException e) {
-            System.out.println("Invalid inputs! Please try again.");
-            return null;
-        }
-
         switch (command) {
         case "add" -> {
-            if (line.trim().equalsIgnoreCase("add")) {
-                throw new NurseSchedException(ExceptionMessage.EMPTY_PATIENT_INFO);
-            }
-
-            validateAllFields(line);
-            validateIdentifierOrder(line);
+            validateAllFields(fields);
+            validateIdentifierOrder(fields);
 
             // Extract and validate ID first
-            id = extractValue(line, "id/", "p/");
+            id = fields.get("id/");
 
             validateID(id);
 
-            try {
-                id = extractValue(line, "id/", "p/");
-                name = extractValue(line, "p/", "a/");
-                age = extractValue(line, "a/", "g/");
-                gender = extractValue(line, "g/", "c/");
-                contact = extractValue(line, "c/", "n/");
-                notes = line.substring(line.indexOf("n/") + 2).trim();
+            name = fields.get("p/");
+            age = fields.get("a/");
+            gender = fields.get("g/");
+            contact = fields.get("c/");
+            notes = fields.rest("n/");
 
-                return new PatientParser(command, id, name, age, gender, contact, notes);
-            } catch (IndexOutOfBoundsException e) {
-                throw new NurseSchedException(ExceptionMessage.MISSING_PATIENT_FIELDS);
-            }
+            return new PatientParser(command, id, name, age, gender, contact, notes);
         }
         case "del" -> {
-            if (line.trim().equalsIgnoreCase("del")) {
-                throw new NurseSchedException(ExceptionMessage.EMPTY_PATIENT_ID_FIELD);
-            }
-            checkIdExists(line);
+            checkIdExists(fields);
 
-            id = extractValue(line, "id/", "");
+            id = fields.rest("id/");
 
             // Validate ID format (4 digits)
             validateID(id);
@@ -157,139 +130,84 @@ public class PatientParser extends Parser {
             return new PatientParser(command, id, name, age, gender, contact, notes);
         }
         case "list" -> {
-            if (line.trim().equalsIgnoreCase("list")) {
+            if (fields.size() == 0) {
                 return new PatientParser(command, id, name, age, gender, contact, notes);
             }
             throw new NurseSchedException(ExceptionMessage.INVALID_FORMAT);
         }
         case "find" -> {
-            checkIdExists(line);
+            checkIdExists(fields);
 
-            id = extractValue(line, "id/", "");
+            id = fields.rest("id/");
 
             validateID(id);
 
             return new PatientParser(command, id, name, age, gender, contact, notes);
         }
         case "edit" -> {
-            if (line.contains("id/")) {
-                int idStart = line.indexOf("id/") + 3;
-                int idEnd = findNextFieldIndex(line, idStart);
-                id = line.substring(idStart, idEnd).trim();
-                line = line.substring(idEnd);
+            checkIdExists(fields);
+            id = fields.get("id/");
 
-                // Validate ID format (4 digits)
-                validateID(id);
-
-            } else {
-                throw new NurseSchedException(ExceptionMessage.MISSING_ID_IDENTIFIER);
-            }
+            // Validate ID format (4 digits)
+            validateID(id);
 
-            if (line.isEmpty()) {
+            if (!fields.has("p/") && !fields.has("a/") && !fields.has("g/")
+                    && !fields.has("c/") && !fields.has("n/")) {
                 throw new NurseSchedException(ExceptionMessage.EMPTY_INPUT_DETAILS);
             }
 
-            try {
-                if (line.contains("p/")) {
-                    int nameStart = line.indexOf("p/") + 2;
-                    int nameEnd = findNextFieldIndex(line, nameStart);
-                    name = line.substring(nameStart, nameEnd).trim();
-
-                    if (name.isEmpty()) {
-                        throw new NurseSchedException(ExceptionMessage.MISSING_EDIT_INPUT);
-                    }
-                }
-
-                if (line.contains("a/")) {
-                    int ageStart = line.indexOf("a/") + 2;
-                    int ageEnd = findNextFieldIndex(line, ageStart);
-                    age = line.substring(ageStart, ageEnd).trim();
-
-                    if (age.isEmpty()) {
-                        throw new NurseSchedException(ExceptionMessage.MISSING_EDIT_INPUT);
-                    }
-                }
-
-                if (line.contains("g/")) {
-                    int genderStart = line.indexOf("g/") + 2;
-                    int genderEnd = findNextFieldIndex(line, genderStart);
-                    gender = line.substring(genderStart, genderEnd).trim();
-
-                    if (gender.isEmpty()) {
-                        throw new NurseSchedException(ExceptionMessage.MISSING_EDIT_INPUT);
-                    }
-                }
-
-                if (line.contains("c/")) {
-                    int contactStart = line.indexOf("c/") + 2;
-                    int contactEnd = findNextFieldIndex(line, contactStart);
-                    contact = line.substring(contactStart, contactEnd).trim();
-
-                    if (contact.isEmpty()) {
-                        throw new NurseSchedException(ExceptionMessage.MISSING_EDIT_INPUT);
-                    }
-                }
-
-                if (line.contains("n/")) {
-                    int noteStart = line.indexOf("n/") + 2;
-                    int noteEnd = findNextFieldIndex(line, noteStart);
-                    notes = line.substring(noteStart, noteEnd).trim();
-                }
-
-            } catch (IndexOutOfBoundsException e) {
-                System.out.print(e.getMessage());
-            }
+            name = extractEditValue(fields, "p/");
+            age = extractEditValue(fields, "a/");
+            gender = extractEditValue(fields, "g/");
+            contact = extractEditValue(fields, "c/");
+            notes = fields.get("n/");
 
             return new PatientParser(command, id, name, age, gender, contact, notes);
         }
         case "result add" -> {
-            checkIdExists(line);
+            checkIdExists(fields);
 
-            try {
-                if (!line.contains("t/") || !line.contains("r/")) {
-                    throw new NurseSchedException(ExceptionMessage.MISSING_PATIENT_FIELDS);
-                }
+            if (!fields.has("t/") || !fields.has("r/")) {
+                throw new NurseSchedException(ExceptionMessage.MISSING_PATIENT_FIELDS);
+            }
 
-                // Extract patient ID
-                id = extractValue(line, "id/", "t/");
+            if (fields.position("r/") < fields.position("t/")) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_IDENTIFIER_ORDER);
+            }
 
-                if (id.contains("r/")) {
-                    throw new NurseSchedException(ExceptionMessage.INVALID_IDENTIFIER_ORDER);
-                }
+            // Extract patient ID
+            id = fields.get("id/");
 
-                validateID(id);
+            validateID(id);
 
-                // Extract test details (test name, date, result)
-                String testName = line.substring(line.indexOf("t/") + 2, line.indexOf("r/") - 1);
-                String testResult = line.substring(line.indexOf("r/") + 2);
+            // Extract test details (test name, result)
+            String testName = fields.get("t/");
+            String testResult = fields.rest("r/");
 
-                if (testName.isEmpty()) {
-                    throw new NurseSchedException(ExceptionMessage.EMPTY_PATIENT_TEST_NAME);
-                } else if (testResult.isEmpty()) {
-                    throw new NurseSchedException(ExceptionMessage.EMPTY_PATIENT_TEST_RESULT);
-                }
+            if (testName.isEmpty()) {
+                throw new NurseSchedException(ExceptionMessage.EMPTY_PATIENT_TEST_NAME);
+            } else if (testResult.isEmpty()) {
+                throw new NurseSchedException(ExceptionMessage.EMPTY_PATIENT_TEST_RESULT);
+            }
 
-                // Find the patient by ID and add the test
-                Patient patient = findPatientById(id);
+            // Find the patient by ID and add the test
+            Patient patient = findPatientById(id);
 
-                if (patient == null) {
-                    throw new NurseSchedException(ExceptionMessage.PATIENT_NOT_FOUND);
-                }
+            if (patient == null) {
+                throw new NurseSchedException(ExceptionMessage.PATIENT_NOT_FOUND);
+            }
 
-                // Validate and create the medical test
-                MedicalTest test = new MedicalTest(id, testName, testResult);
+            // Validate and create the medical test
+            MedicalTest test = new MedicalTest(id, testName, testResult);
 
-                MedicalTest.addMedicalTest(test, id);
+            MedicalTest.addMedicalTest(test, id);
 
-                return new PatientParser(command, id, name, age, gender, contact, notes);
-            } catch (IndexOutOfBoundsException e) {
-                throw new NurseSchedException(ExceptionMessage.MISSING_PATIENT_FIELDS);
-            }
+            return new PatientParser(command, id, name, age, gender, contact, notes);
         }
         case "result del" -> {
             // Extract patient ID to delete all medical tests
-            checkIdExists(line);
-            id = extractValue(line, "id/", "");
+            checkIdExists(fields);
+            id = fields.rest("id/");
 
             validateID(id);
 
@@ -305,8 +223,8 @@ public class PatientParser extends Parser {
             return new PatientParser(command, id, name, age, gender, contact, notes);
         }
         case "result list" -> {
-            checkIdExists(line);
-            id = extractValue(line, "id/", "");
+            checkIdExists(fields);
+            id = fields.rest("id/");
 
             validateID(id);
 
@@ -327,16 +245,17 @@ public class PatientParser extends Parser {
         }
     }
 
-    private static void checkIdExists(String line) throws NurseSchedException {
-        if (!line.contains("id/")) {
+    private static void checkIdExists(FieldTokenizer.Fields fields) throws NurseSchedException {
+        if (!fields.has("id/")) {
             throw new NurseSchedException(ExceptionMessage.MISSING_ID_IDENTIFIER);
         }
     }
 
-    private static void validateAllFields(String line) throws NurseSchedException {
-        if (line.trim().isEmpty() || !line.contains("id/") || !line.contains("p/") || !line.contains("a/")
-                || !line.contains("g/") || !line.contains("c/") || !line.contains("n/")) {
-            throw new NurseSchedException(ExceptionMessage.MISSING_PATIENT_FIELDS);
+    private static void validateAllFields(FieldTokenizer.Fields fields) throws NurseSchedException {
+        for (String identifier : PATIENT_INFO_IDENTIFIERS) {
+            if (!fields.has(identifier)) {
+                throw new NurseSchedException(ExceptionMessage.MISSING_PATIENT_FIELDS);
+            }
         }
     }
 
@@ -363,41 +282,16 @@ public class PatientParser extends Parser {
         }
     }
 
-    // Helper method to find where the next field starts
-    private static int findNextFieldIndex(String line, int startPos) {
-        int[] markers = {
-                line.indexOf("id/", startPos),
-                line.indexOf("p/", startPos),
-                line.indexOf("a/", startPos),
-                line.indexOf("g/", startPos),
-                line.indexOf("c/", startPos),
-                line.indexOf("n/", startPos)
-        };
-
-        int nextIndex = line.length();
-        for (int marker : markers) {
-            if (marker != -1 && marker < nextIndex) {
-                nextIndex = marker;
-            }
-        }
-        return nextIndex;
-    }
-
     private static Patient findPatientById(String id) {
-        for (Patient patient : Patient.getPatientsList()) {
-            if (patient.getId().equals(id)) {
-                return patient;
-            }
-        }
-        return null;
+        Patient patient = Patient.findById(id);
+        return patient != null && patient.getId().equals(id) ? patient : null;
     }
 
-    private static void validateIdentifierOrder(String line) throws NurseSchedException {
-        String[] expectedOrder = {"id/", "p/", "a/", "g/", "c/", "n/"};
+    private static void validateIdentifierOrder(FieldTokenizer.Fields fields) throws NurseSchedException {
         int lastIndex = -1;
 
-        for (String identifier : expectedOrder) {
-            int currentIndex = line.indexOf(identifier);
+        for (String identifier : PATIENT_INFO_IDENTIFIERS) {
+            int currentIndex = fields.position(identifier);
 
             if (currentIndex < lastIndex) {
                 throw new NurseSchedException(ExceptionMessage.INVALID_IDENTIFIER_ORDER);
@@ -407,46 +301,23 @@ public class PatientParser extends Parser {
         }
     }
 
-    // Convert command identifiers to lower case
-    private static String normalizeIdentifiers(String input) {
-        String[] identifiers = {"id/", "p/", "a/", "g/", "c/", "n/", "t/", "r/"};
-
-        String normalized = input;
-
-        for (String identifier : identifiers) {
-            normalized = normalized.replaceAll("(?i)" + Pattern.quote(identifier), identifier);
-        }
-
-        return normalized;
-    }
-
-    private static void checkForDuplicateIdentifiersForPatientInfo(String line) throws NurseSchedException {
-        String[] identifiers = {"id/", "p/", "a/", "g/", "c/", "n/", "t/", "r/"};
-
-        for (String identifier : identifiers) {
-            int firstIndex = line.indexOf(identifier);
-            if (firstIndex != -1 && line.indexOf(identifier, firstIndex + 1) != -1) {
+    private static void checkForDuplicateIdentifiersForPatientInfo(FieldTokenizer.Fields fields)
+            throws NurseSchedException {
+        for (String identifier : IDENTIFIERS) {
+            if (fields.count(identifier) > 1) {
                 throw new NurseSchedException(ExceptionMessage.PATIENT_DUPLICATE_IDENTIFIER);
             }
         }
     }
 
-    private static String extractValue(String line, String key, String identifier) throws NurseSchedException {
-        int startIdx = line.indexOf(key) + key.length();
-        if (startIdx == -1) {
-            System.out.println("Missing value for " + key);
-            throw new NurseSchedException(ExceptionMessage.PARSING_ERROR);
-        }
-
-        if (identifier.isEmpty()) {
-            return line.substring(startIdx).trim();
-        }
-
-        int endIdx = line.indexOf(identifier, startIdx);
-        if (endIdx == -1) {
-            endIdx = line.length();
+    // Returns the value of an optional field in an edit, which must not be left empty if given
+    private static String extractEditValue(FieldTokenizer.Fields fields, String identifier)
+            throws NurseSchedException {
+        String value = fields.get(identifier);
+        if (value != null && value.isEmpty()) {
+            throw new NurseSchedException(ExceptionMessage.MISSING_EDIT_INPUT);
         }
-        return line.substring(startIdx, endIdx).trim();
+        return value;
     }
 
     public String getCommand() {
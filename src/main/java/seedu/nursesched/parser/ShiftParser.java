@@ -1,24 +1,19 @@
 package seedu.nursesched.parser;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
-import java.util.logging.FileHandler;
-import java.util.logging.Level;
-import java.util.logging.LogManager;
-import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
 
 import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.log.AppLogger;
 
 /**
  * The {@code ShiftParser} class is responsible for parsing shift-related commands.
  * It extracts the necessary details to create or delete a shift.
  */
 public class ShiftParser extends Parser {
-    private static final Logger logr = Logger.getLogger("ShiftParser");
+    private static final AppLogger logr = AppLogger.getLogger("ShiftParser", "logs/parser/shiftParser.log");
 
     private final String command;
     private final LocalTime startTime;
@@ -27,18 +22,6 @@ public class ShiftParser extends Parser {
     private final String shiftTask;
     private final int shiftIndex;
 
-    static {
-        try {
-            LogManager.getLogManager().reset();
-            FileHandler fh = new FileHandler("logs/parser/shiftParser.log", true);
-            fh.setFormatter(new SimpleFormatter());
-            logr.addHandler(fh);
-            logr.setLevel(Level.ALL);
-        } catch (IOException e) {
-            logr.log(Level.SEVERE, "File logger not working", e);
-        }
-    }
-
     /**
      * Constructs a {@code ShiftParser} object with extracted shift details.
      *
@@ -61,7 +44,7 @@ public class ShiftParser extends Parser {
         this.shiftTask = shiftTask;
         this.shiftIndex = shiftIndex;
 
-        logr.info("ShiftParser created: " + this);
+        logr.fine(() -> "ShiftParser created: " + this);
     }
 
     /**
@@ -2,51 +2,25 @@ package seedu.nursesched.parser;
 
 import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.log.AppLogger;
 
-import java.io.File;
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
-import java.util.logging.FileHandler;
-import java.util.logging.LogManager;
-import java.util.logging.Logger;
-import java.util.logging.Level;
-import java.util.logging.SimpleFormatter;
 
 /**
  * Parses and extracts information from user commands related to task management.
  * Supports operations like add, delete, mark, unmark, list, find and edit.
  */
 public class TaskParser extends Parser {
-    private static final Logger logr = Logger.getLogger("ApptParser");
+    private static final AppLogger logr = AppLogger.getLogger("TaskParser", "logs/parser/taskParser.log");
 
-    private String command;
-    private String description;
-    private LocalDate byDate;
-    private LocalTime byTime;
-    private boolean isDone;
-    private int taskIndex;
-
-    static {
-        try {
-            File logDir = new File("logs/parser");
-            if (!logDir.exists()) {
-                boolean isCreated = logDir.mkdirs();  // Creates the directory and any missing parent directories
-                if (!isCreated) {
-                    throw new IOException("Error creating log directory!");
-                }
-            }
-
-            LogManager.getLogManager().reset();
-            FileHandler fh = new FileHandler("logs/parser/taskParser.log", true);
-            fh.setFormatter(new SimpleFormatter());
-            logr.addHandler(fh);
-            logr.setLevel(Level.ALL);
-        } catch (IOException e) {
-            logr.log(Level.SEVERE, "File logger not working", e);
-        }
-    }
+    private final String command;
+    private final String description;
+    private final LocalDate byDate;
+    private final LocalTime byTime;
+    private final boolean isDone;
+    private final int taskIndex;
 
     public TaskParser(String command, String description, LocalDate byDate,
                       LocalTime byTime, boolean isDone, int taskIndex) {
@@ -2,9 +2,13 @@ package seedu.nursesched.patient;
 
 import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.index.GroupIndex;
 import seedu.nursesched.storage.PatientTestStorage;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 /**
  * The MedicalTest class represents a medical test associated with a specific patient.
@@ -13,19 +17,12 @@ import java.util.ArrayList;
  */
 public class MedicalTest {
     protected static ArrayList<MedicalTest> medicalTestList = new ArrayList<>();
+    private static final GroupIndex<String, MedicalTest> BY_PATIENT = new GroupIndex<>(MedicalTest::getPatientId);
 
     private final String patientId; // Patient ID associated with this medical test
     private final String testName;
     private final String result;
 
-    static {
-        try {
-            medicalTestList = PatientTestStorage.readFile();
-        } catch (NurseSchedException e) {
-            System.out.println(e.getMessage());
-        }
-    }
-
     /**
      * Constructs a new MedicalTest object with the specified patient ID, test name, and result.
      *
@@ -55,23 +52,31 @@ public class MedicalTest {
      */
     public static void addMedicalTest(MedicalTest test, String id) {
         medicalTestList.add(test);
+        BY_PATIENT.added(medicalTestList, test);
         System.out.println("Medical test added for patient with ID " + id);
         PatientTestStorage.overwriteSaveFile(medicalTestList);
     }
 
     /**
      * Removes all medical tests for a specific patient based on their patient ID.
+     * The tests are looked up in the index by patient ID, and only if there are any is the whole list walked once
+     * to drop them, which costs O(n) in the number of tests.
      *
      * @param patientId The ID of the patient whose tests will be removed.
      */
     public static void removeTestsForPatient(String patientId) {
-        boolean isRemoved = medicalTestList.removeIf(test -> test.getPatientId().equals(patientId));
-        if (isRemoved) {
-            System.out.println("All medical tests deleted for ID: " + patientId);
-            PatientTestStorage.overwriteSaveFile(medicalTestList);
-        } else {
+        ArrayList<MedicalTest> testsToRemove = BY_PATIENT.find(medicalTestList, patientId);
+        if (testsToRemove.isEmpty()) {
             System.out.println("No medical tests found for ID: " + patientId);
+            return;
         }
+
+        Set<MedicalTest> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(testsToRemove);
+        medicalTestList.removeIf(removed::contains);
+        BY_PATIENT.removedAll(medicalTestList, testsToRemove);
+        System.out.println("All medical tests deleted for ID: " + patientId);
+        PatientTestStorage.overwriteSaveFile(medicalTestList);
     }
 
     /**
@@ -81,18 +86,15 @@ public class MedicalTest {
      * @param patientId The ID of the patient for whom the tests will be listed.
      */
     public static void listTestsForPatient(String patientId) {
-        boolean isFound = false;
-        for (MedicalTest test : medicalTestList) {
-            if (test.getPatientId().equals(patientId)) {
-                System.out.println(test);
-                isFound = true;
-            }
-        }
-        if (!isFound) {
+        ArrayList<MedicalTest> tests = BY_PATIENT.find(medicalTestList, patientId);
+        if (tests.isEmpty()) {
             System.out.println("No medical tests found for ID: " + patientId);
-        } else {
-            System.out.println("All medical tests listed for ID: " + patientId);
+            return;
         }
+        for (MedicalTest test : tests) {
+            System.out.println(test);
+        }
+        System.out.println("All medical tests listed for ID: " + patientId);
     }
 
     // Getter
@@ -112,6 +114,15 @@ public class MedicalTest {
         return medicalTestList;
     }
 
+    /**
+     * Replaces the list of medical tests, e.g. with the tests loaded from the save file.
+     *
+     * @param medicalTests The new list of medical tests.
+     */
+    public static void setMedicalTestList(ArrayList<MedicalTest> medicalTests) {
+        medicalTestList = medicalTests;
+    }
+
     /**
      * Returns a string representation of the medical test in the format:
      * Patient ID: {@code patientId} - Test: {@code testName}, Result: {@code result}.
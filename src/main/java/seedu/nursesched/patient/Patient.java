@@ -4,9 +4,11 @@ import seedu.nursesched.appointment.Appointment;
 import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
 import seedu.nursesched.storage.PatientStorage;
+import seedu.nursesched.storage.WriteBehind;
+import seedu.nursesched.ui.Page;
+import seedu.nursesched.ui.Ui;
 
 import java.util.ArrayList;
-import java.util.stream.Collectors;
 
 /**
  * The Patient class represents a patient in the healthcare system.
@@ -15,6 +17,7 @@ import java.util.stream.Collectors;
  */
 public class Patient {
     protected static ArrayList<Patient> patientsList = new ArrayList<>();
+    private static final PatientIndex INDEX = new PatientIndex();
 
     private final String id;
     private String name;
@@ -23,14 +26,6 @@ public class Patient {
     private String contact;
     private String notes;
 
-    static {
-        try {
-            patientsList = PatientStorage.readFile();
-        } catch (NurseSchedException e) {
-            System.out.println(e.getMessage());
-        }
-    }
-
     /**
      * Constructs a new Patient object with the specified details.
      *
@@ -44,6 +39,11 @@ public class Patient {
      */
     public Patient(String id, String name, String age, String gender, String contact, String notes)
             throws NurseSchedException {
+        this(id, name, age, gender, contact, notes, true);
+    }
+
+    private Patient(String id, String name, String age, String gender, String contact, String notes,
+            boolean isNewPatient) throws NurseSchedException {
         assert id != null : "id cannot be null";
         assert name != null : "Name cannot be null";
         assert age != null : "Age cannot be null";
@@ -57,10 +57,8 @@ public class Patient {
         validateID(id);
         verifyGender(gender);
 
-        for (Patient patient : patientsList) {
-            if (patient.getId().equals(id)) {
-                throw new NurseSchedException(ExceptionMessage.PATIENT_ID_EXIST);
-            }
+        if (isNewPatient && findById(id) != null) {
+            throw new NurseSchedException(ExceptionMessage.PATIENT_ID_EXIST);
         }
 
         age = age.replaceFirst("^0+(?!$)", "");
@@ -76,6 +74,25 @@ public class Patient {
         this.contact = contact;
     }
 
+    /**
+     * Restores a patient read from a save file.
+     * The details are validated as usual, but the ID is not checked against the patients already in the list,
+     * since the save file is what the list is loaded from.
+     *
+     * @param id      The unique identifier for the patient.
+     * @param name    The name of the patient.
+     * @param age     The age of the patient.
+     * @param gender  The gender of the patient.
+     * @param contact The contact details of the patient.
+     * @param notes   Additional notes about the patient (optional).
+     * @return The restored patient.
+     * @throws NurseSchedException If any of the details are invalid.
+     */
+    public static Patient restore(String id, String name, String age, String gender, String contact, String notes)
+            throws NurseSchedException {
+        return new Patient(id, name, age, gender, contact, notes, false);
+    }
+
     private static void verifyGender(String gender) throws NurseSchedException {
         if (!gender.equalsIgnoreCase("M") && !gender.equalsIgnoreCase("F")) {
             throw new NurseSchedException(ExceptionMessage.INVALID_GENDER);
@@ -114,12 +131,39 @@ public class Patient {
         assert patient != null : "Patient details are invalid";
 
         patientsList.add(patient);
+        INDEX.added(patientsList, patient);
         System.out.println("Patient information added for " + patient.name + ".");
         PatientStorage.overwriteSaveFile(patientsList);
     }
 
     /**
-     * Removes a patient from the list of patients based on the provided ID.
+     * Adds a patient read from an import file, without printing it.
+     * The save file is only marked for saving, so that a batch of imported patients is written once.
+     *
+     * @param patient The patient, with its details already validated.
+     * @throws NurseSchedException If a patient with the same ID already exists.
+     */
+    public static void importPatient(Patient patient) throws NurseSchedException {
+        assert patient != null : "Patient details are invalid";
+
+        if (findById(patient.id) != null) {
+            throw new NurseSchedException(ExceptionMessage.PATIENT_ID_EXIST);
+        }
+        patientsList.add(patient);
+        INDEX.added(patientsList, patient);
+        PatientStorage.overwriteSaveFile(patientsList);
+    }
+
+    /**
+     * Removes a patient from the list of patients based on the provided ID, together with their appointments and
+     * medical tests.
+     * <p>
+     * The appointments and tests of the patient are found through their indexes by patient ID, so the work grows with
+     * the number of records removed. All three changes are saved in one batch, which is written as a single
+     * transaction: on disk, the patient is either still there with all of their records, or gone with all of them.
+     * If the transaction fails, the removal stays in memory and its saves stay pending, so the next flush or
+     * {@code exit ns} writes it.
+     * </p>
      *
      * @param id The unique identifier of the patient to be removed.
      * @throws NurseSchedException If the patient with the specified ID does not exist.
@@ -127,23 +171,23 @@ public class Patient {
     public static void removePatient(String id) throws NurseSchedException {
         assert id != null : "Patient ID cannot be null";
 
-        boolean isFound = false;
         validateID(id);
-        for (Patient patient : patientsList) {
-            if (patient.getId().equals(id)) {
-                Appointment.removeAppointmentsForPatient(Integer.parseInt(id));
-                patientsList.remove(patient);
-                System.out.println("Patient information removed for ID: " + id);
-                isFound = true;
-                MedicalTest.removeTestsForPatient(patient.getId());
-                break;
-            }
+        Patient patient = findById(id);
+        if (patient == null || !patient.getId().equals(id)) {
+            throw new NurseSchedException(ExceptionMessage.PATIENT_NOT_FOUND);
         }
 
-        if (!isFound) {
-            throw new NurseSchedException(ExceptionMessage.PATIENT_NOT_FOUND);
-        } else {
+        WriteBehind.beginBatch();
+        try {
+            Appointment.removeAppointmentsForPatient(Integer.parseInt(id));
+            // Removing from the middle shifts the rest of the list either way, and the whole list is saved below
+            patientsList.remove(patient);
+            INDEX.removed(patientsList, patient);
+            System.out.println("Patient information removed for ID: " + id);
+            MedicalTest.removeTestsForPatient(patient.getId());
             PatientStorage.overwriteSaveFile(patientsList);
+        } finally {
+            WriteBehind.endBatch();
         }
     }
 
@@ -153,12 +197,20 @@ public class Patient {
      * If the list is empty, it prints a message indicating that no patient information is available.
      */
     public static void listPatientInformation() throws NurseSchedException {
+        listPatientInformation(Page.ALL);
+    }
+
+    /**
+     * Prints the information of the patients on one page of the list.
+     *
+     * @param page The page to print.
+     * @throws NurseSchedException If the list is empty.
+     */
+    public static void listPatientInformation(Page page) throws NurseSchedException {
         if (patientsList.isEmpty()) {
             throw new NurseSchedException(ExceptionMessage.EMPTY_PATIENT_LIST);
         }
-        for (Patient patient : patientsList) {
-            System.out.println(patient.toString());
-        }
+        Ui.printList(patientsList, page, (number, patient, line) -> line.append(patient));
     }
 
     /**
@@ -183,16 +235,11 @@ public class Patient {
             return;
         }
 
-        ArrayList<Patient> filteredList = patientsList.stream()
-                .filter(patient -> patient.getId().equals(id))
-                .collect(Collectors.toCollection(ArrayList::new));
-
-        if (filteredList.isEmpty()) {
+        Patient patient = findById(id);
+        if (patient == null) {
             System.out.println("No patient found with ID: " + id);
         } else {
-            for (Patient patient : filteredList) {
-                System.out.println(patient.toString());
-            }
+            System.out.println(patient.toString());
         }
     }
 
@@ -208,59 +255,50 @@ public class Patient {
      */
     public static void editPatientDetails(String id, String newName, String newAge, String newGender,
                                           String newContact, String newNotes) throws NurseSchedException {
-        boolean isFound = false;
-
-        for (Patient patient : patientsList) {
-            if (patient.getId().equals(id)) {
-                isFound = true;
-
-                if ((newName != null && newName.equals(patient.name))) {
-                    throw new NurseSchedException(ExceptionMessage.NO_CHANGES_FOUND);
-                }
-                if ((newAge != null && newAge.equals(patient.age))) {
-                    throw new NurseSchedException(ExceptionMessage.NO_CHANGES_FOUND);
-                }
-                if ((newGender != null && newGender.equalsIgnoreCase(patient.gender))) {
-                    throw new NurseSchedException(ExceptionMessage.NO_CHANGES_FOUND);
-                }
-                if ((newContact != null && newContact.equals(patient.contact))) {
-                    throw new NurseSchedException(ExceptionMessage.NO_CHANGES_FOUND);
-                }
-                if ((newNotes != null && newNotes.equals(patient.notes))) {
-                    throw new NurseSchedException(ExceptionMessage.NO_CHANGES_FOUND);
-                }
-
-                if (newName != null) {
-                    patient.name = newName;
-                }
-                if (newAge != null) {
-                    newAge = newAge.replaceFirst("^0+(?!$)", "");
-                    verifyAge(newAge);
-                    patient.age = newAge;
-                }
-                if (newGender != null) {
-                    verifyGender(newGender);
-                    patient.gender = newGender.toUpperCase();
-                }
-                if (newContact != null) {
-                    newContact = newContact.replaceFirst("^0+(?!$)", "");
-                    verifyContact(newContact);
-                    patient.contact = newContact;
-                }
-                if (newNotes != null) {
-                    patient.notes = newNotes;
-                }
-
-                System.out.println("Patient information updated for ID: " + id);
-                break;
-            }
-        }
-        
-        if (!isFound) {
+        Patient patient = findById(id);
+        if (patient == null || !patient.getId().equals(id)) {
             throw new NurseSchedException(ExceptionMessage.PATIENT_NOT_FOUND);
-        } else {
-            PatientStorage.overwriteSaveFile(patientsList);
         }
+
+        if ((newName != null && newName.equals(patient.name))) {
+            throw new NurseSchedException(ExceptionMessage.NO_CHANGES_FOUND);
+        }
+        if ((newAge != null && newAge.equals(patient.age))) {
+            throw new NurseSchedException(ExceptionMessage.NO_CHANGES_FOUND);
+        }
+        if ((newGender != null && newGender.equalsIgnoreCase(patient.gender))) {
+            throw new NurseSchedException(ExceptionMessage.NO_CHANGES_FOUND);
+        }
+        if ((newContact != null && newContact.equals(patient.contact))) {
+            throw new NurseSchedException(ExceptionMessage.NO_CHANGES_FOUND);
+        }
+        if ((newNotes != null && newNotes.equals(patient.notes))) {
+            throw new NurseSchedException(ExceptionMessage.NO_CHANGES_FOUND);
+        }
+
+        if (newName != null) {
+            patient.name = newName;
+        }
+        if (newAge != null) {
+            newAge = newAge.replaceFirst("^0+(?!$)", "");
+            verifyAge(newAge);
+            patient.age = newAge;
+        }
+        if (newGender != null) {
+            verifyGender(newGender);
+            patient.gender = newGender.toUpperCase();
+        }
+        if (newContact != null) {
+            newContact = newContact.replaceFirst("^0+(?!$)", "");
+            verifyContact(newContact);
+            patient.contact = newContact;
+        }
+        if (newNotes != null) {
+            patient.notes = newNotes;
+        }
+
+        System.out.println("Patient information updated for ID: " + id);
+        PatientStorage.overwriteSaveFile(patientsList);
     }
 
     private static void verifyContact(String contact) throws NurseSchedException {
@@ -311,10 +349,39 @@ public class Patient {
         return notes;
     }
 
+    /**
+     * Returns the patient with the given ID in constant time.
+     *
+     * @param id The 4-digit patient ID.
+     * @return The patient, or null if there is no patient with that ID.
+     */
+    public static Patient findById(String id) {
+        return INDEX.get(patientsList, PatientIndex.toKey(id));
+    }
+
+    /**
+     * Returns the patient with the given ID in constant time.
+     *
+     * @param id The patient ID as a number.
+     * @return The patient, or null if there is no patient with that ID.
+     */
+    public static Patient findById(int id) {
+        return INDEX.get(patientsList, id);
+    }
+
     public static ArrayList<Patient> getPatientsList() {
         return patientsList;
     }
 
+    /**
+     * Replaces the list of patients, e.g. with the patients loaded from the save file.
+     *
+     * @param patients The new list of patients.
+     */
+    public static void setPatientsList(ArrayList<Patient> patients) {
+        patientsList = patients;
+    }
+
     /**
      * Returns a string representation of the patient's details.
      *
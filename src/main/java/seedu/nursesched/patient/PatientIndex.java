@@ -0,0 +1,89 @@
+package seedu.nursesched.patient;
+
+import seedu.nursesched.index.ListIndex;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Direct-address index from patient ID to patient.
+ * <p>
+ * Patient IDs are exactly 4 digits, so the numeric value of an ID is used as its slot in a table of 10000 entries.
+ * Lookups, inserts and removals take constant time and never parse the IDs of other patients.
+ * </p>
+ */
+class PatientIndex extends ListIndex<Patient> {
+    static final int CAPACITY = 10000;
+
+    private final Patient[] slots = new Patient[CAPACITY];
+    private boolean hasDuplicateIds = false;
+
+    /**
+     * Converts a patient ID into its slot in the index.
+     *
+     * @param id The patient ID.
+     * @return The slot, or -1 if the ID is not a 4-digit number.
+     */
+    static int toKey(String id) {
+        String trimmed = id.trim();
+        if (trimmed.length() != 4) {
+            return -1;
+        }
+        int key = 0;
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            key = key * 10 + (c - '0');
+        }
+        return key;
+    }
+
+    /**
+     * Returns the patient with the given ID.
+     *
+     * @param patients The list of all patients.
+     * @param key      The patient ID as a number.
+     * @return The patient, or null if there is no patient with that ID.
+     */
+    Patient get(List<Patient> patients, int key) {
+        ensureCurrent(patients);
+        if (key < 0 || key >= CAPACITY) {
+            return null;
+        }
+        return slots[key];
+    }
+
+    @Override
+    protected void clearIndex() {
+        Arrays.fill(slots, null);
+        hasDuplicateIds = false;
+    }
+
+    @Override
+    protected void insert(Patient patient) {
+        int key = toKey(patient.getId());
+        if (key < 0) {
+            return;
+        }
+        // Save files edited by hand may repeat an ID. Keep the first, as a scan of the list would find.
+        if (slots[key] != null) {
+            hasDuplicateIds = true;
+        } else {
+            slots[key] = patient;
+        }
+    }
+
+    @Override
+    protected boolean delete(Patient patient) {
+        if (hasDuplicateIds) {
+            return false;
+        }
+        int key = toKey(patient.getId());
+        if (key >= 0 && slots[key] == patient) {
+            slots[key] = null;
+        }
+        return true;
+    }
+}
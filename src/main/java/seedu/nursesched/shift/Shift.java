@@ -2,20 +2,17 @@ package seedu.nursesched.shift;
 
 import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.format.DateTimeFormats;
+import seedu.nursesched.log.AppLogger;
 import seedu.nursesched.storage.ShiftStorage;
+import seedu.nursesched.ui.Page;
+import seedu.nursesched.ui.Ui;
 
-import java.io.File;
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 
 import java.util.Comparator;
-import java.util.logging.FileHandler;
-import java.util.logging.Level;
-import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
 
 /**
  * Represents a work shift assigned to a nurse.
@@ -23,7 +20,8 @@ import java.util.logging.SimpleFormatter;
  */
 public class Shift {
     protected static ArrayList<Shift> shiftList = new ArrayList<>();
-    private static final Logger logr = Logger.getLogger("Shift");
+    private static final AppLogger logr = AppLogger.getLogger("Shift", "logs/shift/shift.log");
+    private static final ShiftSchedule SCHEDULE = new ShiftSchedule();
 
     private final LocalTime startTime;
     private final LocalTime endTime;
@@ -32,30 +30,6 @@ public class Shift {
     private boolean isDone = false;
     private double overtimeHours = 0.0;
 
-    static {
-        try {
-            shiftList = ShiftStorage.readFile();
-        } catch (Exception e) {
-            shiftList = new ArrayList<>();
-            System.out.println("Failed to load shifts. Starting with empty list.");
-            logr.warning("ShiftStorage.readFile failed: " + e.getMessage());
-        }
-
-        try {
-            File logDir = new File("logs/shift");
-            if (!logDir.exists()) {
-                logDir.mkdirs();
-            }
-
-            FileHandler fh = new FileHandler("logs/shift/shift.log", true);
-            fh.setFormatter(new SimpleFormatter());
-            logr.addHandler(fh);
-            logr.setLevel(Level.ALL);
-        } catch (IOException e) {
-            System.out.println("Logger setup failed: " + e.getMessage());
-        }
-    }
-
     /**
      * Constructs a Shift object with specified details.
      *
@@ -75,7 +49,7 @@ public class Shift {
         this.endTime = endTime;
         this.date = date;
         this.shiftTask = shiftTask;
-        logr.info("Shift created: " + this);
+        logr.fine(() -> "Shift created: " + this);
     }
 
     /**
@@ -83,33 +57,32 @@ public class Shift {
      * A shift is considered overlapping if its time range intersects with any other shift's time range,
      * except when the new shift starts exactly when an existing one ends, or ends exactly when another starts.
      *
-     * @param newStart     The proposed start time of the new or updated shift.
-     * @param newEnd       The proposed end time of the new or updated shift.
-     * @param date         The date on which the shift would occur.
-     * @param ignoreIndex  The index of a shift to ignore during the check (used when editing an existing shift),
-     *                     or -1 if no shift should be ignored (used when adding).
+     * @param newStart The proposed start time of the new or updated shift.
+     * @param newEnd   The proposed end time of the new or updated shift.
+     * @param date     The date on which the shift would occur.
+     * @param ignored  The shift to ignore during the check (used when editing an existing shift),
+     *                 or {@code null} if no shift should be ignored (used when adding).
      * @return {@code true} if the new shift overlaps with any existing shift
-     *         (excluding the one at {@code ignoreIndex}); {@code false} otherwise.
+     *         (excluding {@code ignored}); {@code false} otherwise.
      */
-    private static boolean hasOverlap(LocalTime newStart, LocalTime newEnd, LocalDate date, int ignoreIndex) {
-        for (int i = 0; i < shiftList.size(); i++) {
-            if (i == ignoreIndex) {
-                continue;
-            }
-
-            Shift existing = shiftList.get(i);
-            if (!existing.getDate().equals(date)) {
-                continue;
-            }
+    private static boolean hasOverlap(LocalTime newStart, LocalTime newEnd, LocalDate date, Shift ignored) {
+        return SCHEDULE.findOverlap(shiftList, newStart, newEnd, date, ignored) != null;
+    }
 
-            // Check Overlap
-            boolean overlaps = !(newEnd.compareTo(existing.getStartTime()) <= 0 ||
-                    newStart.compareTo(existing.getEndTime()) >= 0);
-            if (overlaps) {
-                return true;
-            }
-        }
-        return false;
+    /**
+     * Returns every shift between the given dates, inclusive, whose time range overlaps the given one,
+     * ordered by date, then by start time.
+     * Shifts that only touch the time range, i.e. end when it starts or start when it ends, are not included.
+     *
+     * @param startTime The start of the time range.
+     * @param endTime   The end of the time range.
+     * @param fromDate  The first date to include.
+     * @param toDate    The last date to include.
+     * @return The overlapping shifts.
+     */
+    public static ArrayList<Shift> findOverlappingShifts(LocalTime startTime, LocalTime endTime,
+                                                         LocalDate fromDate, LocalDate toDate) {
+        return SCHEDULE.findOverlapping(shiftList, startTime, endTime, fromDate, toDate);
     }
 
     /**
@@ -131,13 +104,14 @@ public class Shift {
             throw new NurseSchedException(ExceptionMessage.INVALID_START_TIME);
         }
 
-        if (hasOverlap(startTime, endTime, date, -1)) {
+        if (hasOverlap(startTime, endTime, date, null)) {
             logr.warning("Attempted to add overlapping shift: " + startTime + " to " + endTime + " on " + date);
             throw new NurseSchedException(ExceptionMessage.SHIFT_TIMING_OVERLAP);
         }
 
         Shift shift = new Shift(startTime, endTime, date, shiftTask);
         shiftList.add(shift);
+        SCHEDULE.added(shiftList, shift);
         ShiftStorage.overwriteSaveFile(shiftList);
         System.out.println("Shift added");
     }
@@ -155,6 +129,7 @@ public class Shift {
             return;
         }
         Shift removedShift = shiftList.remove(index);
+        SCHEDULE.removed(shiftList, removedShift);
         ShiftStorage.overwriteSaveFile(shiftList);
         logr.info("Shift deleted: " + removedShift);
         System.out.println("Shift deleted.");
@@ -165,16 +140,23 @@ public class Shift {
      * If no shifts are available, it notifies the user.
      */
     public static void listShifts() {
+        listShifts(Page.ALL);
+    }
+
+    /**
+     * Displays one page of the shifts currently stored in the shift list.
+     *
+     * @param page The page to display.
+     */
+    public static void listShifts(Page page) {
         if (shiftList.isEmpty()) {
             System.out.println("No shifts available.");
             return;
         }
 
         System.out.println("List of all shifts:");
-        for (int i = 0; i < shiftList.size(); i++) {
-            Shift shift = shiftList.get(i);
-            System.out.printf("%d. %s %n", i + 1, shift);
-        }
+        Ui.printList(shiftList, page, (number, shift, line) -> shift.appendTo(line.append(number).append(". "))
+                .append(' '));
     }
 
     public static void markShift(int index) {
@@ -257,7 +239,7 @@ public class Shift {
             throw new NurseSchedException(ExceptionMessage.INVALID_START_TIME);
         }
 
-        if (hasOverlap(updatedStart, updatedEnd, updatedDate, index)) {
+        if (hasOverlap(updatedStart, updatedEnd, updatedDate, original)) {
             logr.warning("Attempted to edit shift to overlapping time: " + updatedStart + " to " + updatedEnd);
             throw new NurseSchedException(ExceptionMessage.SHIFT_TIMING_OVERLAP);
         }
@@ -267,6 +249,7 @@ public class Shift {
         updated.setOvertimeHours(original.getOvertimeHours());
 
         shiftList.set(index, updated);
+        SCHEDULE.replaced(shiftList, original, updated);
         ShiftStorage.overwriteSaveFile(shiftList);
         System.out.println("Shift updated:");
         System.out.println(updated);
@@ -354,17 +337,24 @@ public class Shift {
      */
     @Override
     public String toString() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
-        String formattedStartTime = startTime.format(formatter);
-        String formattedEndTime = endTime.format(formatter);
-        String markStatus = isDone ? "[X]" : "[ ]";
-
-        String overtimeDisplay = overtimeHours > 0 ? ", Overtime: " + overtimeHours + "h" : "";
+        return appendTo(new StringBuilder(96)).toString();
+    }
 
-        return markStatus + " From: " + formattedStartTime + ", " +
-                "To: " + formattedEndTime + ", " +
-                "Date: " + date + ", " +
-                "shiftTask: " + shiftTask + overtimeDisplay;
+    /**
+     * Appends the details of the shift, in the same form as {@link #toString()}.
+     *
+     * @param line The line to append to.
+     * @return The line.
+     */
+    public StringBuilder appendTo(StringBuilder line) {
+        line.append(isDone ? "[X]" : "[ ]").append(" From: ");
+        DateTimeFormats.appendTime(line, startTime).append(", To: ");
+        DateTimeFormats.appendTime(line, endTime).append(", Date: ");
+        DateTimeFormats.appendDate(line, date).append(", shiftTask: ").append(shiftTask);
+        if (overtimeHours > 0) {
+            line.append(", Overtime: ").append(overtimeHours).append('h');
+        }
+        return line;
     }
 
     /**
@@ -411,4 +401,14 @@ public class Shift {
     public static ArrayList<Shift> getShiftList() {
         return shiftList;
     }
+
+    /**
+     * Replaces the list of shifts, e.g. with the shifts loaded from the save file.
+     *
+     * @param shifts The new list of shifts.
+     */
+    public static void setShiftList(ArrayList<Shift> shifts) {
+        shiftList = shifts;
+        SCHEDULE.rebuild(shifts);
+    }
 }
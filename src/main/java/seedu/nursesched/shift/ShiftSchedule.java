@@ -0,0 +1,245 @@
+package seedu.nursesched.shift;
+
+import seedu.nursesched.index.ListIndex;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Index of shifts by date, and within each date by time range, used to find overlapping shifts.
+ * <p>
+ * The shifts of each date are kept in an interval tree: a randomised binary search tree ordered by start time,
+ * in which every node also stores the latest end time in its subtree. A query skips every subtree that ends before
+ * the queried range starts, and every right subtree of a node that starts after the queried range ends, so checking
+ * one date for an overlap costs O(log k) in the shifts of that date, however long the shifts are. The dates themselves
+ * are kept in order, so the shifts overlapping a time range can also be collected across a range of dates.
+ * </p>
+ */
+class ShiftSchedule extends ListIndex<Shift> {
+    private final TreeMap<LocalDate, Node> days = new TreeMap<>();
+    private final Random priorities = new Random();
+
+    /**
+     * A node of the interval tree of one date, holding every shift with the same start and end time.
+     */
+    private static class Node {
+        private final LocalTime start;
+        private final LocalTime end;
+        private final ArrayList<Shift> shifts = new ArrayList<>(1);
+        private final int priority;
+        private LocalTime maxEnd;
+        private Node left;
+        private Node right;
+
+        private Node(LocalTime start, LocalTime end, int priority) {
+            this.start = start;
+            this.end = end;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        private int compareTo(LocalTime otherStart, LocalTime otherEnd) {
+            int byStart = start.compareTo(otherStart);
+            return byStart != 0 ? byStart : end.compareTo(otherEnd);
+        }
+
+        private void update() {
+            maxEnd = end;
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+
+    /**
+     * Returns a shift on the given date that overlaps the given time range.
+     * Shifts that only touch the range, i.e. end when it starts or start when it ends, do not overlap it.
+     *
+     * @param shifts    The list of all shifts.
+     * @param startTime The start of the time range.
+     * @param endTime   The end of the time range.
+     * @param date      The date to check.
+     * @param ignored   A shift that does not count as an overlap, e.g. the one being edited, or null.
+     * @return An overlapping shift, or null if there is none.
+     */
+    Shift findOverlap(List<Shift> shifts, LocalTime startTime, LocalTime endTime, LocalDate date, Shift ignored) {
+        ensureCurrent(shifts);
+        ArrayList<Shift> overlapping = new ArrayList<>();
+        collect(days.get(date), startTime, endTime, ignored, overlapping, true);
+        return overlapping.isEmpty() ? null : overlapping.get(0);
+    }
+
+    /**
+     * Returns every shift between the given dates, inclusive, that overlaps the given time range,
+     * ordered by date, then by start time.
+     *
+     * @param shifts    The list of all shifts.
+     * @param startTime The start of the time range.
+     * @param endTime   The end of the time range.
+     * @param fromDate  The first date to include.
+     * @param toDate    The last date to include.
+     * @return The overlapping shifts.
+     */
+    ArrayList<Shift> findOverlapping(List<Shift> shifts, LocalTime startTime, LocalTime endTime,
+            LocalDate fromDate, LocalDate toDate) {
+        ensureCurrent(shifts);
+        ArrayList<Shift> overlapping = new ArrayList<>();
+        if (fromDate.isAfter(toDate)) {
+            return overlapping;
+        }
+        for (Node root : days.subMap(fromDate, true, toDate, true).values()) {
+            collect(root, startTime, endTime, null, overlapping, false);
+        }
+        return overlapping;
+    }
+
+    /**
+     * Adds the shifts of the given subtree that overlap the time range to the result, in order of start time.
+     *
+     * @return {@code true} if the search can stop, because {@code stopAtFirst} is set and a shift was found.
+     */
+    private static boolean collect(Node node, LocalTime startTime, LocalTime endTime, Shift ignored,
+            ArrayList<Shift> result, boolean stopAtFirst) {
+        if (node == null || !node.maxEnd.isAfter(startTime)) {
+            return false;
+        }
+        if (collect(node.left, startTime, endTime, ignored, result, stopAtFirst)) {
+            return true;
+        }
+        if (!node.start.isBefore(endTime)) {
+            // Every shift in the right subtree starts even later
+            return false;
+        }
+        if (node.end.isAfter(startTime)) {
+            for (Shift shift : node.shifts) {
+                if (shift != ignored) {
+                    result.add(shift);
+                    if (stopAtFirst) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return collect(node.right, startTime, endTime, ignored, result, stopAtFirst);
+    }
+
+    @Override
+    protected void clearIndex() {
+        days.clear();
+    }
+
+    @Override
+    protected void insert(Shift shift) {
+        days.put(shift.getDate(), insert(days.get(shift.getDate()), shift));
+    }
+
+    private Node insert(Node node, Shift shift) {
+        if (node == null) {
+            Node created = new Node(shift.getStartTime(), shift.getEndTime(), priorities.nextInt());
+            created.shifts.add(shift);
+            return created;
+        }
+        int comparison = node.compareTo(shift.getStartTime(), shift.getEndTime());
+        if (comparison == 0) {
+            node.shifts.add(shift);
+            return node;
+        }
+        if (comparison > 0) {
+            node.left = insert(node.left, shift);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, shift);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    @Override
+    protected boolean delete(Shift shift) {
+        Node root = days.get(shift.getDate());
+        Node node = root;
+        while (node != null) {
+            int comparison = node.compareTo(shift.getStartTime(), shift.getEndTime());
+            if (comparison == 0) {
+                break;
+            }
+            node = comparison > 0 ? node.left : node.right;
+        }
+        if (node == null || !node.shifts.remove(shift)) {
+            return false;
+        }
+        if (node.shifts.isEmpty()) {
+            root = unlink(root, node);
+            if (root == null) {
+                days.remove(shift.getDate());
+            } else {
+                days.put(shift.getDate(), root);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes the given node from the subtree, returning the new root of the subtree.
+     */
+    private static Node unlink(Node node, Node target) {
+        if (node == target) {
+            return merge(node.left, node.right);
+        }
+        if (node.compareTo(target.start, target.end) > 0) {
+            node.left = unlink(node.left, target);
+        } else {
+            node.right = unlink(node.right, target);
+        }
+        node.update();
+        return node;
+    }
+
+    /**
+     * Joins two subtrees, where every node of the left one comes before every node of the right one.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        return pivot;
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.nursesched.storage;
+
+import seedu.nursesched.appointment.Appointment;
+import seedu.nursesched.format.DateTimeFormats;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Converts appointments to and from their stored form.
+ * <p>
+ * Text format:
+ * [Appt ID] | [Status] | [Patient ID] | [Start Time] | [End Time] | [Date] | [Importance] | [Notes]
+ * </p>
+ * <p>
+ * Lines written before appointments had IDs start with the status instead, and are given a new ID once the whole
+ * file has been read.
+ * </p>
+ */
+public class AppointmentCodec implements RecordCodec<Appointment> {
+    private Set<Appointment> legacyAppointments = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Returns the appointments decoded from lines without an appointment ID since the last call, and forgets them.
+     * Their IDs are only provisional, since they were handed out before the explicit IDs further down the file had
+     * been read.
+     *
+     * @return The appointments, which are given new IDs and rewritten to the save file.
+     */
+    public Set<Appointment> consumeLegacyAppointments() {
+        Set<Appointment> appointments = legacyAppointments;
+        legacyAppointments = Collections.newSetFromMap(new IdentityHashMap<>());
+        return appointments;
+    }
+
+    private static boolean isLegacyLine(String currentLine) {
+        String firstField = currentLine.split(" \\| ", 2)[0];
+        return firstField.equals("true") || firstField.equals("false");
+    }
+
+    @Override
+    public String encode(Appointment appointment) {
+        StringBuilder line = new StringBuilder(64);
+        encode(appointment, line);
+        return line.toString();
+    }
+
+    @Override
+    public void encode(Appointment appointment, StringBuilder line) {
+        line.append(appointment.getApptId()).append(" | ").append(appointment.getStatus()).append(" | ")
+                .append(appointment.getID()).append(" | ");
+        DateTimeFormats.appendTime(line, appointment.getStartLocalTime()).append(" | ");
+        DateTimeFormats.appendTime(line, appointment.getEndLocalTime()).append(" | ");
+        DateTimeFormats.appendDate(line, appointment.getLocalDate()).append(" | ")
+                .append(appointment.getImportance()).append(" | ").append(appointment.getNotes());
+    }
+
+    @Override
+    public Appointment decode(String currentLine) {
+        String[] parts = currentLine.split(" \\| ");
+
+        boolean isLegacy = isLegacyLine(currentLine);
+        int offset = isLegacy ? 0 : 1;
+        String status = parts[offset];
+        int id = Integer.parseInt(parts[offset + 1]);
+        LocalTime startTime = LocalTime.parse(parts[offset + 2]);
+        LocalTime endTime = LocalTime.parse(parts[offset + 3]);
+        LocalDate date = LocalDate.parse(parts[offset + 4]);
+        int importance = Integer.parseInt(parts[offset + 5]);
+        String notes = "";
+        if (parts.length > offset + 6) {
+            notes = parts[offset + 6];
+        }
+
+        Appointment appointment;
+        if (isLegacy) {
+            appointment = new Appointment(id, startTime, endTime, date, notes, importance);
+            legacyAppointments.add(appointment);
+        } else {
+            int apptId = Integer.parseInt(parts[0]);
+            appointment = new Appointment(apptId, id, startTime, endTime, date, notes, importance);
+        }
+        if (status.equals("true")) {
+            appointment.setDone(true);
+        }
+        return appointment;
+    }
+
+    @Override
+    public void write(DataOutputStream out, Appointment appointment) throws IOException {
+        out.writeInt(appointment.getApptId());
+        out.writeBoolean(appointment.getStatus());
+        out.writeInt(appointment.getID());
+        out.writeInt(appointment.getStartLocalTime().toSecondOfDay());
+        out.writeInt(appointment.getEndLocalTime().toSecondOfDay());
+        out.writeLong(appointment.getLocalDate().toEpochDay());
+        out.writeInt(appointment.getImportance());
+        out.writeUTF(appointment.getNotes());
+    }
+
+    @Override
+    public Appointment read(DataInputStream in) throws IOException {
+        int apptId = in.readInt();
+        boolean status = in.readBoolean();
+        int id = in.readInt();
+        LocalTime startTime = LocalTime.ofSecondOfDay(in.readInt());
+        LocalTime endTime = LocalTime.ofSecondOfDay(in.readInt());
+        LocalDate date = LocalDate.ofEpochDay(in.readLong());
+        int importance = in.readInt();
+        String notes = in.readUTF();
+
+        Appointment appointment = new Appointment(apptId, id, startTime, endTime, date, notes, importance);
+        appointment.setDone(status);
+        return appointment;
+    }
+}
@@ -2,14 +2,9 @@ package seedu.nursesched.storage;
 
 import seedu.nursesched.appointment.Appointment;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.time.LocalDate;
-import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Scanner;
-import java.io.FileWriter;
-import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Set;
 
 
 /**
@@ -18,12 +13,26 @@ import java.io.IOException;
  * This class handles reading appointments from a local save file, writing appointments to a file,
  * and formatting appointment data for storage.
  * </p>
+ * <p>
+ * Single-appointment changes are not written to the save file directly. Instead, they are appended
+ * as small records to an operation journal keyed by the appointment ID, which is replayed on top of
+ * the save file on startup and folded back into it in the background once it grows large.
+ * </p>
  */
 public class AppointmentStorage {
-    private static final String FILE_PATH = "data/Appt.txt";
+    private static final AppointmentCodec CODEC = new AppointmentCodec();
+    private static final StorageEngine<Appointment> ENGINE = StorageConfig.createEngine("Appt", CODEC);
+    private static final String JOURNAL_PATH = "data/Appt.journal";
+    private static final long COMPACTION_THRESHOLD_BYTES = 64 * 1024;
+    private static final Journal JOURNAL = new Journal(JOURNAL_PATH, COMPACTION_THRESHOLD_BYTES);
+
+    private static final String ADD = "ADD";
+    private static final String EDIT = "EDIT";
+    private static final String MARK = "MARK";
+    private static final String DELETE = "DEL";
 
     /**
-     * Reads all appointments from the appointment save file.
+     * Reads all appointments from the appointment save file and replays the journal on top of it.
      * <p>
      * If the save file doesn't exist, it creates the necessary directories and returns an empty ArrayList.
      * </p>
@@ -31,120 +40,176 @@ public class AppointmentStorage {
      * @return An ArrayList containing all appointments read from the storage file.
      */
     public static ArrayList<Appointment> readFile() {
-        File taskFile = new File(FILE_PATH); // create a File for the given file path
-        ArrayList<Appointment> apptList = new ArrayList<Appointment>();
+        LinkedHashMap<Integer, Appointment> appointments = new LinkedHashMap<>();
+        boolean hasLegacyLines = assignUniqueIds(ENGINE.load(), CODEC.consumeLegacyAppointments(), appointments);
 
-        if (!taskFile.exists()) {
-            taskFile.getParentFile().mkdirs();
-            return apptList;
+        replayJournal(appointments);
+        ArrayList<Appointment> apptList = new ArrayList<>(appointments.values());
+
+        // Save files written before appointments had IDs are upgraded once, so that journal
+        // records keep pointing at the same appointments on the next start-up.
+        if (hasLegacyLines) {
+            saveNow(apptList);
         }
+        return apptList;
+    }
 
-        try (Scanner fileScanner = new Scanner(taskFile)) {
-            int lineNumber = 0;
-            while (fileScanner.hasNext()) {
-                lineNumber++;
-                String currentLine = fileScanner.nextLine();
-
-                try {
-                    Appointment appointment = getDetails(currentLine);
-                    apptList.add(appointment);
-                } catch (Exception e) {
-                    System.out.println("Error parsing line " + lineNumber + " of save file: " + currentLine);
-                    System.out.println("Consider removing that line from the save file. Bypassing line.");
-                    // Continue processing the rest of the file
-                }
+    /**
+     * Keys the appointments loaded from a save file by appointment ID, giving a new ID to each appointment read from
+     * a line without one and to each later appointment that repeats an ID.
+     * <p>
+     * Must be called straight after loading, while every explicit ID has been read but no new ID handed out.
+     * </p>
+     *
+     * @param loaded             The appointments in save file order.
+     * @param legacyAppointments The appointments read from lines without an ID.
+     * @param appointments       The map to add the appointments to.
+     * @return Whether any appointment was given a new ID, in which case the save file should be rewritten.
+     */
+    static boolean assignUniqueIds(ArrayList<Appointment> loaded, Set<Appointment> legacyAppointments,
+            LinkedHashMap<Integer, Appointment> appointments) {
+        boolean isRenumbered = !legacyAppointments.isEmpty();
+        for (Appointment appointment : loaded) {
+            if (legacyAppointments.contains(appointment)) {
+                appointment = withNewId(appointment);
+            } else if (appointments.containsKey(appointment.getApptId())) {
+                System.out.println("Warning: appointment ID " + appointment.getApptId() + " appears more than once "
+                        + "in the save file. Giving the later appointment a new ID.");
+                appointment = withNewId(appointment);
+                isRenumbered = true;
             }
-        } catch (FileNotFoundException e) {
-            System.out.println("File not found at: " + FILE_PATH);
+            appointments.put(appointment.getApptId(), appointment);
         }
-        return apptList;
+        return isRenumbered;
     }
 
+    private static Appointment withNewId(Appointment appointment) {
+        Appointment renumbered = new Appointment(appointment.getID(), appointment.getStartLocalTime(),
+                appointment.getEndLocalTime(), appointment.getLocalDate(), appointment.getNotes(),
+                appointment.getImportance());
+        renumbered.setDone(appointment.getStatus());
+        return renumbered;
+    }
 
     /**
-     * Extracts appointment details from a string from the save file.
+     * Applies every journal record, oldest first, to the appointments loaded from the save file.
      * <p>
-     * Extracts status, patient ID, start time, end time, date, notes and importance.
+     * Replay is idempotent: adds and edits overwrite the appointment with the same ID in place,
+     * and marks or deletes of unknown IDs are ignored.
      * </p>
-     * @param currentLine The formatted string containing appointment information.
-     * @return            new Appointment object created with parsed information.
+     *
+     * @param appointments The appointments loaded from the save file, keyed by appointment ID.
      */
-    private static Appointment getDetails(String currentLine) {
-        String[] parts = currentLine.split(" \\| ");
-
-        String status = parts[0];
-        int id = Integer.parseInt(parts[1]);
-        String startTimeString = parts[2];
-        String endTimeString = parts[3];
-        String dateString = parts[4];
-        int importance = Integer.parseInt(parts[5]);
-        String notes = "";
-        if (parts.length>6) {
-            notes = parts[6];
-        }
-        LocalTime startTime = LocalTime.parse(startTimeString);
-        LocalTime endTime = LocalTime.parse(endTimeString);
-        LocalDate date = LocalDate.parse(dateString);
-        Appointment appointment = new Appointment(id, startTime, endTime, date, notes, importance);
-        if (status.equals("true")) {
-            appointment.setDone(true);
+    private static void replayJournal(LinkedHashMap<Integer, Appointment> appointments) {
+        int recordNumber = 0;
+        for (String record : JOURNAL.readRecords()) {
+            recordNumber++;
+            try {
+                String[] parts = record.split(" \\| ", 2);
+                String operation = parts[0];
+                switch (operation) {
+                case ADD, EDIT -> {
+                    Appointment appointment = CODEC.decode(parts[1]);
+                    appointments.put(appointment.getApptId(), appointment);
+                }
+                case MARK -> {
+                    String[] markParts = parts[1].split(" \\| ");
+                    Appointment appointment = appointments.get(Integer.parseInt(markParts[0]));
+                    if (appointment != null) {
+                        appointment.setDone(markParts[1].equals("true"));
+                    }
+                }
+                case DELETE -> appointments.remove(Integer.parseInt(parts[1].trim()));
+                default -> throw new IllegalArgumentException("Unknown journal operation: " + operation);
+                }
+            } catch (Exception e) {
+                System.out.println("Error replaying record " + recordNumber + " of journal: " + record);
+                System.out.println("Bypassing record.");
+            }
         }
-        return appointment;
     }
 
     /**
      * Formats an Appointment object into a string for storage.
      * <p>
      * String format:
-     * [Status] | [Patient ID] | [Start Time] | [End Time] | [Date] | [Importance] | [Notes]
+     * [Appt ID] | [Status] | [Patient ID] | [Start Time] | [End Time] | [Date] | [Importance] | [Notes]
      * </p>
      * @param appointment The appointment object to format.
      * @return            Formatted string for save file.
      */
     public static String formatString(Appointment appointment) {
-        int patientID = appointment.getID();
-        boolean apptStatus = appointment.getStatus();
-        String apptStartTime = appointment.getStartTime();
-        String apptEndTime = appointment.getEndTime();
-        String apptDate = appointment.getDate();
-        String apptNotes = appointment.getNotes();
-        int apptImportance = appointment.getImportance();
-
-
-        return apptStatus + " | " + patientID + " | " + apptStartTime
-                + " | " + apptEndTime + " | " + apptDate
-                + " | " + apptImportance + " | " + apptNotes;
+        return CODEC.encode(appointment);
     }
 
-
     /**
      * Overwrites the storage file with the current ArrayList of tasks.
+     * <p>
+     * Used when the order of the whole list changes, e.g. after sorting. The journal is cleared
+     * once the save file has been replaced.
+     * </p>
      * @param apptList The ArrayList of Task objects to replace the save file with.
      */
     public static void overwriteSaveFile(ArrayList<Appointment> apptList) {
-        try (FileWriter writer = new FileWriter(FILE_PATH)) {
-            for (Appointment appt : apptList) {
-                writer.write(formatString(appt) + "\n");
-            }
-        } catch (IOException e) {
-            System.out.println("Error saving tasks: " + e.getMessage());
+        WriteBehind.markDirty(ENGINE, () -> saveNow(apptList));
+    }
+
+    private static void saveNow(ArrayList<Appointment> apptList) {
+        JOURNAL.awaitCompaction();
+        if (!ENGINE.save(apptList)) {
+            // The journal still holds the changes since the last snapshot, so keep it until a save succeeds
+            WriteBehind.retryLater(ENGINE, () -> saveNow(apptList));
+            return;
         }
+        JOURNAL.clear();
     }
 
     /**
-     * Appends a single appointment to the storage file.
-     * <p>
-     * Does not modify existing content.
-     * </p>
-     * @param appt Appointment object to append to the storage file.
+     * Records a newly added appointment in the journal.
+     *
+     * @param appt     The appointment that was added.
+     * @param apptList The full appointment list, used if the journal needs compacting.
      */
-    public static void appendToFile(Appointment appt) {
-        try (FileWriter writer = new FileWriter(FILE_PATH, true)) { // create a FileWriter in append mode
-            writer.write(formatString(appt) + "\n");
-        } catch (IOException e) {
-            System.out.println("Error saving tasks: " + e.getMessage());
-        }
+    public static void appendToFile(Appointment appt, ArrayList<Appointment> apptList) {
+        appendRecord(ADD + " | " + formatString(appt), apptList);
     }
 
-}
+    /**
+     * Records an edited appointment in the journal. The appointment keeps its appointment ID.
+     *
+     * @param appt     The updated appointment.
+     * @param apptList The full appointment list, used if the journal needs compacting.
+     */
+    public static void recordEdit(Appointment appt, ArrayList<Appointment> apptList) {
+        appendRecord(EDIT + " | " + formatString(appt), apptList);
+    }
+
+    /**
+     * Records a change in the completion status of an appointment in the journal.
+     *
+     * @param appt     The appointment that was marked or unmarked.
+     * @param apptList The full appointment list, used if the journal needs compacting.
+     */
+    public static void recordMark(Appointment appt, ArrayList<Appointment> apptList) {
+        appendRecord(MARK + " | " + appt.getApptId() + " | " + appt.getStatus(), apptList);
+    }
+
+    /**
+     * Records a deleted appointment in the journal.
+     *
+     * @param appt     The appointment that was removed.
+     * @param apptList The full appointment list, used if the journal needs compacting.
+     */
+    public static void recordDelete(Appointment appt, ArrayList<Appointment> apptList) {
+        appendRecord(DELETE + " | " + appt.getApptId(), apptList);
+    }
 
+    private static void appendRecord(String record, ArrayList<Appointment> apptList) {
+        JOURNAL.append(record);
+        // Compacting writes the journal straight away, so it waits until a batch has been saved as a whole
+        if (JOURNAL.isOverThreshold() && !WriteBehind.isInBatch()) {
+            // Snapshot on the caller's thread so that the background writer never touches the live list
+            JOURNAL.compactInBackground(ENGINE.prepareSave(apptList));
+        }
+    }
+}
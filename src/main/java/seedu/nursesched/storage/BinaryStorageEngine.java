@@ -0,0 +1,190 @@
+package seedu.nursesched.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Stores records in a compact binary format with typed fields.
+ * <p>
+ * File layout: the magic number {@code NSB1}, the number of records, then every record as its length in bytes
+ * followed by the fields written by the codec, then a CRC32 checksum of everything before it. The length prefix
+ * lets a record that fails to decode be skipped without losing the records after it.
+ * </p>
+ * <p>
+ * If the binary save file does not exist yet but a text save file does, the text save file is imported once.
+ * </p>
+ *
+ * @param <T> The type of record stored by this engine.
+ */
+public class BinaryStorageEngine<T> implements StorageEngine<T> {
+    static final int MAGIC = 0x4E534231; // "NSB1"
+
+    private final String filePath;
+    private final RecordCodec<T> codec;
+    private final StorageEngine<T> importSource;
+
+    /**
+     * Constructs a binary storage engine.
+     *
+     * @param filePath     The path of the save file, e.g. {@code data/Patient.bin}.
+     * @param codec        The codec used to read and write each record.
+     * @param importSource The engine to import records from when the binary save file does not exist yet.
+     */
+    public BinaryStorageEngine(String filePath, RecordCodec<T> codec, StorageEngine<T> importSource) {
+        this.filePath = filePath;
+        this.codec = codec;
+        this.importSource = importSource;
+    }
+
+    /**
+     * Reads all records from the save file.
+     * Records that cannot be decoded are reported and skipped.
+     *
+     * @return An ArrayList containing all records read from the save file.
+     */
+    @Override
+    public ArrayList<T> load() {
+        SaveTransaction.recover();
+        File file = new File(filePath);
+        if (!file.exists()) {
+            return importFromSource();
+        }
+
+        ArrayList<T> records = new ArrayList<>();
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            System.out.println("Error reading save file at " + filePath + ": " + e.getMessage());
+            return records;
+        }
+
+        ByteArrayInputStream bytesIn = new ByteArrayInputStream(content);
+        try (DataInputStream in = new DataInputStream(bytesIn)) {
+            if (in.readInt() != MAGIC) {
+                System.out.println("Save file at " + filePath + " is not a NurseSched binary file. Ignoring it.");
+                return records;
+            }
+            int count = in.readInt();
+            for (int recordNumber = 1; recordNumber <= count; recordNumber++) {
+                int length = in.readInt();
+                if (length < 0 || length > bytesIn.available()) {
+                    SaveFileWriter.reportCorruptFile(filePath);
+                    return records;
+                }
+                byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                try {
+                    records.add(codec.read(new DataInputStream(new ByteArrayInputStream(bytes))));
+                } catch (Exception e) {
+                    System.out.println("Error parsing record " + recordNumber + " of save file at " + filePath);
+                    System.out.println("Bypassing record.");
+                }
+            }
+            verifyChecksum(content, content.length - bytesIn.available(), in);
+        } catch (EOFException e) {
+            SaveFileWriter.reportCorruptFile(filePath);
+        } catch (IOException e) {
+            System.out.println("Error reading save file at " + filePath + ": " + e.getMessage());
+        }
+        return records;
+    }
+
+    /**
+     * Checks the checksum that follows the records, if there is one.
+     * Save files without a checksum, e.g. those written by earlier versions, are accepted as they are.
+     */
+    private void verifyChecksum(byte[] content, int recordsEnd, DataInputStream in) throws IOException {
+        if (recordsEnd == content.length) {
+            return;
+        }
+        if (content.length - recordsEnd != Integer.BYTES
+                || in.readInt() != SaveFileWriter.checksum(content, recordsEnd)) {
+            SaveFileWriter.reportCorruptFile(filePath);
+        }
+    }
+
+    private ArrayList<T> importFromSource() {
+        if (importSource == null || !new File(importSource.getFilePath()).exists()) {
+            new File(filePath).getParentFile().mkdirs();
+            return new ArrayList<>();
+        }
+        ArrayList<T> records = importSource.load();
+        save(records);
+        return records;
+    }
+
+    /**
+     * Overwrites the save file with the given records.
+     *
+     * @param records The records to save, in order.
+     * @return Whether the records were saved.
+     */
+    @Override
+    public boolean save(List<T> records) {
+        return prepareSave(records).getAsBoolean();
+    }
+
+    @Override
+    public BooleanSupplier prepareSave(List<T> records) {
+        byte[] content;
+        try {
+            content = encode(records);
+        } catch (IOException e) {
+            return () -> {
+                System.out.println("Error saving to " + filePath + ": " + e.getMessage());
+                return false;
+            };
+        }
+        return () -> {
+            try {
+                SaveFileWriter.replace(new File(filePath), out -> out.write(content));
+                return true;
+            } catch (IOException e) {
+                System.out.println("Error saving to " + filePath + ": " + e.getMessage());
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Encodes records into the complete content of a binary save file.
+     *
+     * @param records The records to encode, in order.
+     * @return The encoded save file.
+     * @throws IOException If a record cannot be encoded.
+     */
+    byte[] encode(List<T> records) throws IOException {
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        DataOutputStream fileOut = new DataOutputStream(file);
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        DataOutputStream recordOut = new DataOutputStream(record);
+
+        fileOut.writeInt(MAGIC);
+        fileOut.writeInt(records.size());
+        for (T current : records) {
+            record.reset();
+            codec.write(recordOut, current);
+            recordOut.flush();
+            fileOut.writeInt(record.size());
+            record.writeTo(fileOut);
+        }
+        fileOut.writeInt(SaveFileWriter.checksum(file.toByteArray(), file.size()));
+        fileOut.flush();
+        return file.toByteArray();
+    }
+
+    @Override
+    public String getFilePath() {
+        return filePath;
+    }
+}
@@ -0,0 +1,216 @@
+package seedu.nursesched.storage;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Scanner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+
+/**
+ * An append-only operation journal that sits next to a snapshot save file.
+ * <p>
+ * Mutations are written as one small record per line instead of rewriting the whole snapshot.
+ * Once the journal grows past its compaction threshold, it is rotated to a sibling {@code .old} file
+ * and the caller's snapshot writer is run on a background thread. The rotated journal is only deleted
+ * after the snapshot has been written, so a crash at any point leaves enough records behind to rebuild
+ * the latest state. Replaying the records must therefore be idempotent.
+ * </p>
+ * <p>
+ * Appended records are written out through {@link WriteBehind}, so with write-behind enabled, the records of
+ * several commands reach the file in a single write.
+ * </p>
+ */
+public class Journal {
+    private static final ExecutorService COMPACTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final File journalFile;
+    private final File rotatedFile;
+    private final long compactionThreshold;
+    private final ArrayList<String> pendingRecords = new ArrayList<>();
+    private long size;
+    private Future<?> pendingCompaction;
+
+    /**
+     * Constructs a journal backed by the given file.
+     *
+     * @param filePath            Path of the journal file, e.g. {@code data/Appt.journal}.
+     * @param compactionThreshold Size in bytes after which {@link #isOverThreshold()} returns true.
+     */
+    public Journal(String filePath, long compactionThreshold) {
+        this.journalFile = new File(filePath);
+        this.rotatedFile = new File(filePath + ".old");
+        this.compactionThreshold = compactionThreshold;
+        this.size = journalFile.length();
+    }
+
+    /**
+     * Appends a single record to the journal.
+     *
+     * @param record The record to append, without a trailing newline.
+     */
+    public void append(String record) {
+        assert !record.contains("\n") : "Journal records must fit on a single line";
+        synchronized (this) {
+            pendingRecords.add(record);
+            size += record.getBytes(StandardCharsets.UTF_8).length + 1;
+        }
+        WriteBehind.markDirty(this, this::flush);
+    }
+
+    /**
+     * Writes all appended records that have not reached the journal file yet.
+     * The records are only forgotten once they are written, so if writing them fails, they are written again by the
+     * next flush.
+     */
+    public synchronized void flush() {
+        if (pendingRecords.isEmpty()) {
+            return;
+        }
+        StringBuilder text = new StringBuilder();
+        for (String record : pendingRecords) {
+            text.append(record).append('\n');
+        }
+        try {
+            SaveFileWriter.append(journalFile, text.toString());
+        } catch (IOException e) {
+            System.out.println("Error writing to journal: " + e.getMessage());
+            WriteBehind.retryLater(this, this::flush);
+            return;
+        }
+        int writtenCount = pendingRecords.size();
+        SaveTransaction.whenCommitted(() -> forgetWritten(writtenCount));
+    }
+
+    private synchronized void forgetWritten(int writtenCount) {
+        // The records may already be gone if the journal was cleared in the same transaction
+        pendingRecords.subList(0, Math.min(writtenCount, pendingRecords.size())).clear();
+    }
+
+    /**
+     * Reads all records that still have to be replayed on top of the snapshot,
+     * oldest first: a rotated journal left behind by an unfinished compaction, then the live journal.
+     *
+     * @return The records in the order they were appended.
+     */
+    public synchronized ArrayList<String> readRecords() {
+        SaveTransaction.recover();
+        flush();
+        ArrayList<String> records = new ArrayList<>();
+        readInto(rotatedFile, records);
+        readInto(journalFile, records);
+        return records;
+    }
+
+    private static void readInto(File file, ArrayList<String> records) {
+        if (!file.exists()) {
+            return;
+        }
+        try (Scanner fileScanner = new Scanner(file, StandardCharsets.UTF_8)) {
+            while (fileScanner.hasNextLine()) {
+                String currentLine = fileScanner.nextLine();
+                if (!currentLine.isBlank()) {
+                    records.add(currentLine);
+                }
+            }
+        } catch (FileNotFoundException e) {
+            System.out.println("File not found at: " + file.getPath());
+        } catch (IOException e) {
+            System.out.println("Error reading journal at " + file.getPath() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns whether the journal has grown large enough to be folded into the snapshot.
+     *
+     * @return {@code true} if the journal size is at or above the compaction threshold.
+     */
+    public synchronized boolean isOverThreshold() {
+        return size >= compactionThreshold;
+    }
+
+    /**
+     * Rotates the journal and runs the snapshot writer on the background compaction thread.
+     * <p>
+     * The snapshot writer must only use data captured before this call, since new records
+     * appended afterwards go to a fresh journal that is replayed on top of the new snapshot.
+     * </p>
+     * <p>
+     * If a rotated journal is still there, e.g. because the program stopped during an earlier compaction, its
+     * records have been replayed but not folded into the snapshot yet. Rotating again would overwrite them, so the
+     * snapshot is written synchronously instead, the same as when the journal cannot be rotated.
+     * </p>
+     * <p>
+     * The journal is only discarded once the snapshot writer reports that the snapshot was written. If it fails,
+     * the rotated journal is kept, so its records are still replayed on startup and folded into the next snapshot.
+     * </p>
+     *
+     * @param snapshotWriter Writes the snapshot save file, and returns whether it was written.
+     */
+    public synchronized void compactInBackground(BooleanSupplier snapshotWriter) {
+        awaitCompaction();
+        flush();
+        if (rotatedFile.exists() || !rotate()) {
+            if (snapshotWriter.getAsBoolean()) {
+                clear();
+            }
+            return;
+        }
+        size = 0;
+        pendingCompaction = COMPACTOR.submit(() -> {
+            if (snapshotWriter.getAsBoolean()) {
+                rotatedFile.delete();
+            }
+        });
+    }
+
+    private boolean rotate() {
+        if (!journalFile.exists()) {
+            return false;
+        }
+        try {
+            SaveFileWriter.move(journalFile, rotatedFile);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Blocks until any in-flight background compaction has finished.
+     */
+    public synchronized void awaitCompaction() {
+        if (pendingCompaction == null) {
+            return;
+        }
+        try {
+            pendingCompaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.out.println("Error compacting journal: " + e.getCause().getMessage());
+        }
+        pendingCompaction = null;
+    }
+
+    /**
+     * Discards all journal records, including those not written out yet.
+     * Only called after a full snapshot has been written synchronously.
+     */
+    public synchronized void clear() {
+        awaitCompaction();
+        pendingRecords.clear();
+        SaveFileWriter.delete(journalFile);
+        SaveFileWriter.delete(rotatedFile);
+        size = 0;
+    }
+}
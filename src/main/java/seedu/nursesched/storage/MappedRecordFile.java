@@ -0,0 +1,195 @@
+package seedu.nursesched.storage;
+
+import seedu.nursesched.exception.NurseSchedException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * A read-only view of a record file that is memory-mapped instead of read.
+ * <p>
+ * File layout: the magic number {@code NSM1}, the number of records {@code n}, an offset index of {@code n + 1}
+ * ints giving where each record starts (the last entry is where the records end), the records themselves in the
+ * binary form written by the codec, then a CRC32 checksum of everything before it.
+ * </p>
+ * <p>
+ * Opening a file only maps it and checks its header. Records are decoded the first time they are requested,
+ * in any order, and cached afterwards.
+ * </p>
+ *
+ * @param <T> The type of record in the file.
+ */
+public class MappedRecordFile<T> {
+    static final int MAGIC = 0x4E534D31; // "NSM1"
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    private final MappedByteBuffer buffer;
+    private final RecordCodec<T> codec;
+    private final int size;
+    private final Object[] decoded;
+
+    private MappedRecordFile(MappedByteBuffer buffer, RecordCodec<T> codec, int size) {
+        this.buffer = buffer;
+        this.codec = codec;
+        this.size = size;
+        this.decoded = new Object[size];
+    }
+
+    /**
+     * Maps a record file into memory.
+     *
+     * @param file  The record file to map.
+     * @param codec The codec used to decode records.
+     * @param <T>   The type of record in the file.
+     * @return The mapped record file.
+     * @throws IOException If the file cannot be mapped or does not have a valid header and offset index.
+     */
+    public static <T> MappedRecordFile<T> open(File file, RecordCodec<T> codec) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Save file is too large to map: " + file.getPath());
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.limit() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a NurseSched mapped save file: " + file.getPath());
+            }
+            int size = buffer.getInt(Integer.BYTES);
+            if (size < 0 || indexPosition(size) + Integer.BYTES > buffer.limit()) {
+                throw new IOException("Offset index of " + file.getPath() + " is truncated");
+            }
+            return new MappedRecordFile<>(buffer, codec, size);
+        }
+    }
+
+    private static int indexPosition(int index) {
+        return HEADER_BYTES + index * Integer.BYTES;
+    }
+
+    /**
+     * Returns the number of records in the file.
+     *
+     * @return The number of records.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the record at the given position, decoding it if it has not been requested before.
+     *
+     * @param index The position of the record, starting from 0.
+     * @return The record.
+     * @throws IOException         If the offset index points outside the file or the record is truncated.
+     * @throws NurseSchedException If the record fails domain validation.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) throws IOException, NurseSchedException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Record " + index + " of " + size);
+        }
+        if (decoded[index] == null) {
+            decoded[index] = codec.read(new DataInputStream(new BufferInputStream(slice(index))));
+        }
+        return (T) decoded[index];
+    }
+
+    /**
+     * Checks the checksum that follows the records, if there is one.
+     * This reads the whole file, so it is not done when the file is opened.
+     *
+     * @return {@code false} if the file has a checksum that does not match its content.
+     */
+    public boolean verifyChecksum() {
+        int recordsEnd = buffer.getInt(indexPosition(size));
+        if (recordsEnd == buffer.limit()) {
+            return true;
+        }
+        if (recordsEnd < indexPosition(size + 1) || buffer.limit() - recordsEnd != Integer.BYTES) {
+            return false;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(0, recordsEnd));
+        return (int) crc.getValue() == buffer.getInt(recordsEnd);
+    }
+
+    private ByteBuffer slice(int index) throws IOException {
+        int start = buffer.getInt(indexPosition(index));
+        int end = buffer.getInt(indexPosition(index + 1));
+        if (start < indexPosition(size + 1) || end < start || end > buffer.limit()) {
+            throw new IOException("Offset index entry " + index + " is out of range");
+        }
+        return buffer.slice(start, end - start);
+    }
+
+    /**
+     * Encodes records into the complete content of a mapped record file.
+     *
+     * @param records The records to encode, in order.
+     * @param codec   The codec used to encode each record.
+     * @param <T>     The type of record.
+     * @return The encoded file.
+     * @throws IOException If a record cannot be encoded.
+     */
+    public static <T> byte[] encode(List<T> records, RecordCodec<T> codec) throws IOException {
+        int recordsStart = indexPosition(records.size() + 1);
+        int[] offsets = new int[records.size() + 1];
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        DataOutputStream dataOut = new DataOutputStream(data);
+        for (int i = 0; i < records.size(); i++) {
+            offsets[i] = recordsStart + data.size();
+            codec.write(dataOut, records.get(i));
+        }
+        dataOut.flush();
+        offsets[records.size()] = recordsStart + data.size();
+
+        int recordsEnd = recordsStart + data.size();
+        ByteBuffer file = ByteBuffer.allocate(recordsEnd + Integer.BYTES);
+        file.putInt(MAGIC);
+        file.putInt(records.size());
+        for (int offset : offsets) {
+            file.putInt(offset);
+        }
+        file.put(data.toByteArray());
+        file.putInt(SaveFileWriter.checksum(file.array(), recordsEnd));
+        return file.array();
+    }
+
+    /**
+     * Reads a byte buffer as a stream, so that records can be decoded by the same code as the binary backend.
+     */
+    private static class BufferInputStream extends InputStream {
+        private final ByteBuffer source;
+
+        BufferInputStream(ByteBuffer source) {
+            this.source = source;
+        }
+
+        @Override
+        public int read() {
+            return source.hasRemaining() ? source.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!source.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, source.remaining());
+            source.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.nursesched.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Stores records in a memory-mapped record file with an offset index.
+ * <p>
+ * {@link #open()} gives random access to the records without decoding the whole file. Every store keeps all its
+ * records in a list, though, so {@link #load()} decodes each of them when the store is loaded, and nothing reads the
+ * records lazily yet.
+ * </p>
+ * <p>
+ * If the mapped save file does not exist yet but a text save file does, the text save file is imported once.
+ * </p>
+ *
+ * @param <T> The type of record stored by this engine.
+ */
+public class MappedStorageEngine<T> implements StorageEngine<T> {
+    private final String filePath;
+    private final RecordCodec<T> codec;
+    private final StorageEngine<T> importSource;
+
+    /**
+     * Constructs a mapped storage engine.
+     *
+     * @param filePath     The path of the save file, e.g. {@code data/Patient.nsm}.
+     * @param codec        The codec used to read and write each record.
+     * @param importSource The engine to import records from when the mapped save file does not exist yet.
+     */
+    public MappedStorageEngine(String filePath, RecordCodec<T> codec, StorageEngine<T> importSource) {
+        this.filePath = filePath;
+        this.codec = codec;
+        this.importSource = importSource;
+    }
+
+    /**
+     * Maps the save file without decoding any records.
+     *
+     * @return The mapped save file.
+     * @throws IOException If the save file cannot be mapped or is not a valid mapped save file.
+     */
+    public MappedRecordFile<T> open() throws IOException {
+        return MappedRecordFile.open(new File(filePath), codec);
+    }
+
+    /**
+     * Reads all records from the save file.
+     * Records that cannot be decoded are reported and skipped.
+     *
+     * @return An ArrayList containing all records read from the save file.
+     */
+    @Override
+    public ArrayList<T> load() {
+        SaveTransaction.recover();
+        if (!new File(filePath).exists()) {
+            return importFromSource();
+        }
+
+        ArrayList<T> records = new ArrayList<>();
+        MappedRecordFile<T> recordFile;
+        try {
+            recordFile = open();
+        } catch (IOException e) {
+            System.out.println("Error reading save file: " + e.getMessage());
+            return records;
+        }
+
+        if (!recordFile.verifyChecksum()) {
+            SaveFileWriter.reportCorruptFile(filePath);
+        }
+        records.ensureCapacity(recordFile.size());
+        for (int i = 0; i < recordFile.size(); i++) {
+            try {
+                records.add(recordFile.get(i));
+            } catch (Exception e) {
+                System.out.println("Error parsing record " + (i + 1) + " of save file at " + filePath);
+                System.out.println("Bypassing record.");
+            }
+        }
+        return records;
+    }
+
+    private ArrayList<T> importFromSource() {
+        if (importSource == null || !new File(importSource.getFilePath()).exists()) {
+            new File(filePath).getParentFile().mkdirs();
+            return new ArrayList<>();
+        }
+        ArrayList<T> records = importSource.load();
+        save(records);
+        return records;
+    }
+
+    /**
+     * Overwrites the save file with the given records.
+     *
+     * @param records The records to save, in order.
+     * @return Whether the records were saved.
+     */
+    @Override
+    public boolean save(List<T> records) {
+        return prepareSave(records).getAsBoolean();
+    }
+
+    @Override
+    public BooleanSupplier prepareSave(List<T> records) {
+        byte[] content;
+        try {
+            content = MappedRecordFile.encode(records, codec);
+        } catch (IOException e) {
+            return () -> {
+                System.out.println("Error saving to " + filePath + ": " + e.getMessage());
+                return false;
+            };
+        }
+        return () -> write(content);
+    }
+
+    private boolean write(byte[] content) {
+        try {
+            SaveFileWriter.replace(new File(filePath), out -> out.write(content));
+            return true;
+        } catch (IOException e) {
+            // Some platforms refuse to replace a file that is still mapped. Mappings are only
+            // released once their buffers are garbage collected, so collect and try once more.
+            System.gc();
+            try {
+                SaveFileWriter.replace(new File(filePath), out -> out.write(content));
+                return true;
+            } catch (IOException retryException) {
+                System.out.println("Error saving to " + filePath + ": " + retryException.getMessage());
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public String getFilePath() {
+        return filePath;
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.nursesched.storage;
+
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.patient.MedicalTest;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Converts medical tests to and from their stored form.
+ * Text format: [Patient ID] | [Test Name] | [Result]
+ */
+public class MedicalTestCodec implements RecordCodec<MedicalTest> {
+
+    @Override
+    public String encode(MedicalTest medicalTest) {
+        return medicalTest.getPatientId() + " | " + medicalTest.getTestName() + " | " + medicalTest.getResult();
+    }
+
+    @Override
+    public MedicalTest decode(String currentLine) throws NurseSchedException {
+        String[] parts = currentLine.split(" \\| ");
+
+        String id = parts[0];
+        String test = parts[1];
+        String result = parts[2];
+
+        return new MedicalTest(id, test, result);
+    }
+
+    @Override
+    public void write(DataOutputStream out, MedicalTest medicalTest) throws IOException {
+        out.writeUTF(medicalTest.getPatientId());
+        out.writeUTF(medicalTest.getTestName());
+        out.writeUTF(medicalTest.getResult());
+    }
+
+    @Override
+    public MedicalTest read(DataInputStream in) throws IOException, NurseSchedException {
+        return new MedicalTest(in.readUTF(), in.readUTF(), in.readUTF());
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.nursesched.storage;
+
+import seedu.nursesched.medicine.Medicine;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Converts medicines to and from their stored form.
+ * Text format: "medicineName | quantity"
+ */
+public class MedicineCodec implements RecordCodec<Medicine> {
+
+    @Override
+    public String encode(Medicine medicine) {
+        return medicine.getMedicineName() + " | " + medicine.getQuantity();
+    }
+
+    /**
+     * Parses a string representing a medicine and returns a Medicine object.
+     * Invalid lines are reported here, and skipped by returning null.
+     *
+     * @param currentLine The line representing a medicine.
+     * @return A Medicine object with the parsed values or null if invalid.
+     */
+    @Override
+    public Medicine decode(String currentLine) {
+        try {
+            String[] parts = currentLine.split(" \\| ");
+
+            if (parts.length != 2) {
+                System.out.println("Warning: Invalid medicine format:" + currentLine);
+                return null;
+            }
+
+            String medicineName = parts[0].trim();
+            if (medicineName.isEmpty()) {
+                System.out.println("Warning: Medicine name cannot be empty: " + currentLine);
+                return null;
+            }
+
+            int quantity;
+            try {
+                quantity = Integer.parseInt(parts[1].trim());
+            } catch (NumberFormatException e) {
+                System.out.println("Warning: Invalid quantity format : " + currentLine);
+                return null;
+            }
+
+            return new Medicine(quantity, medicineName);
+
+        } catch (Exception e) {
+            System.out.println("Unexpected error while parsing medicine: " + currentLine);
+            return null;
+        }
+    }
+
+    @Override
+    public void write(DataOutputStream out, Medicine medicine) throws IOException {
+        out.writeUTF(medicine.getMedicineName());
+        out.writeInt(medicine.getQuantity());
+    }
+
+    @Override
+    public Medicine read(DataInputStream in) throws IOException {
+        String medicineName = in.readUTF();
+        int quantity = in.readInt();
+        return new Medicine(quantity, medicineName);
+    }
+}
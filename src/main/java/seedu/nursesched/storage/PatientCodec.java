@@ -0,0 +1,53 @@
+package seedu.nursesched.storage;
+
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.patient.Patient;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Converts patients to and from their stored form.
+ * Text format: [ID] | [Name] | [Age] | [Gender] | [Contact] | [Notes]
+ */
+public class PatientCodec implements RecordCodec<Patient> {
+
+    @Override
+    public String encode(Patient patient) {
+        return patient.getId() + " | " + patient.getName() + " | " + patient.getAge() + " | "
+                + patient.getGender() + " | " + patient.getContact() + " | " + patient.getNotes();
+    }
+
+    @Override
+    public Patient decode(String currentLine) throws NurseSchedException {
+        String[] parts = currentLine.split(" \\| ");
+
+        String id = parts[0];
+        String name = parts[1];
+        String age = parts[2];
+        String gender = parts[3];
+        String contact = parts[4];
+        String notes = "";
+        if (parts.length > 5) {
+            notes = parts[5];
+        }
+
+        return Patient.restore(id, name, age, gender, contact, notes);
+    }
+
+    @Override
+    public void write(DataOutputStream out, Patient patient) throws IOException {
+        out.writeUTF(patient.getId());
+        out.writeUTF(patient.getName());
+        out.writeUTF(patient.getAge());
+        out.writeUTF(patient.getGender());
+        out.writeUTF(patient.getContact());
+        out.writeUTF(patient.getNotes());
+    }
+
+    @Override
+    public Patient read(DataInputStream in) throws IOException, NurseSchedException {
+        return Patient.restore(in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF());
+    }
+}
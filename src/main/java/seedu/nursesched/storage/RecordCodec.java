@@ -0,0 +1,66 @@
+package seedu.nursesched.storage;
+
+import seedu.nursesched.exception.NurseSchedException;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Converts records of one entity type to and from their stored form.
+ * <p>
+ * Every codec supports two representations: the human-readable {@code " | "} separated line used by the
+ * text backend and the journals, and a compact typed form used by the binary backend.
+ * </p>
+ *
+ * @param <T> The type of record handled by this codec.
+ */
+public interface RecordCodec<T> {
+
+    /**
+     * Formats a record as a single line of text, without the trailing newline.
+     *
+     * @param record The record to format.
+     * @return The formatted line.
+     */
+    String encode(T record);
+
+    /**
+     * Appends a record formatted as a single line of text, without the trailing newline.
+     * Codecs for records that are saved in large numbers override this to append each field directly.
+     *
+     * @param record The record to format.
+     * @param line   The builder to append the line to.
+     */
+    default void encode(T record, StringBuilder line) {
+        line.append(encode(record));
+    }
+
+    /**
+     * Parses a record from a single line of text.
+     *
+     * @param line The line to parse.
+     * @return The parsed record, or {@code null} if the line should be skipped after the codec reported why.
+     * @throws NurseSchedException If the record fails domain validation.
+     */
+    T decode(String line) throws NurseSchedException;
+
+    /**
+     * Writes a record in its binary form.
+     *
+     * @param out    The stream to write to.
+     * @param record The record to write.
+     * @throws IOException If the record cannot be written.
+     */
+    void write(DataOutputStream out, T record) throws IOException;
+
+    /**
+     * Reads a record in its binary form.
+     *
+     * @param in The stream to read from, positioned at the start of the record.
+     * @return The record that was read.
+     * @throws IOException         If the record cannot be read.
+     * @throws NurseSchedException If the record fails domain validation.
+     */
+    T read(DataInputStream in) throws IOException, NurseSchedException;
+}
@@ -0,0 +1,208 @@
+package seedu.nursesched.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Replaces save files without ever leaving a partially written file in their place.
+ * <p>
+ * The new content is written to a temporary sibling file and forced to disk, and only then moved over the save
+ * file in a single step. Every backend also ends its save files with a CRC32 checksum of their content, so that
+ * a file damaged in any other way is noticed when it is loaded.
+ * </p>
+ */
+final class SaveFileWriter {
+    /** Marks the checksum line at the end of a text save file. */
+    static final String TEXT_CHECKSUM_PREFIX = "#CRC32:";
+
+    /**
+     * Writes content to an output stream.
+     */
+    @FunctionalInterface
+    interface Content {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private SaveFileWriter() {
+    }
+
+    /**
+     * Replaces the given save file with new content. Inside a {@link SaveTransaction}, the new content is only
+     * staged, and replaces the save file when the transaction commits.
+     *
+     * @param saveFile The save file to replace.
+     * @param content  Writes the new content of the save file.
+     * @throws IOException If the content cannot be written or the save file cannot be replaced.
+     */
+    static void replace(File saveFile, Content content) throws IOException {
+        SaveTransaction transaction = SaveTransaction.current();
+        if (transaction == null) {
+            replaceNow(saveFile, content);
+            return;
+        }
+        File stagingFile = SaveTransaction.stagingFileFor(saveFile);
+        try {
+            writeAndForce(stagingFile, saveFile, content);
+        } catch (IOException e) {
+            transaction.fail();
+            throw e;
+        }
+        transaction.stageReplace(stagingFile, saveFile);
+    }
+
+    /**
+     * Replaces the given save file with new content straight away, even inside a {@link SaveTransaction}.
+     *
+     * @param saveFile The save file to replace.
+     * @param content  Writes the new content of the save file.
+     * @throws IOException If the content cannot be written or the save file cannot be replaced.
+     */
+    static void replaceNow(File saveFile, Content content) throws IOException {
+        File tempFile = new File(saveFile.getPath() + ".tmp");
+        writeAndForce(tempFile, saveFile, content);
+        move(tempFile, saveFile);
+    }
+
+    private static void writeAndForce(File file, File saveFile, Content content) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        try (FileOutputStream fileOut = new FileOutputStream(file)) {
+            OutputStream out = new BufferedOutputStream(fileOut, StorageConfig.getBufferSize());
+            content.writeTo(out);
+            out.flush();
+            fileOut.getChannel().force(true);
+            StorageStats.addBytesWritten(saveFile, fileOut.getChannel().position());
+        }
+    }
+
+    /**
+     * Moves a fully written file over a save file in a single step, where the file system allows it.
+     *
+     * @param file     The written file.
+     * @param saveFile The save file to replace.
+     * @throws IOException If the save file cannot be replaced.
+     */
+    static void move(File file, File saveFile) throws IOException {
+        try {
+            Files.move(file.toPath(), saveFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(file.toPath(), saveFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncDirectory(saveFile.getAbsoluteFile().getParentFile());
+    }
+
+    /**
+     * Appends text to a file, e.g. a journal. Inside a {@link SaveTransaction}, the text is only staged, and is
+     * appended when the transaction commits.
+     *
+     * @param file The file, which is created if it does not exist.
+     * @param text The text to append.
+     * @throws IOException If the text cannot be written.
+     */
+    static void append(File file, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        SaveTransaction transaction = SaveTransaction.current();
+        if (transaction != null) {
+            transaction.stageAppend(file, bytes);
+            StorageStats.addBytesWritten(file, bytes.length);
+            return;
+        }
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        try (FileOutputStream out = new FileOutputStream(file, true)) {
+            out.write(bytes);
+        }
+        StorageStats.addBytesWritten(file, bytes.length);
+    }
+
+    /**
+     * Deletes a file. Inside a {@link SaveTransaction}, the file is only deleted when the transaction commits.
+     *
+     * @param file The file, which may not exist.
+     */
+    static void delete(File file) {
+        SaveTransaction transaction = SaveTransaction.current();
+        if (transaction != null) {
+            transaction.stageDelete(file);
+        } else {
+            file.delete();
+        }
+    }
+
+    /**
+     * Forces the directory entry of a moved file to disk, where the platform allows directories to be opened.
+     */
+    private static void syncDirectory(File directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory.toPath(), StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Not supported on every platform. The file content itself has already been forced to disk.
+        }
+    }
+
+    /**
+     * Computes the CRC32 checksum of part of a byte array.
+     *
+     * @param bytes  The bytes to check.
+     * @param length The number of bytes from the start of the array to include.
+     * @return The checksum.
+     */
+    static int checksum(byte[] bytes, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Formats the checksum line that ends a text save file.
+     *
+     * @param checksum The checksum of every byte before the checksum line.
+     * @return The checksum line, without a trailing newline.
+     */
+    static String formatTextChecksum(int checksum) {
+        return TEXT_CHECKSUM_PREFIX + String.format("%08x", checksum);
+    }
+
+    /**
+     * Reports a save file whose content does not match its checksum, and keeps a copy of it as it is.
+     * The records that can still be read are loaded, and the next save overwrites the file, so the copy is the only
+     * way to recover the rest by hand.
+     *
+     * @param filePath The path of the save file.
+     */
+    static void reportCorruptFile(String filePath) {
+        File backupFile = new File(filePath + ".corrupt");
+        for (int i = 1; backupFile.exists(); i++) {
+            backupFile = new File(filePath + ".corrupt" + i);
+        }
+        String backupNote;
+        try {
+            Files.copy(new File(filePath).toPath(), backupFile.toPath());
+            backupNote = "A copy of it as it is was saved to " + backupFile.getPath() + ".";
+        } catch (IOException e) {
+            backupNote = "It could not be copied (" + e.getMessage() + "), so back it up by hand before the next "
+                    + "change is saved.";
+        }
+        System.out.println("Warning: " + filePath + " does not match its checksum, so the data in it may be corrupt. "
+                + "It may have been damaged or edited by hand. " + backupNote + " Loading the records that can "
+                + "still be read.");
+    }
+}
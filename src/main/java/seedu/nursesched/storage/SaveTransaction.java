@@ -0,0 +1,257 @@
+package seedu.nursesched.storage;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Writes the changes to several save files and journals as one commit, so that after a crash either all of them or
+ * none of them are found on disk.
+ * <p>
+ * While a transaction is open on a thread, {@link SaveFileWriter} only stages the changes made on that thread: a
+ * replaced file is written to a sibling {@code .commit} file, appended bytes to a sibling {@code .append} file, and
+ * a deletion is only noted down. Each staged file is forced to disk. The commit then writes a list of the staged
+ * changes to {@value #COMMIT_FILE} in a single step, which is the point at which the transaction counts as done,
+ * applies the changes in the order they were made, and deletes the list.
+ * </p>
+ * <p>
+ * If the program stops while the changes are applied, the list is still there on the next start, and
+ * {@link #recover()} applies every change again before any save file is read. Applying a change twice has the same
+ * effect as applying it once: a staged file is only moved if it is still there, an append first cuts the file back
+ * to its length before the transaction, and a deletion of a missing file does nothing. A transaction that stopped
+ * before its list was written leaves only staged files behind, which are ignored and overwritten later.
+ * </p>
+ */
+final class SaveTransaction {
+    static final String COMMIT_FILE = StorageConfig.DATA_DIRECTORY + "commit.pending";
+
+    private static final ThreadLocal<SaveTransaction> CURRENT = new ThreadLocal<>();
+    private static final String REPLACE = "REPLACE";
+    private static final String APPEND = "APPEND";
+    private static final String DELETE = "DELETE";
+    private static final String SEPARATOR = "\t";
+
+    private final ArrayList<String> changes = new ArrayList<>();
+    private final ArrayList<File> stagedFiles = new ArrayList<>();
+    private final HashMap<File, Long> lengths = new HashMap<>();
+    private final ArrayList<Runnable> commitActions = new ArrayList<>();
+    private boolean hasFailed = false;
+
+    private SaveTransaction() {
+    }
+
+    /**
+     * Returns the transaction open on the current thread, or null if there is none.
+     */
+    static SaveTransaction current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the given saves in a transaction and commits everything they wrote.
+     * If any of them fails to stage its changes, none of the changes are made.
+     *
+     * @param saves Writes the save files through {@link SaveFileWriter}.
+     * @return {@code true} if the changes were committed, {@code false} if none of them were made.
+     */
+    static boolean run(Runnable saves) {
+        assert CURRENT.get() == null : "Save transactions cannot be nested";
+        SaveTransaction transaction = new SaveTransaction();
+        CURRENT.set(transaction);
+        try {
+            saves.run();
+        } finally {
+            CURRENT.remove();
+        }
+        if (!transaction.commit()) {
+            return false;
+        }
+        for (Runnable action : transaction.commitActions) {
+            action.run();
+        }
+        return true;
+    }
+
+    /**
+     * Runs an action once the changes staged so far on this thread have been committed, or straight away if no
+     * transaction is open. If the transaction is not committed, the action is never run.
+     *
+     * @param action The action, e.g. forgetting data that only had to be kept until it was written.
+     */
+    static void whenCommitted(Runnable action) {
+        SaveTransaction transaction = CURRENT.get();
+        if (transaction == null) {
+            action.run();
+        } else {
+            transaction.commitActions.add(action);
+        }
+    }
+
+    /**
+     * Returns the staging file for the new content of a save file.
+     */
+    static File stagingFileFor(File saveFile) {
+        return new File(saveFile.getPath() + ".commit");
+    }
+
+    /**
+     * Adds a save file that has been written to its staging file, to be moved over the save file on commit.
+     */
+    void stageReplace(File stagingFile, File saveFile) {
+        stagedFiles.add(stagingFile);
+        lengths.put(saveFile, stagingFile.length());
+        changes.add(REPLACE + SEPARATOR + stagingFile.getPath() + SEPARATOR + saveFile.getPath());
+    }
+
+    /**
+     * Stages bytes to be appended to a file on commit.
+     *
+     * @throws IOException If the bytes cannot be staged.
+     */
+    void stageAppend(File file, byte[] bytes) throws IOException {
+        long lengthBefore = lengths.computeIfAbsent(file, File::length);
+        File stagingFile = new File(file.getPath() + ".append" + changes.size());
+        try (FileOutputStream out = new FileOutputStream(stagingFile)) {
+            out.write(bytes);
+            out.getChannel().force(true);
+        } catch (IOException e) {
+            hasFailed = true;
+            throw e;
+        }
+        stagedFiles.add(stagingFile);
+        lengths.put(file, lengthBefore + bytes.length);
+        changes.add(APPEND + SEPARATOR + file.getPath() + SEPARATOR + lengthBefore + SEPARATOR
+                + stagingFile.getPath());
+    }
+
+    /**
+     * Stages the deletion of a file on commit.
+     */
+    void stageDelete(File file) {
+        lengths.put(file, 0L);
+        changes.add(DELETE + SEPARATOR + file.getPath());
+    }
+
+    /**
+     * Notes that a change could not be staged, so that the transaction is abandoned.
+     */
+    void fail() {
+        hasFailed = true;
+    }
+
+    /**
+     * Commits the staged changes.
+     *
+     * @return {@code false} if none of the changes were made, e.g. because one could not be staged.
+     */
+    private boolean commit() {
+        if (hasFailed) {
+            discardStagedFiles();
+            return false;
+        }
+        if (changes.isEmpty()) {
+            return true;
+        }
+
+        recover();
+        File commitFile = new File(COMMIT_FILE);
+        boolean isSingleChange = changes.size() == 1;
+        try {
+            if (!isSingleChange) {
+                SaveFileWriter.replaceNow(commitFile,
+                        out -> out.write(String.join("\n", changes).getBytes(StandardCharsets.UTF_8)));
+            }
+        } catch (IOException e) {
+            System.out.println("Error saving changes: " + e.getMessage());
+            discardStagedFiles();
+            return false;
+        }
+        try {
+            // A single change is made in one step anyway
+            apply(changes);
+            Files.deleteIfExists(commitFile.toPath());
+            for (File stagedFile : stagedFiles) {
+                stagedFile.delete();
+            }
+            return true;
+        } catch (IOException e) {
+            System.out.println("Error saving changes: " + e.getMessage());
+            if (isSingleChange) {
+                discardStagedFiles();
+                return false;
+            }
+            // The list of changes is on disk, so they are finished by the next recovery
+            return true;
+        }
+    }
+
+    private void discardStagedFiles() {
+        for (File stagedFile : stagedFiles) {
+            stagedFile.delete();
+        }
+    }
+
+    /**
+     * Finishes a transaction that was committed but not completely applied, e.g. because the program stopped.
+     * Does nothing if there is no such transaction.
+     */
+    static synchronized void recover() {
+        File commitFile = new File(COMMIT_FILE);
+        if (!commitFile.exists()) {
+            return;
+        }
+        try {
+            List<String> changes = Files.readAllLines(commitFile.toPath(), StandardCharsets.UTF_8);
+            apply(changes);
+            for (String change : changes) {
+                String[] parts = change.split(SEPARATOR);
+                if (parts[0].equals(APPEND)) {
+                    new File(parts[3]).delete();
+                }
+            }
+            Files.deleteIfExists(commitFile.toPath());
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Error finishing the last save: " + e.getMessage());
+        }
+    }
+
+    private static synchronized void apply(List<String> changes) throws IOException {
+        for (String change : changes) {
+            String[] parts = change.split(SEPARATOR);
+            switch (parts[0]) {
+            case REPLACE -> {
+                File stagingFile = new File(parts[1]);
+                if (stagingFile.exists()) {
+                    SaveFileWriter.move(stagingFile, new File(parts[2]));
+                }
+            }
+            case APPEND -> appendStaged(new File(parts[1]), Long.parseLong(parts[2]), new File(parts[3]));
+            case DELETE -> Files.deleteIfExists(new File(parts[1]).toPath());
+            default -> throw new IOException("Unknown change in " + COMMIT_FILE + ": " + change);
+            }
+        }
+    }
+
+    private static void appendStaged(File file, long lengthBefore, File stagingFile) throws IOException {
+        byte[] bytes = Files.readAllBytes(stagingFile.toPath());
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        try (RandomAccessFile out = new RandomAccessFile(file, "rw")) {
+            // Cut off anything appended by an earlier attempt, so that the bytes are appended exactly once
+            if (out.length() > lengthBefore) {
+                out.setLength(lengthBefore);
+            }
+            out.seek(out.length());
+            out.write(bytes);
+            out.getChannel().force(true);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.nursesched.storage;
+
+import seedu.nursesched.format.DateTimeFormats;
+import seedu.nursesched.shift.Shift;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Converts shifts to and from their stored form.
+ * Text format: [Status] | [Start Time] | [End Time] | [Date] | [Task] | [Overtime Hours]
+ */
+public class ShiftCodec implements RecordCodec<Shift> {
+
+    @Override
+    public String encode(Shift shift) {
+        StringBuilder line = new StringBuilder(64);
+        encode(shift, line);
+        return line.toString();
+    }
+
+    @Override
+    public void encode(Shift shift, StringBuilder line) {
+        line.append(shift.getStatus()).append(" | ");
+        DateTimeFormats.appendIsoTime(line, shift.getStartTime()).append(" | ");
+        DateTimeFormats.appendIsoTime(line, shift.getEndTime()).append(" | ");
+        DateTimeFormats.appendDate(line, shift.getDate()).append(" | ").append(shift.getShiftTask()).append(" | ")
+                .append(shift.getOvertimeHours());
+    }
+
+    @Override
+    public Shift decode(String currentLine) {
+        String[] parts = currentLine.split(" \\| ");
+
+        boolean isDone = Boolean.parseBoolean(parts[0]);
+        LocalTime startTime = LocalTime.parse(parts[1]);
+        LocalTime endTime = LocalTime.parse(parts[2]);
+        LocalDate date = LocalDate.parse(parts[3]);
+        String task = parts.length > 4 ? parts[4] : "";
+        double overtime = parts.length > 5 ? Double.parseDouble(parts[5]) : 0.0;
+
+        Shift shift = new Shift(startTime, endTime, date, task);
+        shift.setDone(isDone);
+        shift.setOvertimeHours(overtime);
+        return shift;
+    }
+
+    @Override
+    public void write(DataOutputStream out, Shift shift) throws IOException {
+        out.writeBoolean(shift.getStatus());
+        out.writeInt(shift.getStartTime().toSecondOfDay());
+        out.writeInt(shift.getEndTime().toSecondOfDay());
+        out.writeLong(shift.getDate().toEpochDay());
+        out.writeUTF(shift.getShiftTask());
+        out.writeDouble(shift.getOvertimeHours());
+    }
+
+    @Override
+    public Shift read(DataInputStream in) throws IOException {
+        boolean isDone = in.readBoolean();
+        LocalTime startTime = LocalTime.ofSecondOfDay(in.readInt());
+        LocalTime endTime = LocalTime.ofSecondOfDay(in.readInt());
+        LocalDate date = LocalDate.ofEpochDay(in.readLong());
+        String task = in.readUTF();
+        double overtime = in.readDouble();
+
+        Shift shift = new Shift(startTime, endTime, date, task);
+        shift.setDone(isDone);
+        shift.setOvertimeHours(overtime);
+        return shift;
+    }
+}
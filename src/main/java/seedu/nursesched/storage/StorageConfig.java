@@ -0,0 +1,137 @@
+package seedu.nursesched.storage;
+
+/**
+ * Central configuration for all storage engines.
+ * <p>
+ * Values are read from system properties so that backends can be switched and tuned without code changes,
+ * e.g. {@code -Dnursesched.storage.backend=binary}. A single store can use a different backend from the rest,
+ * e.g. {@code -Dnursesched.storage.backend.Patient=mapped}.
+ * </p>
+ */
+public class StorageConfig {
+    public static final String DATA_DIRECTORY = "data/";
+
+    private static final String BACKEND_PROPERTY = "nursesched.storage.backend";
+    private static final String BUFFER_SIZE_PROPERTY = "nursesched.storage.bufferSize";
+    private static final String WRITE_BEHIND_PROPERTY = "nursesched.storage.writeBehind";
+    private static final String FLUSH_INTERVAL_PROPERTY = "nursesched.storage.flushIntervalMillis";
+    private static final String FLUSH_COMMANDS_PROPERTY = "nursesched.storage.flushEveryCommands";
+    private static final String PREFETCH_PROPERTY = "nursesched.storage.prefetch";
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1000;
+    private static final int DEFAULT_FLUSH_EVERY_COMMANDS = 16;
+
+    /**
+     * The available storage backends.
+     */
+    public enum Backend {
+        TEXT, BINARY, MAPPED
+    }
+
+    /**
+     * Returns the backend selected through the {@code nursesched.storage.backend} property.
+     * Defaults to the text backend, which keeps the save files compatible with earlier versions.
+     *
+     * @return The configured backend.
+     */
+    public static Backend getBackend() {
+        return parseBackend(System.getProperty(BACKEND_PROPERTY, "text"));
+    }
+
+    /**
+     * Returns the backend selected for one store through the {@code nursesched.storage.backend.<store>} property,
+     * falling back to the backend selected for all stores.
+     *
+     * @param storeName The name of the store, e.g. {@code Patient}.
+     * @return The configured backend.
+     */
+    public static Backend getBackend(String storeName) {
+        String backend = System.getProperty(BACKEND_PROPERTY + "." + storeName);
+        return backend == null ? getBackend() : parseBackend(backend);
+    }
+
+    private static Backend parseBackend(String backend) {
+        try {
+            return Backend.valueOf(backend.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.out.println("Unknown storage backend: " + backend + ". Using text storage.");
+            return Backend.TEXT;
+        }
+    }
+
+    /**
+     * Returns the I/O buffer size used by all storage engines.
+     *
+     * @return The buffer size in bytes.
+     */
+    public static int getBufferSize() {
+        return Integer.getInteger(BUFFER_SIZE_PROPERTY, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Returns whether the interactive program should batch its saves through {@link WriteBehind}.
+     *
+     * @return {@code true} unless {@code nursesched.storage.writeBehind} is set to {@code false}.
+     */
+    public static boolean isWriteBehindEnabled() {
+        return Boolean.parseBoolean(System.getProperty(WRITE_BEHIND_PROPERTY, "true"));
+    }
+
+    /**
+     * Returns whether the save files should be loaded in the background as soon as the program starts, instead of
+     * only when a command first needs them.
+     *
+     * @return {@code true} unless {@code nursesched.storage.prefetch} is set to {@code false}.
+     */
+    public static boolean isPrefetchEnabled() {
+        return Boolean.parseBoolean(System.getProperty(PREFETCH_PROPERTY, "true"));
+    }
+
+    /**
+     * Returns how often pending saves are flushed in the background.
+     *
+     * @return The flush interval in milliseconds, or 0 to only flush after commands and on exit.
+     */
+    public static long getFlushIntervalMillis() {
+        return Long.getLong(FLUSH_INTERVAL_PROPERTY, DEFAULT_FLUSH_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Returns the number of commands after which pending saves are flushed.
+     *
+     * @return The number of commands, at least 1.
+     */
+    public static int getFlushEveryCommands() {
+        return Math.max(1, Integer.getInteger(FLUSH_COMMANDS_PROPERTY, DEFAULT_FLUSH_EVERY_COMMANDS));
+    }
+
+    /**
+     * Creates the storage engine for one save file using the configured backend.
+     *
+     * @param storeName The name of the store, used as the save file name, e.g. {@code Patient}.
+     * @param codec     The codec for the records of the store.
+     * @param <T>       The type of record stored.
+     * @return The storage engine.
+     */
+    public static <T> StorageEngine<T> createEngine(String storeName, RecordCodec<T> codec) {
+        return createEngine(getBackend(storeName), storeName, codec);
+    }
+
+    /**
+     * Creates the storage engine for one save file using the given backend.
+     *
+     * @param backend   The backend to use.
+     * @param storeName The name of the store, used as the save file name, e.g. {@code Patient}.
+     * @param codec     The codec for the records of the store.
+     * @param <T>       The type of record stored.
+     * @return The storage engine.
+     */
+    public static <T> StorageEngine<T> createEngine(Backend backend, String storeName, RecordCodec<T> codec) {
+        TextStorageEngine<T> textEngine = new TextStorageEngine<>(DATA_DIRECTORY + storeName + ".txt", codec);
+        return switch (backend) {
+        case BINARY -> new BinaryStorageEngine<>(DATA_DIRECTORY + storeName + ".bin", codec, textEngine);
+        case MAPPED -> new MappedStorageEngine<>(DATA_DIRECTORY + storeName + ".nsm", codec, textEngine);
+        default -> textEngine;
+        };
+    }
+}
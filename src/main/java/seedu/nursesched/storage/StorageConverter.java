@@ -0,0 +1,91 @@
+package seedu.nursesched.storage;
+
+import seedu.nursesched.appointment.Appointment;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts save files between storage backends, e.g. from {@code data/Patient.txt} to {@code data/Patient.nsm}
+ * and back.
+ * <p>
+ * Usage: {@code StorageConverter FROM TO [STORE...]}, where {@code FROM} and {@code TO} are one of
+ * {@code text}, {@code binary} or {@code mapped}, and {@code STORE} is one of {@code Patient}, {@code Appt},
+ * {@code PatientTest}, {@code Shift}, {@code Task} or {@code Medicine}. Patient and Appt are converted if no store
+ * is given. The appointment journal is not touched, as it is replayed on top of any backend.
+ * </p>
+ * <p>
+ * Appointments are read the same way as on start-up: patients are loaded first so that each appointment finds its
+ * patient's name, and appointments saved without an ID or with a repeated ID are given new IDs.
+ * </p>
+ */
+public class StorageConverter {
+    private static final Map<String, RecordCodec<?>> CODECS = Map.of(
+            "Patient", new PatientCodec(),
+            "Appt", new AppointmentCodec(),
+            "PatientTest", new MedicalTestCodec(),
+            "Shift", new ShiftCodec(),
+            "Task", new TaskCodec(),
+            "Medicine", new MedicineCodec());
+    private static final List<String> DEFAULT_STORES = List.of("Patient", "Appt");
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Usage: StorageConverter FROM TO [STORE...]");
+            System.out.println("FROM and TO: text, binary or mapped. STORE: " + String.join(", ", CODECS.keySet()));
+            return;
+        }
+
+        StorageConfig.Backend from = StorageConfig.Backend.valueOf(args[0].toUpperCase());
+        StorageConfig.Backend to = StorageConfig.Backend.valueOf(args[1].toUpperCase());
+        List<String> stores = args.length > 2 ? List.of(args).subList(2, args.length) : DEFAULT_STORES;
+        for (String store : stores) {
+            RecordCodec<?> codec = CODECS.get(store);
+            if (codec == null) {
+                System.out.println("Unknown store: " + store);
+                continue;
+            }
+            int count = store.equals("Appt") ? convertAppointments(from, to) : convert(store, codec, from, to);
+            System.out.println("Converted " + count + " records of " + store + " from " + args[0] + " to " + args[1]);
+        }
+    }
+
+    /**
+     * Copies every record of one store from one backend to another.
+     *
+     * @param storeName The name of the store, e.g. {@code Patient}.
+     * @param codec     The codec for the records of the store.
+     * @param from      The backend to read from.
+     * @param to        The backend to write to.
+     * @param <T>       The type of record stored.
+     * @return The number of records converted.
+     */
+    public static <T> int convert(String storeName, RecordCodec<T> codec, StorageConfig.Backend from,
+            StorageConfig.Backend to) {
+        ArrayList<T> records = StorageConfig.createEngine(from, storeName, codec).load();
+        StorageConfig.createEngine(to, storeName, codec).save(records);
+        return records.size();
+    }
+
+    /**
+     * Copies every appointment from one backend to another, renumbering IDs as {@link AppointmentStorage#readFile()}
+     * does.
+     *
+     * @param from The backend to read from.
+     * @param to   The backend to write to.
+     * @return The number of appointments converted.
+     */
+    public static int convertAppointments(StorageConfig.Backend from, StorageConfig.Backend to) {
+        Stores.PATIENTS.ensureLoaded();
+        AppointmentCodec codec = new AppointmentCodec();
+        ArrayList<Appointment> loaded = StorageConfig.createEngine(from, "Appt", codec).load();
+        LinkedHashMap<Integer, Appointment> appointments = new LinkedHashMap<>();
+        AppointmentStorage.assignUniqueIds(loaded, codec.consumeLegacyAppointments(), appointments);
+
+        ArrayList<Appointment> records = new ArrayList<>(appointments.values());
+        StorageConfig.createEngine(to, "Appt", codec).save(records);
+        return records.size();
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.nursesched.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Persists a whole list of records of one entity type.
+ * <p>
+ * Each {@code *Storage} class holds one engine for its save file. Which backend is used, and how it
+ * buffers its I/O, is decided in one place by {@link StorageConfig}.
+ * </p>
+ *
+ * @param <T> The type of record stored by this engine.
+ */
+public interface StorageEngine<T> {
+
+    /**
+     * Loads every record from the save file.
+     * If the save file does not exist, the necessary directories are created and an empty list is returned.
+     *
+     * @return The records in the order they were saved.
+     */
+    ArrayList<T> load();
+
+    /**
+     * Replaces the save file with the given records.
+     *
+     * @param records The records to save, in order.
+     * @return Whether the records were written, or staged inside a {@link SaveTransaction}. The cause of a
+     *         failure has already been reported to the user.
+     */
+    boolean save(List<T> records);
+
+    /**
+     * Captures the current state of the given records and returns a task that saves that state.
+     * Lets the caller take the snapshot on its own thread and write it out on another, while the records keep
+     * changing.
+     *
+     * @param records The records to save, in order.
+     * @return A task that replaces the save file with the captured records, and returns whether it succeeded.
+     */
+    BooleanSupplier prepareSave(List<T> records);
+
+    /**
+     * Returns the path of the save file backing this engine.
+     *
+     * @return The save file path.
+     */
+    String getFilePath();
+}
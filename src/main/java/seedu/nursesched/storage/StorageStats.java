@@ -0,0 +1,48 @@
+package seedu.nursesched.storage;
+
+import java.io.File;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the bytes written to save files and journals since the program started, whichever thread wrote them, in
+ * total and for each file.
+ * <p>
+ * Bytes are counted against the file they end up in, so a save staged in a temporary or staging file counts against
+ * the save file it replaces.
+ * </p>
+ */
+public final class StorageStats {
+    private static final AtomicLong BYTES_WRITTEN = new AtomicLong();
+    private static final ConcurrentHashMap<String, AtomicLong> BYTES_WRITTEN_BY_FILE = new ConcurrentHashMap<>();
+
+    private StorageStats() {
+    }
+
+    /**
+     * Returns the number of bytes written to save files and journals so far.
+     *
+     * @return The number of bytes.
+     */
+    public static long getBytesWritten() {
+        return BYTES_WRITTEN.get();
+    }
+
+    /**
+     * Returns the number of bytes written to each save file and journal so far.
+     *
+     * @return The number of bytes, keyed by file name, e.g. {@code Appt.journal}, in order of name.
+     */
+    public static Map<String, Long> getBytesWrittenByFile() {
+        TreeMap<String, Long> bytesByFile = new TreeMap<>();
+        BYTES_WRITTEN_BY_FILE.forEach((fileName, bytes) -> bytesByFile.put(fileName, bytes.get()));
+        return bytesByFile;
+    }
+
+    static void addBytesWritten(File file, long bytes) {
+        BYTES_WRITTEN_BY_FILE.computeIfAbsent(file.getName(), fileName -> new AtomicLong()).addAndGet(bytes);
+        BYTES_WRITTEN.addAndGet(bytes);
+    }
+}
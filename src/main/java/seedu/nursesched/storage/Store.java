@@ -0,0 +1,111 @@
+package seedu.nursesched.storage;
+
+import seedu.nursesched.log.AppLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The records of one type, such as the patients, which are read from their save file the first time they are needed.
+ * <p>
+ * Loading reads the save file and hands the records to the class that keeps them, e.g. {@code Patient}. A store is
+ * loaded at most once, by whichever thread needs it first; other threads that need it meanwhile wait for it. The
+ * stores a store reads while loading, e.g. the patients whose names the appointments show, are loaded before it.
+ * </p>
+ * <p>
+ * Loaders may run on a background thread while a command holds the {@link WriteBehind} lock, so they must save
+ * directly rather than through {@link WriteBehind}.
+ * </p>
+ *
+ * @param <T> The type of record in the store.
+ */
+public class Store<T> {
+    private static final AppLogger logr = AppLogger.getLogger("Store", "logs/storage/storage.log");
+
+    private final String name;
+    private final Supplier<ArrayList<T>> loader;
+    private final Consumer<ArrayList<T>> installer;
+    private final List<Store<?>> dependencies;
+    private final List<Store<?>> dependents = new ArrayList<>();
+    private volatile boolean isLoaded = false;
+    private long loadMillis = 0;
+    private int size = 0;
+
+    /**
+     * Constructs a store that is not loaded yet.
+     *
+     * @param name         The name of the records, e.g. {@code patients}.
+     * @param loader       Reads the records from the save file.
+     * @param installer    Hands the records to the class that keeps them.
+     * @param dependencies The stores that the loader reads.
+     */
+    public Store(String name, Supplier<ArrayList<T>> loader, Consumer<ArrayList<T>> installer,
+            Store<?>... dependencies) {
+        this.name = name;
+        this.loader = loader;
+        this.installer = installer;
+        this.dependencies = List.of(dependencies);
+        for (Store<?> dependency : dependencies) {
+            dependency.dependents.add(this);
+        }
+    }
+
+    /**
+     * Loads the store if it has not been loaded, first loading the stores it reads.
+     */
+    public void ensureLoaded() {
+        if (isLoaded) {
+            return;
+        }
+        for (Store<?> dependency : dependencies) {
+            dependency.ensureLoaded();
+        }
+        synchronized (this) {
+            if (isLoaded) {
+                return;
+            }
+            long start = System.nanoTime();
+            ArrayList<T> records = loader.get();
+            installer.accept(records);
+            loadMillis = (System.nanoTime() - start) / 1_000_000;
+            size = records.size();
+            isLoaded = true;
+        }
+        logr.info(() -> "Loaded " + size + " " + name + " in " + loadMillis + " ms");
+    }
+
+    /**
+     * Loads the store and every store that reads it while loading, so that the store can be changed without another
+     * store still reading it.
+     */
+    public void ensureLoadedForChange() {
+        ensureLoaded();
+        for (Store<?> dependent : dependents) {
+            dependent.ensureLoadedForChange();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isLoaded() {
+        return isLoaded;
+    }
+
+    /**
+     * Returns how long loading took, or 0 if the store has not been loaded.
+     */
+    public synchronized long getLoadMillis() {
+        return loadMillis;
+    }
+
+    /**
+     * Returns the number of records loaded, or 0 if the store has not been loaded.
+     */
+    public synchronized int getLoadedSize() {
+        return size;
+    }
+}
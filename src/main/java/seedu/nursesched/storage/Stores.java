@@ -0,0 +1,78 @@
+package seedu.nursesched.storage;
+
+import seedu.nursesched.appointment.Appointment;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.medicine.Medicine;
+import seedu.nursesched.patient.MedicalTest;
+import seedu.nursesched.patient.Patient;
+import seedu.nursesched.shift.Shift;
+import seedu.nursesched.task.Task;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The stores of every type of record, and the order they depend on each other in.
+ * <p>
+ * Nothing is read from the save files when the program starts. Each command loads the stores it uses before it runs,
+ * see {@link seedu.nursesched.command.CommandType#loads}, and {@link #prefetch()} loads every store on a background
+ * thread in the meantime, so the first command that needs a store usually finds it loaded already.
+ * </p>
+ */
+public final class Stores {
+    public static final Store<Patient> PATIENTS = new Store<>("patients", () -> {
+        try {
+            return PatientStorage.readFile();
+        } catch (NurseSchedException e) {
+            System.out.println(e.getMessage());
+            return new ArrayList<>();
+        }
+    }, Patient::setPatientsList);
+    public static final Store<MedicalTest> MEDICAL_TESTS = new Store<>("medical tests", () -> {
+        try {
+            return PatientTestStorage.readFile();
+        } catch (NurseSchedException e) {
+            System.out.println(e.getMessage());
+            return new ArrayList<>();
+        }
+    }, MedicalTest::setMedicalTestList);
+    public static final Store<Appointment> APPOINTMENTS = new Store<>("appointments",
+            AppointmentStorage::readFile, Appointment::setApptList, PATIENTS);
+    public static final Store<Shift> SHIFTS = new Store<>("shifts", () -> {
+        try {
+            return ShiftStorage.readFile();
+        } catch (Exception e) {
+            System.out.println("Failed to load shifts. Starting with empty list.");
+            return new ArrayList<>();
+        }
+    }, Shift::setShiftList);
+    public static final Store<Task> TASKS = new Store<>("tasks", TaskStorage::readFile, Task::setTaskList);
+    public static final Store<Medicine> MEDICINES = new Store<>("medicines",
+            MedicineStorage::readFile, Medicine::setMedicineList);
+
+    private static final List<Store<?>> ALL = List.of(PATIENTS, MEDICAL_TESTS, APPOINTMENTS, SHIFTS, TASKS,
+            MEDICINES);
+
+    private Stores() {
+    }
+
+    /**
+     * Returns every store, each after the stores it depends on.
+     */
+    public static List<Store<?>> getAll() {
+        return ALL;
+    }
+
+    /**
+     * Starts loading every store in parallel on background threads, if prefetching is enabled.
+     * Returns at once. A command that needs a store that is still loading waits for it.
+     */
+    public static void prefetch() {
+        if (!StorageConfig.isPrefetchEnabled()) {
+            return;
+        }
+        Thread thread = new Thread(() -> ALL.parallelStream().forEach(Store::ensureLoaded), "store-prefetch");
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.nursesched.storage;
+
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.format.DateTimeFormats;
+import seedu.nursesched.task.Task;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Converts tasks to and from their stored form.
+ * Text format: "completion status | description | due date | due time"
+ */
+public class TaskCodec implements RecordCodec<Task> {
+
+    @Override
+    public String encode(Task task) {
+        StringBuilder line = new StringBuilder(48);
+        encode(task, line);
+        return line.toString();
+    }
+
+    @Override
+    public void encode(Task task, StringBuilder line) {
+        line.append(task.getIsDone() ? "[X]" : "[ ]").append(" | ").append(task.getDescription()).append(" | ");
+        DateTimeFormats.appendDate(line, task.getByDate()).append(" | ");
+        DateTimeFormats.appendIsoTime(line, task.getByTime());
+    }
+
+    /**
+     * Parses a string representing a task and returns a Task object.
+     * Invalid lines are reported here, and skipped by returning null.
+     *
+     * @param currentLine The line representing a task.
+     * @return A Task object with the parsed values, or null if invalid.
+     */
+    @Override
+    public Task decode(String currentLine) {
+        try {
+            String[] parts = currentLine.split(" \\| ");
+
+            if (parts.length != 4) {
+                System.out.println("Invalid task format in storage file: " + currentLine);
+                return null;
+            }
+
+            String completionStatus = parts[0];
+            if (!completionStatus.equals("[ ]") && !completionStatus.equals("[X]")) {
+                System.out.println("Invalid task's completion status in storage file: " + currentLine);
+                System.out.println("Completion status should be either [ ] or [X]");
+                return null;
+            }
+
+            boolean isDone = completionStatus.equals("[X]");
+
+            String description = parts[1];
+            if (description.isEmpty()) {
+                System.out.println("Invalid task description in storage file: " + currentLine);
+                return null;
+            }
+
+            LocalDate byDate;
+            LocalTime byTime;
+            try {
+                byDate = LocalDate.parse(parts[2]);
+                byTime = LocalTime.parse(parts[3]);
+            } catch (DateTimeParseException e) {
+                String msg = e.getMessage();
+                //Find exactly where the error lies
+                if (msg.contains("HourOfDay")) {
+                    throw new NurseSchedException(ExceptionMessage.INVALID_HOUR);
+                } else if (msg.contains("MinuteOfHour")) {
+                    throw new NurseSchedException(ExceptionMessage.INVALID_MINUTE);
+                } else if (msg.contains("MonthOfYear")) {
+                    throw new NurseSchedException(ExceptionMessage.INVALID_MONTH);
+                } else if (msg.contains("DayOfMonth")) {
+                    throw new NurseSchedException(ExceptionMessage.INVALID_DAY);
+                } else if (msg.contains("Invalid date")) {
+                    throw new NurseSchedException(ExceptionMessage.INVALID_DATE);
+                }
+                throw new NurseSchedException(ExceptionMessage.INVALID_DATETIME_FORMAT);
+            }
+            return new Task(description, byDate, byTime, isDone);
+        } catch (Exception e) {
+            System.out.println("Unexpected error while parsing tasks -> " + currentLine);
+            return null;
+        }
+    }
+
+    @Override
+    public void write(DataOutputStream out, Task task) throws IOException {
+        out.writeBoolean(task.getIsDone());
+        out.writeUTF(task.getDescription());
+        out.writeLong(task.getByDate().toEpochDay());
+        out.writeInt(task.getByTime().toSecondOfDay());
+    }
+
+    @Override
+    public Task read(DataInputStream in) throws IOException {
+        boolean isDone = in.readBoolean();
+        String description = in.readUTF();
+        LocalDate byDate = LocalDate.ofEpochDay(in.readLong());
+        LocalTime byTime = LocalTime.ofSecondOfDay(in.readInt());
+        return new Task(description, byDate, byTime, isDone);
+    }
+}
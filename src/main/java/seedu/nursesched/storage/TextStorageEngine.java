@@ -0,0 +1,167 @@
+package seedu.nursesched.storage;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Stores records as human-readable lines of text, one record per line.
+ * This is the default backend, and the format every earlier version of the save files was written in.
+ * The last line holds a CRC32 checksum of the lines before it.
+ *
+ * @param <T> The type of record stored by this engine.
+ */
+public class TextStorageEngine<T> implements StorageEngine<T> {
+    private static final int ESTIMATED_LINE_LENGTH = 64;
+
+    private final String filePath;
+    private final RecordCodec<T> codec;
+
+    /**
+     * Constructs a text storage engine.
+     *
+     * @param filePath The path of the save file, e.g. {@code data/Patient.txt}.
+     * @param codec    The codec used to format and parse each line.
+     */
+    public TextStorageEngine(String filePath, RecordCodec<T> codec) {
+        this.filePath = filePath;
+        this.codec = codec;
+    }
+
+    /**
+     * Reads all records from the save file.
+     * Lines that cannot be parsed are reported and skipped, so one corrupted line never loses the rest of the file.
+     *
+     * @return An ArrayList containing all records read from the save file.
+     */
+    @Override
+    public ArrayList<T> load() {
+        SaveTransaction.recover();
+        File file = new File(filePath);
+        ArrayList<T> records = new ArrayList<>();
+
+        if (!file.exists()) {
+            file.getParentFile().mkdirs();
+            return records;
+        }
+
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            System.out.println("Error reading save file at " + filePath + ": " + e.getMessage());
+            return records;
+        }
+        int contentLength = verifyChecksum(content);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ByteArrayInputStream(content, 0, contentLength), StandardCharsets.UTF_8))) {
+            int lineNumber = 0;
+            String currentLine;
+            while ((currentLine = reader.readLine()) != null) {
+                lineNumber++;
+                if (currentLine.isBlank() || currentLine.startsWith(SaveFileWriter.TEXT_CHECKSUM_PREFIX)) {
+                    continue;
+                }
+
+                try {
+                    T record = codec.decode(currentLine);
+                    if (record != null) {
+                        records.add(record);
+                    }
+                } catch (Exception e) {
+                    System.out.println("Error parsing line " + lineNumber + " of save file: " + currentLine);
+                    System.out.println("Consider removing that line from the save file. Bypassing line.");
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Error reading save file at " + filePath + ": " + e.getMessage());
+        }
+        return records;
+    }
+
+    /**
+     * Checks the checksum line at the end of the save file, if there is one.
+     * Save files without a checksum line, e.g. those written by earlier versions, are accepted as they are.
+     *
+     * @param content The content of the save file.
+     * @return The length of the content before the checksum line.
+     */
+    private int verifyChecksum(byte[] content) {
+        int end = content.length;
+        while (end > 0 && (content[end - 1] == '\n' || content[end - 1] == '\r')) {
+            end--;
+        }
+        int lineStart = end;
+        while (lineStart > 0 && content[lineStart - 1] != '\n') {
+            lineStart--;
+        }
+        String lastLine = new String(content, lineStart, end - lineStart, StandardCharsets.US_ASCII);
+        if (!lastLine.startsWith(SaveFileWriter.TEXT_CHECKSUM_PREFIX)) {
+            return content.length;
+        }
+        if (!lastLine.equals(SaveFileWriter.formatTextChecksum(SaveFileWriter.checksum(content, lineStart)))) {
+            SaveFileWriter.reportCorruptFile(filePath);
+        }
+        return lineStart;
+    }
+
+    /**
+     * Overwrites the save file with the given records.
+     *
+     * @param records The records to save, in order.
+     * @return Whether the records were saved.
+     */
+    @Override
+    public boolean save(List<T> records) {
+        return prepareSave(records).getAsBoolean();
+    }
+
+    /**
+     * Formats every record into one block of text straight away, so that the records can change after this returns,
+     * and returns the task that writes the text out.
+     */
+    @Override
+    public BooleanSupplier prepareSave(List<T> records) {
+        StringBuilder text = new StringBuilder(records.size() * ESTIMATED_LINE_LENGTH);
+        for (T record : records) {
+            codec.encode(record, text);
+            text.append('\n');
+        }
+        String content = text.toString();
+        return () -> writeText(content);
+    }
+
+    private boolean writeText(String content) {
+        try {
+            SaveFileWriter.replace(new File(filePath), out -> {
+                CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32());
+                Writer writer = new OutputStreamWriter(checkedOut, StandardCharsets.UTF_8);
+                writer.write(content);
+                writer.flush();
+                int checksum = (int) checkedOut.getChecksum().getValue();
+                out.write((SaveFileWriter.formatTextChecksum(checksum) + "\n").getBytes(StandardCharsets.US_ASCII));
+            });
+            return true;
+        } catch (IOException e) {
+            System.out.println("Error saving to " + filePath + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public String getFilePath() {
+        return filePath;
+    }
+}
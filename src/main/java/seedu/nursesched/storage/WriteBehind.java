@@ -0,0 +1,271 @@
+package seedu.nursesched.storage;
+
+import seedu.nursesched.log.AppLogger;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coalesces saves so that one user command, or a burst of them, rewrites each save file at most once.
+ * <p>
+ * Every store reports its pending save through {@link #markDirty(Object, Runnable)}. Until write-behind is
+ * enabled, the save runs straight away, exactly like a direct write. Once enabled, only the latest pending save of
+ * each store is kept, and all of them are run together after a number of commands, on a fixed interval, and on exit.
+ * </p>
+ * <p>
+ * Commands run while holding the same lock that the flush takes, so a save never sees a list in the middle of
+ * being changed by a command.
+ * </p>
+ * <p>
+ * Between {@link #beginBatch()} and {@link #endBatch()}, saves are held back even if write-behind is not enabled,
+ * and are only flushed once the batch ends.
+ * </p>
+ */
+public class WriteBehind {
+    private static final AppLogger logr = AppLogger.getLogger("WriteBehind", "logs/storage/storage.log");
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static final LinkedHashMap<Object, Runnable> DIRTY_STORES = new LinkedHashMap<>();
+
+    private static boolean isEnabled = false;
+    private static int flushEveryCommands = 1;
+    private static int commandsSinceFlush = 0;
+    private static int batchDepth = 0;
+    private static boolean wasEnabledBeforeBatch = false;
+    private static ScheduledExecutorService timer;
+
+    /**
+     * Enables write-behind with the settings from {@link StorageConfig}, unless it has been switched off there.
+     * Also registers a shutdown hook, so that pending saves are still written if the program is stopped without
+     * {@code exit ns}.
+     */
+    public static void enableFromConfig() {
+        if (!StorageConfig.isWriteBehindEnabled()) {
+            return;
+        }
+        enable(StorageConfig.getFlushIntervalMillis(), StorageConfig.getFlushEveryCommands());
+        Runtime.getRuntime().addShutdownHook(new Thread(WriteBehind::flush, "write-behind-shutdown"));
+    }
+
+    /**
+     * Enables write-behind.
+     *
+     * @param flushIntervalMillis How often pending saves are flushed in the background, or 0 to never flush on a timer.
+     * @param flushEveryCommands  The number of commands after which pending saves are flushed.
+     */
+    public static void enable(long flushIntervalMillis, int flushEveryCommands) {
+        LOCK.lock();
+        try {
+            assert flushEveryCommands > 0 : "Flush command count must be positive";
+            WriteBehind.flushEveryCommands = flushEveryCommands;
+            commandsSinceFlush = 0;
+            isEnabled = true;
+            if (timer == null && flushIntervalMillis > 0) {
+                timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "write-behind");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                timer.scheduleWithFixedDelay(WriteBehind::flushUnlessInBatch, flushIntervalMillis, flushIntervalMillis,
+                        TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Flushes all pending saves, stops the background flush, and goes back to saving straight away.
+     */
+    public static void disable() {
+        LOCK.lock();
+        try {
+            flush();
+            if (!DIRTY_STORES.isEmpty()) {
+                String message = "Warning: some changes could not be saved to the data folder and will be lost.";
+                System.out.println(message);
+                logr.warning(message);
+            }
+            isEnabled = false;
+            if (timer != null) {
+                timer.shutdown();
+                timer = null;
+            }
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Reports that a store has changed and how to save it.
+     * If the store already has a pending save, it is replaced by the given one.
+     *
+     * @param store The store that changed, used to coalesce its saves.
+     * @param save  Saves the current state of the store.
+     */
+    public static void markDirty(Object store, Runnable save) {
+        LOCK.lock();
+        try {
+            if (isEnabled) {
+                DIRTY_STORES.put(store, save);
+                return;
+            }
+        } finally {
+            LOCK.unlock();
+        }
+        save.run();
+    }
+
+    /**
+     * Marks the start of a command. The command has exclusive access to the stores until {@link #endCommand()}.
+     */
+    public static void beginCommand() {
+        LOCK.lock();
+    }
+
+    /**
+     * Marks the end of a command, flushing pending saves if enough commands have run since the last flush.
+     */
+    public static void endCommand() {
+        try {
+            commandsSinceFlush++;
+            if (batchDepth == 0 && commandsSinceFlush >= flushEveryCommands) {
+                flush();
+            }
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Marks the start of a batch of commands. Saves are held back until the matching {@link #endBatch()}.
+     * Batches may be nested, in which case saves are held back until the outermost batch ends.
+     */
+    public static void beginBatch() {
+        LOCK.lock();
+        try {
+            if (batchDepth++ == 0) {
+                wasEnabledBeforeBatch = isEnabled;
+                isEnabled = true;
+            }
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Marks the end of a batch of commands. At the end of the outermost batch, all pending saves are flushed.
+     */
+    public static void endBatch() {
+        LOCK.lock();
+        try {
+            assert batchDepth > 0 : "endBatch called without beginBatch";
+            if (--batchDepth == 0) {
+                flush();
+                isEnabled = wasEnabledBeforeBatch;
+            }
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    private static void flushUnlessInBatch() {
+        LOCK.lock();
+        try {
+            if (batchDepth == 0) {
+                flush();
+            }
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Runs every pending save, in the order the stores first changed, as one {@link SaveTransaction}. The save
+     * files changed by one flush are therefore found on disk either all in their new state or all in their old one.
+     * If the transaction fails, the saves stay pending and are run again by the next flush, unless their stores
+     * have been changed again in the meantime.
+     */
+    public static void flush() {
+        LOCK.lock();
+        try {
+            commandsSinceFlush = 0;
+            if (DIRTY_STORES.isEmpty()) {
+                return;
+            }
+            LinkedHashMap<Object, Runnable> saves = new LinkedHashMap<>(DIRTY_STORES);
+            DIRTY_STORES.clear();
+            boolean isCommitted = SaveTransaction.run(() -> {
+                for (Runnable save : saves.values()) {
+                    try {
+                        save.run();
+                    } catch (RuntimeException e) {
+                        System.out.println("Error saving changes: " + e.getMessage());
+                        SaveTransaction.current().fail();
+                    }
+                }
+            });
+            if (!isCommitted) {
+                saves.putAll(DIRTY_STORES);
+                DIRTY_STORES.clear();
+                DIRTY_STORES.putAll(saves);
+                reportFailedSave();
+            }
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Keeps a save that has just failed outside of {@link #flush()} pending, so that the next flush runs it again,
+     * even if write-behind is not enabled.
+     *
+     * @param store The store whose save failed.
+     * @param save  Saves the current state of the store.
+     */
+    public static void retryLater(Object store, Runnable save) {
+        LOCK.lock();
+        try {
+            DIRTY_STORES.putIfAbsent(store, save);
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    private static void reportFailedSave() {
+        String message = "Error saving changes: none of the latest changes were saved to the data folder. "
+                + "They are kept and will be saved again with the next save.";
+        System.out.println(message);
+        logr.warning(message);
+    }
+
+    /**
+     * Returns whether a batch is running, during which saves are held back until it ends.
+     *
+     * @return {@code true} between {@link #beginBatch()} and the matching {@link #endBatch()}.
+     */
+    public static boolean isInBatch() {
+        LOCK.lock();
+        try {
+            return batchDepth > 0;
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Returns whether any store has changes that have not been saved yet.
+     *
+     * @return {@code true} if a flush would write anything.
+     */
+    public static boolean hasPendingSaves() {
+        LOCK.lock();
+        try {
+            return !DIRTY_STORES.isEmpty();
+        } finally {
+            LOCK.unlock();
+        }
+    }
+}
@@ -2,56 +2,31 @@ package seedu.nursesched.task;
 
 import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.format.DateTimeFormats;
+import seedu.nursesched.index.TextIndex;
+import seedu.nursesched.log.AppLogger;
 import seedu.nursesched.storage.TaskStorage;
+import seedu.nursesched.ui.Page;
+import seedu.nursesched.ui.Ui;
 
-import java.io.File;
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.logging.LogManager;
-import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
-import java.util.logging.FileHandler;
-import java.util.logging.Level;
 
 /**
  * Represents all to-do tasks.
  * It contains details such as the task description, completion status, due date and time.
  */
 public class Task {
-    private static ArrayList<Task> taskList;
-    private static final Logger logr = Logger.getLogger("Task");
+    private static ArrayList<Task> taskList = new ArrayList<>();
+    private static final AppLogger logr = AppLogger.getLogger("Task", "logs/task/task.log");
+    private static final TextIndex<Task> DESCRIPTION_SEARCH = new TextIndex<>(Task::getDescription);
 
     private String description;
     private LocalDate byDate;
     private LocalTime byTime;
     private boolean isDone;
 
-    static {
-        try {
-            File logDir = new File("logs/task");
-            if (!logDir.exists()) {
-                boolean isCreated = logDir.mkdirs(); //Creates the directory and any missing parent directories
-                if (!isCreated) {
-                    throw new IOException("Error creating log directory!");
-                }
-            }
-
-            LogManager.getLogManager().reset();
-            FileHandler fh = new FileHandler("logs/task/task.log", true);
-            fh.setFormatter(new SimpleFormatter());
-            logr.addHandler(fh);
-            logr.setLevel(Level.ALL);
-
-        } catch (IOException e) {
-            logr.log(Level.SEVERE, "File logger not working", e);
-        }
-        taskList = TaskStorage.readFile();
-
-    }
-
     /**
      * Constructs a Task object with the specified details.
      *
@@ -65,7 +40,7 @@ public class Task {
         this.byDate = byDate;
         this.byTime = byTime;
         this.isDone = isDone;
-        logr.info("Task object created");
+        logr.fine(() -> "Task object created");
     }
 
     /**
@@ -86,7 +61,9 @@ public class Task {
             logr.warning("Due date and time cannot be in the past!");
             throw new NurseSchedException(ExceptionMessage.INVALID_DUE_DATE_TIME);
         }
-        taskList.add(new Task(description, byDate, byTime, isDone));
+        Task task = new Task(description, byDate, byTime, isDone);
+        taskList.add(task);
+        DESCRIPTION_SEARCH.added(taskList, task);
         TaskStorage.overwriteSaveFile(taskList);
         System.out.println("Task added: " + description);
         logr.info("Task added: " + description);
@@ -106,7 +83,8 @@ public class Task {
             throw new NurseSchedException(ExceptionMessage.TASK_INDEX_OUT_OF_BOUNDS);
         }
         try {
-            taskList.remove(index - 1);
+            Task task = taskList.remove(index - 1);
+            DESCRIPTION_SEARCH.removed(taskList, task);
             TaskStorage.overwriteSaveFile(taskList);
             System.out.println("Task deleted successfully!");
             logr.info("Task deleted.");
@@ -175,17 +153,17 @@ public class Task {
     }
 
     /**
-     * Lists out all tasks in the task list.
+     * Lists out the tasks on one page of the task list.
+     *
+     * @param page The page to list.
      */
-    public static void listTasks() {
+    public static void listTasks(Page page) {
         if (taskList.isEmpty()) {
             System.out.println("You have 0 tasks.");
             return;
         }
         int listSize = taskList.size();
-        for (int index = 0; index < listSize; index++) {
-            System.out.println((index + 1) + ". " + taskList.get(index).toString());
-        }
+        Ui.printList(taskList, page, (number, task, line) -> task.appendTo(line.append(number).append(". ")));
         System.out.println("You have " + listSize + (listSize == 1 ? " task!" : " tasks!"));
         logr.info("All tasks listed");
     }
@@ -254,21 +232,26 @@ public class Task {
      * Displays all tasks which contain the keyword in its description.
      *
      * @param keyword The keyword or phrase to be searched for.
+     * @param page    The page of matching tasks to display.
      */
-    public static void findTask(String keyword) {
+    public static void findTask(String keyword, Page page) {
         assert !keyword.isEmpty() : "Keyword to find cannot be empty.";
         keyword = keyword.toLowerCase();
-        int totalFound = 0;
-        for (int i = 0; i < taskList.size(); i++) {
-            Task task = taskList.get(i);
-            if (task.getDescription().toLowerCase().contains(keyword)) {
-                totalFound++;
-                System.out.println((i + 1) + ". " + task.toString());
+        ArrayList<Integer> positions = new ArrayList<>();
+        int i = 0;
+        for (Task task : DESCRIPTION_SEARCH.search(taskList, keyword)) {
+            // Matches are in list order, so the position of each one is found in a single pass
+            while (taskList.get(i) != task) {
+                i++;
             }
+            positions.add(i);
         }
+        int totalFound = positions.size();
         if (totalFound == 0) {
             System.out.println("There are no tasks with the keyword \"" + keyword + "\"");
         } else {
+            Ui.printList(positions, page, (number, position, line) -> taskList.get(position)
+                    .appendTo(line.append(position + 1).append(". ")));
             System.out.println("There are " + totalFound + " tasks with the keyword \"" + keyword + "\"");
         }
     }
@@ -279,6 +262,7 @@ public class Task {
 
     public void setDescription(String description) {
         this.description = description;
+        DESCRIPTION_SEARCH.changed(taskList, this);
     }
 
     public LocalDate getByDate() {
@@ -313,13 +297,31 @@ public class Task {
         taskList = new ArrayList<Task>();
     }
 
+    /**
+     * Replaces the list of tasks, e.g. with the tasks loaded from the save file.
+     *
+     * @param tasks The new list of tasks.
+     */
+    public static void setTaskList(ArrayList<Task> tasks) {
+        taskList = tasks;
+    }
+
     @Override
     public String toString() {
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd MMM yyyy");
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("hh:mm a");
-        return (isDone ? "[X] " : "[ ] ")
-                + description
-                + ", By: " + byDate.format(dateFormatter)
-                + ", " + byTime.format(timeFormatter);
+        return appendTo(new StringBuilder(64)).toString();
+    }
+
+    /**
+     * Appends the details of the task, in the same form as {@link #toString()}.
+     *
+     * @param line The line to append to.
+     * @return The line.
+     */
+    public StringBuilder appendTo(StringBuilder line) {
+        line.append(isDone ? "[X] " : "[ ] ").append(description).append(", By: ");
+        DateTimeFormats.TASK_DATE.formatTo(byDate, line);
+        line.append(", ");
+        DateTimeFormats.TASK_TIME.formatTo(byTime, line);
+        return line;
     }
 }
@@ -0,0 +1,61 @@
+package seedu.nursesched.ui;
+
+/**
+ * The part of a list to print: one page of a given number of items, or the whole list.
+ */
+public class Page {
+    /** The number of items on a page when only the page number is given. */
+    public static final int DEFAULT_LIMIT = 20;
+    public static final Page ALL = new Page(1, Integer.MAX_VALUE);
+
+    private final int number;
+    private final int limit;
+
+    /**
+     * Constructs a page.
+     *
+     * @param number The page number, starting from 1.
+     * @param limit  The number of items on each page.
+     */
+    public Page(int number, int limit) {
+        assert number > 0 : "Page number must be positive";
+        assert limit > 0 : "Page limit must be positive";
+        this.number = number;
+        this.limit = limit;
+    }
+
+    public boolean isAll() {
+        return limit == Integer.MAX_VALUE;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Returns the position of the first item on this page, or the size if the page is past the end of the list.
+     *
+     * @param size The number of items in the list.
+     */
+    public int getStart(int size) {
+        return (int) Math.min(size, (long) (number - 1) * limit);
+    }
+
+    /**
+     * Returns the position just after the last item on this page.
+     *
+     * @param size The number of items in the list.
+     */
+    public int getEnd(int size) {
+        return (int) Math.min(size, (long) number * limit);
+    }
+
+    /**
+     * Returns the number of pages needed for a list, which is at least 1.
+     *
+     * @param size The number of items in the list.
+     */
+    public int getPageCount(int size) {
+        return (int) Math.max(1, ((long) size + limit - 1) / limit);
+    }
+}
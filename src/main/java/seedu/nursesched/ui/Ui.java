@@ -1,48 +1,141 @@
 package seedu.nursesched.ui;
 
 import seedu.nursesched.appointment.Appointment;
-import java.util.ArrayList;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.List;
 import java.util.Scanner;
 
 public class Ui {
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+    private static final int LINES_FLUSH_THRESHOLD = 8 * 1024;
+    private static final StringBuilder LINES = new StringBuilder(LINES_FLUSH_THRESHOLD + 256);
 
-    public void showGreetingMessage() {
-        System.out.println("Welcome to NurseSched!");
+    /**
+     * Renders one item of a list into its line of output.
+     *
+     * @param <T> The type of the items.
+     */
+    @FunctionalInterface
+    public interface LineRenderer<T> {
+        /**
+         * Appends the line for an item, without a line separator.
+         *
+         * @param number The position of the item in the whole list, starting from 1.
+         * @param item   The item.
+         * @param line   The builder to append the line to.
+         */
+        void render(int number, T item, StringBuilder line);
     }
 
-    public static void printSearchResults(ArrayList searchResults, String keyword) {
-        System.out.println("You have " + searchResults.size() + " search results for keyword: " + keyword);
-        for (int i = 0; i < searchResults.size(); i++) {
-            System.out.println((i+1) + ". " + searchResults.get(i));
+    /**
+     * Replaces the standard output with one that is only written to the console when it is flushed or its buffer
+     * fills up, instead of on every line. The output is flushed whenever the app waits for a command, and on exit.
+     */
+    public static void useBufferedOutput() {
+        Charset charset = Charset.defaultCharset();
+        String encoding = System.getProperty("sun.stdout.encoding");
+        if (encoding != null && Charset.isSupported(encoding)) {
+            charset = Charset.forName(encoding);
         }
+        System.setOut(new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out),
+                OUTPUT_BUFFER_SIZE), false, charset));
+        Runtime.getRuntime().addShutdownHook(new Thread(Ui::flush));
     }
 
-    public static void printAppointmentList(ArrayList<Appointment> apptList) {
-        int index = 1;
-        boolean isDone = false;
-        String statusBadge = "[ ]";
-        for (Appointment appointment : apptList) {
+    /**
+     * Writes any buffered output to the console.
+     */
+    public static void flush() {
+        System.out.flush();
+    }
 
-            isDone = appointment.getStatus();
-            if (isDone) {
-                statusBadge = "[X]";
-            }else{
-                statusBadge = "[ ]";
+    /**
+     * Prints the items of a list on the given page, one line each. The lines are rendered into a reused buffer
+     * and written out a few kilobytes at a time. If a page was asked for, a line saying which part of the list was
+     * printed follows the items.
+     *
+     * @param items    The whole list.
+     * @param page     The page of the list to print.
+     * @param renderer Renders the line for each item.
+     * @param <T>      The type of the items.
+     */
+    public static <T> void printList(List<T> items, Page page, LineRenderer<T> renderer) {
+        int size = items.size();
+        int end = page.getEnd(size);
+        String lineSeparator = System.lineSeparator();
+        LINES.setLength(0);
+        for (int i = page.getStart(size); i < end; i++) {
+            renderer.render(i + 1, items.get(i), LINES);
+            LINES.append(lineSeparator);
+            if (LINES.length() >= LINES_FLUSH_THRESHOLD) {
+                System.out.print(LINES);
+                LINES.setLength(0);
             }
+        }
+        System.out.print(LINES);
+        LINES.setLength(0);
 
-            System.out.println(index+ ". "+ statusBadge + appointment);
-            index += 1;
+        if (!page.isAll() && size > 0) {
+            printPageSummary(page, size);
         }
+    }
+
+    private static void printPageSummary(Page page, int size) {
+        int start = page.getStart(size);
+        int end = page.getEnd(size);
+        int pageCount = page.getPageCount(size);
+        if (start == end) {
+            System.out.println("Page " + page.getNumber() + " is empty, there are only " + pageCount + " page(s).");
+        } else {
+            System.out.println("Showing " + (start + 1) + "-" + end + " of " + size + " (page " + page.getNumber()
+                    + " of " + pageCount + ").");
+        }
+    }
+
+    public void showGreetingMessage() {
+        System.out.println("Welcome to NurseSched!");
+    }
+
+    public static void printSearchResults(List<?> searchResults, String keyword, Page page) {
+        printSearchResults(searchResults, keyword, page, (number, result, line) -> line.append(result));
+    }
+
+    /**
+     * Prints the results of a search, numbered, with each result rendered by the given renderer.
+     *
+     * @param searchResults The results.
+     * @param keyword       The keyword that was searched for.
+     * @param page          The page of the results to print.
+     * @param renderer      Renders each result, after its number.
+     * @param <T>           The type of the results.
+     */
+    public static <T> void printSearchResults(List<T> searchResults, String keyword, Page page,
+            LineRenderer<? super T> renderer) {
+        System.out.println("You have " + searchResults.size() + " search results for keyword: " + keyword);
+        printList(searchResults, page, (number, result, line) -> renderer.render(number, result,
+                line.append(number).append(". ")));
+    }
+
+    public static void printAppointmentList(List<Appointment> apptList, Page page) {
+        printList(apptList, page, (number, appointment, line) -> appointment.appendTo(line.append(number)
+                .append(". ").append(appointment.getStatus() ? "[X]" : "[ ]")));
         System.out.println("You have " + apptList.size() + " appointment(s)");
     }
 
     public void exitMessage() {
         System.out.println("Goodbye!");
+        flush();
     }
 
     public String readCommand(Scanner in) {
         System.out.println("----------------------------");
         System.out.println("Please enter your command: ");
+        flush();
         return in.nextLine();
     }
 
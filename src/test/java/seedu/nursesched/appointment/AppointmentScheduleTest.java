@@ -0,0 +1,96 @@
+package seedu.nursesched.appointment;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class AppointmentScheduleTest {
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 1);
+
+    private static Appointment createAppointment(int startHour, int endHour, LocalDate date) {
+        return new Appointment(1001, LocalTime.of(startHour, 0), LocalTime.of(endHour, 0), date, "", 1);
+    }
+
+    @Test
+    void findClash_overlappingTimes_clashFound() {
+        ArrayList<Appointment> appointments = new ArrayList<>();
+        Appointment morning = createAppointment(9, 11, DATE);
+        appointments.add(morning);
+        appointments.add(createAppointment(13, 14, DATE));
+        AppointmentSchedule schedule = new AppointmentSchedule();
+
+        assertSame(morning, schedule.findClash(appointments, LocalTime.of(10, 0), LocalTime.of(12, 0), DATE, null));
+        assertSame(morning, schedule.findClash(appointments, LocalTime.of(8, 0), LocalTime.of(9, 30), DATE, null));
+    }
+
+    @Test
+    void findClash_touchingOrOtherDate_noClash() {
+        ArrayList<Appointment> appointments = new ArrayList<>();
+        appointments.add(createAppointment(9, 11, DATE));
+        AppointmentSchedule schedule = new AppointmentSchedule();
+
+        assertNull(schedule.findClash(appointments, LocalTime.of(11, 0), LocalTime.of(12, 0), DATE, null));
+        assertNull(schedule.findClash(appointments, LocalTime.of(8, 0), LocalTime.of(9, 0), DATE, null));
+        assertNull(schedule.findClash(appointments, LocalTime.of(9, 0), LocalTime.of(11, 0), DATE.plusDays(1), null));
+    }
+
+    @Test
+    void findClash_longAppointmentStartedEarlier_clashFound() {
+        ArrayList<Appointment> appointments = new ArrayList<>();
+        Appointment allDay = createAppointment(8, 18, DATE);
+        appointments.add(allDay);
+        appointments.add(createAppointment(10, 11, DATE));
+        appointments.add(createAppointment(12, 13, DATE));
+        AppointmentSchedule schedule = new AppointmentSchedule();
+
+        assertSame(allDay, schedule.findClash(appointments, LocalTime.of(16, 0), LocalTime.of(17, 0), DATE, null));
+    }
+
+    @Test
+    void findClash_severalClashes_firstInListReported() {
+        ArrayList<Appointment> appointments = new ArrayList<>();
+        Appointment first = createAppointment(10, 11, DATE);
+        appointments.add(first);
+        appointments.add(createAppointment(11, 12, DATE));
+        AppointmentSchedule schedule = new AppointmentSchedule();
+
+        assertSame(first, schedule.findClash(appointments, LocalTime.of(9, 0), LocalTime.of(13, 0), DATE, null));
+    }
+
+    @Test
+    void findClash_ignoredAppointment_notReported() {
+        ArrayList<Appointment> appointments = new ArrayList<>();
+        Appointment appointment = createAppointment(9, 11, DATE);
+        appointments.add(appointment);
+        AppointmentSchedule schedule = new AppointmentSchedule();
+
+        assertNull(schedule.findClash(appointments, LocalTime.of(10, 0), LocalTime.of(12, 0), DATE, appointment));
+    }
+
+    @Test
+    void findClash_listChangedIncrementally_indexFollowsList() {
+        ArrayList<Appointment> appointments = new ArrayList<>();
+        AppointmentSchedule schedule = new AppointmentSchedule();
+        assertNull(schedule.findClash(appointments, LocalTime.of(9, 0), LocalTime.of(10, 0), DATE, null));
+
+        Appointment original = createAppointment(9, 10, DATE);
+        appointments.add(original);
+        schedule.added(appointments, original);
+        assertSame(original, schedule.findClash(appointments, LocalTime.of(9, 0), LocalTime.of(10, 0), DATE, null));
+
+        Appointment moved = createAppointment(15, 16, DATE);
+        appointments.set(0, moved);
+        schedule.replaced(appointments, original, moved);
+        assertNull(schedule.findClash(appointments, LocalTime.of(9, 0), LocalTime.of(10, 0), DATE, null));
+        assertSame(moved, schedule.findClash(appointments, LocalTime.of(15, 30), LocalTime.of(17, 0), DATE, null));
+
+        appointments.remove(moved);
+        schedule.removed(appointments, moved);
+        assertNull(schedule.findClash(appointments, LocalTime.of(15, 30), LocalTime.of(17, 0), DATE, null));
+    }
+}
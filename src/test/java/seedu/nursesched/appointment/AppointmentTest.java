@@ -10,6 +10,9 @@ import seedu.nursesched.parser.ApptParser;
 import seedu.nursesched.patient.Patient;
 import seedu.nursesched.storage.AppointmentStorage;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
@@ -17,6 +20,7 @@ import java.util.ArrayList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class AppointmentTest {
     static ArrayList<Appointment> initialApptList;
@@ -400,4 +404,25 @@ public class AppointmentTest {
                 () -> ApptParser.extractInputs(input2));
     }
 
+    @Test
+    public void readFile_legacyLineBeforeExplicitId_idsStayUnique() throws IOException {
+        AppointmentStorage.overwriteSaveFile(new ArrayList<>());
+        // The ID the legacy line would have been given while it was read
+        int takenId = new Appointment(1, LocalTime.of(9, 0), LocalTime.of(10, 0), LocalDate.of(2030, 1, 1),
+                "", 1).getApptId() + 1;
+        Files.writeString(Path.of("data/Appt.txt"),
+                "true | 1 | 10:00 | 11:00 | 2030-01-01 | 1 | legacy\n"
+                + takenId + " | false | 2 | 12:00 | 13:00 | 2030-01-01 | 2 | explicit\n"
+                + takenId + " | false | 3 | 14:00 | 15:00 | 2030-01-01 | 3 | duplicate\n");
+
+        ArrayList<Appointment> loaded = AppointmentStorage.readFile();
+
+        assertEquals(3, loaded.size());
+        assertEquals("legacy", loaded.get(0).getNotes());
+        assertTrue(loaded.get(0).getStatus());
+        assertEquals(takenId, loaded.get(1).getApptId());
+        assertEquals(3, loaded.stream().mapToInt(Appointment::getApptId).distinct().count());
+        assertEquals(3, AppointmentStorage.readFile().size());
+    }
+
 }
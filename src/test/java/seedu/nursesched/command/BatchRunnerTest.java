@@ -0,0 +1,49 @@
+package seedu.nursesched.command;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BatchRunnerTest {
+
+    @Test
+    void run_mixedCommands_countedPerType() throws IOException {
+        List<String> handled = new ArrayList<>();
+        CommandRegistry registry = new CommandRegistry()
+                .register(new CommandType<String>("task", line -> line)
+                        .add("add", (parsed, line) -> handled.add(line))
+                        .add("del", (parsed, line) -> {
+                            throw new NurseSchedException(ExceptionMessage.INVALID_TASK_INDEX);
+                        }))
+                .register(new CommandType<String>("appt", line -> null)
+                        .add("add", (parsed, line) -> handled.add(line)));
+        String batch = "# comment\n"
+                + "task add td/first\n"
+                + "\n"
+                + "task del id/x\n"
+                + "appt add id/1234\n"
+                + "unknown\n"
+                + "task add td/second\n"
+                + "exit ns\n"
+                + "task add td/never\n";
+
+        BatchReport report = new BatchRunner(registry).run(new BufferedReader(new StringReader(batch)), "test");
+
+        assertEquals(List.of("task add td/first", "task add td/second"), handled);
+        assertEquals(5, report.getCommandCount());
+        assertEquals(3, report.getFailureCount());
+        assertEquals(3, report.getCommandCount("task"));
+        assertEquals(1, report.getFailureCount("task"));
+        assertEquals(1, report.getFailureCount("appt"));
+        assertEquals(1, report.getFailureCount("unknown"));
+    }
+}
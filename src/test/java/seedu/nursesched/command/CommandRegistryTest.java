@@ -0,0 +1,88 @@
+package seedu.nursesched.command;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CommandRegistryTest {
+
+    @Test
+    void execute_multiWordVerb_longestVerbHandled() throws NurseSchedException {
+        List<String> handled = new ArrayList<>();
+        CommandRegistry registry = new CommandRegistry().register(new CommandType<String>("pf", line -> line)
+                .add("result", (parsed, line) -> handled.add("result"))
+                .add("result add", (parsed, line) -> handled.add("result add")));
+
+        registry.execute("pf RESULT   add id/1234");
+        registry.execute("pf result list");
+
+        assertEquals(List.of("result add", "result"), handled);
+    }
+
+    @Test
+    void execute_typeAlone_emptyVerbHandled() throws NurseSchedException {
+        List<String> handled = new ArrayList<>();
+        CommandRegistry registry = new CommandRegistry().register(new CommandType<String>("stats", line -> line)
+                .add("", (parsed, line) -> handled.add(line)));
+
+        registry.execute("STATS ");
+        registry.execute("stats all");
+
+        assertEquals(List.of("STATS "), handled);
+    }
+
+    @Test
+    void execute_unknownVerb_notParsed() {
+        List<String> parsedLines = new ArrayList<>();
+        CommandRegistry registry = new CommandRegistry().register(new CommandType<String>("appt", line -> {
+            parsedLines.add(line);
+            return line;
+        })
+                .onUnknownVerb(line -> {
+                    throw new NurseSchedException(ExceptionMessage.INVALID_FORMAT);
+                })
+                .add("add", (parsed, line) -> { }));
+
+        assertThrows(NurseSchedException.class, () -> registry.execute("appt added id/1234"));
+        assertThrows(NurseSchedException.class, () -> registry.execute("appt ad id/1234"));
+        assertEquals(List.of(), parsedLines);
+    }
+
+    @Test
+    void execute_unknownAppointmentOrTaskVerb_earlierMessagesPrinted() throws NurseSchedException {
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        try {
+            Command.getRegistry().execute("appt remove aid/1");
+            Command.getRegistry().execute("task remove 1");
+        } finally {
+            System.setOut(originalOut);
+        }
+
+        assertEquals(List.of("Invalid inputs for appointment based command!", "Unknown task command!"),
+                output.toString().lines().toList());
+    }
+
+    @Test
+    void execute_commandFails_timerStillCalled() {
+        List<String> timed = new ArrayList<>();
+        CommandRegistry registry = new CommandRegistry().register(new CommandType<String>("task", line -> line)
+                .add("del", (parsed, line) -> {
+                    throw new NurseSchedException(ExceptionMessage.INVALID_TASK_INDEX);
+                }));
+        registry.addTimer((type, verb, elapsedNanos) -> timed.add(type + " " + verb));
+
+        assertThrows(NurseSchedException.class, () -> registry.execute("task del id/9"));
+        assertEquals(List.of("task del"), timed);
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.nursesched.dataset;
+
+import org.junit.jupiter.api.Test;
+import seedu.nursesched.appointment.Appointment;
+import seedu.nursesched.medicine.Medicine;
+import seedu.nursesched.patient.MedicalTest;
+import seedu.nursesched.patient.Patient;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DatasetGeneratorTest {
+
+    @Test
+    void generate_sameSeed_sameRecords() {
+        DatasetSpec spec = DatasetSpec.parse("seed=7", "longNames=0.5");
+        DatasetGenerator first = new DatasetGenerator(spec);
+        DatasetGenerator second = new DatasetGenerator(spec);
+
+        ArrayList<Patient> patients = first.patients(50);
+        assertEquals(patients.toString(), second.patients(50).toString());
+        assertEquals(first.appointments(500, 50).toString(), second.appointments(500, 50).toString());
+        assertEquals(first.medicines(100).toString(), second.medicines(100).toString());
+        assertEquals("1049", patients.get(49).getId());
+
+        ArrayList<MedicalTest> tests = new DatasetGenerator(DatasetSpec.parse("testsPerPatient=20"))
+                .medicalTests(patients);
+        assertTrue(tests.size() > 50 * 10);
+        assertTrue(tests.size() <= 50 * 40);
+    }
+
+    @Test
+    void generate_allClashDaysAndLongNames_appointmentsWithinTwoHours() {
+        DatasetGenerator generator = new DatasetGenerator(DatasetSpec.parse("clashDays=1", "longNames=1"));
+
+        for (Appointment appointment : generator.appointments(200, 10)) {
+            assertFalse(appointment.getStartLocalTime().isBefore(LocalTime.of(10, 0)));
+            assertTrue(appointment.getStartLocalTime().isBefore(LocalTime.of(12, 0)));
+        }
+        for (Medicine medicine : generator.medicines(20)) {
+            assertTrue(medicine.getMedicineName().length() > 80);
+        }
+    }
+
+    @Test
+    void parse_invalidSettings_exceptionThrown() {
+        assertThrows(IllegalArgumentException.class, () -> DatasetSpec.parse("patients=9001"));
+        assertThrows(IllegalArgumentException.class, () -> DatasetSpec.parse("wards=3"));
+        assertThrows(IllegalArgumentException.class, () -> DatasetSpec.parse("clashDays=2"));
+        assertThrows(IllegalArgumentException.class, () -> DatasetSpec.parse("from=tomorrow"));
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.nursesched.exporter;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ExporterTest {
+
+    private record Visit(int patientId, LocalDate date, LocalTime time, String notes) {
+    }
+
+    private static class VisitExport implements ExportType<Visit> {
+        @Override
+        public String getName() {
+            return "visits";
+        }
+
+        @Override
+        public List<String> getColumns() {
+            return List.of("id", "date", "time", "notes");
+        }
+
+        @Override
+        public List<Visit> getRecords() {
+            return List.of(
+                    new Visit(1234, LocalDate.of(2030, 1, 1), LocalTime.of(9, 5), "plain"),
+                    new Visit(1234, LocalDate.of(2030, 1, 2), LocalTime.of(10, 0), "says \"hi\", twice\n"),
+                    new Visit(5678, LocalDate.of(2030, 1, 3), LocalTime.of(11, 30), null));
+        }
+
+        @Override
+        public void write(Visit visit, RecordWriter out) throws IOException {
+            out.number(visit.patientId());
+            out.date(visit.date());
+            out.time(visit.time());
+            out.text(visit.notes());
+        }
+
+        @Override
+        public boolean hasDates() {
+            return true;
+        }
+
+        @Override
+        public LocalDate getDate(Visit visit) {
+            return visit.date();
+        }
+
+        @Override
+        public boolean hasPatientIds() {
+            return true;
+        }
+
+        @Override
+        public Integer getPatientId(Visit visit) {
+            return visit.patientId();
+        }
+    }
+
+    private static String export(ExportFormat format, ExportFilter filter) throws IOException {
+        VisitExport type = new VisitExport();
+        StringWriter out = new StringWriter();
+        Exporter.write(type, format.open(out, type.getColumns()), filter);
+        return out.toString();
+    }
+
+    @Test
+    void write_csv_headerAndQuotedText() throws IOException {
+        assertEquals("id,date,time,notes\n"
+                + "1234,2030-01-01,09:05,plain\n"
+                + "1234,2030-01-02,10:00,\"says \"\"hi\"\", twice\n\"\n"
+                + "5678,2030-01-03,11:30,\n",
+                export(ExportFormat.CSV, new ExportFilter(null, null, null)));
+    }
+
+    @Test
+    void write_jsonLinesWithFilters_matchingRecordsEscaped() throws IOException {
+        assertEquals("{\"id\":1234,\"date\":\"2030-01-02\",\"time\":\"10:00\","
+                + "\"notes\":\"says \\\"hi\\\", twice\\n\"}\n",
+                export(ExportFormat.JSON, new ExportFilter(LocalDate.of(2030, 1, 2), null, 1234)));
+        assertEquals("",
+                export(ExportFormat.JSON, new ExportFilter(null, LocalDate.of(2029, 12, 31), null)));
+    }
+}
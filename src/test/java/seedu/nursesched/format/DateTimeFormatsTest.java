@@ -0,0 +1,29 @@
+package seedu.nursesched.format;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DateTimeFormatsTest {
+
+    @Test
+    void appendTimeAndDate_sameAsFormatters() {
+        for (LocalTime time : new LocalTime[] {LocalTime.MIDNIGHT, LocalTime.of(9, 5), LocalTime.of(23, 59, 30)}) {
+            assertEquals(time.format(DateTimeFormats.TIME), DateTimeFormats.formatTime(time));
+        }
+        for (LocalDate date : new LocalDate[] {LocalDate.of(2025, 4, 1), LocalDate.of(999, 12, 31),
+                LocalDate.of(10000, 1, 1)}) {
+            assertEquals(date.toString(), DateTimeFormats.formatDate(date));
+        }
+    }
+
+    @Test
+    void appendIsoTime_sameAsToString() {
+        for (LocalTime time : new LocalTime[] {LocalTime.of(9, 5), LocalTime.of(9, 5, 7), LocalTime.of(9, 5, 0, 1)}) {
+            assertEquals(time.toString(), DateTimeFormats.appendIsoTime(new StringBuilder(), time).toString());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.nursesched.importer;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CsvImporterTest {
+
+    /**
+     * Imports names, rejecting empty names in validate and repeated names in commit.
+     */
+    private static class NameImport implements ImportType<String> {
+        private final ArrayList<String> names = new ArrayList<>();
+        private final HashSet<String> seen = new HashSet<>();
+
+        @Override
+        public String getName() {
+            return "names";
+        }
+
+        @Override
+        public List<String> getRequiredColumns() {
+            return List.of("name");
+        }
+
+        @Override
+        public String validate(CsvRow row) throws NurseSchedException {
+            if (!row.has("name")) {
+                throw new NurseSchedException(ExceptionMessage.EMPTY_INPUT_DETAILS);
+            }
+            return row.get("name");
+        }
+
+        @Override
+        public void commit(String name) throws NurseSchedException {
+            if (!seen.add(name)) {
+                throw new NurseSchedException(ExceptionMessage.PATIENT_ID_EXIST);
+            }
+            names.add(name);
+        }
+    }
+
+    @Test
+    void split_quotedFields_unquotedAndTrimmed() throws NurseSchedException {
+        assertArrayEquals(new String[]{"a", "b, c", "say \"hi\"", ""},
+                CsvRow.split(" a ,\"b, c\",\"say \"\"hi\"\"\","));
+        assertThrows(NurseSchedException.class, () -> CsvRow.split("a,\"b"));
+        assertThrows(NurseSchedException.class, () -> CsvRow.split("a|b,c"));
+    }
+
+    @Test
+    void run_manyChunks_committedInFileOrderWithErrorsPerRow() throws IOException, NurseSchedException {
+        StringBuilder csv = new StringBuilder("Notes,NAME\n");
+        int rowCount = CsvImporter.CHUNK_SIZE * 2 + 10;
+        for (int i = 0; i < rowCount; i++) {
+            csv.append("n,").append(i).append('\n');
+        }
+        csv.append("n,\n");
+        csv.append("\n");
+        csv.append("n,5\n");
+        csv.append("too,many,fields\n");
+        NameImport type = new NameImport();
+
+        ImportReport report = new CsvImporter().run(new BufferedReader(new StringReader(csv.toString())), "test",
+                type);
+
+        assertEquals(rowCount, type.names.size());
+        for (int i = 0; i < rowCount; i++) {
+            assertEquals(String.valueOf(i), type.names.get(i));
+        }
+        assertEquals(rowCount + 3, report.getRowCount());
+        assertEquals(rowCount, report.getImportedCount());
+        assertEquals(List.of(
+                "Line " + (rowCount + 2) + ": " + ExceptionMessage.EMPTY_INPUT_DETAILS.getMessage(),
+                "Line " + (rowCount + 4) + ": " + ExceptionMessage.PATIENT_ID_EXIST.getMessage(),
+                "Line " + (rowCount + 5) + ": " + ExceptionMessage.INVALID_IMPORT_ROW.getMessage()),
+                report.getErrors());
+    }
+
+    @Test
+    void run_missingColumn_exceptionThrown() {
+        NameImport type = new NameImport();
+        assertThrows(NurseSchedException.class, () -> new CsvImporter().run(
+                new BufferedReader(new StringReader("id,notes\n1,a\n")), "test", type));
+        assertThrows(NurseSchedException.class, () -> new CsvImporter().run(
+                new BufferedReader(new StringReader("")), "test", type));
+    }
+
+    @Test
+    void run_repeatedColumnName_exceptionThrownBeforeAnyRow() {
+        NameImport type = new NameImport();
+        NurseSchedException exception = assertThrows(NurseSchedException.class, () -> new CsvImporter().run(
+                new BufferedReader(new StringReader("name,notes,Name\nAda,a,Ada\n")), "test", type));
+
+        assertEquals(ExceptionMessage.DUPLICATE_IMPORT_COLUMN.getMessage(), exception.getMessage());
+        assertTrue(type.names.isEmpty());
+    }
+}
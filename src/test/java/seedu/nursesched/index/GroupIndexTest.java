@@ -0,0 +1,44 @@
+package seedu.nursesched.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class GroupIndexTest {
+
+    @Test
+    void removedAll_severalItemsOfOneKey_onlyOtherKeysLeft() {
+        ArrayList<String> items = new ArrayList<>(List.of("a1", "b1", "a2", "c1", "a3"));
+        GroupIndex<Character, String> index = new GroupIndex<>(item -> item.charAt(0));
+        assertEquals(List.of("a1", "a2", "a3"), index.find(items, 'a'));
+
+        List<String> removed = index.find(items, 'a');
+        items.removeAll(removed);
+        index.removedAll(items, removed);
+        items.add("a4");
+        index.added(items, "a4");
+
+        assertEquals(List.of("a4"), index.find(items, 'a'));
+        assertEquals(List.of("b1"), index.find(items, 'b'));
+        assertEquals(List.of(), index.find(items, 'd'));
+    }
+
+    @Test
+    void replaced_sameOrOtherKey_listOrderKept() {
+        ArrayList<String> items = new ArrayList<>(List.of("a1", "b1", "a2", "b2"));
+        GroupIndex<Character, String> index = new GroupIndex<>(item -> item.charAt(0));
+        assertEquals(List.of("a1", "a2"), index.find(items, 'a'));
+
+        items.set(0, "a9");
+        index.replaced(items, "a1", "a9");
+        assertEquals(List.of("a9", "a2"), index.find(items, 'a'));
+
+        items.set(2, "b9");
+        index.replaced(items, "a2", "b9");
+        assertEquals(List.of("a9"), index.find(items, 'a'));
+        assertEquals(List.of("b1", "b9", "b2"), index.find(items, 'b'));
+    }
+}
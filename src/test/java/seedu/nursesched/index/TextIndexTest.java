@@ -0,0 +1,108 @@
+package seedu.nursesched.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TextIndexTest {
+    /**
+     * A mutable item, standing in for the domain classes.
+     */
+    private static class Item {
+        private String text;
+
+        private Item(String text) {
+            this.text = text;
+        }
+    }
+
+    private static TextIndex<Item> createIndex() {
+        return new TextIndex<>(item -> item.text);
+    }
+
+    @Test
+    void search_shortAndLongKeywords_matchesInListOrder() {
+        ArrayList<Item> items = new ArrayList<>();
+        Item paracetamol = new Item("Paracetamol");
+        Item panadol = new Item("Panadol");
+        Item aspirin = new Item("Aspirin");
+        items.add(paracetamol);
+        items.add(panadol);
+        items.add(aspirin);
+        TextIndex<Item> index = createIndex();
+
+        assertEquals(List.of(paracetamol, panadol, aspirin), index.search(items, "a"));
+        assertEquals(List.of(paracetamol, panadol), index.search(items, "PA"));
+        assertEquals(List.of(paracetamol, panadol), index.search(items, "ol"));
+        assertEquals(List.of(paracetamol), index.search(items, "cetam"));
+        assertTrue(index.search(items, "panadols").isEmpty());
+        assertTrue(index.search(items, "xyz").isEmpty());
+    }
+
+    @Test
+    void search_keywordWithSharedGramsButNotContained_noMatch() {
+        ArrayList<Item> items = new ArrayList<>();
+        items.add(new Item("abcd bcde"));
+        TextIndex<Item> index = createIndex();
+
+        assertTrue(index.search(items, "abcde").isEmpty());
+    }
+
+    @Test
+    void search_emptyKeywordOrNullText_handled() {
+        ArrayList<Item> items = new ArrayList<>();
+        Item unnamed = new Item(null);
+        Item named = new Item("Jean");
+        items.add(unnamed);
+        items.add(named);
+        TextIndex<Item> index = createIndex();
+
+        assertEquals(List.of(named), index.search(items, "jean"));
+        assertEquals(List.of(unnamed, named), index.search(items, ""));
+    }
+
+    @Test
+    void search_itemsChangedIncrementally_indexFollowsList() {
+        ArrayList<Item> items = new ArrayList<>();
+        TextIndex<Item> index = createIndex();
+        assertTrue(index.search(items, "wound").isEmpty());
+
+        Item item = new Item("Change wound dressing");
+        items.add(item);
+        index.added(items, item);
+        assertEquals(List.of(item), index.search(items, "wound"));
+
+        item.text = "Check vitals";
+        index.changed(items, item);
+        assertTrue(index.search(items, "wound").isEmpty());
+        assertEquals(List.of(item), index.search(items, "vital"));
+
+        items.remove(item);
+        index.removed(items, item);
+        assertTrue(index.search(items, "vital").isEmpty());
+    }
+
+    @Test
+    void search_itemReplacedOrListReordered_matchesInListOrder() {
+        ArrayList<Item> items = new ArrayList<>();
+        Item first = new Item("Check vitals");
+        Item second = new Item("Check drip");
+        items.add(first);
+        items.add(second);
+        TextIndex<Item> index = createIndex();
+        assertEquals(List.of(first, second), index.search(items, "check"));
+
+        Item replacement = new Item("Check wound");
+        items.set(0, replacement);
+        index.replaced(items, first, replacement);
+        assertEquals(List.of(replacement, second), index.search(items, "check"));
+
+        items.sort((a, b) -> a.text.compareTo(b.text));
+        index.invalidate();
+        assertEquals(List.of(second, replacement), index.search(items, "check"));
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.nursesched.loadtest;
+
+import org.junit.jupiter.api.Test;
+import seedu.nursesched.dataset.DatasetSpec;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommandScriptGeneratorTest {
+
+    @Test
+    void generate_sameSpec_sameMixedScript() {
+        DatasetSpec spec = DatasetSpec.parse("seed=3", "patients=50", "appointments=100");
+        List<String> script = new CommandScriptGenerator(spec).generate(2000);
+
+        assertEquals(script, new CommandScriptGenerator(spec).generate(2000));
+        Set<String> types = new HashSet<>();
+        Set<String> addedPatients = new HashSet<>();
+        for (String line : script) {
+            types.add(line.split(" ")[0]);
+            if (line.startsWith("pf add ")) {
+                addedPatients.add(line.split(" ")[2]);
+            } else if (line.startsWith("pf del ")) {
+                assertTrue(addedPatients.remove(line.split(" ")[2]), "Only patients added by the script are deleted");
+            }
+        }
+        assertEquals(Set.of("appt", "pf", "shift", "task", "medicine"), types);
+    }
+
+    @Test
+    void report_percentilesAndCommandNames() {
+        long[] sorted = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        assertEquals(5, ThroughputReport.percentile(sorted, 0.50));
+        assertEquals(10, ThroughputReport.percentile(sorted, 0.99));
+        assertEquals(1, ThroughputReport.percentile(new long[] {1}, 0.50));
+
+        assertEquals("appt add", ThroughputReport.commandName("appt add id/1000 s/10:00"));
+        assertEquals("pf result add", ThroughputReport.commandName("pf result add id/1000 t/ECG r/Normal"));
+        assertEquals("shift sort", ThroughputReport.commandName("shift sort"));
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.nursesched.log;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Level;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AppLoggerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void log_messagesWrittenInOrderWithParameters() throws IOException {
+        Path file = tempDir.resolve("test/test.log");
+        AppLogger logger = AppLogger.getLogger("Test", file.toString());
+        logger.info("first");
+        logger.log(Level.WARNING, "Removed {0} of {1}", new Object[] {3, "Panadol"});
+        logger.severe("third");
+        AppLogger.flush();
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).endsWith(" INFO Test: first"));
+        assertTrue(lines.get(1).endsWith(" WARNING Test: Removed 3 of Panadol"));
+        assertTrue(lines.get(2).endsWith(" SEVERE Test: third"));
+    }
+
+    @Test
+    void log_disabledLevel_supplierNotCalledAndNothingWritten() {
+        Path file = tempDir.resolve("quiet.log");
+        AppLogger logger = AppLogger.getLogger("Quiet", file.toString());
+        boolean[] isCalled = {false};
+        logger.fine(() -> {
+            isCalled[0] = true;
+            return "expensive";
+        });
+        AppLogger.flush();
+
+        assertFalse(isCalled[0]);
+        assertFalse(Files.exists(file));
+    }
+}
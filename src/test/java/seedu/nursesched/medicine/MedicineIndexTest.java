@@ -0,0 +1,72 @@
+package seedu.nursesched.medicine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class MedicineIndexTest {
+    @Test
+    void get_differentCase_medicineFound() {
+        MedicineIndex index = new MedicineIndex();
+        ArrayList<Medicine> medicines = new ArrayList<>();
+        Medicine panadol = new Medicine(5, "Panadol");
+        medicines.add(panadol);
+
+        assertSame(panadol, index.get(medicines, "panadol"));
+        assertSame(panadol, index.get(medicines, "PANADOL"));
+        assertNull(index.get(medicines, "panado"));
+    }
+
+    @Test
+    void get_medicinesAddedAndRemoved_indexFollowsList() {
+        MedicineIndex index = new MedicineIndex();
+        ArrayList<Medicine> medicines = new ArrayList<>();
+        Medicine panadol = new Medicine(5, "Panadol");
+        Medicine aspirin = new Medicine(3, "Aspirin");
+
+        medicines.add(panadol);
+        index.added(medicines, panadol);
+        medicines.add(aspirin);
+        index.added(medicines, aspirin);
+        assertSame(aspirin, index.get(medicines, "aspirin"));
+
+        medicines.remove(panadol);
+        index.removed(medicines, panadol);
+        assertNull(index.get(medicines, "panadol"));
+        assertSame(aspirin, index.get(medicines, "aspirin"));
+    }
+
+    @Test
+    void renamed_medicineRenamed_foundUnderNewNameOnly() {
+        MedicineIndex index = new MedicineIndex();
+        ArrayList<Medicine> medicines = new ArrayList<>();
+        Medicine medicine = new Medicine(5, "Panadol");
+        medicines.add(medicine);
+        assertSame(medicine, index.get(medicines, "panadol"));
+
+        medicine.setMedicineName("Ibuprofen");
+        index.renamed(medicines, medicine, "Panadol");
+
+        assertNull(index.get(medicines, "panadol"));
+        assertSame(medicine, index.get(medicines, "ibuprofen"));
+    }
+
+    @Test
+    void removed_duplicateNames_nextMedicineFound() {
+        MedicineIndex index = new MedicineIndex();
+        ArrayList<Medicine> medicines = new ArrayList<>();
+        Medicine first = new Medicine(5, "Panadol");
+        Medicine second = new Medicine(3, "PANADOL");
+        medicines.add(first);
+        medicines.add(second);
+        assertSame(first, index.get(medicines, "panadol"));
+
+        medicines.remove(first);
+        index.removed(medicines, first);
+
+        assertSame(second, index.get(medicines, "panadol"));
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.nursesched.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MetricsRegistryTest {
+
+    @Test
+    void commandTimed_bytesFlushedBetweenCommands_onlyCountedPerFile() {
+        AtomicLong bytes = new AtomicLong(100);
+        TreeMap<String, Long> bytesByFile = new TreeMap<>(Map.of("Appt.journal", 100L));
+        MetricsRegistry metrics = new MetricsRegistry(bytes::get, () -> bytesByFile);
+
+        metrics.commandStarted();
+        bytes.addAndGet(42);
+        metrics.commandTimed("appt", "add", 2_000_000);
+        // A write-behind flush of the changes of earlier commands, e.g. when this command ended
+        bytes.addAndGet(1000);
+        bytesByFile.put("Appt.txt", 1000L);
+        metrics.commandStarted();
+        metrics.commandTimed("appt", "list", 1_000_000);
+
+        String table = metrics.format();
+        assertTrue(table.matches("(?s).*\\nappt add +1 +2\\.00 .* 42\\R.*"), table);
+        assertTrue(table.matches("(?s).*\\nappt list +1 +1\\.00 .* 0\\R.*"), table);
+        assertTrue(table.contains("Bytes written to storage in total: 1142"), table);
+        assertTrue(table.matches("(?s).*\\n +Appt\\.journal +100\\R +Appt\\.txt +1000\\R.*"), table);
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.nursesched.parser;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.nursesched.exception.NurseSchedException;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ApptParserTest {
+
+    @Test
+    void extractInputs_addWithNotesBeforeLaterField_notesStopAtNextField() throws NurseSchedException {
+        ApptParser parser = ApptParser.extractInputs("appt add id/1234 s/10:00 e/11:00 d/2030-01-01 n/check up im/3");
+
+        assertEquals(1234, parser.getID());
+        assertEquals(LocalTime.of(10, 0), parser.getStartTime());
+        assertEquals(LocalDate.of(2030, 1, 1), parser.getDate());
+        assertEquals("check up", parser.getNotes());
+        assertEquals(3, parser.getImportance());
+    }
+
+    @Test
+    void extractInputs_addWithSlashInsideNotesWord_notesKept() throws NurseSchedException {
+        // Earlier versions cut these notes off at "d/or", since a prefix could start in the middle of a word
+        ApptParser parser = ApptParser.extractInputs(
+                "appt add id/1234 s/10:00 e/11:00 d/2030-01-01 n/take with food and/or water");
+
+        assertEquals("take with food and/or water", parser.getNotes());
+        assertEquals(LocalDate.of(2030, 1, 1), parser.getDate());
+    }
+
+    @Test
+    void extractInputs_editWithPrefixesInNotes_notesTakeRestOfLine() throws NurseSchedException {
+        ApptParser parser = ApptParser.extractInputs("appt edit aid/2 n/move to s/ward 3, bring im/ages d/ocs");
+
+        assertEquals(1, parser.getIndex());
+        assertEquals("move to s/ward 3, bring im/ages d/ocs", parser.getNotes());
+        assertNull(parser.getStartTime());
+        assertNull(parser.getDate());
+        assertEquals(-1, parser.getImportance());
+    }
+
+    @Test
+    void extractInputs_editFieldsBeforeNotes_allFieldsRead() throws NurseSchedException {
+        ApptParser parser = ApptParser.extractInputs("appt edit aid/1 s/09:00 im/1 n/follow up");
+
+        assertEquals(0, parser.getIndex());
+        assertEquals(LocalTime.of(9, 0), parser.getStartTime());
+        assertEquals(1, parser.getImportance());
+        assertEquals("follow up", parser.getNotes());
+    }
+
+    @Test
+    void extractInputs_upperCasePrefixes_matchedOnlyWhereTheyAlwaysWere() throws NurseSchedException {
+        assertThrows(NurseSchedException.class, () ->
+                ApptParser.extractInputs("appt add ID/1234 S/10:00 E/11:00 D/2030-01-01"));
+        assertEquals(2, ApptParser.extractInputs("appt del AID/3").getIndex());
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.nursesched.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FieldTokenizerTest {
+    private static final FieldTokenizer TOKENIZER =
+            new FieldTokenizer("aid/", "id/", "s/", "e/", "d/", "n/");
+
+    @Test
+    void tokenize_fieldsInAnyOrder_valuesExtracted() {
+        FieldTokenizer.Fields fields = TOKENIZER.tokenize("appt add n/check up id/1234 d/2030-01-01 s/10:00", 9);
+
+        assertEquals("1234", fields.get("id/"));
+        assertEquals("check up", fields.get("n/"));
+        assertEquals(LocalTime.of(10, 0), fields.getTime("s/"));
+        assertEquals(LocalDate.of(2030, 1, 1), fields.getDate("d/"));
+        assertNull(fields.get("e/"));
+        assertNull(fields.getTime("e/"));
+        assertEquals(4, fields.size());
+    }
+
+    @Test
+    void tokenize_longerPrefixEndingWithShorterOne_longerPrefixMatched() {
+        FieldTokenizer.Fields fields = TOKENIZER.tokenize("aid/3 id/1234");
+
+        assertEquals("3", fields.get("aid/"));
+        assertEquals("1234", fields.get("id/"));
+        assertTrue(fields.startsWith("aid/"));
+        assertEquals(1, fields.count("id/"));
+    }
+
+    @Test
+    void tokenize_prefixInsideWord_notAField() {
+        FieldTokenizer.Fields fields = TOKENIZER.tokenize("n/take with food and/or water");
+
+        assertEquals("take with food and/or water", fields.get("n/"));
+        assertFalse(fields.has("d/"));
+    }
+
+    @Test
+    void tokenize_upperCasePrefixAndRepeatedField_firstOccurrenceUsed() {
+        FieldTokenizer.Fields fields = TOKENIZER.tokenize("find ID/1234 id/5678", 5);
+
+        assertEquals("1234", fields.get("id/"));
+        assertEquals("1234 id/5678", fields.rest("id/"));
+        assertEquals(2, fields.count("id/"));
+        assertEquals(5, fields.position("id/"));
+    }
+
+    @Test
+    void tokenize_textBeforeFirstField_leadingTextReturned() {
+        FieldTokenizer.Fields fields = TOKENIZER.tokenize("pf result add id/1234", 3);
+
+        assertEquals("result add", fields.leading());
+        assertFalse(fields.startsWith("id/"));
+        assertEquals("", TOKENIZER.tokenize("pf list", 7).leading());
+    }
+
+    @Test
+    void tokenize_finalPrefix_takesRestOfLine() {
+        FieldTokenizer.Fields fields = TOKENIZER.tokenize("aid/1 n/see s/ward later e/nd", 0, "n/");
+
+        assertEquals("see s/ward later e/nd", fields.get("n/"));
+        assertFalse(fields.has("s/"));
+        assertEquals(2, fields.size());
+    }
+
+    @Test
+    void tokenize_caseSensitive_upperCasePrefixIgnored() {
+        FieldTokenizer tokenizer = new FieldTokenizer(true, "id/", "n/");
+        FieldTokenizer.Fields fields = tokenizer.tokenize("ID/1234 id/5678");
+
+        assertEquals("5678", fields.get("id/"));
+        assertEquals("ID/1234", fields.leading());
+    }
+}
@@ -1,15 +1,22 @@
 package seedu.nursesched.parser;
 
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.ui.Page;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ParserTest {
 
@@ -127,4 +134,53 @@ public class ParserTest {
         assertEquals("add", apptParser2.getCommand());
         assertEquals("add", apptParser3.getCommand());
     }
+
+    @Test
+    public void testExtractInputs_laterParseDoesNotChangeEarlierResult() throws NurseSchedException {
+        ApptParser findParser = ApptParser.extractInputs("appt find id/1804");
+        ApptParser deleteParser = ApptParser.extractInputs("appt del aid/3");
+        ApptParser sortParser = ApptParser.extractInputs("appt sort by/time");
+
+        assertEquals("1804", findParser.getSearchKeyword());
+        assertEquals("id", findParser.getSearchBy());
+        assertEquals(0, findParser.getIndex());
+        assertEquals(2, deleteParser.getIndex());
+        assertNull(deleteParser.getSortBy());
+        assertEquals("time", sortParser.getSortBy());
+        assertNull(sortParser.getSearchKeyword());
+    }
+
+    @Test
+    public void testExtractInputs_concurrentParses_eachResultMatchesItsInput() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 1; i <= 200; i++) {
+                int index = i;
+                results.add(executor.submit(() -> {
+                    ApptParser apptParser = ApptParser.extractInputs("appt mark aid/" + index);
+                    return apptParser.getIndex() == index - 1;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExtractPage_pageAndLimit() throws NurseSchedException {
+        String input = "appt find p/Jean page/3 limit/5";
+        Page page = Parser.extractPage(input);
+
+        assertEquals(3, page.getNumber());
+        assertEquals(10, page.getStart(100));
+        assertEquals(15, page.getEnd(100));
+        assertEquals("appt find p/Jean", Parser.removePageFields(input));
+        assertTrue(Parser.extractPage("appt list").isAll());
+        assertThrows(NurseSchedException.class, () -> Parser.extractPage("appt list page/0"));
+        assertThrows(NurseSchedException.class, () -> Parser.extractPage("appt list limit/x"));
+    }
 }
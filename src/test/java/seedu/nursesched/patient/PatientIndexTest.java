@@ -0,0 +1,84 @@
+package seedu.nursesched.patient;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.nursesched.exception.NurseSchedException;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class PatientIndexTest {
+    private static Patient createPatient(String id) throws NurseSchedException {
+        return Patient.restore(id, "Patient " + id, "30", "M", "12345678", "");
+    }
+
+    @Test
+    void toKey_validAndInvalidIds_correctKeys() {
+        assertEquals(1234, PatientIndex.toKey("1234"));
+        assertEquals(12, PatientIndex.toKey("0012"));
+        assertEquals(-1, PatientIndex.toKey("12a4"));
+        assertEquals(-1, PatientIndex.toKey("12345"));
+    }
+
+    @Test
+    void get_patientsAddedAndRemoved_indexFollowsList() throws NurseSchedException {
+        PatientIndex index = new PatientIndex();
+        ArrayList<Patient> patients = new ArrayList<>();
+        Patient first = createPatient("0001");
+        Patient second = createPatient("9999");
+
+        patients.add(first);
+        index.added(patients, first);
+        patients.add(second);
+        index.added(patients, second);
+        assertSame(first, index.get(patients, 1));
+        assertSame(second, index.get(patients, 9999));
+
+        patients.remove(first);
+        index.removed(patients, first);
+        assertNull(index.get(patients, 1));
+        assertSame(second, index.get(patients, 9999));
+    }
+
+    @Test
+    void get_listChangedDirectly_indexRebuilt() throws NurseSchedException {
+        PatientIndex index = new PatientIndex();
+        ArrayList<Patient> patients = new ArrayList<>();
+        assertNull(index.get(patients, 1234));
+
+        Patient patient = createPatient("1234");
+        patients.add(patient);
+        assertSame(patient, index.get(patients, 1234));
+
+        patients.clear();
+        assertNull(index.get(patients, 1234));
+
+        ArrayList<Patient> replacement = new ArrayList<>();
+        replacement.add(patient);
+        assertSame(patient, index.get(replacement, 1234));
+    }
+
+    @Test
+    void get_duplicateIds_firstPatientKeptUntilRemoved() throws NurseSchedException {
+        PatientIndex index = new PatientIndex();
+        ArrayList<Patient> patients = new ArrayList<>();
+        Patient first = createPatient("1234");
+        Patient duplicate = createPatient("1234");
+        patients.add(first);
+        patients.add(duplicate);
+        assertSame(first, index.get(patients, 1234));
+
+        patients.remove(first);
+        index.removed(patients, first);
+        assertSame(duplicate, index.get(patients, 1234));
+    }
+
+    @Test
+    void get_outOfRangeKey_returnsNull() {
+        assertNull(new PatientIndex().get(new ArrayList<>(), -1));
+        assertNull(new PatientIndex().get(new ArrayList<>(), PatientIndex.CAPACITY));
+    }
+}
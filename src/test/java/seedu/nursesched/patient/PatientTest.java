@@ -5,12 +5,21 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.nursesched.appointment.Appointment;
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.storage.AppointmentStorage;
 import seedu.nursesched.storage.PatientStorage;
+import seedu.nursesched.storage.WriteBehind;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -123,6 +132,57 @@ public class PatientTest {
         assertEquals(0, Patient.getPatientsList().size());
     }
 
+    @Test
+    void removePatient_withAppointmentsAndTests_dependentsRemoved() throws NurseSchedException {
+        Patient.addPatient(new Patient("1234", "John Doe", "30", "M", "12345678", ""));
+        Patient.addPatient(new Patient("5678", "Jane Doe", "40", "F", "87654321", ""));
+        MedicalTest.getMedicalTestList().clear();
+        MedicalTest.addMedicalTest(new MedicalTest("1234", "ECG", "Normal"), "1234");
+        MedicalTest.addMedicalTest(new MedicalTest("5678", "ECG", "Normal"), "5678");
+        ArrayList<Appointment> appointments = Appointment.getApptList();
+        ArrayList<Appointment> initialAppointments = new ArrayList<>(appointments);
+        appointments.clear();
+        LocalDate date = LocalDate.now().plusDays(1);
+        Appointment.addAppt(1234, LocalTime.of(9, 0), LocalTime.of(10, 0), date, "", 1);
+        Appointment.addAppt(5678, LocalTime.of(10, 0), LocalTime.of(11, 0), date, "", 1);
+        Appointment.addAppt(1234, LocalTime.of(11, 0), LocalTime.of(12, 0), date, "", 1);
+
+        try {
+            Patient.removePatient("1234");
+
+            assertEquals(1, appointments.size());
+            assertEquals(5678, appointments.get(0).getID());
+            assertEquals(1, MedicalTest.getMedicalTestList().size());
+            assertEquals("5678", MedicalTest.getMedicalTestList().get(0).getPatientId());
+        } finally {
+            appointments.clear();
+            appointments.addAll(initialAppointments);
+            AppointmentStorage.overwriteSaveFile(appointments);
+        }
+    }
+
+    @Test
+    void removePatient_saveFails_removalSavedByNextFlush() throws NurseSchedException, IOException {
+        Patient.addPatient(new Patient("1234", "John Doe", "30", "M", "12345678", ""));
+        Path patientFile = Path.of("data/Patient.txt");
+        // A directory in the way of the staged patient file makes the transaction fail
+        Path blockedStagingFile = Files.createDirectories(Path.of("data/Patient.txt.commit"));
+
+        try {
+            Patient.removePatient("1234");
+
+            assertEquals(0, Patient.getPatientsList().size());
+            assertTrue(WriteBehind.hasPendingSaves());
+            assertTrue(Files.readString(patientFile).contains("1234"));
+        } finally {
+            Files.delete(blockedStagingFile);
+        }
+
+        WriteBehind.flush();
+        assertFalse(WriteBehind.hasPendingSaves());
+        assertFalse(Files.readString(patientFile).contains("1234"));
+    }
+
     @Test
     void removePatient_nonExistentPatient_throwsException() {
         Exception exception = assertThrows(NurseSchedException.class, () ->
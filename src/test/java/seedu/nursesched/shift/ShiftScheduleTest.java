@@ -0,0 +1,102 @@
+package seedu.nursesched.shift;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShiftScheduleTest {
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 1);
+
+    private static Shift createShift(int startHour, int endHour, LocalDate date) {
+        return new Shift(LocalTime.of(startHour, 0), LocalTime.of(endHour, 0), date, "rounds");
+    }
+
+    @Test
+    void findOverlap_overlappingTimes_overlapFound() {
+        ArrayList<Shift> shifts = new ArrayList<>();
+        Shift morning = createShift(9, 11, DATE);
+        shifts.add(morning);
+        shifts.add(createShift(13, 14, DATE));
+        ShiftSchedule schedule = new ShiftSchedule();
+
+        assertSame(morning, schedule.findOverlap(shifts, LocalTime.of(10, 0), LocalTime.of(12, 0), DATE, null));
+        assertSame(morning, schedule.findOverlap(shifts, LocalTime.of(8, 0), LocalTime.of(9, 30), DATE, null));
+    }
+
+    @Test
+    void findOverlap_touchingOrOtherDate_noOverlap() {
+        ArrayList<Shift> shifts = new ArrayList<>();
+        shifts.add(createShift(9, 11, DATE));
+        ShiftSchedule schedule = new ShiftSchedule();
+
+        assertNull(schedule.findOverlap(shifts, LocalTime.of(11, 0), LocalTime.of(12, 0), DATE, null));
+        assertNull(schedule.findOverlap(shifts, LocalTime.of(8, 0), LocalTime.of(9, 0), DATE, null));
+        assertNull(schedule.findOverlap(shifts, LocalTime.of(9, 0), LocalTime.of(11, 0), DATE.plusDays(1), null));
+    }
+
+    @Test
+    void findOverlap_longShiftAmongManyShortOnes_overlapFound() {
+        ArrayList<Shift> shifts = new ArrayList<>();
+        Shift allDay = createShift(0, 23, DATE);
+        shifts.add(allDay);
+        for (int hour = 1; hour < 20; hour++) {
+            shifts.add(new Shift(LocalTime.of(hour, 0), LocalTime.of(hour, 30), DATE, "rounds"));
+        }
+        ShiftSchedule schedule = new ShiftSchedule();
+
+        assertSame(allDay, schedule.findOverlap(shifts, LocalTime.of(22, 0), LocalTime.of(23, 0), DATE, null));
+        assertNull(schedule.findOverlap(shifts, LocalTime.of(22, 0), LocalTime.of(23, 0), DATE, allDay));
+    }
+
+    @Test
+    void findOverlapping_dateRange_orderedByDateThenTime() {
+        ArrayList<Shift> shifts = new ArrayList<>();
+        Shift secondDayLate = createShift(12, 16, DATE.plusDays(1));
+        Shift secondDayEarly = createShift(8, 12, DATE.plusDays(1));
+        Shift firstDay = createShift(10, 14, DATE);
+        shifts.add(secondDayLate);
+        shifts.add(createShift(17, 20, DATE));
+        shifts.add(secondDayEarly);
+        shifts.add(firstDay);
+        shifts.add(createShift(10, 14, DATE.plusDays(2)));
+        ShiftSchedule schedule = new ShiftSchedule();
+
+        assertEquals(List.of(firstDay, secondDayEarly, secondDayLate), schedule.findOverlapping(shifts,
+                LocalTime.of(11, 0), LocalTime.of(13, 0), DATE, DATE.plusDays(1)));
+        assertTrue(schedule.findOverlapping(shifts, LocalTime.of(11, 0), LocalTime.of(13, 0),
+                DATE.plusDays(1), DATE).isEmpty());
+    }
+
+    @Test
+    void findOverlap_listChangedIncrementally_indexFollowsList() {
+        ArrayList<Shift> shifts = new ArrayList<>();
+        ShiftSchedule schedule = new ShiftSchedule();
+        assertNull(schedule.findOverlap(shifts, LocalTime.of(9, 0), LocalTime.of(10, 0), DATE, null));
+
+        Shift original = createShift(9, 10, DATE);
+        shifts.add(original);
+        schedule.added(shifts, original);
+        Shift duplicate = createShift(9, 10, DATE);
+        shifts.add(duplicate);
+        schedule.added(shifts, duplicate);
+        assertSame(original, schedule.findOverlap(shifts, LocalTime.of(9, 0), LocalTime.of(10, 0), DATE, null));
+
+        Shift moved = createShift(15, 16, DATE);
+        shifts.set(0, moved);
+        schedule.replaced(shifts, original, moved);
+        assertSame(duplicate, schedule.findOverlap(shifts, LocalTime.of(9, 0), LocalTime.of(10, 0), DATE, null));
+        assertSame(moved, schedule.findOverlap(shifts, LocalTime.of(15, 30), LocalTime.of(17, 0), DATE, null));
+
+        shifts.remove(duplicate);
+        schedule.removed(shifts, duplicate);
+        assertNull(schedule.findOverlap(shifts, LocalTime.of(9, 0), LocalTime.of(10, 0), DATE, null));
+    }
+}
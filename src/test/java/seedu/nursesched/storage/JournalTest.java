@@ -0,0 +1,165 @@
+package seedu.nursesched.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournalTest {
+    @TempDir
+    File tempDir;
+
+    private String journalPath() {
+        return new File(tempDir, "Test.journal").getPath();
+    }
+
+    @Test
+    void readRecords_appendedRecords_returnedInOrder() {
+        Journal journal = new Journal(journalPath(), 1024);
+        journal.append("ADD | 1");
+        journal.append("MARK | 1 | true");
+        journal.append("DEL | 1");
+
+        assertEquals(List.of("ADD | 1", "MARK | 1 | true", "DEL | 1"), journal.readRecords());
+    }
+
+    @Test
+    void readRecords_reopenedJournal_recordsPersisted() {
+        new Journal(journalPath(), 1024).append("ADD | 1");
+
+        Journal reopened = new Journal(journalPath(), 1024);
+        assertEquals(List.of("ADD | 1"), reopened.readRecords());
+    }
+
+    @Test
+    void isOverThreshold_recordsPastThreshold_returnsTrue() {
+        Journal journal = new Journal(journalPath(), 16);
+        journal.append("ADD | 1");
+        assertFalse(journal.isOverThreshold());
+        journal.append("ADD | 2 | with more content");
+        assertTrue(journal.isOverThreshold());
+    }
+
+    @Test
+    void compactInBackground_snapshotWritten_journalEmptied() {
+        Journal journal = new Journal(journalPath(), 16);
+        journal.append("ADD | 1");
+        ArrayList<String> snapshot = new ArrayList<>();
+
+        journal.compactInBackground(() -> snapshot.add("compacted"));
+        journal.append("ADD | 2");
+        journal.awaitCompaction();
+
+        assertEquals(List.of("compacted"), snapshot);
+        assertEquals(List.of("ADD | 2"), journal.readRecords());
+        assertFalse(new File(journalPath() + ".old").exists());
+    }
+
+    @Test
+    void compactInBackground_snapshotFailed_rotatedJournalKept() {
+        Journal journal = new Journal(journalPath(), 16);
+        journal.append("ADD | 1");
+
+        journal.compactInBackground(() -> false);
+        journal.append("ADD | 2");
+        journal.awaitCompaction();
+
+        assertTrue(new File(journalPath() + ".old").exists());
+        assertEquals(List.of("ADD | 1", "ADD | 2"), new Journal(journalPath(), 16).readRecords());
+    }
+
+    @Test
+    void compactInBackground_synchronousSnapshotFailed_recordsKept() {
+        Journal journal = new Journal(journalPath(), 1024);
+        journal.append("ADD | 1");
+        journal.flush();
+        assertTrue(new File(journalPath()).renameTo(new File(journalPath() + ".old")));
+        journal.append("ADD | 2");
+
+        journal.compactInBackground(() -> false);
+
+        assertEquals(List.of("ADD | 1", "ADD | 2"), journal.readRecords());
+    }
+
+    @Test
+    void readRecords_unfinishedCompaction_rotatedRecordsReplayedFirst() {
+        Journal journal = new Journal(journalPath(), 1024);
+        journal.append("ADD | 1");
+        assertTrue(new File(journalPath()).renameTo(new File(journalPath() + ".old")));
+        journal.append("DEL | 1");
+
+        assertEquals(List.of("ADD | 1", "DEL | 1"), new Journal(journalPath(), 1024).readRecords());
+    }
+
+    @Test
+    void isOverThreshold_multiByteRecords_countsBytes() {
+        Journal journal = new Journal(journalPath(), 20);
+        // 11 characters but 15 bytes in UTF-8, counting the newline
+        journal.append("ADD | \u00e9\u00e9\u00e9\u00e9");
+        assertFalse(journal.isOverThreshold());
+        // 14 characters but 20 bytes in total
+        journal.append("\u00e9\u00e9");
+        assertTrue(journal.isOverThreshold());
+    }
+
+    @Test
+    void compactInBackground_rotatedJournalLeftBehind_notOverwritten() {
+        Journal journal = new Journal(journalPath(), 1024);
+        journal.append("ADD | 1");
+        journal.flush();
+        assertTrue(new File(journalPath()).renameTo(new File(journalPath() + ".old")));
+        journal.append("ADD | 2");
+        ArrayList<String> snapshot = new ArrayList<>();
+
+        journal.compactInBackground(() -> snapshot.add(String.join(",", new Journal(journalPath(), 1024)
+                .readRecords())));
+
+        // The snapshot still saw the records of the earlier rotation
+        assertEquals(List.of("ADD | 1,ADD | 2"), snapshot);
+        assertTrue(journal.readRecords().isEmpty());
+    }
+
+    @Test
+    void flush_transactionFailed_recordsKept() {
+        WriteBehind.enable(0, 100);
+        try {
+            Journal journal = new Journal(journalPath(), 1024);
+            journal.append("ADD | 1");
+
+            assertFalse(SaveTransaction.run(() -> {
+                journal.flush();
+                SaveTransaction.current().fail();
+            }));
+            assertFalse(new File(journalPath()).exists());
+            assertEquals(List.of("ADD | 1"), journal.readRecords());
+        } finally {
+            WriteBehind.disable();
+        }
+    }
+
+    @Test
+    void append_multiByteRecord_encodedBytesCounted() {
+        Journal journal = new Journal(journalPath(), 1024);
+        long bytesBefore = StorageStats.getBytesWritten();
+
+        journal.append("ADD | caf\u00e9 \u75c5\u623f");
+
+        assertEquals(new File(journalPath()).length(), StorageStats.getBytesWritten() - bytesBefore);
+    }
+
+    @Test
+    void clear_existingRecords_allRecordsRemoved() {
+        Journal journal = new Journal(journalPath(), 1024);
+        journal.append("ADD | 1");
+        journal.clear();
+
+        assertTrue(journal.readRecords().isEmpty());
+        assertFalse(journal.isOverThreshold());
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.nursesched.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.CleanupMode;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.nursesched.shift.Shift;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedRecordFileTest {
+    // Mapped files cannot be deleted on some platforms until their mapping is garbage collected
+    @TempDir(cleanup = CleanupMode.NEVER)
+    File tempDir;
+
+    /**
+     * Counts how many records are decoded, to check that records are only decoded when requested.
+     */
+    private static class CountingCodec extends ShiftCodec {
+        private int readCount = 0;
+
+        @Override
+        public Shift read(DataInputStream in) throws IOException {
+            readCount++;
+            return super.read(in);
+        }
+    }
+
+    private static List<Shift> sampleShifts(int count) {
+        ArrayList<Shift> shifts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            shifts.add(new Shift(LocalTime.of(8, 0), LocalTime.of(12, 0), LocalDate.of(2030, 1, 1).plusDays(i),
+                    "task " + i));
+        }
+        return shifts;
+    }
+
+    private File writeRecordFile(List<Shift> shifts) throws IOException {
+        File file = new File(tempDir, "Shift.nsm");
+        Files.write(file.toPath(), MappedRecordFile.encode(shifts, new ShiftCodec()));
+        return file;
+    }
+
+    @Test
+    void get_recordRequested_onlyThatRecordDecoded() throws Exception {
+        File file = writeRecordFile(sampleShifts(100));
+        CountingCodec codec = new CountingCodec();
+
+        MappedRecordFile<Shift> recordFile = MappedRecordFile.open(file, codec);
+        assertEquals(100, recordFile.size());
+        assertEquals(0, codec.readCount);
+
+        Shift shift = recordFile.get(42);
+        assertEquals("task 42", shift.getShiftTask());
+        assertEquals(LocalDate.of(2030, 1, 1).plusDays(42), shift.getDate());
+        assertEquals(1, codec.readCount);
+
+        assertSame(shift, recordFile.get(42));
+        assertEquals(1, codec.readCount);
+    }
+
+    @Test
+    void open_notAMappedFile_exceptionThrown() throws IOException {
+        File file = new File(tempDir, "Shift.nsm");
+        Files.writeString(file.toPath(), "false | 08:00 | 12:00 | 2030-01-01 | task | 0.0\n");
+
+        assertThrows(IOException.class, () -> MappedRecordFile.open(file, new ShiftCodec()));
+    }
+
+    @Test
+    void get_corruptedOffsetIndex_exceptionThrown() throws IOException {
+        File file = writeRecordFile(sampleShifts(2));
+        byte[] content = Files.readAllBytes(file.toPath());
+        // Point the start of the second record past the end of the file
+        ByteBuffer.wrap(content).putInt(3 * Integer.BYTES, content.length + 10);
+        Files.write(file.toPath(), content);
+
+        MappedRecordFile<Shift> recordFile = MappedRecordFile.open(file, new ShiftCodec());
+        assertThrows(IOException.class, () -> recordFile.get(1));
+    }
+
+    @Test
+    void load_mappedEngineWithoutSaveFile_importsTextSaveFile() {
+        ShiftCodec codec = new ShiftCodec();
+        TextStorageEngine<Shift> textEngine = new TextStorageEngine<>(new File(tempDir, "Shift.txt").getPath(), codec);
+        textEngine.save(sampleShifts(3));
+
+        MappedStorageEngine<Shift> engine = new MappedStorageEngine<>(new File(tempDir, "Shift.nsm").getPath(),
+                codec, textEngine);
+        List<Shift> shifts = engine.load();
+
+        assertEquals(3, shifts.size());
+        assertEquals("task 2", shifts.get(2).getShiftTask());
+        assertTrue(new File(tempDir, "Shift.nsm").exists());
+    }
+}
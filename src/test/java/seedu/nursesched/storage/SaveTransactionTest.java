@@ -0,0 +1,75 @@
+package seedu.nursesched.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class SaveTransactionTest {
+    @TempDir
+    File tempDir;
+
+    @AfterEach
+    void removeCommitFile() {
+        new File(SaveTransaction.COMMIT_FILE).delete();
+    }
+
+    @Test
+    void run_severalFiles_allWrittenOnCommit() throws IOException {
+        File saveFile = new File(tempDir, "Patient.txt");
+        File journal = new File(tempDir, "Appt.journal");
+        Files.writeString(journal.toPath(), "ADD | 1\n");
+
+        SaveTransaction.run(() -> {
+            try {
+                SaveFileWriter.replace(saveFile, out -> out.write("1234\n".getBytes()));
+                SaveFileWriter.append(journal, "DEL | 1\n");
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+            assertFalse(saveFile.exists());
+            assertEquals(8, journal.length());
+        });
+
+        assertEquals("1234\n", Files.readString(saveFile.toPath()));
+        assertEquals("ADD | 1\nDEL | 1\n", Files.readString(journal.toPath()));
+        assertFalse(new File(SaveTransaction.COMMIT_FILE).exists());
+        assertEquals(2, tempDir.list().length);
+    }
+
+    @Test
+    void recover_commitInterruptedWhileApplying_changesAppliedOnce() throws IOException {
+        File saveFile = new File(tempDir, "Patient.txt");
+        File stagedSaveFile = SaveTransaction.stagingFileFor(saveFile);
+        File journal = new File(tempDir, "Appt.journal");
+        File stagedRecords = new File(tempDir, "Appt.journal.append1");
+        File deletedFile = new File(tempDir, "Test.txt");
+        Files.writeString(saveFile.toPath(), "old\n");
+        Files.writeString(stagedSaveFile.toPath(), "new\n");
+        // Half of the staged records had already been appended when the program stopped
+        Files.writeString(journal.toPath(), "ADD | 1\nDEL");
+        Files.writeString(stagedRecords.toPath(), "DEL | 1\n");
+        Files.writeString(deletedFile.toPath(), "stale\n");
+        new File(SaveTransaction.COMMIT_FILE).getParentFile().mkdirs();
+        Files.writeString(new File(SaveTransaction.COMMIT_FILE).toPath(),
+                "REPLACE\t" + stagedSaveFile.getPath() + "\t" + saveFile.getPath() + "\n"
+                + "APPEND\t" + journal.getPath() + "\t8\t" + stagedRecords.getPath() + "\n"
+                + "DELETE\t" + deletedFile.getPath());
+
+        SaveTransaction.recover();
+        SaveTransaction.recover();
+
+        assertEquals("new\n", Files.readString(saveFile.toPath()));
+        assertEquals("ADD | 1\nDEL | 1\n", Files.readString(journal.toPath()));
+        assertFalse(deletedFile.exists());
+        assertFalse(stagedSaveFile.exists());
+        assertFalse(stagedRecords.exists());
+        assertFalse(new File(SaveTransaction.COMMIT_FILE).exists());
+    }
+}
@@ -0,0 +1,197 @@
+package seedu.nursesched.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.nursesched.shift.Shift;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StorageEngineTest {
+    private static final ShiftCodec CODEC = new ShiftCodec();
+
+    @TempDir
+    File tempDir;
+
+    private String path(String fileName) {
+        return new File(tempDir, fileName).getPath();
+    }
+
+    private static List<Shift> sampleShifts() {
+        Shift first = new Shift(LocalTime.of(8, 0), LocalTime.of(12, 0), LocalDate.of(2030, 1, 1), "ward rounds");
+        Shift second = new Shift(LocalTime.of(13, 0), LocalTime.of(17, 30), LocalDate.of(2030, 1, 2), "clinic");
+        second.setDone(true);
+        second.setOvertimeHours(1.5);
+        return List.of(first, second);
+    }
+
+    private static List<String> encodeAll(List<Shift> shifts) {
+        ArrayList<String> lines = new ArrayList<>();
+        for (Shift shift : shifts) {
+            lines.add(CODEC.encode(shift));
+        }
+        return lines;
+    }
+
+    @Test
+    void load_textEngineAfterSave_sameRecords() {
+        TextStorageEngine<Shift> engine = new TextStorageEngine<>(path("Shift.txt"), CODEC);
+        engine.save(sampleShifts());
+
+        assertEquals(encodeAll(sampleShifts()), encodeAll(engine.load()));
+        assertFalse(new File(path("Shift.txt.tmp")).exists());
+    }
+
+    @Test
+    void load_binaryEngineAfterSave_sameRecords() {
+        BinaryStorageEngine<Shift> engine = new BinaryStorageEngine<>(path("Shift.bin"), CODEC, null);
+        engine.save(sampleShifts());
+
+        assertEquals(encodeAll(sampleShifts()), encodeAll(engine.load()));
+    }
+
+    @Test
+    void load_textEngineCorruptedLine_lineSkipped() throws IOException {
+        try (FileWriter writer = new FileWriter(path("Shift.txt"))) {
+            writer.write(CODEC.encode(sampleShifts().get(0)) + "\n");
+            writer.write("not a shift\n");
+            writer.write(CODEC.encode(sampleShifts().get(1)) + "\n");
+        }
+
+        TextStorageEngine<Shift> engine = new TextStorageEngine<>(path("Shift.txt"), CODEC);
+        assertEquals(encodeAll(sampleShifts()), encodeAll(engine.load()));
+    }
+
+    @Test
+    void load_binaryEngineWithoutSaveFile_importsTextSaveFile() {
+        TextStorageEngine<Shift> textEngine = new TextStorageEngine<>(path("Shift.txt"), CODEC);
+        textEngine.save(sampleShifts());
+
+        BinaryStorageEngine<Shift> engine = new BinaryStorageEngine<>(path("Shift.bin"), CODEC, textEngine);
+        assertEquals(encodeAll(sampleShifts()), encodeAll(engine.load()));
+        assertTrue(new File(path("Shift.bin")).exists());
+    }
+
+    @Test
+    void prepareSave_recordsChangedAfterwards_capturedStateSaved() {
+        TextStorageEngine<Shift> engine = new TextStorageEngine<>(path("Shift.txt"), CODEC);
+        List<Shift> shifts = sampleShifts();
+        List<String> expected = encodeAll(shifts);
+
+        BooleanSupplier pendingSave = engine.prepareSave(shifts);
+        shifts.get(0).setDone(true);
+        assertTrue(pendingSave.getAsBoolean());
+
+        assertEquals(expected, encodeAll(engine.load()));
+    }
+
+    @Test
+    void save_saveFileCannotBeWritten_failureReported() throws IOException {
+        File notADirectory = new File(tempDir, "data");
+        assertTrue(notADirectory.createNewFile());
+        TextStorageEngine<Shift> engine = new TextStorageEngine<>(new File(notADirectory, "Shift.txt").getPath(),
+                CODEC);
+        boolean[] saved = {true};
+
+        String output = captureOutput(() -> saved[0] = engine.save(sampleShifts()));
+
+        assertFalse(saved[0]);
+        assertTrue(output.startsWith("Error saving to"));
+    }
+
+    private String captureOutput(Runnable action) {
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        try {
+            action.run();
+        } finally {
+            System.setOut(originalOut);
+        }
+        return output.toString();
+    }
+
+    @Test
+    void save_textEngine_checksumLineWritten() throws IOException {
+        TextStorageEngine<Shift> engine = new TextStorageEngine<>(path("Shift.txt"), CODEC);
+        engine.save(sampleShifts());
+
+        List<String> lines = Files.readAllLines(new File(path("Shift.txt")).toPath());
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(2).startsWith(SaveFileWriter.TEXT_CHECKSUM_PREFIX));
+        assertEquals("", captureOutput(engine::load));
+    }
+
+    @Test
+    void load_textFileChangedAfterSave_warnedAndLoaded() throws IOException {
+        TextStorageEngine<Shift> engine = new TextStorageEngine<>(path("Shift.txt"), CODEC);
+        engine.save(sampleShifts());
+        File file = new File(path("Shift.txt"));
+        Files.writeString(file.toPath(), Files.readString(file.toPath()).replace("clinic", "clinix"));
+
+        ArrayList<Shift> loaded = new ArrayList<>();
+        String output = captureOutput(() -> loaded.addAll(engine.load()));
+        assertTrue(output.contains("does not match its checksum"));
+        assertEquals(2, loaded.size());
+        assertTrue(Files.readString(Path.of(path("Shift.txt.corrupt"))).contains("clinix"));
+    }
+
+    @Test
+    void load_textEngineNonAsciiNotes_savedAsUtf8() throws IOException {
+        TextStorageEngine<Shift> engine = new TextStorageEngine<>(path("Shift.txt"), CODEC);
+        List<Shift> shifts = List.of(new Shift(LocalTime.of(8, 0), LocalTime.of(12, 0), LocalDate.of(2030, 1, 1),
+                "caf\u00e9 \u75c5\u623f"));
+        engine.save(shifts);
+
+        assertTrue(Files.readString(Path.of(path("Shift.txt")), StandardCharsets.UTF_8)
+                .contains("caf\u00e9 \u75c5\u623f"));
+        assertEquals("", captureOutput(engine::load));
+        assertEquals(encodeAll(shifts), encodeAll(engine.load()));
+    }
+
+    @Test
+    void load_binaryFileChangedAfterSave_warnedAndLoaded() throws IOException {
+        BinaryStorageEngine<Shift> engine = new BinaryStorageEngine<>(path("Shift.bin"), CODEC, null);
+        engine.save(sampleShifts());
+        File file = new File(path("Shift.bin"));
+        byte[] content = Files.readAllBytes(file.toPath());
+        content[content.length - 6] ^= 1;
+        Files.write(file.toPath(), content);
+
+        ArrayList<Shift> loaded = new ArrayList<>();
+        String output = captureOutput(() -> loaded.addAll(engine.load()));
+        assertTrue(output.contains("does not match its checksum"));
+        assertEquals(2, loaded.size());
+        assertTrue(Arrays.equals(content, Files.readAllBytes(Path.of(path("Shift.bin.corrupt")))));
+    }
+
+    @Test
+    void load_binaryFileCutShort_warnedAndEarlierRecordsLoaded() throws IOException {
+        BinaryStorageEngine<Shift> engine = new BinaryStorageEngine<>(path("Shift.bin"), CODEC, null);
+        engine.save(sampleShifts());
+        File file = new File(path("Shift.bin"));
+        byte[] content = Files.readAllBytes(file.toPath());
+        Files.write(file.toPath(), Arrays.copyOf(content, content.length - 10));
+
+        ArrayList<Shift> loaded = new ArrayList<>();
+        String output = captureOutput(() -> loaded.addAll(engine.load()));
+        assertTrue(output.contains("does not match its checksum"));
+        assertEquals(1, loaded.size());
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.nursesched.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StoreTest {
+
+    private static Store<String> createStore(String name, List<String> loadOrder, Store<?>... dependencies) {
+        return new Store<>(name, () -> {
+            loadOrder.add(name);
+            return new ArrayList<>(List.of(name));
+        }, records -> { }, dependencies);
+    }
+
+    @Test
+    void ensureLoaded_dependenciesFirstAndOnlyOnce() {
+        List<String> loadOrder = new ArrayList<>();
+        Store<String> patients = createStore("patients", loadOrder);
+        Store<String> appointments = createStore("appointments", loadOrder, patients);
+        Store<String> shifts = createStore("shifts", loadOrder);
+
+        assertFalse(appointments.isLoaded());
+        appointments.ensureLoaded();
+        appointments.ensureLoaded();
+        assertEquals(List.of("patients", "appointments"), loadOrder);
+        assertFalse(shifts.isLoaded());
+        assertEquals(1, appointments.getLoadedSize());
+    }
+
+    @Test
+    void ensureLoadedForChange_loadsStoresThatReadIt() {
+        List<String> loadOrder = new ArrayList<>();
+        Store<String> patients = createStore("patients", loadOrder);
+        Store<String> appointments = createStore("appointments", loadOrder, patients);
+
+        patients.ensureLoadedForChange();
+        assertEquals(List.of("patients", "appointments"), loadOrder);
+        assertTrue(appointments.isLoaded());
+    }
+
+    @Test
+    void ensureLoaded_manyThreads_loadedOnce() throws Exception {
+        AtomicInteger loadCount = new AtomicInteger();
+        ArrayList<String> installed = new ArrayList<>();
+        Store<String> store = new Store<>("slow", () -> {
+            loadCount.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new ArrayList<>(List.of("record"));
+        }, installed::addAll);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(store::ensureLoaded));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(1, loadCount.get());
+        assertEquals(List.of("record"), installed);
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.nursesched.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteBehindTest {
+    private final ArrayList<String> saves = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        WriteBehind.disable();
+    }
+
+    @Test
+    void markDirty_notEnabled_savedImmediately() {
+        WriteBehind.markDirty("patients", () -> saves.add("patients"));
+
+        assertEquals(List.of("patients"), saves);
+        assertFalse(WriteBehind.hasPendingSaves());
+    }
+
+    @Test
+    void flush_storeChangedTwice_savedOnceWithLatestSave() {
+        WriteBehind.enable(0, 100);
+        WriteBehind.markDirty("patients", () -> saves.add("patients v1"));
+        WriteBehind.markDirty("tests", () -> saves.add("tests"));
+        WriteBehind.markDirty("patients", () -> saves.add("patients v2"));
+        assertTrue(saves.isEmpty());
+
+        WriteBehind.flush();
+        assertEquals(List.of("patients v2", "tests"), saves);
+        assertFalse(WriteBehind.hasPendingSaves());
+    }
+
+    @Test
+    void endCommand_commandCountReached_flushed() {
+        WriteBehind.enable(0, 2);
+
+        WriteBehind.beginCommand();
+        WriteBehind.markDirty("patients", () -> saves.add("patients"));
+        WriteBehind.endCommand();
+        assertTrue(saves.isEmpty());
+
+        WriteBehind.beginCommand();
+        WriteBehind.markDirty("appointments", () -> saves.add("appointments"));
+        WriteBehind.endCommand();
+        assertEquals(List.of("patients", "appointments"), saves);
+    }
+
+    @Test
+    void disable_pendingSaves_flushed() {
+        WriteBehind.enable(0, 100);
+        WriteBehind.markDirty("patients", () -> saves.add("patients"));
+
+        WriteBehind.disable();
+        assertEquals(List.of("patients"), saves);
+    }
+
+    @Test
+    void enable_flushInterval_flushedInBackground() throws InterruptedException {
+        WriteBehind.enable(10, 100);
+        WriteBehind.markDirty("patients", () -> saves.add("patients"));
+
+        for (int i = 0; i < 200 && WriteBehind.hasPendingSaves(); i++) {
+            Thread.sleep(10);
+        }
+        assertFalse(WriteBehind.hasPendingSaves());
+    }
+
+    @Test
+    void endBatch_notEnabled_savesHeldUntilBatchEnds() {
+        WriteBehind.beginBatch();
+        for (int i = 0; i < 3; i++) {
+            WriteBehind.beginCommand();
+            WriteBehind.markDirty("patients", () -> saves.add("patients"));
+            WriteBehind.endCommand();
+        }
+        assertTrue(saves.isEmpty());
+
+        WriteBehind.endBatch();
+        assertEquals(List.of("patients"), saves);
+
+        WriteBehind.markDirty("tasks", () -> saves.add("tasks"));
+        assertEquals(List.of("patients", "tasks"), saves);
+    }
+
+    @Test
+    void flush_transactionFailed_savesKeptAndRetried() {
+        WriteBehind.enable(0, 100);
+        WriteBehind.markDirty("patients", () -> {
+            saves.add("patients");
+            if (saves.size() == 1) {
+                throw new IllegalStateException("disk full");
+            }
+        });
+        WriteBehind.markDirty("tasks", () -> saves.add("tasks"));
+
+        WriteBehind.flush();
+        assertTrue(WriteBehind.hasPendingSaves());
+
+        WriteBehind.flush();
+        assertEquals(List.of("patients", "tasks", "patients", "tasks"), saves);
+        assertFalse(WriteBehind.hasPendingSaves());
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.nursesched.ui;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class UiTest {
+    private static final String NEW_LINE = System.lineSeparator();
+    private static final List<String> ITEMS = List.of("a", "b", "c", "d", "e");
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final PrintStream originalOut = System.out;
+
+    @BeforeEach
+    void setUp() {
+        System.setOut(new PrintStream(output));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    private void printItems(Page page) {
+        Ui.printList(ITEMS, page, (number, item, line) -> line.append(number).append(". ").append(item));
+    }
+
+    @Test
+    void printList_wholeList_noSummary() {
+        printItems(Page.ALL);
+        assertEquals("1. a" + NEW_LINE + "2. b" + NEW_LINE + "3. c" + NEW_LINE + "4. d" + NEW_LINE + "5. e"
+                + NEW_LINE, output.toString());
+    }
+
+    @Test
+    void printList_pages_itemsOnPageAndSummary() {
+        printItems(new Page(2, 2));
+        printItems(new Page(3, 2));
+        printItems(new Page(4, 2));
+        assertEquals("3. c" + NEW_LINE + "4. d" + NEW_LINE + "Showing 3-4 of 5 (page 2 of 3)." + NEW_LINE
+                + "5. e" + NEW_LINE + "Showing 5-5 of 5 (page 3 of 3)." + NEW_LINE
+                + "Page 4 is empty, there are only 3 page(s)." + NEW_LINE, output.toString());
+    }
+}
@@ -0,0 +1,269 @@
+package seedu.nursesched.dataset;
+
+import seedu.nursesched.appointment.Appointment;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.medicine.Medicine;
+import seedu.nursesched.patient.MedicalTest;
+import seedu.nursesched.patient.Patient;
+import seedu.nursesched.shift.Shift;
+import seedu.nursesched.storage.AppointmentStorage;
+import seedu.nursesched.storage.MedicineStorage;
+import seedu.nursesched.storage.PatientStorage;
+import seedu.nursesched.storage.PatientTestStorage;
+import seedu.nursesched.storage.ShiftStorage;
+import seedu.nursesched.storage.TaskStorage;
+import seedu.nursesched.task.Task;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates a hospital's worth of records and writes them to the save files in {@code data/}.
+ * <p>
+ * Usage: {@code DatasetGenerator [NAME=VALUE...]}, where the names are the settings of {@link DatasetSpec}, e.g.
+ * {@code DatasetGenerator patients=9000 appointments=500000 clashDays=0.2}. The same settings, including the seed,
+ * always generate the same files. The files are written by the storage classes, so they are in whichever format
+ * the {@code nursesched.storage.backend} property selects.
+ * </p>
+ * <p>
+ * The records are spread over the days from the first date at a fixed number per day. Some patients have far more
+ * appointments than others, some days have every appointment squeezed into two hours, and some medicines have long
+ * names, so that the slow cases of the app show up as they would at a real ward.
+ * </p>
+ */
+public class DatasetGenerator {
+    public static final int FIRST_PATIENT_ID = 1000;
+
+    private static final int TASKS_PER_DAY = 10;
+    private static final String[] FIRST_NAMES = {
+        "Aisha", "Ben", "Chloe", "Daniel", "Elena", "Farid", "Grace", "Hiroshi", "Isabel", "Jun",
+        "Kavya", "Liam", "Mei", "Nadia", "Omar", "Priya", "Rui", "Siti", "Tom", "Wei"
+    };
+    private static final String[] LAST_NAMES = {
+        "Tan", "Lim", "Lee", "Ng", "Wong", "Goh", "Chua", "Kumar", "Rahman", "Smith"
+    };
+    private static final String[] PATIENT_NOTES = {
+        "", "Diabetic", "Allergic to penicillin", "Hypertension", "Post-operative care", "Fall risk"
+    };
+    private static final String[] APPOINTMENT_NOTES = {
+        "", "Follow up on blood pressure", "Fasting required", "Bring previous scans", "Dressing change"
+    };
+    private static final String[] TEST_NAMES = {
+        "Full blood count", "HbA1c", "Lipid panel", "Liver function", "Renal panel", "Urinalysis", "Chest X-ray",
+        "ECG", "Thyroid function", "CRP"
+    };
+    private static final String[] TEST_RESULTS = {
+        "Normal", "Slightly elevated", "Elevated", "Low", "Pending review", "Repeat in 3 months"
+    };
+    private static final String[] SHIFT_TASKS = {
+        "Ward rounds", "Medication round", "Triage", "Night watch", "Wound care", "Admissions"
+    };
+    private static final String[] TASK_DESCRIPTIONS = {
+        "Change dressing", "Check vitals", "Restock trolley", "Update charts", "Prepare discharge", "Call pharmacy"
+    };
+    private static final String[] MEDICINE_NAMES = {
+        "paracetamol", "ibuprofen", "amoxicillin", "metformin", "omeprazole", "amlodipine", "salbutamol",
+        "atorvastatin", "cetirizine", "lisinopril", "prednisolone", "ciprofloxacin"
+    };
+    private static final String LONG_NAME_SUFFIX =
+            " film-coated tablets, hospital pack of 100, store below 25 degrees and protect from light";
+
+    private final DatasetSpec spec;
+    private final SplittableRandom random;
+
+    /**
+     * Constructs a generator for the given specification.
+     */
+    public DatasetGenerator(DatasetSpec spec) {
+        this.spec = spec;
+        this.random = new SplittableRandom(spec.getSeed());
+    }
+
+    public static void main(String[] args) {
+        DatasetSpec spec;
+        try {
+            spec = DatasetSpec.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            System.out.println("Usage: DatasetGenerator [NAME=VALUE...]");
+            System.out.println("NAME: seed, patients, appointments, shifts, tasks, medicines, testsPerPatient, "
+                    + "appointmentsPerDay, shiftsPerDay, clashDays, longNames, done, from");
+            return;
+        }
+        System.out.println("Generating " + spec);
+        long start = System.nanoTime();
+        new DatasetGenerator(spec).write();
+        System.out.println("Done in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    /**
+     * Generates every kind of record in the sizes of the specification and overwrites the save files with them.
+     * The patients are also put in the patient list, which the appointments are generated against.
+     */
+    public void write() {
+        ArrayList<Patient> patients = patients(spec.getPatients());
+        Patient.setPatientsList(patients);
+        PatientStorage.overwriteSaveFile(patients);
+        ArrayList<MedicalTest> tests = medicalTests(patients);
+        PatientTestStorage.overwriteSaveFile(tests);
+        AppointmentStorage.overwriteSaveFile(appointments(spec.getAppointments(), patients.size()));
+        ShiftStorage.overwriteSaveFile(shifts(spec.getShifts()));
+        TaskStorage.overwriteSaveFile(tasks(spec.getTasks()));
+        MedicineStorage.overwriteSaveFile(medicines(spec.getMedicines()));
+        System.out.println("Wrote " + patients.size() + " patients, " + tests.size() + " medical tests, "
+                + spec.getAppointments() + " appointments, " + spec.getShifts() + " shifts, " + spec.getTasks()
+                + " tasks and " + spec.getMedicines() + " medicines");
+    }
+
+    /**
+     * Generates patients with the IDs from {@link #FIRST_PATIENT_ID} upwards.
+     *
+     * @param count The number of patients, at most {@link DatasetSpec#MAX_PATIENTS}.
+     * @return The patients.
+     */
+    public ArrayList<Patient> patients(int count) {
+        assert count <= DatasetSpec.MAX_PATIENTS : "Patient IDs only have four digits";
+        ArrayList<Patient> patients = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String id = String.valueOf(FIRST_PATIENT_ID + i);
+            try {
+                patients.add(Patient.restore(id, pick(FIRST_NAMES) + " " + pick(LAST_NAMES),
+                        String.valueOf(1 + random.nextInt(100)), random.nextBoolean() ? "M" : "F",
+                        String.valueOf(80000000 + random.nextInt(20000000)), pick(PATIENT_NOTES)));
+            } catch (NurseSchedException e) {
+                throw new IllegalStateException("Generated an invalid patient " + id, e);
+            }
+        }
+        return patients;
+    }
+
+    /**
+     * Generates between none and twice the specified average number of medical tests for each patient.
+     *
+     * @param patients The patients.
+     * @return The medical tests, grouped by patient.
+     */
+    public ArrayList<MedicalTest> medicalTests(List<Patient> patients) {
+        int maxTests = 2 * spec.getTestsPerPatient();
+        ArrayList<MedicalTest> tests = new ArrayList<>(patients.size() * spec.getTestsPerPatient());
+        for (Patient patient : patients) {
+            int count = random.nextInt(maxTests + 1);
+            for (int i = 0; i < count; i++) {
+                try {
+                    tests.add(new MedicalTest(patient.getId(), pick(TEST_NAMES), pick(TEST_RESULTS)));
+                } catch (NurseSchedException e) {
+                    throw new IllegalStateException("Generated an invalid medical test", e);
+                }
+            }
+        }
+        return tests;
+    }
+
+    /**
+     * Generates appointments, the specified number on each day.
+     * <p>
+     * On most days the appointments start on the quarter hour between 08:00 and 17:45. On the specified share of
+     * days they all start between 10:00 and 11:45, so most of them clash. The patients with the lowest IDs have the
+     * most appointments.
+     * </p>
+     *
+     * @param count        The number of appointments.
+     * @param patientCount The number of patients, who must already be in the patient list.
+     * @return The appointments, with the appointment IDs from 1 upwards.
+     */
+    public ArrayList<Appointment> appointments(int count, int patientCount) {
+        int perDay = spec.getAppointmentsPerDay();
+        ArrayList<Appointment> appointments = new ArrayList<>(count);
+        boolean isClashDay = false;
+        for (int i = 0; i < count; i++) {
+            if (i % perDay == 0) {
+                isClashDay = random.nextDouble() < spec.getClashDays();
+            }
+            LocalTime start = isClashDay ? randomQuarterHour(10, 12) : randomQuarterHour(8, 18);
+            LocalTime end = start.plusMinutes(15L * (1 + random.nextInt(4)));
+            double skewed = random.nextDouble();
+            int patientId = FIRST_PATIENT_ID + (int) (patientCount * skewed * skewed);
+            Appointment appointment = new Appointment(i + 1, patientId, start, end, dateOf(i, perDay),
+                    pick(APPOINTMENT_NOTES), 1 + random.nextInt(3));
+            appointment.setDone(random.nextDouble() < spec.getDone());
+            appointments.add(appointment);
+        }
+        return appointments;
+    }
+
+    /**
+     * Generates shifts, the specified number on each day, each starting on the hour and lasting two to four hours.
+     *
+     * @param count The number of shifts.
+     * @return The shifts.
+     */
+    public ArrayList<Shift> shifts(int count) {
+        ArrayList<Shift> shifts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalTime start = LocalTime.of(random.nextInt(20), 0);
+            LocalTime end = start.plusHours(2 + random.nextInt(3));
+            Shift shift = new Shift(start, end, dateOf(i, spec.getShiftsPerDay()), pick(SHIFT_TASKS));
+            shift.setDone(random.nextDouble() < spec.getDone());
+            shifts.add(shift);
+        }
+        return shifts;
+    }
+
+    /**
+     * Generates tasks, ten due on each day.
+     *
+     * @param count The number of tasks.
+     * @return The tasks.
+     */
+    public ArrayList<Task> tasks(int count) {
+        ArrayList<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String description = pick(TASK_DESCRIPTIONS) + " for bed " + (1 + random.nextInt(60));
+            tasks.add(new Task(description, dateOf(i, TASKS_PER_DAY), randomQuarterHour(0, 24),
+                    random.nextDouble() < spec.getDone()));
+        }
+        return tasks;
+    }
+
+    /**
+     * Generates medicines with distinct names, e.g. {@code paracetamol 500mg 42}. The specified share of them have
+     * a long name describing the whole product.
+     *
+     * @param count The number of medicines.
+     * @return The medicines.
+     */
+    public ArrayList<Medicine> medicines(int count) {
+        ArrayList<Medicine> medicines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = MEDICINE_NAMES[i % MEDICINE_NAMES.length] + " " + (100 * (1 + i % 5)) + "mg " + i;
+            if (random.nextDouble() < spec.getLongNames()) {
+                name += LONG_NAME_SUFFIX;
+            }
+            medicines.add(new Medicine(1 + random.nextInt(500), name));
+        }
+        return medicines;
+    }
+
+    /**
+     * Returns the base names of the generated medicines, e.g. {@code paracetamol}, each of which is part of an equal
+     * share of the medicine names.
+     */
+    public static String[] getMedicineNames() {
+        return MEDICINE_NAMES.clone();
+    }
+
+    private <T> T pick(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private LocalTime randomQuarterHour(int fromHour, int toHour) {
+        return LocalTime.MIN.plusMinutes(15L * (fromHour * 4 + random.nextInt((toHour - fromHour) * 4)));
+    }
+
+    private LocalDate dateOf(int index, int perDay) {
+        return spec.getFrom().plusDays(index / perDay);
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.nursesched.dataset;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * The sizes and distributions of a generated dataset.
+ * <p>
+ * Every setting has a default and can be changed by name, e.g. {@code set("appointments", "100000")}, which is how
+ * {@link DatasetGenerator} reads its command-line arguments.
+ * </p>
+ */
+public class DatasetSpec {
+    /** Patient IDs have four digits, from 1000 to 9999. */
+    public static final int MAX_PATIENTS = 9000;
+
+    private long seed = 1;
+    private int patients = 1000;
+    private int appointments = 10000;
+    private int shifts = 2000;
+    private int tasks = 2000;
+    private int medicines = 2000;
+    private int testsPerPatient = 8;
+    private int appointmentsPerDay = 20;
+    private int shiftsPerDay = 4;
+    private double clashDays = 0.1;
+    private double longNames = 0.1;
+    private double done = 0.3;
+    private LocalDate from = LocalDate.of(2030, 1, 1);
+
+    /**
+     * Returns a specification with the defaults changed by the given {@code NAME=VALUE} arguments.
+     *
+     * @param args The arguments, e.g. {@code patients=9000 seed=7}.
+     * @return The specification.
+     * @throws IllegalArgumentException If an argument has an unknown name or an invalid value.
+     */
+    public static DatasetSpec parse(String... args) {
+        DatasetSpec spec = new DatasetSpec();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (equals == -1) {
+                throw new IllegalArgumentException("Expected NAME=VALUE: " + arg);
+            }
+            spec.set(arg.substring(0, equals).trim(), arg.substring(equals + 1).trim());
+        }
+        return spec;
+    }
+
+    /**
+     * Changes one setting.
+     *
+     * @param name  The name of the setting, e.g. {@code patients}.
+     * @param value The new value.
+     * @return This specification.
+     * @throws IllegalArgumentException If the name is unknown or the value is invalid.
+     */
+    public DatasetSpec set(String name, String value) {
+        try {
+            switch (name) {
+            case "seed" -> seed = Long.parseLong(value);
+            case "patients" -> patients = parseCount(name, value, 1, MAX_PATIENTS);
+            case "appointments" -> appointments = parseCount(name, value, 0, Integer.MAX_VALUE);
+            case "shifts" -> shifts = parseCount(name, value, 0, Integer.MAX_VALUE);
+            case "tasks" -> tasks = parseCount(name, value, 0, Integer.MAX_VALUE);
+            case "medicines" -> medicines = parseCount(name, value, 0, Integer.MAX_VALUE);
+            case "testsPerPatient" -> testsPerPatient = parseCount(name, value, 0, 1000);
+            case "appointmentsPerDay" -> appointmentsPerDay = parseCount(name, value, 1, Integer.MAX_VALUE);
+            case "shiftsPerDay" -> shiftsPerDay = parseCount(name, value, 1, Integer.MAX_VALUE);
+            case "clashDays" -> clashDays = parseShare(name, value);
+            case "longNames" -> longNames = parseShare(name, value);
+            case "done" -> done = parseShare(name, value);
+            case "from" -> from = LocalDate.parse(value);
+            default -> throw new IllegalArgumentException("Unknown setting: " + name);
+            }
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid value for " + name + ": " + value);
+        }
+        return this;
+    }
+
+    private static int parseCount(String name, String value, int min, int max) {
+        int count = Integer.parseInt(value);
+        if (count < min || count > max) {
+            throw new IllegalArgumentException(name + " must be between " + min + " and " + max);
+        }
+        return count;
+    }
+
+    private static double parseShare(String name, String value) {
+        double share = Double.parseDouble(value);
+        if (share < 0 || share > 1) {
+            throw new IllegalArgumentException(name + " must be between 0 and 1");
+        }
+        return share;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getPatients() {
+        return patients;
+    }
+
+    public int getAppointments() {
+        return appointments;
+    }
+
+    public int getShifts() {
+        return shifts;
+    }
+
+    public int getTasks() {
+        return tasks;
+    }
+
+    public int getMedicines() {
+        return medicines;
+    }
+
+    /**
+     * Returns the average number of medical tests per patient. Each patient has between none and twice as many.
+     */
+    public int getTestsPerPatient() {
+        return testsPerPatient;
+    }
+
+    public int getAppointmentsPerDay() {
+        return appointmentsPerDay;
+    }
+
+    public int getShiftsPerDay() {
+        return shiftsPerDay;
+    }
+
+    /**
+     * Returns the share of days on which every appointment falls within the same two hours, so most of them clash.
+     */
+    public double getClashDays() {
+        return clashDays;
+    }
+
+    /**
+     * Returns the share of medicines with a long name, such as a full product description.
+     */
+    public double getLongNames() {
+        return longNames;
+    }
+
+    /**
+     * Returns the share of appointments, shifts and tasks that are marked as done.
+     */
+    public double getDone() {
+        return done;
+    }
+
+    /**
+     * Returns the first date that appointments, shifts and tasks are on.
+     */
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    @Override
+    public String toString() {
+        return "seed=" + seed + " patients=" + patients + " appointments=" + appointments + " shifts=" + shifts
+                + " tasks=" + tasks + " medicines=" + medicines + " testsPerPatient=" + testsPerPatient
+                + " appointmentsPerDay=" + appointmentsPerDay + " shiftsPerDay=" + shiftsPerDay
+                + " clashDays=" + clashDays + " longNames=" + longNames + " done=" + done + " from=" + from;
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.nursesched.loadtest;
+
+import seedu.nursesched.dataset.DatasetGenerator;
+import seedu.nursesched.dataset.DatasetSpec;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates a script of mixed {@code appt}, {@code pf}, {@code shift}, {@code task} and {@code medicine} commands to
+ * run against the dataset that {@link DatasetGenerator} writes for the same {@link DatasetSpec}.
+ * <p>
+ * The commands are picked at random in fixed proportions, roughly as often as a ward would use them, and refer to
+ * records that exist. Since an add may be turned down, e.g. an appointment that clashes with another, records added
+ * by the script are not counted when picking an index, but deleted ones are. A few commands therefore fail, as they
+ * would for a real user. Lists and searches ask for one page of results. The same specification always generates
+ * the same script.
+ * </p>
+ */
+public class CommandScriptGenerator {
+    private static final String[] COMMANDS = {
+        "appt add", "appt list", "appt find", "appt mark", "appt unmark", "appt edit", "appt del", "appt sort",
+        "pf add", "pf find", "pf list", "pf edit", "pf del", "pf result add", "pf result list",
+        "shift add", "shift list", "shift mark", "shift del", "shift logot", "shift sort",
+        "task add", "task list", "task find", "task mark", "task edit", "task del",
+        "medicine add", "medicine find", "medicine remove", "medicine list", "medicine restock"
+    };
+    private static final int[] WEIGHTS = {
+        8, 4, 6, 4, 2, 3, 2, 1,
+        3, 6, 2, 1, 1, 3, 2,
+        5, 3, 3, 1, 1, 1,
+        6, 3, 4, 3, 2, 1,
+        6, 5, 3, 2, 2
+    };
+    private static final int PAGE_LIMIT = 20;
+    private static final int TASKS_PER_DAY = 10;
+    private static final int LAST_PATIENT_ID = 9999;
+    private static final String[] SHIFT_TASKS = {"Ward rounds", "Medication round", "Triage", "Wound care"};
+    private static final String[] TASK_DESCRIPTIONS = {"Check vitals", "Update charts", "Call pharmacy"};
+    private static final String[] TEST_NAMES = {"Full blood count", "HbA1c", "ECG", "Urinalysis"};
+
+    private final DatasetSpec spec;
+    private final SplittableRandom random;
+    private final int totalWeight;
+    private final int basePatients;
+    private final ArrayList<Integer> addedPatients = new ArrayList<>();
+    private final ArrayList<String> addedMedicines = new ArrayList<>();
+    private int appointments;
+    private int shifts;
+    private int tasks;
+    private int nextPatientId;
+
+    /**
+     * Constructs a generator for the dataset of the given specification.
+     */
+    public CommandScriptGenerator(DatasetSpec spec) {
+        assert COMMANDS.length == WEIGHTS.length : "Every command needs a weight";
+        this.spec = spec;
+        this.random = new SplittableRandom(spec.getSeed()).split();
+        int weights = 0;
+        for (int weight : WEIGHTS) {
+            weights += weight;
+        }
+        this.totalWeight = weights;
+        this.basePatients = spec.getPatients();
+        this.appointments = spec.getAppointments();
+        this.shifts = spec.getShifts();
+        this.tasks = spec.getTasks();
+        this.nextPatientId = DatasetGenerator.FIRST_PATIENT_ID + basePatients;
+    }
+
+    /**
+     * Generates the given number of commands, without {@code exit ns}.
+     *
+     * @param count The number of commands.
+     * @return The command lines.
+     */
+    public List<String> generate(int count) {
+        ArrayList<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lines.add(next(pickCommand()));
+        }
+        return lines;
+    }
+
+    private String pickCommand() {
+        int value = random.nextInt(totalWeight);
+        for (int i = 0; i < WEIGHTS.length; i++) {
+            value -= WEIGHTS[i];
+            if (value < 0) {
+                return COMMANDS[i];
+            }
+        }
+        return COMMANDS[COMMANDS.length - 1];
+    }
+
+    private String next(String command) {
+        return switch (command) {
+        case "appt add" -> "appt add id/" + basePatient() + appointmentTimes() + " im/" + (1 + random.nextInt(3))
+                + " n/Review";
+        case "appt list" -> "appt list" + page();
+        case "appt find" -> "appt find id/" + basePatient() + page();
+        case "appt mark", "appt unmark" -> appointments == 0 ? "appt list" + page()
+                : command + " aid/" + (1 + random.nextInt(appointments));
+        case "appt edit" -> appointments == 0 ? "appt list" + page()
+                : "appt edit aid/" + (1 + random.nextInt(appointments)) + " im/" + (1 + random.nextInt(3));
+        case "appt del" -> appointments == 0 ? "appt list" + page() : "appt del aid/" + appointments--;
+        case "appt sort" -> "appt sort by/ " + (random.nextBoolean() ? "time" : "importance");
+        case "pf add" -> addPatient();
+        case "pf find" -> "pf find id/" + livePatient();
+        case "pf list" -> "pf list" + page();
+        case "pf edit" -> "pf edit id/" + livePatient() + " n/Reviewed";
+        case "pf del" -> addedPatients.isEmpty() ? addPatient()
+                : "pf del id/" + addedPatients.remove(random.nextInt(addedPatients.size()));
+        case "pf result add" -> "pf result add id/" + livePatient() + " t/" + pick(TEST_NAMES) + " r/Normal";
+        case "pf result list" -> "pf result list id/" + livePatient();
+        case "shift add" -> addShift();
+        case "shift list" -> "shift list" + page();
+        case "shift mark" -> shifts == 0 ? addShift() : "shift mark id/" + (1 + random.nextInt(shifts));
+        case "shift del" -> shifts == 0 ? addShift() : "shift del id/" + shifts--;
+        case "shift logot" -> shifts == 0 ? addShift() : "shift logot id/" + (1 + random.nextInt(shifts)) + " h/1.5";
+        case "shift sort" -> "shift sort";
+        case "task add" -> addTask();
+        case "task list" -> "task list" + page();
+        case "task find" -> "task find td/" + pick(TASK_DESCRIPTIONS).split(" ")[0] + page();
+        case "task mark" -> tasks == 0 ? addTask() : "task mark id/" + (1 + random.nextInt(tasks));
+        case "task edit" -> tasks == 0 ? addTask()
+                : "task edit id/" + (1 + random.nextInt(tasks)) + " t/" + randomQuarterHour(0, 24);
+        case "task del" -> tasks == 0 ? addTask() : "task del id/" + tasks--;
+        case "medicine add" -> addMedicine();
+        case "medicine find" -> "medicine find mn/" + pick(DatasetGenerator.getMedicineNames()) + page();
+        case "medicine remove" -> addedMedicines.isEmpty() ? addMedicine()
+                : "medicine remove mn/" + addedMedicines.get(random.nextInt(addedMedicines.size())) + " q/1";
+        case "medicine list" -> "medicine list" + page();
+        case "medicine restock" -> "medicine restock q/50" + page();
+        default -> throw new IllegalStateException("Unknown command: " + command);
+        };
+    }
+
+    private String addPatient() {
+        if (nextPatientId > LAST_PATIENT_ID) {
+            return "pf find id/" + livePatient();
+        }
+        int id = nextPatientId++;
+        addedPatients.add(id);
+        String gender = random.nextBoolean() ? "F" : "M";
+        return "pf add id/" + id + " p/Load Test a/" + (18 + random.nextInt(80)) + " g/" + gender
+                + " c/" + (80000000 + random.nextInt(20000000)) + " n/Added by load test";
+    }
+
+    private String addShift() {
+        LocalTime start = LocalTime.of(random.nextInt(20), 0);
+        LocalDate date = randomDate(2 * spec.getShifts(), spec.getShiftsPerDay());
+        return "shift add s/" + start + " e/" + start.plusHours(2) + " d/" + date + " st/" + pick(SHIFT_TASKS);
+    }
+
+    private String addTask() {
+        return "task add td/" + pick(TASK_DESCRIPTIONS) + " for bed " + (1 + random.nextInt(60)) + " d/"
+                + randomDate(spec.getTasks(), TASKS_PER_DAY) + " t/" + randomQuarterHour(0, 24);
+    }
+
+    private String addMedicine() {
+        String name = pick(DatasetGenerator.getMedicineNames()) + " ward stock " + addedMedicines.size();
+        addedMedicines.add(name);
+        return "medicine add mn/" + name + " q/10";
+    }
+
+    private String appointmentTimes() {
+        LocalTime start = randomQuarterHour(8, 18);
+        return " s/" + start + " e/" + start.plusMinutes(30) + " d/"
+                + randomDate(2 * spec.getAppointments(), spec.getAppointmentsPerDay());
+    }
+
+    /**
+     * Returns a patient from the dataset. These are never deleted by the script.
+     */
+    private int basePatient() {
+        return DatasetGenerator.FIRST_PATIENT_ID + random.nextInt(basePatients);
+    }
+
+    /**
+     * Returns a patient from the dataset or one added by the script and not deleted since.
+     */
+    private int livePatient() {
+        int index = random.nextInt(basePatients + addedPatients.size());
+        return index < basePatients ? DatasetGenerator.FIRST_PATIENT_ID + index
+                : addedPatients.get(index - basePatients);
+    }
+
+    /**
+     * Returns a date among the days that the given number of records is spread over. Adds use twice the number of
+     * records in the dataset, so that half of them fall after its last day and are less likely to clash.
+     */
+    private LocalDate randomDate(int records, int perDay) {
+        int days = Math.max(1, records / perDay);
+        return spec.getFrom().plusDays(random.nextInt(days));
+    }
+
+    private LocalTime randomQuarterHour(int fromHour, int toHour) {
+        return LocalTime.MIN.plusMinutes(15L * (fromHour * 4 + random.nextInt((toHour - fromHour) * 4)));
+    }
+
+    private String page() {
+        return " page/1 limit/" + PAGE_LIMIT;
+    }
+
+    private <T> T pick(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.nursesched.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * The sizes and identities of the save files at one moment, used to work out how much was written in between.
+ */
+class SaveFiles {
+    private final Map<Path, State> files;
+
+    /**
+     * The state of one save file. The key identifies the file itself, e.g. its inode, so that a file replaced by a
+     * new one is told apart from one written in place. It is null where the file system has no such key.
+     */
+    private record State(Object key, long size, FileTime modified) {
+    }
+
+    private SaveFiles(Map<Path, State> files) {
+        this.files = files;
+    }
+
+    /**
+     * Records the state of every file in a directory.
+     *
+     * @param directory The directory, which may not exist yet.
+     * @return The state of the files.
+     */
+    static SaveFiles snapshot(Path directory) {
+        Map<Path, State> files = new HashMap<>();
+        if (!Files.isDirectory(directory)) {
+            return new SaveFiles(files);
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            paths.forEach(path -> {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    if (attributes.isRegularFile()) {
+                        files.put(path.getFileName(), new State(attributes.fileKey(), attributes.size(),
+                                attributes.lastModifiedTime()));
+                    }
+                } catch (IOException e) {
+                    // The file was replaced or deleted while listing, so it is left out.
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new SaveFiles(files);
+    }
+
+    /**
+     * Returns the number of bytes written to the files since an earlier snapshot. A new or replaced file counts in
+     * full, a file that grew counts by how much it grew, and a file rewritten in place counts in full.
+     *
+     * @param earlier The earlier snapshot of the same directory.
+     * @return The number of bytes written.
+     */
+    long bytesWrittenSince(SaveFiles earlier) {
+        long bytes = 0;
+        for (Map.Entry<Path, State> entry : files.entrySet()) {
+            State now = entry.getValue();
+            State before = earlier.files.get(entry.getKey());
+            if (before == null || (now.key() != null && !Objects.equals(now.key(), before.key()))) {
+                bytes += now.size();
+            } else if (now.size() > before.size()) {
+                bytes += now.size() - before.size();
+            } else if (!now.modified().equals(before.modified())) {
+                bytes += now.size();
+            }
+        }
+        return bytes;
+    }
+}
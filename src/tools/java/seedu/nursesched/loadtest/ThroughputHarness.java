@@ -0,0 +1,170 @@
+package seedu.nursesched.loadtest;
+
+import seedu.nursesched.NurseSched;
+import seedu.nursesched.dataset.DatasetGenerator;
+import seedu.nursesched.dataset.DatasetSpec;
+import seedu.nursesched.storage.StorageConfig;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs a generated script of commands through NurseSched, in a separate JVM fed through its standard input, and
+ * reports how fast they ran.
+ * <p>
+ * Usage: {@code ThroughputHarness [commands=N] [warmup=N] [NAME=VALUE...]}, where the other settings are those of
+ * {@link DatasetSpec}. The harness first overwrites {@code data/} in the working directory with a generated dataset,
+ * then generates {@code warmup + commands} commands with {@link CommandScriptGenerator}. Each command is sent once
+ * the app asks for the next one, so its latency is the time until the app asks again, including printing the
+ * result. The first {@code warmup} commands are not measured.
+ * </p>
+ * <p>
+ * Writes to {@code data/} are counted by comparing the save files before and after each command: a replaced file
+ * counts in full and a file that grew counts by how much it grew. Saves deferred by write-behind are counted against
+ * the command during which they land; run with {@code -Dnursesched.storage.writeBehind=false} to count each save
+ * against the command that made it. Every {@code nursesched.*} system property is passed on to the app.
+ * </p>
+ * <p>
+ * The script, the app's output and the report are left in {@code commands.txt}, {@code transcript.txt} and
+ * {@code report.txt}.
+ * </p>
+ */
+public class ThroughputHarness {
+    private static final String PROMPT = "Please enter your command: ";
+    private static final String EXIT_COMMAND = "exit ns";
+    private static final Path DATA_DIRECTORY = Paths.get(StorageConfig.DATA_DIRECTORY);
+    private static final Path SCRIPT_FILE = Paths.get("commands.txt");
+    private static final Path TRANSCRIPT_FILE = Paths.get("transcript.txt");
+    private static final Path REPORT_FILE = Paths.get("report.txt");
+    private static final int DEFAULT_COMMANDS = 5000;
+    private static final int DEFAULT_WARMUP = 500;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int commands = DEFAULT_COMMANDS;
+        int warmup = DEFAULT_WARMUP;
+        List<String> specArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("commands=")) {
+                commands = Integer.parseInt(arg.substring("commands=".length()));
+            } else if (arg.startsWith("warmup=")) {
+                warmup = Integer.parseInt(arg.substring("warmup=".length()));
+            } else {
+                specArgs.add(arg);
+            }
+        }
+
+        DatasetSpec spec;
+        try {
+            spec = DatasetSpec.parse(specArgs.toArray(new String[0]));
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            System.out.println("Usage: ThroughputHarness [commands=N] [warmup=N] [NAME=VALUE...]");
+            return;
+        }
+
+        System.out.println("Generating " + spec);
+        new DatasetGenerator(spec).write();
+        List<String> script = new CommandScriptGenerator(spec).generate(warmup + commands);
+        Files.write(SCRIPT_FILE, script);
+
+        ThroughputReport report = run(script, warmup);
+        String text = report.format();
+        System.out.print(text);
+        Files.writeString(REPORT_FILE, text);
+    }
+
+    /**
+     * Starts the app, sends it each command of the script once it asks for one, and then exits it.
+     *
+     * @param script The commands.
+     * @param warmup The number of commands at the start of the script that are not measured.
+     * @return The measurements of the other commands.
+     */
+    private static ThroughputReport run(List<String> script, int warmup) throws IOException, InterruptedException {
+        Charset charset = Charset.defaultCharset();
+        long startNanos = System.nanoTime();
+        Process app = new ProcessBuilder(appCommand()).redirectErrorStream(true).start();
+        ThroughputReport report = new ThroughputReport(script.size() - warmup);
+
+        try (BufferedReader output = new BufferedReader(new InputStreamReader(app.getInputStream(), charset));
+                Writer input = new BufferedWriter(new OutputStreamWriter(app.getOutputStream(), charset));
+                Writer transcript = Files.newBufferedWriter(TRANSCRIPT_FILE)) {
+            readUntilPrompt(output, transcript);
+            report.setStartupNanos(System.nanoTime() - startNanos);
+
+            SaveFiles before = SaveFiles.snapshot(DATA_DIRECTORY);
+            for (int i = 0; i < script.size(); i++) {
+                String command = script.get(i);
+                if (i == warmup) {
+                    report.start();
+                }
+                long commandStart = System.nanoTime();
+                input.write(command);
+                input.write(System.lineSeparator());
+                input.flush();
+                readUntilPrompt(output, transcript);
+                long elapsedNanos = System.nanoTime() - commandStart;
+
+                SaveFiles after = SaveFiles.snapshot(DATA_DIRECTORY);
+                if (i >= warmup) {
+                    report.record(command, elapsedNanos, after.bytesWrittenSince(before));
+                }
+                before = after;
+            }
+            report.stop();
+
+            input.write(EXIT_COMMAND);
+            input.write(System.lineSeparator());
+            input.flush();
+            String line;
+            while ((line = output.readLine()) != null) {
+                transcript.write(line);
+                transcript.write(System.lineSeparator());
+            }
+        } finally {
+            app.waitFor();
+        }
+        return report;
+    }
+
+    private static List<String> appCommand() {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith("nursesched.")) {
+                command.add("-D" + name + "=" + System.getProperty(name));
+            }
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(NurseSched.class.getName());
+        return command;
+    }
+
+    /**
+     * Copies the app's output to the transcript until the app asks for a command.
+     *
+     * @throws IOException If the app stops before asking for a command.
+     */
+    private static void readUntilPrompt(BufferedReader output, Writer transcript) throws IOException {
+        String line;
+        while ((line = output.readLine()) != null) {
+            transcript.write(line);
+            transcript.write(System.lineSeparator());
+            if (line.equals(PROMPT)) {
+                return;
+            }
+        }
+        throw new IOException("NurseSched stopped unexpectedly, see " + TRANSCRIPT_FILE);
+    }
+}
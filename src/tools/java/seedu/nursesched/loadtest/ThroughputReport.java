@@ -0,0 +1,130 @@
+package seedu.nursesched.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The latencies and bytes written of the commands measured by {@link ThroughputHarness}, by command, e.g.
+ * {@code appt add}.
+ */
+class ThroughputReport {
+    private static final String ROW_FORMAT = "%-18s %7d %9.2f %9.2f %9.2f %14d %10d%n";
+    private static final String HEADER_FORMAT = "%-18s %7s %9s %9s %9s %14s %10s%n";
+
+    private final Map<String, CommandStats> byCommand = new TreeMap<>();
+    private final CommandStats all;
+    private long startupNanos = 0;
+    private long startNanos = 0;
+    private long elapsedNanos = 0;
+
+    /**
+     * The measurements of one command.
+     */
+    private static class CommandStats {
+        private long[] latencies;
+        private int count = 0;
+        private long bytes = 0;
+
+        CommandStats(int capacity) {
+            latencies = new long[Math.max(capacity, 16)];
+        }
+
+        void record(long latencyNanos, long bytesWritten) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            bytes += bytesWritten;
+        }
+    }
+
+    /**
+     * Constructs an empty report.
+     *
+     * @param expectedCount The number of commands that will be measured.
+     */
+    ThroughputReport(int expectedCount) {
+        all = new CommandStats(expectedCount);
+    }
+
+    void setStartupNanos(long startupNanos) {
+        this.startupNanos = startupNanos;
+    }
+
+    /**
+     * Marks the start of the measured commands.
+     */
+    void start() {
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Marks the end of the measured commands.
+     */
+    void stop() {
+        elapsedNanos = System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Records one command.
+     *
+     * @param line         The command line.
+     * @param latencyNanos The time from sending the command until the app asked for the next one.
+     * @param bytesWritten The bytes written to the save files meanwhile.
+     */
+    void record(String line, long latencyNanos, long bytesWritten) {
+        byCommand.computeIfAbsent(commandName(line), name -> new CommandStats(0)).record(latencyNanos, bytesWritten);
+        all.record(latencyNanos, bytesWritten);
+    }
+
+    /**
+     * Returns the type and verb of a command line, e.g. {@code appt add} or {@code pf result add}.
+     */
+    static String commandName(String line) {
+        String[] words = line.trim().split("\\s+", 4);
+        if (words.length == 1) {
+            return words[0];
+        }
+        if (words[1].equals("result") && words.length > 2) {
+            return words[0] + " " + words[1] + " " + words[2];
+        }
+        return words[0] + " " + words[1];
+    }
+
+    /**
+     * Returns the report as a table, with a line for each command and one for all of them.
+     */
+    String format() {
+        StringBuilder text = new StringBuilder();
+        double seconds = elapsedNanos / 1e9;
+        text.append(String.format("Ran %d commands in %.2f s: %.1f commands/s (app started in %d ms)%n",
+                all.count, seconds, seconds == 0 ? 0 : all.count / seconds, startupNanos / 1_000_000));
+        text.append(String.format(HEADER_FORMAT, "command", "count", "p50 ms", "p99 ms", "max ms", "bytes written",
+                "bytes/cmd"));
+        for (Map.Entry<String, CommandStats> entry : byCommand.entrySet()) {
+            appendRow(text, entry.getKey(), entry.getValue());
+        }
+        appendRow(text, "all", all);
+        return text.toString();
+    }
+
+    private static void appendRow(StringBuilder text, String name, CommandStats stats) {
+        if (stats.count == 0) {
+            return;
+        }
+        long[] sorted = Arrays.copyOf(stats.latencies, stats.count);
+        Arrays.sort(sorted);
+        text.append(String.format(ROW_FORMAT, name, stats.count, percentile(sorted, 0.50) / 1e6,
+                percentile(sorted, 0.99) / 1e6, sorted[sorted.length - 1] / 1e6, stats.bytes,
+                stats.bytes / stats.count));
+    }
+
+    /**
+     * Returns the nearest-rank percentile of sorted values.
+     */
+    static long percentile(long[] sorted, double fraction) {
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+}
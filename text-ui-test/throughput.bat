@@ -0,0 +1,23 @@
+@echo off
+setlocal enableextensions
+pushd %~dp0
+
+cd ..
+call gradlew shadowJar toolsClasses
+set toolsloc=%cd%\build\classes\java\tools
+
+cd build\libs
+for /f "tokens=*" %%a in (
+    'dir /b *.jar'
+) do (
+    set jarloc=%%~fa
+)
+
+cd ..\..\text-ui-test
+if exist throughput rmdir /s /q throughput
+mkdir throughput
+cd throughput
+
+java %JAVA_OPTS% -cp "%jarloc%;%toolsloc%" seedu.nursesched.loadtest.ThroughputHarness %*
+
+popd
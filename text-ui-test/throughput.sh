@@ -0,0 +1,22 @@
+#!/usr/bin/env bash
+
+# Runs a generated mix of commands through NurseSched and reports commands/s, latency and bytes written.
+# Usage: ./throughput.sh [commands=N] [warmup=N] [NAME=VALUE...], e.g. ./throughput.sh commands=10000 appointments=100000
+# JVM options for the app, e.g. -Dnursesched.storage.writeBehind=false, can be given in JAVA_OPTS.
+
+# change to script directory
+cd "${0%/*}"
+
+cd ..
+./gradlew shadowJar toolsClasses || exit 1
+
+cd text-ui-test
+JAR=$(cd ../build/libs && pwd)/$(ls ../build/libs | head -n 1)
+# The harness is not part of the app's jar, so it runs from the tools source set's classes
+TOOLS=$(cd ../build/classes/java/tools && pwd)
+
+rm -rf throughput
+mkdir throughput
+cd throughput
+
+java $JAVA_OPTS -cp "$JAR:$TOOLS" seedu.nursesched.loadtest.ThroughputHarness "$@"